@@ -28,6 +28,7 @@ import uk.gov.justice.laa.dstew.access.massgenerator.generator.PersistedDataGene
 import uk.gov.justice.laa.dstew.access.massgenerator.generator.application.FullCertificateGenerator;
 import uk.gov.justice.laa.dstew.access.massgenerator.generator.application.FullJsonGenerator;
 import uk.gov.justice.laa.dstew.access.massgenerator.generator.application.FullMeritsDecisionGenerator;
+import uk.gov.justice.laa.dstew.access.massgenerator.generator.copy.BulkCopyLoader;
 import uk.gov.justice.laa.dstew.access.model.ApplicationStatus;
 import uk.gov.justice.laa.dstew.access.model.CategoryOfLaw;
 import uk.gov.justice.laa.dstew.access.model.DecisionStatus;
@@ -81,6 +82,10 @@ public class MassDataGeneratorRunner implements CommandLineRunner {
 
   @Autowired private ObjectMapper objectMapper;
 
+  @Autowired private BulkCopyLoader bulkCopyLoader;
+
+  @Autowired private MassGeneratorProperties properties;
+
   private final FullMeritsDecisionGenerator meritsDecisionGenerator =
       new FullMeritsDecisionGenerator();
   private final FullCertificateGenerator certificateGenerator = new FullCertificateGenerator();
@@ -92,6 +97,14 @@ public class MassDataGeneratorRunner implements CommandLineRunner {
     long startTime = System.currentTimeMillis();
     System.out.printf("Mass generation started at %s%n", Instant.now());
 
+    if (properties.mode() == MassGeneratorProperties.Mode.COPY) {
+      BulkCopyLoader.Result result =
+          bulkCopyLoader.load(
+              count, individualPoolSize(count), properties.seed(), properties.effectiveWorkers());
+      printReport(count, result.decided(), result.linked(), startTime);
+      return;
+    }
+
     Faker faker = new Faker();
 
     List<CaseworkerEntity> caseworkers = generateCaseworkers();
@@ -169,9 +182,7 @@ public class MassDataGeneratorRunner implements CommandLineRunner {
   }
 
   private List<UUID> generateIndividualPool(Faker faker, int count) {
-    int poolSize =
-        Math.min(
-            INDIVIDUAL_POOL_MAX, Math.max(INDIVIDUAL_POOL_MIN, count / INDIVIDUAL_POOL_DIVISOR));
+    int poolSize = individualPoolSize(count);
     System.out.printf("Building individual pool of %d entries...%n", poolSize);
     List<UUID> pool = new ArrayList<>(poolSize);
     for (int k = 0; k < poolSize; k++) {
@@ -193,6 +204,11 @@ public class MassDataGeneratorRunner implements CommandLineRunner {
     return pool;
   }
 
+  private int individualPoolSize(int count) {
+    return Math.min(
+        INDIVIDUAL_POOL_MAX, Math.max(INDIVIDUAL_POOL_MIN, count / INDIVIDUAL_POOL_DIVISOR));
+  }
+
   private Proceeding extractLeadProceeding(ApplicationContent content) {
     return content.getProceedings().stream()
         .filter(p -> Boolean.TRUE.equals(p.getLeadProceeding()))
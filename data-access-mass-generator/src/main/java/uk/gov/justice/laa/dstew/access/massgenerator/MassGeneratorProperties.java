@@ -0,0 +1,33 @@
+package uk.gov.justice.laa.dstew.access.massgenerator;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for a mass generation run.
+ *
+ * @param mode how generated rows reach the database
+ * @param seed seed every {@link Mode#COPY} run derives its ids, statuses, decisions, assignments
+ *     and linked groups from, so two runs with the same seed and count load the same dataset
+ * @param workers threads generating and copying rows in {@link Mode#COPY}; zero or less uses one
+ *     per available processor
+ */
+@ConfigurationProperties("mass-generator")
+public record MassGeneratorProperties(
+    @DefaultValue("JPA") Mode mode,
+    @DefaultValue("20260101") long seed,
+    @DefaultValue("0") int workers) {
+
+  /** How generated rows reach the database. */
+  public enum Mode {
+    /** Persist entities one application at a time through the JPA repositories. */
+    JPA,
+    /** Stream rows into each table with PostgreSQL {@code COPY}, rebuilding indexes afterwards. */
+    COPY
+  }
+
+  /** Returns the number of worker threads a {@link Mode#COPY} run uses. */
+  public int effectiveWorkers() {
+    return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+  }
+}
@@ -1,33 +1,35 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullApplicantAddress;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullApplicantAddressGenerator
-    extends BaseGenerator<FullApplicantAddress, FullApplicantAddress.FullApplicantAddressBuilder> {
+    extends FullGenerator<FullApplicantAddress, FullApplicantAddress.FullApplicantAddressBuilder> {
 
   public FullApplicantAddressGenerator() {
-    super(FullApplicantAddress::toBuilder, FullApplicantAddress.FullApplicantAddressBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullApplicantAddressGenerator(Faker faker, Instant epoch) {
+    super(
+        FullApplicantAddress::toBuilder,
+        FullApplicantAddress.FullApplicantAddressBuilder::build,
+        faker,
+        epoch);
   }
 
   @Override
   public FullApplicantAddress createDefault() {
     return FullApplicantAddress.builder()
-        .id(UUID.randomUUID().toString())
+        .id(randomUuid().toString())
         .addressLineOne(faker.address().streetAddress())
         .addressLineTwo(faker.address().secondaryAddress())
         .addressLineThree(null)
         .city(faker.address().city())
         .county(faker.address().state())
         .postcode(faker.regexify("[A-Z]{2}[0-9][A-Z] [0-9][A-Z]{2}"))
-        .applicantId(UUID.randomUUID().toString())
+        .applicantId(randomUuid().toString())
         .createdAt(randomInstant())
         .updatedAt(randomInstant())
         .organisation(null)
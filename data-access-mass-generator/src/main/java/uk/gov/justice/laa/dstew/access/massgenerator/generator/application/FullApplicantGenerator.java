@@ -1,30 +1,28 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullApplicant;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullApplicantGenerator
-    extends BaseGenerator<FullApplicant, FullApplicant.FullApplicantBuilder> {
+    extends FullGenerator<FullApplicant, FullApplicant.FullApplicantBuilder> {
 
-  private final FullApplicantAddressGenerator addressGenerator =
-      new FullApplicantAddressGenerator();
+  private final FullApplicantAddressGenerator addressGenerator;
 
   public FullApplicantGenerator() {
-    super(FullApplicant::toBuilder, FullApplicant.FullApplicantBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullApplicantGenerator(Faker faker, Instant epoch) {
+    super(FullApplicant::toBuilder, FullApplicant.FullApplicantBuilder::build, faker, epoch);
+    addressGenerator = new FullApplicantAddressGenerator(faker, epoch);
   }
 
   @Override
   public FullApplicant createDefault() {
     return FullApplicant.builder()
-        .id(UUID.randomUUID().toString())
+        .id(randomUuid().toString())
         .firstName(faker.name().firstName())
         .lastName(faker.name().lastName())
         .dateOfBirth(getRandomDate().toString())
@@ -1,17 +1,26 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
+import java.time.Instant;
 import java.util.List;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.usecase.shared.parser.ApplicationMerits;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullApplicationMeritsGenerator
-    extends BaseGenerator<ApplicationMerits, ApplicationMerits.ApplicationMeritsBuilder> {
+    extends FullGenerator<ApplicationMerits, ApplicationMerits.ApplicationMeritsBuilder> {
 
-  private final FullOpponentDetailsGenerator opponentDetailsGenerator =
-      new FullOpponentDetailsGenerator();
+  private final FullOpponentDetailsGenerator opponentDetailsGenerator;
 
   public FullApplicationMeritsGenerator() {
-    super(ApplicationMerits::toBuilder, ApplicationMerits.ApplicationMeritsBuilder::build);
+    this(new Faker(), Instant.now());
+  }
+
+  public FullApplicationMeritsGenerator(Faker faker, Instant epoch) {
+    super(
+        ApplicationMerits::toBuilder,
+        ApplicationMerits.ApplicationMeritsBuilder::build,
+        faker,
+        epoch);
+    opponentDetailsGenerator = new FullOpponentDetailsGenerator(faker, epoch);
   }
 
   @Override
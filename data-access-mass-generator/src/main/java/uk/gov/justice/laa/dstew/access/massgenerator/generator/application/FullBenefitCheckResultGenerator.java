@@ -1,30 +1,30 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullBenefitCheckResult;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullBenefitCheckResultGenerator
-    extends BaseGenerator<
+    extends FullGenerator<
         FullBenefitCheckResult, FullBenefitCheckResult.FullBenefitCheckResultBuilder> {
 
   public FullBenefitCheckResultGenerator() {
-    super(
-        FullBenefitCheckResult::toBuilder,
-        FullBenefitCheckResult.FullBenefitCheckResultBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullBenefitCheckResultGenerator(Faker faker, Instant epoch) {
+    super(
+        FullBenefitCheckResult::toBuilder,
+        FullBenefitCheckResult.FullBenefitCheckResultBuilder::build,
+        faker,
+        epoch);
   }
 
   @Override
   public FullBenefitCheckResult createDefault() {
     return FullBenefitCheckResult.builder()
-        .id(UUID.randomUUID().toString())
-        .legalAidApplicationId(UUID.randomUUID().toString())
+        .id(randomUuid().toString())
+        .legalAidApplicationId(randomUuid().toString())
         .result(faker.options().option("skipped:no_means_test_required", "no", "yes"))
         .dwpRef(null)
         .createdAt(randomInstant())
@@ -1,14 +1,23 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
+import java.time.Instant;
 import java.util.Map;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.entity.CertificateEntity;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullCertificateGenerator
-    extends BaseGenerator<CertificateEntity, CertificateEntity.CertificateEntityBuilder> {
+    extends FullGenerator<CertificateEntity, CertificateEntity.CertificateEntityBuilder> {
 
   public FullCertificateGenerator() {
-    super(CertificateEntity::toBuilder, CertificateEntity.CertificateEntityBuilder::build);
+    this(new Faker(), Instant.now());
+  }
+
+  public FullCertificateGenerator(Faker faker, Instant epoch) {
+    super(
+        CertificateEntity::toBuilder,
+        CertificateEntity.CertificateEntityBuilder::build,
+        faker,
+        epoch);
   }
 
   @Override
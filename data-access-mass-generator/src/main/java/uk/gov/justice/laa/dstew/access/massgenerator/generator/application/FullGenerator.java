@@ -0,0 +1,54 @@
+package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Function;
+import net.datafaker.Faker;
+import uk.gov.justice.laa.dstew.access.shared.massdata.SeedStreams;
+import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
+
+/**
+ * Base for the {@code Full*} generators, which build the content of a complete application.
+ *
+ * <p>A generator and the generators it delegates to share one {@link Faker} and one epoch, and
+ * draw their ids, dates and timestamps from them rather than from {@link UUID#randomUUID()} or the
+ * clock. A faker built on a {@link java.util.Random} that is reseeded before each call therefore
+ * yields the same content for the same seed.
+ */
+public abstract class FullGenerator<TEntity, TBuilder> extends BaseGenerator<TEntity, TBuilder> {
+
+  private static final LocalDate EARLIEST_DATE = LocalDate.of(1950, 1, 1);
+
+  private final Instant epoch;
+
+  protected FullGenerator(
+      Function<TEntity, TBuilder> toBuilder,
+      Function<TBuilder, TEntity> buildFromBuilder,
+      Faker faker,
+      Instant epoch) {
+    super(toBuilder, buildFromBuilder);
+    this.faker = faker;
+    this.epoch = epoch;
+  }
+
+  /** Returns a timestamp within the year before the epoch. */
+  protected String randomInstant() {
+    return epoch.minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  }
+
+  /** Returns a version 4 UUID drawn from the faker. */
+  protected UUID randomUuid() {
+    return SeedStreams.uuid(faker.random()::nextLong);
+  }
+
+  /** Returns a date from 1950 to the end of the epoch's year, in UTC. */
+  @Override
+  public LocalDate getRandomDate() {
+    LocalDate last = LocalDate.ofInstant(epoch, ZoneOffset.UTC).withMonth(12).withDayOfMonth(31);
+    return LocalDate.ofEpochDay(
+        faker.number().numberBetween(EARLIEST_DATE.toEpochDay(), last.toEpochDay()));
+  }
+}
@@ -1,37 +1,46 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.usecase.shared.parser.ApplicationContent;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullJsonGenerator
-    extends BaseGenerator<ApplicationContent, ApplicationContent.ApplicationContentBuilder> {
+    extends FullGenerator<ApplicationContent, ApplicationContent.ApplicationContentBuilder> {
 
-  private final FullOfficeGenerator officeGenerator = new FullOfficeGenerator();
-  private final FullProviderGenerator providerGenerator = new FullProviderGenerator();
-  private final FullApplicantGenerator applicantGenerator = new FullApplicantGenerator();
-  private final FullBenefitCheckResultGenerator benefitCheckResultGenerator =
-      new FullBenefitCheckResultGenerator();
-  private final FullLegalFrameworkMeritsTaskListGenerator legalFrameworkMeritsTaskListGenerator =
-      new FullLegalFrameworkMeritsTaskListGenerator();
-  private final FullStateMachineGenerator stateMachineGenerator = new FullStateMachineGenerator();
-  private final FullMeansGenerator meansGenerator = new FullMeansGenerator();
-  private final FullApplicationMeritsGenerator applicationMeritsGenerator =
-      new FullApplicationMeritsGenerator();
-  private final FullProceedingGenerator proceedingGenerator = new FullProceedingGenerator();
-  private final FullProceedingMeritsGenerator proceedingMeritsGenerator =
-      new FullProceedingMeritsGenerator();
+  private final FullOfficeGenerator officeGenerator;
+  private final FullProviderGenerator providerGenerator;
+  private final FullApplicantGenerator applicantGenerator;
+  private final FullBenefitCheckResultGenerator benefitCheckResultGenerator;
+  private final FullLegalFrameworkMeritsTaskListGenerator legalFrameworkMeritsTaskListGenerator;
+  private final FullStateMachineGenerator stateMachineGenerator;
+  private final FullMeansGenerator meansGenerator;
+  private final FullApplicationMeritsGenerator applicationMeritsGenerator;
+  private final FullProceedingGenerator proceedingGenerator;
+  private final FullProceedingMeritsGenerator proceedingMeritsGenerator;
 
   public FullJsonGenerator() {
-    super(ApplicationContent::toBuilder, ApplicationContent.ApplicationContentBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullJsonGenerator(Faker faker, Instant epoch) {
+    super(
+        ApplicationContent::toBuilder,
+        ApplicationContent.ApplicationContentBuilder::build,
+        faker,
+        epoch);
+    officeGenerator = new FullOfficeGenerator(faker, epoch);
+    providerGenerator = new FullProviderGenerator(faker, epoch);
+    applicantGenerator = new FullApplicantGenerator(faker, epoch);
+    benefitCheckResultGenerator = new FullBenefitCheckResultGenerator(faker, epoch);
+    legalFrameworkMeritsTaskListGenerator =
+        new FullLegalFrameworkMeritsTaskListGenerator(faker, epoch);
+    stateMachineGenerator = new FullStateMachineGenerator(faker, epoch);
+    meansGenerator = new FullMeansGenerator(faker, epoch);
+    applicationMeritsGenerator = new FullApplicationMeritsGenerator(faker, epoch);
+    proceedingGenerator = new FullProceedingGenerator(faker, epoch);
+    proceedingMeritsGenerator = new FullProceedingMeritsGenerator(faker, epoch);
   }
 
   @Override
@@ -56,7 +65,7 @@ public class FullJsonGenerator
             "applicationRef", faker.regexify("L-[A-Z]{3}-[A-Z][0-9]{2}-[0-9]"))
         .putAdditionalApplicationContent("createdAt", randomInstant())
         .putAdditionalApplicationContent("updatedAt", randomInstant())
-        .putAdditionalApplicationContent("applicantId", UUID.randomUUID().toString())
+        .putAdditionalApplicationContent("applicantId", randomUuid().toString())
         .putAdditionalApplicationContent("hasOfflineAccounts", null)
         .putAdditionalApplicationContent("openBankingConsent", null)
         .putAdditionalApplicationContent("openBankingConsentChoiceAt", null)
@@ -67,7 +76,7 @@ public class FullJsonGenerator
         .putAdditionalApplicationContent("percentageHome", null)
         .putAdditionalApplicationContent(
             "providerStep", faker.options().option("submitted_applications", "provider_details"))
-        .putAdditionalApplicationContent("providerId", UUID.randomUUID().toString())
+        .putAdditionalApplicationContent("providerId", randomUuid().toString())
         .putAdditionalApplicationContent("draft", false)
         .putAdditionalApplicationContent("transactionPeriodStartOn", null)
         .putAdditionalApplicationContent("transactionPeriodFinishOn", null)
@@ -79,7 +88,7 @@ public class FullJsonGenerator
         .putAdditionalApplicationContent("substantiveApplicationDeadlineOn", null)
         .putAdditionalApplicationContent("substantiveApplication", null)
         .putAdditionalApplicationContent("hasDependants", null)
-        .putAdditionalApplicationContent("officeId", UUID.randomUUID().toString())
+        .putAdditionalApplicationContent("officeId", randomUuid().toString())
         .putAdditionalApplicationContent("hasRestrictions", null)
         .putAdditionalApplicationContent("restrictionsDetails", null)
         .putAdditionalApplicationContent("noCreditTransactionTypesSelected", null)
@@ -103,7 +112,7 @@ public class FullJsonGenerator
         .putAdditionalApplicationContent("substantiveCostReasons", null)
         .putAdditionalApplicationContent("applicantInReceiptOfHousingBenefit", null)
         .putAdditionalApplicationContent("copyCase", faker.bool().bool())
-        .putAdditionalApplicationContent("copyCaseId", UUID.randomUUID().toString())
+        .putAdditionalApplicationContent("copyCaseId", randomUuid().toString())
         .putAdditionalApplicationContent("caseCloned", faker.bool().bool())
         .putAdditionalApplicationContent("separateRepresentationRequired", faker.bool().bool())
         .putAdditionalApplicationContent("plfCourtOrder", null)
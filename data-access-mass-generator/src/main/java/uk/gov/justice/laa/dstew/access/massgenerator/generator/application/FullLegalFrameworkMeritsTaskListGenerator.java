@@ -1,13 +1,11 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullLegalFrameworkMeritsTaskList;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullLegalFrameworkMeritsTaskListGenerator
-    extends BaseGenerator<
+    extends FullGenerator<
         FullLegalFrameworkMeritsTaskList,
         FullLegalFrameworkMeritsTaskList.FullLegalFrameworkMeritsTaskListBuilder> {
 
@@ -31,20 +29,22 @@ public class FullLegalFrameworkMeritsTaskListGenerator
       """;
 
   public FullLegalFrameworkMeritsTaskListGenerator() {
-    super(
-        FullLegalFrameworkMeritsTaskList::toBuilder,
-        FullLegalFrameworkMeritsTaskList.FullLegalFrameworkMeritsTaskListBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullLegalFrameworkMeritsTaskListGenerator(Faker faker, Instant epoch) {
+    super(
+        FullLegalFrameworkMeritsTaskList::toBuilder,
+        FullLegalFrameworkMeritsTaskList.FullLegalFrameworkMeritsTaskListBuilder::build,
+        faker,
+        epoch);
   }
 
   @Override
   public FullLegalFrameworkMeritsTaskList createDefault() {
     return FullLegalFrameworkMeritsTaskList.builder()
-        .id(UUID.randomUUID().toString())
-        .legalAidApplicationId(UUID.randomUUID().toString())
+        .id(randomUuid().toString())
+        .legalAidApplicationId(randomUuid().toString())
         .serializedData(SERIALIZED_DATA)
         .createdAt(randomInstant())
         .updatedAt(randomInstant())
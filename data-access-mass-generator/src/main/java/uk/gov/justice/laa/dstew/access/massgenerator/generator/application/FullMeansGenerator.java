@@ -1,17 +1,22 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullMeans;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
-public class FullMeansGenerator extends BaseGenerator<FullMeans, FullMeans.FullMeansBuilder> {
+public class FullMeansGenerator extends FullGenerator<FullMeans, FullMeans.FullMeansBuilder> {
 
-  private final FullCfeSubmissionGenerator cfeSubmissionGenerator =
-      new FullCfeSubmissionGenerator();
+  private final FullCfeSubmissionGenerator cfeSubmissionGenerator;
 
   public FullMeansGenerator() {
-    super(FullMeans::toBuilder, FullMeans.FullMeansBuilder::build);
+    this(new Faker(), Instant.now());
+  }
+
+  public FullMeansGenerator(Faker faker, Instant epoch) {
+    super(FullMeans::toBuilder, FullMeans.FullMeansBuilder::build, faker, epoch);
+    cfeSubmissionGenerator = new FullCfeSubmissionGenerator(faker, epoch);
   }
 
   @Override
@@ -1,14 +1,23 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
+import java.time.Instant;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.entity.MeritsDecisionEntity;
 import uk.gov.justice.laa.dstew.access.model.MeritsDecisionStatus;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullMeritsDecisionGenerator
-    extends BaseGenerator<MeritsDecisionEntity, MeritsDecisionEntity.MeritsDecisionEntityBuilder> {
+    extends FullGenerator<MeritsDecisionEntity, MeritsDecisionEntity.MeritsDecisionEntityBuilder> {
 
   public FullMeritsDecisionGenerator() {
-    super(MeritsDecisionEntity::toBuilder, MeritsDecisionEntity.MeritsDecisionEntityBuilder::build);
+    this(new Faker(), Instant.now());
+  }
+
+  public FullMeritsDecisionGenerator(Faker faker, Instant epoch) {
+    super(
+        MeritsDecisionEntity::toBuilder,
+        MeritsDecisionEntity.MeritsDecisionEntityBuilder::build,
+        faker,
+        epoch);
   }
 
   @Override
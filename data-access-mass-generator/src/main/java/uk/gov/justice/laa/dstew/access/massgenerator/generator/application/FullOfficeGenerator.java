@@ -1,23 +1,26 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.usecase.shared.parser.ApplicationOffice;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullOfficeGenerator
-    extends BaseGenerator<ApplicationOffice, ApplicationOffice.ApplicationOfficeBuilder> {
+    extends FullGenerator<ApplicationOffice, ApplicationOffice.ApplicationOfficeBuilder> {
 
-  private final FullOfficeScheduleGenerator scheduleGenerator = new FullOfficeScheduleGenerator();
+  private final FullOfficeScheduleGenerator scheduleGenerator;
 
   public FullOfficeGenerator() {
-    super(ApplicationOffice::toBuilder, ApplicationOffice.ApplicationOfficeBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullOfficeGenerator(Faker faker, Instant epoch) {
+    super(
+        ApplicationOffice::toBuilder,
+        ApplicationOffice.ApplicationOfficeBuilder::build,
+        faker,
+        epoch);
+    scheduleGenerator = new FullOfficeScheduleGenerator(faker, epoch);
   }
 
   @Override
@@ -25,11 +28,11 @@ public class FullOfficeGenerator
     return ApplicationOffice.builder()
         .code(faker.regexify("[0-9][A-Z][0-9]{3}[A-Z]"))
         .build()
-        .putAdditionalProperty("id", UUID.randomUUID().toString())
+        .putAdditionalProperty("id", randomUuid().toString())
         .putAdditionalProperty("createdAt", randomInstant())
         .putAdditionalProperty("updatedAt", randomInstant())
         .putAdditionalProperty("ccmsId", faker.numerify("######"))
-        .putAdditionalProperty("firmId", UUID.randomUUID().toString())
+        .putAdditionalProperty("firmId", randomUuid().toString())
         .putAdditionalProperty("schedules", List.of(scheduleGenerator.createDefault()));
   }
 }
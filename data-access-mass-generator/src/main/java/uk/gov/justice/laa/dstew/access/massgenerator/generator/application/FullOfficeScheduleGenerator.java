@@ -2,27 +2,29 @@ package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullOfficeSchedule;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullOfficeScheduleGenerator
-    extends BaseGenerator<FullOfficeSchedule, FullOfficeSchedule.FullOfficeScheduleBuilder> {
+    extends FullGenerator<FullOfficeSchedule, FullOfficeSchedule.FullOfficeScheduleBuilder> {
 
   public FullOfficeScheduleGenerator() {
-    super(FullOfficeSchedule::toBuilder, FullOfficeSchedule.FullOfficeScheduleBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullOfficeScheduleGenerator(Faker faker, Instant epoch) {
+    super(
+        FullOfficeSchedule::toBuilder,
+        FullOfficeSchedule.FullOfficeScheduleBuilder::build,
+        faker,
+        epoch);
   }
 
   @Override
   public FullOfficeSchedule createDefault() {
     return FullOfficeSchedule.builder()
-        .id(UUID.randomUUID().toString())
-        .officeId(UUID.randomUUID().toString())
+        .id(randomUuid().toString())
+        .officeId(randomUuid().toString())
         .areaOfLaw(faker.options().option("LEGAL HELP", "FAMILY MEDIATION", "CRIME"))
         .categoryOfLaw(faker.options().option("MAT", "CRM", "HOU"))
         .authorisationStatus(faker.options().option("APPROVED", "PENDING", "SUSPENDED"))
@@ -1,29 +1,32 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullOpponentDetails;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullOpponentDetailsGenerator
-    extends BaseGenerator<FullOpponentDetails, FullOpponentDetails.FullOpponentDetailsBuilder> {
+    extends FullGenerator<FullOpponentDetails, FullOpponentDetails.FullOpponentDetailsBuilder> {
 
-  private final FullOpposableGenerator opposableGenerator = new FullOpposableGenerator();
+  private final FullOpposableGenerator opposableGenerator;
 
   public FullOpponentDetailsGenerator() {
-    super(FullOpponentDetails::toBuilder, FullOpponentDetails.FullOpponentDetailsBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullOpponentDetailsGenerator(Faker faker, Instant epoch) {
+    super(
+        FullOpponentDetails::toBuilder,
+        FullOpponentDetails.FullOpponentDetailsBuilder::build,
+        faker,
+        epoch);
+    opposableGenerator = new FullOpposableGenerator(faker, epoch);
   }
 
   @Override
   public FullOpponentDetails createDefault() {
     return FullOpponentDetails.builder()
-        .id(UUID.randomUUID().toString())
-        .legalAidApplicationId(UUID.randomUUID().toString())
+        .id(randomUuid().toString())
+        .legalAidApplicationId(randomUuid().toString())
         .createdAt(randomInstant())
         .updatedAt(randomInstant())
         .ccmsOpponentId(null)
@@ -31,7 +34,7 @@ public class FullOpponentDetailsGenerator
             faker
                 .options()
                 .option("ApplicationMeritsTask::Individual", "ApplicationMeritsTask::Organisation"))
-        .opposableId(UUID.randomUUID().toString())
+        .opposableId(randomUuid().toString())
         .existsInCCMS(faker.bool().bool())
         .opposable(opposableGenerator.createDefault())
         .build();
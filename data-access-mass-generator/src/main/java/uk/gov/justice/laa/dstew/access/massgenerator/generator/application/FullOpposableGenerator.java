@@ -1,26 +1,24 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullOpposable;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullOpposableGenerator
-    extends BaseGenerator<FullOpposable, FullOpposable.FullOpposableBuilder> {
+    extends FullGenerator<FullOpposable, FullOpposable.FullOpposableBuilder> {
 
   public FullOpposableGenerator() {
-    super(FullOpposable::toBuilder, FullOpposable.FullOpposableBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullOpposableGenerator(Faker faker, Instant epoch) {
+    super(FullOpposable::toBuilder, FullOpposable.FullOpposableBuilder::build, faker, epoch);
   }
 
   @Override
   public FullOpposable createDefault() {
     return FullOpposable.builder()
-        .id(UUID.randomUUID().toString())
+        .id(randomUuid().toString())
         .createdAt(randomInstant())
         .updatedAt(randomInstant())
         .firstName(faker.name().firstName())
@@ -2,30 +2,28 @@ package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.usecase.shared.parser.Proceeding;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullProceedingGenerator
-    extends BaseGenerator<Proceeding, Proceeding.ProceedingBuilder> {
+    extends FullGenerator<Proceeding, Proceeding.ProceedingBuilder> {
 
-  private final FullScopeLimitationGenerator scopeLimitationGenerator =
-      new FullScopeLimitationGenerator();
+  private final FullScopeLimitationGenerator scopeLimitationGenerator;
 
   public FullProceedingGenerator() {
-    super(Proceeding::toBuilder, Proceeding.ProceedingBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullProceedingGenerator(Faker faker, Instant epoch) {
+    super(Proceeding::toBuilder, Proceeding.ProceedingBuilder::build, faker, epoch);
+    scopeLimitationGenerator = new FullScopeLimitationGenerator(faker, epoch);
   }
 
   @Override
   public Proceeding createDefault() {
     return Proceeding.builder()
-        .id(UUID.randomUUID())
+        .id(randomUuid())
         .categoryOfLawEnum("FAMILY")
         .matterTypeEnum("SPECIAL_CHILDREN_ACT")
         .leadProceeding(faker.bool().bool())
@@ -44,7 +42,7 @@ public class FullProceedingGenerator
         .substantiveLevelOfServiceNameEnum(
             faker.options().option("FULL_REPRESENTATION", "LIMITED_CASE_WORK"))
         .build()
-        .putAdditionalProperty("legalAidApplicationId", UUID.randomUUID().toString())
+        .putAdditionalProperty("legalAidApplicationId", randomUuid().toString())
         .putAdditionalProperty("proceedingCaseId", faker.number().numberBetween(50000000, 59999999))
         .putAdditionalProperty("delegatedFunctionsCostLimitation", "2250.0")
         .putAdditionalProperty("usedDelegatedFunctionsReportedOn", getRandomDate().toString())
@@ -1,14 +1,23 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
+import java.time.Instant;
 import java.util.List;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullProceedingMerits;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullProceedingMeritsGenerator
-    extends BaseGenerator<FullProceedingMerits, FullProceedingMerits.FullProceedingMeritsBuilder> {
+    extends FullGenerator<FullProceedingMerits, FullProceedingMerits.FullProceedingMeritsBuilder> {
 
   public FullProceedingMeritsGenerator() {
-    super(FullProceedingMerits::toBuilder, FullProceedingMerits.FullProceedingMeritsBuilder::build);
+    this(new Faker(), Instant.now());
+  }
+
+  public FullProceedingMeritsGenerator(Faker faker, Instant epoch) {
+    super(
+        FullProceedingMerits::toBuilder,
+        FullProceedingMerits.FullProceedingMeritsBuilder::build,
+        faker,
+        epoch);
   }
 
   @Override
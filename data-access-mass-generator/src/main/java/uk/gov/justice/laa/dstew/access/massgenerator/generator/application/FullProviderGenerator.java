@@ -1,38 +1,36 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullProvider;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullProviderGenerator
-    extends BaseGenerator<FullProvider, FullProvider.FullProviderBuilder> {
+    extends FullGenerator<FullProvider, FullProvider.FullProviderBuilder> {
 
   public FullProviderGenerator() {
-    super(FullProvider::toBuilder, FullProvider.FullProviderBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullProviderGenerator(Faker faker, Instant epoch) {
+    super(FullProvider::toBuilder, FullProvider.FullProviderBuilder::build, faker, epoch);
   }
 
   @Override
   public FullProvider createDefault() {
     return FullProvider.builder()
-        .id(UUID.randomUUID().toString())
+        .id(randomUuid().toString())
         .username(faker.regexify("[A-Z]{5}-[A-Z]{5}-[A-Z]{3}-LLP[0-9]"))
         .type(null)
         .roles(null)
         .createdAt(randomInstant())
         .updatedAt(randomInstant())
         .officeCodes(faker.regexify("[0-9][A-Z][0-9]{3}[A-Z]:[0-9][A-Z][0-9]{3}[A-Z]"))
-        .firmId(UUID.randomUUID().toString())
-        .selectedOfficeId(UUID.randomUUID().toString())
+        .firmId(randomUuid().toString())
+        .selectedOfficeId(randomUuid().toString())
         .name(faker.name().fullName())
         .email(faker.internet().emailAddress())
         .ccmsContactId(faker.number().numberBetween(10000000L, 99999999L))
-        .silasId(UUID.randomUUID().toString())
+        .silasId(randomUuid().toString())
         .build();
   }
 }
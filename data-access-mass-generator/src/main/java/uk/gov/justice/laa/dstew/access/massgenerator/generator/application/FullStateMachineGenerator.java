@@ -1,27 +1,29 @@
 package uk.gov.justice.laa.dstew.access.massgenerator.generator.application;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import net.datafaker.Faker;
 import uk.gov.justice.laa.dstew.access.massgenerator.model.FullStateMachine;
-import uk.gov.justice.laa.dstew.access.utils.generator.BaseGenerator;
 
 public class FullStateMachineGenerator
-    extends BaseGenerator<FullStateMachine, FullStateMachine.FullStateMachineBuilder> {
+    extends FullGenerator<FullStateMachine, FullStateMachine.FullStateMachineBuilder> {
 
   public FullStateMachineGenerator() {
-    super(FullStateMachine::toBuilder, FullStateMachine.FullStateMachineBuilder::build);
+    this(new Faker(), Instant.now());
   }
 
-  private String randomInstant() {
-    return Instant.now().minus(faker.number().numberBetween(0, 365), ChronoUnit.DAYS).toString();
+  public FullStateMachineGenerator(Faker faker, Instant epoch) {
+    super(
+        FullStateMachine::toBuilder,
+        FullStateMachine.FullStateMachineBuilder::build,
+        faker,
+        epoch);
   }
 
   @Override
   public FullStateMachine createDefault() {
     return FullStateMachine.builder()
-        .id(UUID.randomUUID().toString())
-        .legalAidApplicationId(UUID.randomUUID().toString())
+        .id(randomUuid().toString())
+        .legalAidApplicationId(randomUuid().toString())
         .type(faker.options().option("SpecialChildrenActStateMachine", "MeritsStateMachine"))
         .aasmState(
             faker
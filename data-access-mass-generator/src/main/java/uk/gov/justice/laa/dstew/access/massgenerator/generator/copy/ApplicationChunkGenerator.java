@@ -0,0 +1,289 @@
+package uk.gov.justice.laa.dstew.access.massgenerator.generator.copy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import net.datafaker.Faker;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.justice.laa.dstew.access.convertors.CategoryOfLawTypeConvertor;
+import uk.gov.justice.laa.dstew.access.convertors.MatterTypeConvertor;
+import uk.gov.justice.laa.dstew.access.entity.MeritsDecisionEntity;
+import uk.gov.justice.laa.dstew.access.mapper.MapperUtil;
+import uk.gov.justice.laa.dstew.access.massgenerator.generator.application.FullCertificateGenerator;
+import uk.gov.justice.laa.dstew.access.massgenerator.generator.application.FullJsonGenerator;
+import uk.gov.justice.laa.dstew.access.massgenerator.generator.application.FullMeritsDecisionGenerator;
+import uk.gov.justice.laa.dstew.access.model.ApplicationStatus;
+import uk.gov.justice.laa.dstew.access.model.DecisionStatus;
+import uk.gov.justice.laa.dstew.access.model.MeritsDecisionStatus;
+import uk.gov.justice.laa.dstew.access.shared.massdata.CsvCopyRows;
+import uk.gov.justice.laa.dstew.access.shared.massdata.SeedStreams;
+import uk.gov.justice.laa.dstew.access.usecase.shared.parser.ApplicationContent;
+import uk.gov.justice.laa.dstew.access.usecase.shared.parser.Proceeding;
+
+/**
+ * Generates the rows for a contiguous range of applications: their decisions, merits decisions,
+ * proceedings, certificates, linked individuals and linked application groups.
+ *
+ * <p>Each application is generated from its own {@link SeedStreams} stream: its ids, status,
+ * whether and how it is decided, its caseworker and individual, and the content the {@code Full*}
+ * generators build, whose {@code Faker} is reseeded from that stream and whose timestamps count
+ * back from {@link #CONTENT_EPOCH}. Linked groups come from one stream per range.
+ *
+ * <p>Not thread-safe: the {@code Full*} generators share a {@code Faker} per instance, so each
+ * worker thread uses its own instance.
+ */
+class ApplicationChunkGenerator {
+
+  static final String CREATED_BY = "mass-generator";
+
+  private static final double DECISION_RATE = 0.4;
+  private static final double LINK_RATE = 0.1;
+  private static final int MAX_ASSOCIATES = 3;
+  private static final double SUBMITTED_RATE = 0.9;
+  private static final double GRANTED_RATE = 1.0 / 3;
+
+  /** Separates the random streams drawn from one seed. */
+  enum Stream {
+    CASEWORKER,
+    INDIVIDUAL,
+    APPLICATION,
+    LINKED_GROUP
+  }
+
+  /** The rows for one range, in an order that satisfies every foreign key between them. */
+  record Chunk(List<CsvCopyRows> tables, int decided, int linked) {}
+
+  /** The instant the generated content's timestamps count back from, so reruns match. */
+  static final Instant CONTENT_EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+  private final Random fakerRandom = new Random();
+  private final Faker faker = new Faker(fakerRandom);
+  private final FullJsonGenerator jsonGenerator = new FullJsonGenerator(faker, CONTENT_EPOCH);
+  private final FullMeritsDecisionGenerator meritsDecisionGenerator =
+      new FullMeritsDecisionGenerator(faker, CONTENT_EPOCH);
+  private final FullCertificateGenerator certificateGenerator =
+      new FullCertificateGenerator(faker, CONTENT_EPOCH);
+  private final CategoryOfLawTypeConvertor categoryOfLawConvertor =
+      new CategoryOfLawTypeConvertor();
+  private final MatterTypeConvertor matterTypeConvertor = new MatterTypeConvertor();
+  private final ObjectMapper objectMapper = MapperUtil.getObjectMapper();
+
+  /**
+   * Generates applications {@code from} (inclusive) to {@code to} (exclusive).
+   *
+   * <p>Linked groups never span two ranges: each range walks its own applications, starting a
+   * group at an application with probability {@value #LINK_RATE} and adding the next one to
+   * {@value #MAX_ASSOCIATES} applications to it as associates.
+   */
+  Chunk generate(
+      long seed,
+      int chunkIndex,
+      int from,
+      int to,
+      List<UUID> caseworkerIds,
+      List<UUID> individualIds,
+      Instant loadedAt) {
+    CsvCopyRows decisions =
+        new CsvCopyRows("decisions", "id", "overall_decision", "created_at", "modified_at");
+    CsvCopyRows meritsDecisions =
+        new CsvCopyRows(
+            "merits_decisions",
+            "id",
+            "decision",
+            "reason",
+            "justification",
+            "created_at",
+            "modified_at");
+    CsvCopyRows applications =
+        new CsvCopyRows(
+            "applications",
+            "id",
+            "version",
+            "status",
+            "laa_reference",
+            "office_code",
+            "application_content",
+            "schema_version",
+            "caseworker_id",
+            "apply_application_id",
+            "submitted_at",
+            "decision_id",
+            "used_delegated_functions",
+            "category_of_law",
+            "matter_types",
+            "is_auto_granted",
+            "created_at",
+            "modified_at");
+    CsvCopyRows proceedings =
+        new CsvCopyRows(
+            "proceedings",
+            "id",
+            "application_id",
+            "merits_decision_id",
+            "apply_proceeding_id",
+            "description",
+            "is_lead",
+            "proceeding_content",
+            "created_by",
+            "updated_by",
+            "created_at",
+            "modified_at");
+    CsvCopyRows certificates =
+        new CsvCopyRows(
+            "certificates",
+            "id",
+            "application_id",
+            "certificate_content",
+            "created_by",
+            "updated_by",
+            "created_at",
+            "modified_at");
+    CsvCopyRows linkedIndividuals =
+        new CsvCopyRows("linked_individuals", "application_id", "individual_id");
+    CsvCopyRows linkedApplications =
+        new CsvCopyRows(
+            "linked_applications",
+            "id",
+            "lead_application_id",
+            "associated_application_id",
+            "linked_at");
+
+    List<UUID> applicationIds = new ArrayList<>(to - from);
+    int decided = 0;
+    for (int index = from; index < to; index++) {
+      SplittableRandom random = SeedStreams.random(seed, Stream.APPLICATION, index);
+      UUID applicationId = SeedStreams.uuid(random);
+      applicationIds.add(applicationId);
+      fakerRandom.setSeed(random.nextLong());
+
+      ApplicationContent content = jsonGenerator.createDefault();
+      Proceeding lead = leadProceeding(content);
+      Instant submittedAt = Instant.parse(content.getSubmittedAt());
+
+      boolean hasDecision = random.nextDouble() < DECISION_RATE;
+      DecisionStatus overallDecision = null;
+      UUID decisionId = null;
+      if (hasDecision) {
+        decided++;
+        overallDecision =
+            random.nextDouble() < GRANTED_RATE ? DecisionStatus.GRANTED : DecisionStatus.REFUSED;
+        decisionId = SeedStreams.uuid(random);
+        decisions.row(decisionId, overallDecision, submittedAt, submittedAt);
+      }
+      boolean granted = overallDecision == DecisionStatus.GRANTED;
+
+      applications.row(
+          applicationId,
+          0,
+          random.nextDouble() < SUBMITTED_RATE
+              ? ApplicationStatus.APPLICATION_SUBMITTED
+              : ApplicationStatus.APPLICATION_IN_PROGRESS,
+          content.getLaaReference(),
+          content.getOffice() != null ? content.getOffice().getCode() : null,
+          objectMapper.writeValueAsString(content),
+          1,
+          caseworkerIds.get(random.nextInt(caseworkerIds.size())),
+          SeedStreams.uuid(random),
+          submittedAt,
+          decisionId,
+          content.getProceedings().stream()
+              .anyMatch(p -> Boolean.TRUE.equals(p.getUsedDelegatedFunctions())),
+          categoryOfLawConvertor.lenientEnumConversion(lead.getCategoryOfLawEnum()),
+          matterTypeConvertor.lenientEnumConversion(lead.getMatterTypeEnum()),
+          granted,
+          submittedAt,
+          submittedAt);
+
+      for (Proceeding proceeding : content.getProceedings()) {
+        UUID meritsDecisionId = null;
+        if (hasDecision) {
+          meritsDecisionId = SeedStreams.uuid(random);
+          MeritsDecisionEntity merits = meritsDecisionGenerator.createDefault();
+          meritsDecisions.row(
+              meritsDecisionId,
+              random.nextBoolean() ? MeritsDecisionStatus.GRANTED : MeritsDecisionStatus.REFUSED,
+              merits.getReason(),
+              merits.getJustification(),
+              submittedAt,
+              submittedAt);
+        }
+        proceedings.row(
+            SeedStreams.uuid(random),
+            applicationId,
+            meritsDecisionId,
+            proceeding.getId(),
+            proceeding.getDescription(),
+            Boolean.TRUE.equals(proceeding.getLeadProceeding()),
+            objectMapper.writeValueAsString(proceeding),
+            CREATED_BY,
+            CREATED_BY,
+            submittedAt,
+            submittedAt);
+      }
+
+      if (granted) {
+        certificates.row(
+            SeedStreams.uuid(random),
+            applicationId,
+            objectMapper.writeValueAsString(
+                certificateGenerator.createDefault().getCertificateContent()),
+            CREATED_BY,
+            CREATED_BY,
+            submittedAt,
+            submittedAt);
+      }
+
+      linkedIndividuals.row(applicationId, individualIds.get(random.nextInt(individualIds.size())));
+    }
+
+    int linked = linkGroups(seed, chunkIndex, applicationIds, linkedApplications, loadedAt);
+    return new Chunk(
+        List.of(
+            decisions,
+            meritsDecisions,
+            applications,
+            proceedings,
+            certificates,
+            linkedIndividuals,
+            linkedApplications),
+        decided,
+        linked);
+  }
+
+  private int linkGroups(
+      long seed,
+      int chunkIndex,
+      List<UUID> applicationIds,
+      CsvCopyRows linkedApplications,
+      Instant loadedAt) {
+    SplittableRandom random = SeedStreams.random(seed, Stream.LINKED_GROUP, chunkIndex);
+    int linked = 0;
+    int i = 0;
+    while (i < applicationIds.size()) {
+      if (random.nextDouble() < LINK_RATE && i + 1 < applicationIds.size()) {
+        UUID leadId = applicationIds.get(i);
+        i++;
+        int associates = random.nextInt(1, MAX_ASSOCIATES + 1);
+        for (int j = 0; j < associates && i < applicationIds.size(); j++) {
+          linkedApplications.row(SeedStreams.uuid(random), leadId, applicationIds.get(i), loadedAt);
+          i++;
+          linked++;
+        }
+      } else {
+        i++;
+      }
+    }
+    return linked;
+  }
+
+  private Proceeding leadProceeding(ApplicationContent content) {
+    return content.getProceedings().stream()
+        .filter(p -> Boolean.TRUE.equals(p.getLeadProceeding()))
+        .findFirst()
+        .orElseThrow(
+            () -> new IllegalStateException("No lead proceeding found in generated content"));
+  }
+}
@@ -0,0 +1,240 @@
+package uk.gov.justice.laa.dstew.access.massgenerator.generator.copy;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import net.datafaker.Faker;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.justice.laa.dstew.access.mapper.MapperUtil;
+import uk.gov.justice.laa.dstew.access.massgenerator.generator.copy.ApplicationChunkGenerator.Chunk;
+import uk.gov.justice.laa.dstew.access.massgenerator.generator.copy.ApplicationChunkGenerator.Stream;
+import uk.gov.justice.laa.dstew.access.model.IndividualType;
+import uk.gov.justice.laa.dstew.access.shared.massdata.CsvCopyRows;
+import uk.gov.justice.laa.dstew.access.shared.massdata.SeedStreams;
+
+/**
+ * Loads a mass dataset by streaming rows into each table with PostgreSQL {@code COPY ... FROM
+ * STDIN} instead of persisting entities through JPA.
+ *
+ * <p>Applications are generated in chunks of {@value #CHUNK_SIZE} on a pool of worker threads.
+ * Each worker copies its chunk into every table on its own connection and commits it as one
+ * transaction, so foreign keys hold at every commit. Secondary indexes on the loaded tables are
+ * dropped first and rebuilt once all rows are in, which is far cheaper than maintaining them row
+ * by row; constraint indexes stay, so keys are still enforced during the load.
+ */
+@Component
+public class BulkCopyLoader {
+
+  private static final int CHUNK_SIZE = 500;
+  private static final int CASEWORKER_COUNT = 100;
+  private static final LocalDate EARLIEST_BIRTHDAY = LocalDate.of(1950, 1, 1);
+  private static final int BIRTHDAY_RANGE_DAYS = 365 * 55;
+
+  private static final List<String> TABLES =
+      List.of(
+          "caseworkers",
+          "individuals",
+          "decisions",
+          "merits_decisions",
+          "applications",
+          "proceedings",
+          "certificates",
+          "linked_individuals",
+          "linked_applications");
+
+  /** Totals for a completed load. */
+  public record Result(int decided, int linked) {}
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final ObjectMapper objectMapper = MapperUtil.getObjectMapper();
+
+  /**
+   * Loads {@code count} applications, {@value #CASEWORKER_COUNT} caseworkers and a pool of {@code
+   * individualPoolSize} individuals the applications are linked to.
+   */
+  public Result load(int count, int individualPoolSize, long seed, int workers) {
+    Instant loadedAt = Instant.now();
+    SecondaryIndexes indexes = SecondaryIndexes.on(jdbcTemplate, TABLES);
+    ExecutorService executor = Executors.newFixedThreadPool(workers);
+    try {
+      System.out.printf("Dropping %d secondary indexes before the load...%n", indexes.size());
+      indexes.drop();
+
+      List<UUID> caseworkerIds = copyCaseworkers(seed, loadedAt);
+      List<UUID> individualIds = copyIndividuals(seed, individualPoolSize, loadedAt);
+
+      System.out.printf(
+          "Copying %d application records on %d workers (seed %d)...%n", count, workers, seed);
+      return copyApplications(executor, count, seed, caseworkerIds, individualIds, loadedAt);
+    } finally {
+      rebuildIndexes(indexes, executor);
+      executor.shutdown();
+    }
+  }
+
+  private List<UUID> copyCaseworkers(long seed, Instant loadedAt) {
+    CsvCopyRows caseworkers =
+        new CsvCopyRows("caseworkers", "id", "username", "created_at", "modified_at");
+    Faker faker = new Faker(new Random(seed));
+    List<UUID> ids = new ArrayList<>(CASEWORKER_COUNT);
+    for (int k = 0; k < CASEWORKER_COUNT; k++) {
+      SplittableRandom random = SeedStreams.random(seed, Stream.CASEWORKER, k);
+      UUID id = SeedStreams.uuid(random);
+      caseworkers.row(id, faker.name().username(), loadedAt, loadedAt);
+      ids.add(id);
+    }
+    copyAndCommit(List.of(caseworkers));
+    System.out.printf("Created %d caseworkers%n", ids.size());
+    return ids;
+  }
+
+  private List<UUID> copyIndividuals(long seed, int poolSize, Instant loadedAt) {
+    System.out.printf("Building individual pool of %d entries...%n", poolSize);
+    CsvCopyRows individuals =
+        new CsvCopyRows(
+            "individuals",
+            "id",
+            "first_name",
+            "last_name",
+            "date_of_birth",
+            "individual_content",
+            "individual_type",
+            "created_at",
+            "modified_at");
+    Faker faker = new Faker(new Random(seed));
+    List<UUID> ids = new ArrayList<>(poolSize);
+    for (int k = 0; k < poolSize; k++) {
+      SplittableRandom random = SeedStreams.random(seed, Stream.INDIVIDUAL, k);
+      UUID id = SeedStreams.uuid(random);
+      individuals.row(
+          id,
+          faker.name().firstName(),
+          faker.name().lastName(),
+          EARLIEST_BIRTHDAY.plusDays(random.nextInt(BIRTHDAY_RANGE_DAYS)),
+          objectMapper.writeValueAsString(Map.of("test", faker.text().text(10, 35, true))),
+          IndividualType.CLIENT,
+          loadedAt,
+          loadedAt);
+      ids.add(id);
+    }
+    copyAndCommit(List.of(individuals));
+    System.out.printf("Created %d individuals%n", ids.size());
+    return ids;
+  }
+
+  private Result copyApplications(
+      ExecutorService executor,
+      int count,
+      long seed,
+      List<UUID> caseworkerIds,
+      List<UUID> individualIds,
+      Instant loadedAt) {
+    ThreadLocal<ApplicationChunkGenerator> generators =
+        ThreadLocal.withInitial(ApplicationChunkGenerator::new);
+    AtomicInteger copied = new AtomicInteger();
+    List<Future<Result>> chunks = new ArrayList<>();
+    for (int from = 0, chunkIndex = 0; from < count; from += CHUNK_SIZE, chunkIndex++) {
+      int start = from;
+      int end = Math.min(count, from + CHUNK_SIZE);
+      int index = chunkIndex;
+      chunks.add(
+          executor.submit(
+              () -> {
+                Chunk chunk =
+                    generators
+                        .get()
+                        .generate(
+                            seed, index, start, end, caseworkerIds, individualIds, loadedAt);
+                copyAndCommit(chunk.tables());
+                System.out.printf(
+                    "Persisted %d / %d applications%n", copied.addAndGet(end - start), count);
+                return new Result(chunk.decided(), chunk.linked());
+              }));
+    }
+
+    int decided = 0;
+    int linked = 0;
+    try {
+      for (Future<Result> future : chunks) {
+        Result chunk = await(future);
+        decided += chunk.decided();
+        linked += chunk.linked();
+      }
+    } catch (IllegalStateException e) {
+      chunks.forEach(future -> future.cancel(true));
+      throw e;
+    }
+    return new Result(decided, linked);
+  }
+
+  private void copyAndCommit(List<CsvCopyRows> tables) {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+      try {
+        for (CsvCopyRows table : tables) {
+          if (!table.isEmpty()) {
+            copyManager.copyIn(table.copyStatement(), table.reader());
+          }
+        }
+        connection.commit();
+      } catch (SQLException | IOException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      }
+    } catch (SQLException | IOException e) {
+      throw new IllegalStateException("COPY into the mass data tables failed", e);
+    }
+  }
+
+  private void rebuildIndexes(SecondaryIndexes indexes, ExecutorService executor) {
+    System.out.printf("Rebuilding %d secondary indexes...%n", indexes.size());
+    long start = System.currentTimeMillis();
+    try {
+      indexes.rebuild(executor);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while rebuilding indexes", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Rebuilding indexes failed", e.getCause());
+    }
+    for (String table : TABLES) {
+      jdbcTemplate.execute("ANALYZE " + table);
+    }
+    System.out.printf(
+        "Rebuilt indexes and analysed tables in %d ms%n", System.currentTimeMillis() - start);
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while copying applications", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Copying applications failed", e.getCause());
+    }
+  }
+}
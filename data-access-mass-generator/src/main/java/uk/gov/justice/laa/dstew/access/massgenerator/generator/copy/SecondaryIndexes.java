@@ -0,0 +1,73 @@
+package uk.gov.justice.laa.dstew.access.massgenerator.generator.copy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * The indexes on a set of tables that no constraint depends on, captured so they can be dropped
+ * before a bulk load and rebuilt from their original definitions afterwards.
+ *
+ * <p>Primary key, unique and exclusion constraint indexes are left in place: foreign keys and the
+ * one-certificate-per-application rule still need them while rows are loaded.
+ */
+class SecondaryIndexes {
+
+  private static final String FIND_SQL =
+      """
+      SELECT index_class.relname, pg_get_indexdef(ix.indexrelid)
+      FROM pg_index ix
+      JOIN pg_class index_class ON index_class.oid = ix.indexrelid
+      JOIN pg_class table_class ON table_class.oid = ix.indrelid
+      JOIN pg_namespace ns ON ns.oid = table_class.relnamespace
+      WHERE ns.nspname = current_schema()
+        AND table_class.relname::text = ANY (?)
+        AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = ix.indexrelid)
+      ORDER BY index_class.relname
+      """;
+
+  private record Index(String name, String definition) {}
+
+  private final JdbcTemplate jdbcTemplate;
+  private final List<Index> indexes;
+
+  private SecondaryIndexes(JdbcTemplate jdbcTemplate, List<Index> indexes) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.indexes = indexes;
+  }
+
+  /** Captures the definitions of the secondary indexes currently on the given tables. */
+  static SecondaryIndexes on(JdbcTemplate jdbcTemplate, List<String> tables) {
+    List<Index> indexes =
+        jdbcTemplate.query(
+            FIND_SQL,
+            (rs, rowNum) -> new Index(rs.getString(1), rs.getString(2)),
+            (Object) tables.toArray(String[]::new));
+    return new SecondaryIndexes(jdbcTemplate, indexes);
+  }
+
+  int size() {
+    return indexes.size();
+  }
+
+  void drop() {
+    for (Index index : indexes) {
+      System.out.printf("Dropping index %s: %s%n", index.name(), index.definition());
+      jdbcTemplate.execute("DROP INDEX IF EXISTS \"%s\"".formatted(index.name()));
+    }
+  }
+
+  /** Rebuilds every captured index, several at once on the given executor. */
+  void rebuild(ExecutorService executor) throws InterruptedException, ExecutionException {
+    List<Future<?>> builds = new ArrayList<>();
+    for (Index index : indexes) {
+      builds.add(executor.submit(() -> jdbcTemplate.execute(index.definition())));
+    }
+    for (Future<?> build : builds) {
+      build.get();
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package uk.gov.justice.laa.dstew.access;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreateRequestFixture.validCreateApplicationRequest;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import uk.gov.justice.laa.dstew.access.command.application.CreateApplicationUseCase;
+import uk.gov.justice.laa.dstew.access.command.application.note.CreateNoteCommand;
+import uk.gov.justice.laa.dstew.access.command.application.note.CreateNoteUseCase;
+import uk.gov.justice.laa.dstew.access.controller.application.CreateApplicationCommandMapper;
+
+/**
+ * Measures command latency against an application's event-stream length, with and without
+ * aggregate snapshots. Run with {@code ./gradlew
+ * :data-access-service-axon:aggregateSnapshotBenchmark}; each variant prints one line per stream
+ * length with the median and 95th percentile latency of a note command.
+ */
+class AggregateSnapshotBenchmark {
+
+  private static final List<Integer> STREAM_LENGTHS = List.of(10, 100, 500, 1000);
+  private static final int SAMPLES = 25;
+
+  @Testcontainers
+  @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+  @SpringBootTest(properties = "application.snapshot.enabled=true")
+  static class WithSnapshotsTest extends Scenario {}
+
+  @Testcontainers
+  @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+  @SpringBootTest(properties = "application.snapshot.enabled=false")
+  static class WithoutSnapshotsTest extends Scenario {}
+
+  abstract static class Scenario {
+
+    @Container @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired private CreateApplicationUseCase createApplicationUseCase;
+    @Autowired private CreateApplicationCommandMapper createApplicationCommandMapper;
+    @Autowired private CreateNoteUseCase createNoteUseCase;
+
+    @Value("${application.snapshot.enabled}")
+    private boolean snapshotsEnabled;
+
+    @Test
+    void measuresNoteCommandLatencyByStreamLength() {
+      UUID applicationId = UUID.randomUUID();
+      assertThat(
+              createApplicationUseCase
+                  .execute(
+                      createApplicationCommandMapper.toCommand(
+                          validCreateApplicationRequest(applicationId, UUID.randomUUID()), 1))
+                  .join())
+          .isTrue();
+      long streamLength = 1;
+
+      for (int target : STREAM_LENGTHS) {
+        while (streamLength < target) {
+          addNote(applicationId);
+          streamLength++;
+        }
+        long[] nanos = new long[SAMPLES];
+        for (int sample = 0; sample < SAMPLES; sample++) {
+          long start = System.nanoTime();
+          addNote(applicationId);
+          nanos[sample] = System.nanoTime() - start;
+        }
+        streamLength += SAMPLES;
+        Arrays.sort(nanos);
+        System.out.printf(
+            "snapshots=%s streamLength=%d p50=%.2fms p95=%.2fms%n",
+            snapshotsEnabled,
+            target,
+            nanos[SAMPLES / 2] / 1e6,
+            nanos[(int) (SAMPLES * 0.95)] / 1e6);
+      }
+    }
+
+    private void addNote(UUID applicationId) {
+      createNoteUseCase.execute(
+          new CreateNoteCommand(applicationId, "Benchmark note", "{}", Instant.now()));
+    }
+  }
+}
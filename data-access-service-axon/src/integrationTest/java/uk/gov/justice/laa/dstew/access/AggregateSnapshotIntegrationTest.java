@@ -0,0 +1,114 @@
+package uk.gov.justice.laa.dstew.access;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreateRequestFixture.validCreateApplicationRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import uk.gov.justice.laa.dstew.access.command.application.CreateApplicationUseCase;
+import uk.gov.justice.laa.dstew.access.command.application.assignment.AssignCaseworkerUseCase;
+import uk.gov.justice.laa.dstew.access.command.application.assignment.UnassignCaseworkerFromApplicationCommand;
+import uk.gov.justice.laa.dstew.access.command.application.assignment.UnassignCaseworkerUseCase;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataRepository;
+import uk.gov.justice.laa.dstew.access.command.application.note.CreateNoteCommand;
+import uk.gov.justice.laa.dstew.access.command.application.note.CreateNoteUseCase;
+import uk.gov.justice.laa.dstew.access.controller.application.CreateApplicationCommandMapper;
+
+/**
+ * Snapshots an application aggregate in Postgres and checks a later command is decided from the
+ * state restored out of {@code snapshot_event_entry}.
+ */
+@Testcontainers
+@SpringBootTest(
+    properties = {
+      "application.snapshot.enabled=true",
+      "application.snapshot.every-events=" + AggregateSnapshotIntegrationTest.EVERY_EVENTS,
+      "application.snapshot.load-time-threshold=1h"
+    })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class AggregateSnapshotIntegrationTest {
+
+  static final int EVERY_EVENTS = 5;
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+  @Autowired private CreateApplicationUseCase createApplicationUseCase;
+  @Autowired private CreateApplicationCommandMapper createApplicationCommandMapper;
+  @Autowired private AssignCaseworkerUseCase assignCaseworkerUseCase;
+  @Autowired private UnassignCaseworkerUseCase unassignCaseworkerUseCase;
+  @Autowired private CreateNoteUseCase createNoteUseCase;
+  @Autowired private ApplicationDataRepository applicationDataRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void givenStreamPastTheThreshold_whenReloadedFromSnapshot_thenCommandSeesTheRestoredState() {
+    UUID caseworkerId = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO axon.caseworkers (id, username) VALUES (?, ?)",
+        caseworkerId,
+        "snapshot@example.com");
+    UUID applicationId = UUID.randomUUID();
+    assertThat(
+            createApplicationUseCase
+                .execute(
+                    createApplicationCommandMapper.toCommand(
+                        validCreateApplicationRequest(applicationId, UUID.randomUUID()), 1))
+                .join())
+        .isTrue();
+    assignCaseworkerUseCase.assign(caseworkerId, applicationId, "{}", "Assigned");
+    int notes = EVERY_EVENTS + 1;
+    for (int note = 0; note < notes; note++) {
+      createNoteUseCase.execute(
+          new CreateNoteCommand(applicationId, "Note " + note, "{}", Instant.now()));
+    }
+
+    long snapshotSequence =
+        await()
+            .atMost(10, TimeUnit.SECONDS)
+            .until(() -> latestSnapshotSequence(applicationId), sequence -> sequence != null);
+    // Remove the events the snapshot covers, so the aggregate can only be rebuilt from it.
+    long removed =
+        jdbcTemplate.update(
+            "DELETE FROM axon.domain_event_entry"
+                + " WHERE aggregate_identifier = ? AND sequence_number <= ?",
+            applicationId.toString(),
+            snapshotSequence);
+    assertThat(removed).isEqualTo(snapshotSequence + 1);
+
+    unassignCaseworkerUseCase.execute(
+        new UnassignCaseworkerFromApplicationCommand(
+            applicationId, "{}", "Unassigned", Instant.now()));
+
+    List<String> eventTypes =
+        jdbcTemplate.queryForList(
+            "SELECT payload_type FROM axon.domain_event_entry"
+                + " WHERE aggregate_identifier = ? ORDER BY sequence_number",
+            String.class,
+            applicationId.toString());
+    assertThat(eventTypes.getLast()).endsWith("ApplicationUnassignedFromCaseworkerEvent");
+    // Creation, assignment, each note and the unassignment each wrote the next data version.
+    assertThat(applicationDataRepository.countByIdApplicationId(applicationId))
+        .isEqualTo(notes + 3L);
+  }
+
+  private Long latestSnapshotSequence(UUID applicationId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT max(sequence_number) FROM axon.snapshot_event_entry"
+            + " WHERE aggregate_identifier = ?",
+        Long.class,
+        applicationId.toString());
+  }
+}
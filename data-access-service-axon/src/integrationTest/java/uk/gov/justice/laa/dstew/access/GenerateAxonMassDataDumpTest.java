@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
 import com.zaxxer.hikari.HikariDataSource;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Duration;
 import java.time.Instant;
@@ -11,6 +12,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -22,6 +27,8 @@ import java.util.random.RandomGeneratorFactory;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.awaitility.Awaitility;
+import org.axonframework.common.configuration.AxonConfiguration;
+import org.axonframework.messaging.eventhandling.processing.streaming.StreamingEventProcessor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -33,12 +40,22 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 import tools.jackson.databind.ObjectMapper;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreationDetailsFactory;
+import uk.gov.justice.laa.dstew.access.command.application.note.CreateNoteUseCase;
 import uk.gov.justice.laa.dstew.access.command.caseworker.Caseworker;
 import uk.gov.justice.laa.dstew.access.command.caseworker.CaseworkerRepository;
+import uk.gov.justice.laa.dstew.access.controller.application.CreateNoteCommandMapper;
+import uk.gov.justice.laa.dstew.access.model.CreateNoteRequest;
+import uk.gov.justice.laa.dstew.access.observability.EventStorePositions;
+import uk.gov.justice.laa.dstew.access.testutils.ApplicationCreateRequestFixture;
 import uk.gov.justice.laa.dstew.access.testutils.ApplicationLifecycle;
 import uk.gov.justice.laa.dstew.access.testutils.ApplicationTestDataSeeder;
 import uk.gov.justice.laa.dstew.access.testutils.GeneratedRequestFactory;
 import uk.gov.justice.laa.dstew.access.testutils.massdata.ApplicationLifecycleSelector;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.DirectEventStoreWriter;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.EventStoreCalibration;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.EventStreamGenerator;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.EventStreamGenerator.Tally;
 import uk.gov.justice.laa.dstew.access.testutils.massdata.GenerationSummary;
 import uk.gov.justice.laa.dstew.access.testutils.massdata.MassDataConfiguration;
 import uk.gov.justice.laa.dstew.access.validation.ValidationException;
@@ -57,6 +74,11 @@ class GenerateAxonMassDataDumpTest extends AbstractApplicationTestSeederIntegrat
   @Autowired private DataSource dataSource;
   @Autowired private Environment environment;
   @Autowired private CaseworkerRepository caseworkerRepository;
+  @Autowired private ApplicationCreationDetailsFactory applicationCreationDetailsFactory;
+  @Autowired private CreateNoteUseCase createNoteUseCase;
+  @Autowired private CreateNoteCommandMapper createNoteCommandMapper;
+  @Autowired private AxonConfiguration axonConfiguration;
+  @Autowired private EventStorePositions eventStorePositions;
 
   @Test
   void generatesAndExportsMassData() throws Exception {
@@ -95,7 +117,22 @@ class GenerateAxonMassDataDumpTest extends AbstractApplicationTestSeederIntegrat
                 Integer.class))
         .isEqualTo(2);
 
-    List<UUID> caseworkerIds = initialiseCaseworkers(25);
+    Map<String, Object> generation =
+        configuration.mode() == MassDataConfiguration.Mode.DIRECT
+            ? writeDirectly(configuration, workerSettings)
+            : generateThroughCommands(configuration, workerSettings);
+    Counts counts = awaitProjectionCounts(configuration.count());
+    writeDumpAndMetadata(
+        configuration,
+        workerSettings,
+        counts,
+        Duration.between(startedAt, Instant.now()),
+        generation);
+  }
+
+  private Map<String, Object> generateThroughCommands(
+      MassDataConfiguration configuration, WorkerSettings workerSettings) throws Exception {
+    List<UUID> caseworkerIds = initialiseCaseworkers(25, OptionalLong.empty());
     String runId = UUID.randomUUID().toString().substring(0, 8);
     GeneratedRequestFactory requests = new GeneratedRequestFactory(runId);
     ApplicationLifecycleSelector lifecycleSelector = new ApplicationLifecycleSelector();
@@ -135,9 +172,115 @@ class GenerateAxonMassDataDumpTest extends AbstractApplicationTestSeederIntegrat
 
     printGenerationSummary(configuration, summary);
     assertThat(failures).as("generation failures").isEmpty();
-    Counts counts = awaitProjectionCounts(configuration.count());
-    writeDumpAndMetadata(
-        configuration, workerSettings, counts, Duration.between(startedAt, Instant.now()));
+    return Map.of();
+  }
+
+  private Map<String, Object> writeDirectly(
+      MassDataConfiguration configuration, WorkerSettings workerSettings) {
+    long seed = configuration.seed().orElseGet(() -> ThreadLocalRandom.current().nextLong());
+    System.out.printf("Writing event streams directly: seed=%d%n", seed);
+    List<UUID> caseworkerIds = initialiseCaseworkers(25, OptionalLong.of(seed));
+    EventStoreCalibration calibration = calibrate(caseworkerIds.getFirst());
+    DirectEventStoreWriter writer =
+        new DirectEventStoreWriter(
+            dataSource,
+            calibration,
+            () ->
+                new EventStreamGenerator(
+                    seed,
+                    caseworkerIds,
+                    applicationCreationDetailsFactory,
+                    createApplicationCommandMapper,
+                    objectMapper),
+            objectMapper);
+    DirectEventStoreWriter.Result result =
+        writer.write(configuration.count(), workerSettings.effectiveWorkers());
+    Tally tally = result.tally();
+    System.out.printf(
+        "Direct write summary: applications=%d, events=%d, dataVersions=%d, linkedGroups=%d,"
+            + " decisions=%d, assignments=%d, notes=%d%n",
+        tally.applications(),
+        result.events(),
+        result.dataVersions(),
+        tally.linkedGroups(),
+        tally.decisions(),
+        tally.assignments(),
+        tally.notes());
+    awaitProcessorsCaughtUp(Duration.ofMinutes(5 + configuration.count() / 20_000));
+
+    var generation = new LinkedHashMap<String, Object>();
+    generation.put("randomSeed", seed);
+    generation.put("eventsWritten", result.events());
+    generation.put("applicationDataVersionsWritten", result.dataVersions());
+    generation.put("linkedGroupCount", tally.linkedGroups());
+    generation.put("decisionCount", tally.decisions());
+    generation.put("assignmentCount", tally.assignments());
+    generation.put("noteCount", tally.notes());
+    return generation;
+  }
+
+  /**
+   * Appends one event of every payload type the direct writer produces through the real command
+   * side, and reads back the Axon-owned columns it stored for each.
+   */
+  private EventStoreCalibration calibrate(UUID caseworkerId) {
+    GeneratedRequestFactory requests = new GeneratedRequestFactory("calibration");
+    ApplicationTestDataSeeder seeder = newSeeder();
+    UUID leadId = UUID.randomUUID();
+    seeder.seed(
+        leadId,
+        requests.application(leadId, 0),
+        new ApplicationLifecycle(false, true, true, true),
+        caseworkerId);
+    createNoteUseCase.execute(
+        createNoteCommandMapper.toCommand(leadId, new CreateNoteRequest("Calibration note")));
+    for (int i = 0; i < 2; i++) {
+      createApplicationUseCase
+          .execute(
+              createApplicationCommandMapper.toCommand(
+                  ApplicationCreateRequestFixture.validLinkedCreateApplicationRequest(
+                      UUID.randomUUID(), UUID.randomUUID(), leadId),
+                  1))
+          .join();
+    }
+    UUID autoGrantedId = UUID.randomUUID();
+    seeder.seed(
+        autoGrantedId,
+        requests.application(autoGrantedId, 1),
+        new ApplicationLifecycle(true, false, false, false));
+    return Awaitility.await()
+        .atMost(Duration.ofMinutes(1))
+        .pollInterval(Duration.ofMillis(250))
+        .ignoreExceptions()
+        .until(
+            () -> EventStoreCalibration.read(jdbcTemplate, DirectEventStoreWriter.PAYLOAD_TYPES),
+            Objects::nonNull);
+  }
+
+  private void awaitProcessorsCaughtUp(Duration timeout) {
+    long head = eventStorePositions.head();
+    System.out.printf("Waiting for streaming processors to reach global index %d%n", head);
+    Awaitility.await()
+        .atMost(timeout)
+        .pollInterval(Duration.ofSeconds(1))
+        .untilAsserted(
+            () ->
+                axonConfiguration
+                    .getComponents(StreamingEventProcessor.class)
+                    .forEach(
+                        (name, processor) -> {
+                          assertThat(processor.processingStatus()).as(name).isNotEmpty();
+                          processor
+                              .processingStatus()
+                              .values()
+                              .forEach(
+                                  status -> {
+                                    assertThat(status.isErrorState()).as(name).isFalse();
+                                    assertThat(status.getCurrentPosition().orElse(0))
+                                        .as(name)
+                                        .isGreaterThanOrEqualTo(head);
+                                  });
+                        }));
   }
 
   private WorkerSettings resolveWorkerSettings(int requestedWorkers) {
@@ -241,13 +384,18 @@ class GenerateAxonMassDataDumpTest extends AbstractApplicationTestSeederIntegrat
         summary.failedCount());
   }
 
-  private List<UUID> initialiseCaseworkers(int size) {
+  private List<UUID> initialiseCaseworkers(int size, OptionalLong seed) {
     List<UUID> ids =
         caseworkerRepository.findAll().stream()
             .map(Caseworker::getId)
             .collect(Collectors.toCollection(ArrayList::new));
     while (ids.size() < size) {
-      UUID id = UUID.randomUUID();
+      UUID id =
+          seed.isPresent()
+              ? UUID.nameUUIDFromBytes(
+                  ("axon-mass-data-caseworker:" + seed.getAsLong() + ":" + ids.size())
+                      .getBytes(StandardCharsets.UTF_8))
+              : UUID.randomUUID();
       caseworkerRepository.save(new Caseworker(id, "axon-mass-data-" + ids.size()));
       ids.add(id);
     }
@@ -282,7 +430,8 @@ class GenerateAxonMassDataDumpTest extends AbstractApplicationTestSeederIntegrat
       MassDataConfiguration configuration,
       WorkerSettings workerSettings,
       Counts counts,
-      Duration duration)
+      Duration duration,
+      Map<String, Object> generation)
       throws Exception {
     Files.createDirectories(configuration.dumpPath().toAbsolutePath().getParent());
     var result =
@@ -302,6 +451,7 @@ class GenerateAxonMassDataDumpTest extends AbstractApplicationTestSeederIntegrat
 
     var metadata = new LinkedHashMap<String, Object>();
     metadata.put("applicationCount", configuration.count());
+    metadata.put("mode", configuration.mode().name().toLowerCase(Locale.ROOT));
     metadata.put("maxWorkers", configuration.maxWorkers());
     metadata.put("requestedWorkers", workerSettings.requestedWorkers());
     metadata.put("effectiveWorkers", workerSettings.effectiveWorkers());
@@ -317,6 +467,7 @@ class GenerateAxonMassDataDumpTest extends AbstractApplicationTestSeederIntegrat
     metadata.put("applicationListIndexCount", counts.applicationListIndex());
     metadata.put("postgresImage", "postgres:17-alpine");
     metadata.put("schema", "axon");
+    metadata.putAll(generation);
     Files.writeString(
         configuration
             .dumpPath()
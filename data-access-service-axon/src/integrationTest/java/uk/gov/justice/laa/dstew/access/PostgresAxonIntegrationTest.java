@@ -6,6 +6,7 @@ import static org.awaitility.Awaitility.await;
 import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreateRequestFixture.validCreateApplicationRequest;
 import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreateRequestFixture.validLinkedCreateApplicationRequest;
 
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -71,6 +72,9 @@ import uk.gov.justice.laa.dstew.access.model.ScopeLimitationResponse;
 import uk.gov.justice.laa.dstew.access.query.application.ApplicationReadModel;
 import uk.gov.justice.laa.dstew.access.query.application.ApplicationReadRepository;
 import uk.gov.justice.laa.dstew.access.query.application.FindApplicationByIdQuery;
+import uk.gov.justice.laa.dstew.access.query.application.FindStalledAssessmentsQuery;
+import uk.gov.justice.laa.dstew.access.query.application.StalledAssessment;
+import uk.gov.justice.laa.dstew.access.query.application.StalledAssessments;
 import uk.gov.justice.laa.dstew.access.query.application.history.ApplicationHistoryReadModel;
 import uk.gov.justice.laa.dstew.access.query.application.history.ApplicationHistoryReadRepository;
 import uk.gov.justice.laa.dstew.access.query.application.linkedgroup.LinkedApplicationGroupReadRepository;
@@ -117,6 +121,7 @@ class PostgresAxonIntegrationTest {
             WHERE table_schema = 'axon'
               AND table_name IN (
                 'domain_event_entry',
+                'snapshot_event_entry',
                 'token_entry'
               )
             ORDER BY table_name
@@ -129,7 +134,8 @@ class PostgresAxonIntegrationTest {
             environment.getProperty("spring.main.allow-circular-references", Boolean.class, false))
         .isFalse();
     assertThat(eventStorageEngine).isInstanceOf(AggregateBasedJpaEventStorageEngine.class);
-    assertThat(axonTables).containsExactly("domain_event_entry", "token_entry");
+    assertThat(axonTables)
+        .containsExactly("domain_event_entry", "snapshot_event_entry", "token_entry");
   }
 
   @Test
@@ -163,7 +169,7 @@ class PostgresAxonIntegrationTest {
             """,
             String.class);
 
-    assertThat(appliedVersions).containsExactly("1", "2", "3", "4", "5");
+    assertThat(appliedVersions).containsExactly("1", "2", "3", "4", "5", "6", "7", "8", "9");
     assertThat(tables)
         .containsExactly(
             "application_current_state",
@@ -173,9 +179,11 @@ class PostgresAxonIntegrationTest {
             "caseworkers",
             "domain_event_entry",
             "flyway_schema_history",
+            "individual_index",
             "linked_application_group_current_state",
             "prior_authority_current_state",
             "prior_authority_data",
+            "snapshot_event_entry",
             "token_entry");
     assertThat(sequences).containsExactly("aggregate-event-global-index-sequence");
     assertThat(
@@ -474,8 +482,8 @@ class PostgresAxonIntegrationTest {
 
     assertThat(
             jdbcTemplate.queryForObject(
-                "SELECT payload ->> 'overallDecision' FROM axon.application_data "
-                    + "WHERE application_id = ? AND version = 1",
+                "SELECT delta ->> 'overallDecision' FROM axon.application_data "
+                    + "WHERE application_id = ? AND version = 1 AND payload IS NULL",
                 String.class,
                 applicationId))
         .isEqualTo("REFUSED");
@@ -556,7 +564,7 @@ class PostgresAxonIntegrationTest {
     assertThat(granted.getMeritsDecisions()).containsKey(proceedingId);
     assertThat(
             jdbcTemplate.queryForObject(
-                "SELECT payload -> 'certificate' ->> 'certificateNumber' "
+                "SELECT delta -> 'certificate' ->> 'certificateNumber' "
                     + "FROM axon.application_data WHERE application_id = ? AND version = 1",
                 String.class,
                 applicationId))
@@ -1335,6 +1343,56 @@ class PostgresAxonIntegrationTest {
         executor);
   }
 
+  @Test
+  void givenPendingListIndexRows_whenStalledAssessmentsQueried_thenReturnsOldestFirstWithTotal() {
+    UUID oldest = UUID.randomUUID();
+    UUID older = UUID.randomUUID();
+    UUID old = UUID.randomUUID();
+    UUID assessed = UUID.randomUUID();
+    insertListIndexRow(oldest, "PENDING", Instant.parse("1990-01-01T00:00:00Z"), 1L);
+    insertListIndexRow(older, "PENDING", Instant.parse("1990-01-02T00:00:00Z"), 2L);
+    insertListIndexRow(old, "PENDING", Instant.parse("1990-01-03T00:00:00Z"), 3L);
+    insertListIndexRow(assessed, "AUTOGRANTED", Instant.parse("1989-12-31T00:00:00Z"), 4L);
+    Instant submittedBefore = Instant.parse("1990-02-01T00:00:00Z");
+
+    StalledAssessments result =
+        queryGateway
+            .query(new FindStalledAssessmentsQuery(submittedBefore, 2), StalledAssessments.class)
+            .join();
+
+    assertThat(result.applications())
+        .containsExactly(
+            new StalledAssessment(oldest, 1L, Instant.parse("1990-01-01T00:00:00Z")),
+            new StalledAssessment(older, 2L, Instant.parse("1990-01-02T00:00:00Z")));
+    assertThat(result.total()).isEqualTo(3);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                """
+                SELECT indexdef
+                FROM pg_indexes
+                WHERE schemaname = 'axon'
+                  AND indexname = 'idx_ali_pending_assessment'
+                """,
+                String.class))
+        .contains("WHERE")
+        .contains("'PENDING'");
+  }
+
+  private void insertListIndexRow(
+      UUID applicationId, String autoGranted, Instant submittedAt, long streamVersion) {
+    jdbcTemplate.update(
+        """
+        INSERT INTO axon.application_list_index
+            (application_id, status, auto_granted, submitted_at, modified_at, stream_version)
+        VALUES (?, 'APPLICATION_SUBMITTED', ?, ?, ?, ?)
+        """,
+        applicationId,
+        autoGranted,
+        Timestamp.from(submittedAt),
+        Timestamp.from(submittedAt),
+        streamVersion);
+  }
+
   @Test
   void givenSeededCaseworkers_whenGetCaseworkers_thenReturnsAllCaseworkers() {
     UUID firstId = UUID.randomUUID();
@@ -1367,6 +1425,19 @@ class PostgresAxonIntegrationTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
   }
 
+  @Test
+  void givenDefaultEndpointAccess_whenProjectionReplayPosted_thenOnlyProgressIsAvailable() {
+    String projections = "http://localhost:" + port + "/actuator/projections";
+
+    ResponseEntity<String> progress = restTemplate.getForEntity(projections, String.class);
+    ResponseEntity<String> replay =
+        restTemplate.postForEntity(projections + "/application-projection", null, String.class);
+
+    assertThat(progress.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(progress.getBody()).contains("application-projection");
+    assertThat(replay.getStatusCode().is4xxClientError()).isTrue();
+  }
+
   private ResponseEntity<Void> post(ApplicationCreateRequest request, HttpHeaders headers) {
     return restTemplate.postForEntity(
         "http://localhost:" + port + "/api/v0/applications",
@@ -1421,11 +1492,12 @@ class PostgresAxonIntegrationTest {
     ApplicationReadModel model = awaitProjectionVersion(applicationId, 1L);
     assertThat(model.getApplicationVersion()).isEqualTo(0L);
 
-    // Note text persisted in application_data JSONB at version 1
+    // Note text persisted in application_data JSONB at version 1, as a delta
     assertThat(
             jdbcTemplate.queryForObject(
-                "SELECT payload -> 'notes' -> 0 ->> 'noteText' FROM axon.application_data"
-                    + " WHERE application_id = ? AND version = 1",
+                "SELECT delta ->> 'noteText' FROM axon.application_data"
+                    + " WHERE application_id = ? AND version = 1"
+                    + " AND delta ->> 'type' = 'NOTE_ADDED'",
                 String.class,
                 applicationId))
         .isEqualTo("Integration test note");
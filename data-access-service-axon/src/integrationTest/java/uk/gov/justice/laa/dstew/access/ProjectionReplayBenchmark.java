@@ -0,0 +1,144 @@
+package uk.gov.justice.laa.dstew.access;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreateRequestFixture.validCreateApplicationRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.awaitility.Awaitility;
+import org.axonframework.common.configuration.AxonConfiguration;
+import org.axonframework.messaging.eventhandling.processing.streaming.StreamingEventProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import uk.gov.justice.laa.dstew.access.command.application.CreateApplicationUseCase;
+import uk.gov.justice.laa.dstew.access.command.application.assignment.AssignCaseworkerUseCase;
+import uk.gov.justice.laa.dstew.access.command.application.note.CreateNoteCommand;
+import uk.gov.justice.laa.dstew.access.command.application.note.CreateNoteUseCase;
+import uk.gov.justice.laa.dstew.access.controller.application.CreateApplicationCommandMapper;
+import uk.gov.justice.laa.dstew.access.observability.EventStorePositions;
+
+/**
+ * Measures how long the batched projections take to replay the same event store with a batch of
+ * one event per unit of work, which writes each row as the event arrives, and with the default
+ * batch. Run with {@code ./gradlew :data-access-service-axon:projectionReplayBenchmark}, optionally
+ * with {@code -PreplayBenchmarkApplications=<n>}; each variant prints one line per processor with
+ * the replay time and event rate.
+ */
+class ProjectionReplayBenchmark {
+
+  private static final List<String> PROCESSORS =
+      List.of(
+          "application-projection",
+          "application-list-index-projection",
+          "linked-application-group-projection");
+  private static final int NOTES_PER_APPLICATION = 3;
+
+  @Testcontainers
+  @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+  @SpringBootTest(properties = "application.projection.batch-size=1")
+  static class PerEventTest extends Scenario {}
+
+  @Testcontainers
+  @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+  @SpringBootTest(properties = "application.projection.batch-size=100")
+  static class BatchedTest extends Scenario {}
+
+  abstract static class Scenario {
+
+    @Container @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired private CreateApplicationUseCase createApplicationUseCase;
+    @Autowired private CreateApplicationCommandMapper createApplicationCommandMapper;
+    @Autowired private AssignCaseworkerUseCase assignCaseworkerUseCase;
+    @Autowired private CreateNoteUseCase createNoteUseCase;
+    @Autowired private AxonConfiguration axonConfiguration;
+    @Autowired private EventStorePositions eventStorePositions;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Value("${application.projection.batch-size}")
+    private int batchSize;
+
+    @Test
+    void measuresReplayTimeByProcessor() {
+      int applications = Integer.getInteger("replayBenchmarkApplications", 500);
+      UUID caseworkerId = UUID.randomUUID();
+      jdbcTemplate.update(
+          "INSERT INTO axon.caseworkers (id, username) VALUES (?, ?)",
+          caseworkerId,
+          "replay@example.com");
+      for (int i = 0; i < applications; i++) {
+        createApplication(caseworkerId);
+      }
+      long head = eventStorePositions.head();
+      awaitCaughtUp(PROCESSORS, head);
+
+      for (String name : PROCESSORS) {
+        StreamingEventProcessor processor =
+            axonConfiguration.getComponents(StreamingEventProcessor.class).get(name);
+        assertThat(processor).as(name).isNotNull();
+        processor.shutdown().join();
+        processor.resetTokens().join();
+        long start = System.nanoTime();
+        processor.start().join();
+        awaitCaughtUp(List.of(name), head);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(
+            "batchSize=%d processor=%s applications=%d head=%d replay=%.2fs rate=%.0f/s%n",
+            batchSize, name, applications, head, seconds, head / seconds);
+      }
+    }
+
+    private void createApplication(UUID caseworkerId) {
+      UUID applicationId = UUID.randomUUID();
+      assertThat(
+              createApplicationUseCase
+                  .execute(
+                      createApplicationCommandMapper.toCommand(
+                          validCreateApplicationRequest(applicationId, UUID.randomUUID()), 1))
+                  .join())
+          .isTrue();
+      assignCaseworkerUseCase.assign(caseworkerId, applicationId, "{}", "Assigned");
+      for (int note = 0; note < NOTES_PER_APPLICATION; note++) {
+        createNoteUseCase.execute(
+            new CreateNoteCommand(applicationId, "Benchmark note", "{}", Instant.now()));
+      }
+    }
+
+    private void awaitCaughtUp(List<String> names, long head) {
+      Awaitility.await()
+          .atMost(Duration.ofMinutes(30))
+          .pollInterval(Duration.ofMillis(100))
+          .untilAsserted(
+              () ->
+                  names.forEach(
+                      name -> {
+                        var status =
+                            axonConfiguration
+                                .getComponents(StreamingEventProcessor.class)
+                                .get(name)
+                                .processingStatus();
+                        assertThat(status).as(name).isNotEmpty();
+                        status
+                            .values()
+                            .forEach(
+                                segment -> {
+                                  assertThat(segment.isErrorState()).as(name).isFalse();
+                                  assertThat(segment.getCurrentPosition().orElse(0))
+                                      .as(name)
+                                      .isGreaterThanOrEqualTo(head);
+                                });
+                      }));
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package uk.gov.justice.laa.dstew.access.command.application.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture.applicationCreationDetails;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Runs the native version-chain queries of {@link ApplicationDataRepository} against Postgres,
+ * through a store with the data cache disabled so every read goes to the database.
+ */
+@Testcontainers
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ApplicationDataVersionChainIntegrationTest {
+
+  private static final Instant NOTE_AT = Instant.parse("2026-07-20T10:00:00Z");
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+  @Autowired private ApplicationDataRepository repository;
+
+  private ApplicationDataStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new ApplicationDataStore(repository, new ApplicationDataCache(false, DataSize.ZERO));
+  }
+
+  @Test
+  void givenVersionsPastACheckpoint_whenChainRead_thenStartsAtTheNearestCheckpoint() {
+    UUID applicationId = UUID.randomUUID();
+    long latest = ApplicationDataStore.CHECKPOINT_INTERVAL + 3;
+    appendNotes(applicationId, latest);
+
+    List<ApplicationData> afterCheckpoint = repository.findVersionChain(applicationId, latest);
+    List<ApplicationData> beforeCheckpoint =
+        repository.findVersionChain(applicationId, ApplicationDataStore.CHECKPOINT_INTERVAL - 1);
+
+    assertThat(versions(afterCheckpoint))
+        .containsExactlyElementsOf(range(ApplicationDataStore.CHECKPOINT_INTERVAL, latest));
+    assertThat(afterCheckpoint.getFirst().isCheckpoint()).isTrue();
+    assertThat(afterCheckpoint.subList(1, afterCheckpoint.size()))
+        .noneMatch(ApplicationData::isCheckpoint);
+    assertThat(versions(beforeCheckpoint))
+        .containsExactlyElementsOf(range(0, ApplicationDataStore.CHECKPOINT_INTERVAL - 1));
+    assertThat(noteCount(store.get(applicationId, latest))).isEqualTo(latest);
+    assertThat(noteCount(store.get(applicationId, ApplicationDataStore.CHECKPOINT_INTERVAL)))
+        .isEqualTo(ApplicationDataStore.CHECKPOINT_INTERVAL);
+  }
+
+  @Test
+  void givenSeveralApplications_whenChainsReadTogether_thenEachVersionIsRebuiltFromItsOwnChain() {
+    List<UUID> applicationIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    List<Long> requested = List.of(2L, ApplicationDataStore.CHECKPOINT_INTERVAL + 1L, 0L);
+    for (int i = 0; i < applicationIds.size(); i++) {
+      appendNotes(applicationIds.get(i), requested.get(i) + 2);
+    }
+
+    List<ApplicationData> rows =
+        repository.findVersionChains(
+            applicationIds.toArray(UUID[]::new), requested.toArray(Long[]::new));
+    Map<UUID, List<Long>> versionsByApplication =
+        rows.stream()
+            .collect(
+                Collectors.groupingBy(
+                    row -> row.getId().applicationId(),
+                    Collectors.mapping(row -> row.getId().version(), Collectors.toList())));
+    Map<ApplicationDataId, ApplicationDataPayload> payloads =
+        store.getAll(
+            List.of(
+                new ApplicationDataId(applicationIds.get(0), requested.get(0)),
+                new ApplicationDataId(applicationIds.get(1), requested.get(1)),
+                new ApplicationDataId(applicationIds.get(2), requested.get(2))));
+
+    assertThat(versionsByApplication.get(applicationIds.get(0)))
+        .containsExactlyInAnyOrderElementsOf(range(0, 2));
+    assertThat(versionsByApplication.get(applicationIds.get(1)))
+        .containsExactlyInAnyOrderElementsOf(
+            range(ApplicationDataStore.CHECKPOINT_INTERVAL, requested.get(1)));
+    assertThat(versionsByApplication.get(applicationIds.get(2))).containsExactly(0L);
+    for (int i = 0; i < applicationIds.size(); i++) {
+      ApplicationDataPayload payload =
+          payloads.get(new ApplicationDataId(applicationIds.get(i), requested.get(i)));
+      assertThat(payload.laaReference())
+          .isEqualTo(store.get(applicationIds.get(i), 0).laaReference());
+      assertThat(noteCount(payload)).isEqualTo(requested.get(i));
+    }
+  }
+
+  /** Creates an application and adds one note per version up to {@code latest}. */
+  private void appendNotes(UUID applicationId, long latest) {
+    store.append(applicationId, 0, applicationCreationDetails(applicationId));
+    ApplicationDataPayload payload = store.get(applicationId, 0);
+    for (long version = 1; version <= latest; version++) {
+      ApplicationDataDelta note =
+          new ApplicationDataDelta.NoteAdded("Note " + version, NOTE_AT.plusSeconds(version));
+      store.append(applicationId, version, payload, note, "note-" + version, NOTE_AT);
+      payload = note.applyTo(payload);
+    }
+  }
+
+  private static List<Long> versions(List<ApplicationData> rows) {
+    return rows.stream().map(row -> row.getId().version()).toList();
+  }
+
+  private static List<Long> range(long first, long last) {
+    return LongStream.rangeClosed(first, last).boxed().toList();
+  }
+
+  private static long noteCount(ApplicationDataPayload payload) {
+    return payload.notes().size();
+  }
+}
@@ -0,0 +1,122 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreateRequestFixture.validCreateApplicationRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.axonframework.common.configuration.AxonConfiguration;
+import org.axonframework.conversion.Converter;
+import org.axonframework.messaging.core.conversion.MessageConverter;
+import org.axonframework.messaging.eventhandling.conversion.EventConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import uk.gov.justice.laa.dstew.access.command.application.CreateApplicationUseCase;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataRepository;
+import uk.gov.justice.laa.dstew.access.command.application.note.CreateNoteCommand;
+import uk.gov.justice.laa.dstew.access.command.application.note.CreateNoteUseCase;
+import uk.gov.justice.laa.dstew.access.controller.application.CreateApplicationCommandMapper;
+
+/**
+ * Runs the service against Postgres with {@code application.event-store.format=cbor}, checking
+ * that Axon writes events and tokens through {@link CompactJacksonConverter} and reads them back
+ * to load aggregates and advance projections.
+ */
+@Testcontainers
+@SpringBootTest(properties = "application.event-store.format=cbor")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class CompactEventStoreIntegrationTest {
+
+  private static final byte[] CBOR_HEADER = {
+    CompactJacksonConverter.MARKER,
+    StoredPayloadFormat.CBOR.code(),
+    CompactJacksonConverter.UNCOMPRESSED
+  };
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+  @Autowired private ApplicationContext applicationContext;
+  @Autowired private AxonConfiguration axonConfiguration;
+  @Autowired private CreateApplicationUseCase createApplicationUseCase;
+  @Autowired private CreateApplicationCommandMapper createApplicationCommandMapper;
+  @Autowired private CreateNoteUseCase createNoteUseCase;
+  @Autowired private ApplicationDataRepository applicationDataRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void givenCborFormat_whenContextStarts_thenAxonUsesOnlyTheCompactConverters() {
+    assertThat(applicationContext.getBeansOfType(EventConverter.class))
+        .containsOnlyKeys("eventConverter");
+    assertThat(applicationContext.getBeansOfType(MessageConverter.class))
+        .containsKey("messageConverter");
+    assertThat(axonConfiguration.getComponent(Converter.class))
+        .isSameAs(applicationContext.getBean(CompactJacksonConverter.class));
+    assertThat(axonConfiguration.getComponent(MessageConverter.class))
+        .isSameAs(applicationContext.getBean("messageConverter"));
+    assertThat(axonConfiguration.getComponent(EventConverter.class))
+        .isSameAs(applicationContext.getBean("eventConverter"));
+  }
+
+  @Test
+  void givenCborFormat_whenCommandsAndProjectionsRun_thenStoredBytesCarryTheCompactHeader() {
+    UUID applicationId = UUID.randomUUID();
+    assertThat(
+            createApplicationUseCase
+                .execute(
+                    createApplicationCommandMapper.toCommand(
+                        validCreateApplicationRequest(applicationId, UUID.randomUUID()), 1))
+                .join())
+        .isTrue();
+    // Each note loads the aggregate from the CBOR events already stored.
+    for (int note = 0; note < 2; note++) {
+      createNoteUseCase.execute(
+          new CreateNoteCommand(applicationId, "Note " + note, "{}", Instant.now()));
+    }
+
+    List<byte[]> payloads =
+        jdbcTemplate.queryForList(
+            "SELECT payload FROM axon.domain_event_entry"
+                + " WHERE aggregate_identifier = ? ORDER BY sequence_number",
+            byte[].class,
+            applicationId.toString());
+    assertThat(payloads)
+        .hasSize(3)
+        .allSatisfy(payload -> assertThat(payload).startsWith(CBOR_HEADER));
+    assertThat(applicationDataRepository.countByIdApplicationId(applicationId)).isEqualTo(3);
+
+    Long projectedDataVersion =
+        await()
+            .atMost(10, TimeUnit.SECONDS)
+            .until(
+                () ->
+                    jdbcTemplate.queryForList(
+                            "SELECT application_data_version FROM axon.application_current_state"
+                                + " WHERE application_id = ?",
+                            Long.class,
+                            applicationId)
+                        .stream()
+                        .findFirst()
+                        .orElse(null),
+                version -> version != null && version == 2L);
+    assertThat(projectedDataVersion).isEqualTo(2L);
+    byte[] token =
+        jdbcTemplate.queryForObject(
+            "SELECT token FROM axon.token_entry"
+                + " WHERE processor_name = 'application-projection' AND token IS NOT NULL"
+                + " LIMIT 1",
+            byte[].class);
+    assertThat(token).startsWith(CBOR_HEADER);
+  }
+}
@@ -0,0 +1,138 @@
+package uk.gov.justice.laa.dstew.access.command.application;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationAssignedToCaseworkerEvent;
+import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationUnassignedFromCaseworkerEvent;
+import uk.gov.justice.laa.dstew.access.command.application.decision.ApplicationDecisionMadeEvent;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupRequested;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.MemberAddedToGroupEvent;
+import uk.gov.justice.laa.dstew.access.command.application.note.NoteCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.priorauthority.PriorAuthorityCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.ready.ApplicationReadyForManualAssessmentEvent;
+import uk.gov.justice.laa.dstew.access.command.application.update.ApplicationUpdatedEvent;
+import uk.gov.justice.laa.dstew.access.config.CompactJacksonConverter;
+import uk.gov.justice.laa.dstew.access.config.StoredPayloadFormat;
+import uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture;
+
+/**
+ * Compares the stored size and decode rate of every event type in {@code command.application}
+ * written as JSON, CBOR and Smile by {@link CompactJacksonConverter}, with and without deflate.
+ *
+ * <p>The score is events decoded per second, as when aggregates are loaded or projections replay;
+ * the {@code bytesPerEvent} column is the size of the stored payload being decoded.
+ *
+ * <p>Run with {@code ./gradlew :data-access-service-axon:jmh -Pjmh.include=EventPayloadFormat}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPayloadFormatBenchmark {
+
+  private static final Instant NOW = Instant.parse("2026-07-20T10:00:00Z");
+
+  @Param({
+    "ApplicationCreatedEvent",
+    "ApplicationUpdatedEvent",
+    "ApplicationLinkedEvent",
+    "ApplicationAssignedToCaseworkerEvent",
+    "ApplicationUnassignedFromCaseworkerEvent",
+    "ApplicationDecisionMadeEvent",
+    "ApplicationReadyForManualAssessmentEvent",
+    "NoteCreatedEvent",
+    "LinkedApplicationGroupRequested",
+    "LinkedApplicationGroupCreatedEvent",
+    "MemberAddedToGroupEvent",
+    "PriorAuthorityCreatedEvent"
+  })
+  private String eventType;
+
+  @Param({"JSON", "CBOR", "SMILE"})
+  private StoredPayloadFormat format;
+
+  @Param({"false", "true"})
+  private boolean deflate;
+
+  private CompactJacksonConverter converter;
+  private Class<?> payloadType;
+  private byte[] stored;
+
+  /** Size of the stored payload each decode reads. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Stored {
+    public long bytesPerEvent;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytesPerEvent = 0;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    converter = new CompactJacksonConverter(JsonMapper.builder().build(), format, deflate);
+    Object event = event(eventType);
+    payloadType = event.getClass();
+    stored = converter.convert(event, byte[].class);
+  }
+
+  @Benchmark
+  public Object decode(Stored counters) {
+    counters.bytesPerEvent = stored.length;
+    return converter.convert(stored, payloadType);
+  }
+
+  private static Object event(String eventType) {
+    UUID applicationId = UUID.randomUUID();
+    UUID groupId = UUID.randomUUID();
+    List<UUID> members = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    return switch (eventType) {
+      case "ApplicationCreatedEvent" ->
+          ApplicationCreatedEventFixture.applicationCreatedEvent(applicationId);
+      case "ApplicationUpdatedEvent" ->
+          new ApplicationUpdatedEvent(
+              applicationId, 1, 1, "APPLICATION_IN_PROGRESS", "APPLICATION_SUBMITTED", NOW);
+      case "ApplicationLinkedEvent" -> new ApplicationLinkedEvent(applicationId, groupId, NOW);
+      case "ApplicationAssignedToCaseworkerEvent" ->
+          new ApplicationAssignedToCaseworkerEvent(applicationId, 2, 2, UUID.randomUUID(), NOW);
+      case "ApplicationUnassignedFromCaseworkerEvent" ->
+          new ApplicationUnassignedFromCaseworkerEvent(applicationId, 3, 3, NOW);
+      case "ApplicationDecisionMadeEvent" ->
+          new ApplicationDecisionMadeEvent(
+              applicationId, 4, 4, "REFUSED", AutoGrantedState.MANUAL, NOW);
+      case "ApplicationReadyForManualAssessmentEvent" ->
+          new ApplicationReadyForManualAssessmentEvent(applicationId, 1, 1, NOW);
+      case "NoteCreatedEvent" -> new NoteCreatedEvent(applicationId, 5, NOW);
+      case "LinkedApplicationGroupRequested" ->
+          new LinkedApplicationGroupRequested(groupId, applicationId, members, NOW);
+      case "LinkedApplicationGroupCreatedEvent" ->
+          new LinkedApplicationGroupCreatedEvent(groupId, applicationId, members, NOW);
+      case "MemberAddedToGroupEvent" -> new MemberAddedToGroupEvent(groupId, applicationId, NOW);
+      case "PriorAuthorityCreatedEvent" ->
+          new PriorAuthorityCreatedEvent(
+              UUID.randomUUID(), applicationId, 0, "fingerprint", "SUBMITTED", 1, NOW);
+      default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
+    };
+  }
+}
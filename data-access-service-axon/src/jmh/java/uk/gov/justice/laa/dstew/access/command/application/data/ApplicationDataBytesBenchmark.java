@@ -0,0 +1,145 @@
+package uk.gov.justice.laa.dstew.access.command.application.data;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreationDetails;
+import uk.gov.justice.laa.dstew.access.command.application.AutoGrantedState;
+import uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture;
+
+/**
+ * Compares the JSON written to {@code application_data} per command when each version is a full
+ * {@link ApplicationDataPayload} copy (before) against a typed {@link ApplicationDataDelta}
+ * (after).
+ *
+ * <p>Each iteration serialises one command's row, so the {@code bytesWritten} column is the bytes
+ * written per command. The payload carries a copy of the original request, sized by {@code
+ * requestKb}, and {@code existingNotes} notes, which is what makes full copies grow with every
+ * note.
+ *
+ * <p>Run with {@code ./gradlew :data-access-service-axon:jmh -Pjmh.include=ApplicationDataBytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ApplicationDataBytesBenchmark {
+
+  private static final Instant NOW = Instant.parse("2026-07-20T10:00:00Z");
+  private static final String NOTE = "Called the provider to confirm the client's income evidence.";
+
+  @Param({"20"})
+  private int requestKb;
+
+  @Param({"0", "20", "100"})
+  private int existingNotes;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+  private ApplicationDataPayload current;
+  private ApplicationDataDelta.NoteAdded note;
+  private ApplicationDataDelta.AssignmentRecorded assignment;
+  private ApplicationDataDelta.DecisionRecorded decision;
+
+  /** Bytes serialised for the command's row in the current iteration. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Written {
+    public long bytesWritten;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytesWritten = 0;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    UUID applicationId = UUID.randomUUID();
+    ApplicationCreationDetails fixture =
+        ApplicationCreatedEventFixture.applicationCreationDetails(applicationId);
+    ApplicationDataPayload created = ApplicationDataPayload.from(fixture);
+    String request = "{\"applicationContent\":\"" + "x".repeat(requestKb * 1024) + "\"}";
+    current =
+        created.withApplicationUpdate(
+            created.client(),
+            created.provider(),
+            created.opponents(),
+            created.submittedAt(),
+            created.usedDelegatedFunctions(),
+            created.categoryOfLaw(),
+            created.matterType(),
+            created.proceedings(),
+            request,
+            false);
+    for (int i = 0; i < existingNotes; i++) {
+      current = current.withNote(NOTE, NOW);
+    }
+
+    UUID proceedingId = UUID.randomUUID();
+    note = new ApplicationDataDelta.NoteAdded(NOTE, NOW);
+    assignment = new ApplicationDataDelta.AssignmentRecorded("Assigned for assessment");
+    decision =
+        new ApplicationDataDelta.DecisionRecorded(
+            "REFUSED",
+            AutoGrantedState.MANUAL,
+            Map.of(
+                proceedingId,
+                new ApplicationMeritsDecision("REFUSED", "MERITS", "Insufficient prospects")),
+            null,
+            "{\"overallDecision\":\"REFUSED\"}",
+            "Refused after review");
+  }
+
+  @Benchmark
+  public void noteFullPayload(Written written) {
+    written.bytesWritten += write(note.applyTo(current));
+  }
+
+  @Benchmark
+  public void noteDelta(Written written) {
+    written.bytesWritten += write(note);
+  }
+
+  @Benchmark
+  public void assignmentFullPayload(Written written) {
+    written.bytesWritten += write(assignment.applyTo(current));
+  }
+
+  @Benchmark
+  public void assignmentDelta(Written written) {
+    written.bytesWritten += write(assignment);
+  }
+
+  @Benchmark
+  public void decisionFullPayload(Written written) {
+    written.bytesWritten += write(decision.applyTo(current));
+  }
+
+  @Benchmark
+  public void decisionDelta(Written written) {
+    written.bytesWritten += write(decision);
+  }
+
+  private int write(Object row) {
+    return objectMapper.writeValueAsBytes(row).length;
+  }
+}
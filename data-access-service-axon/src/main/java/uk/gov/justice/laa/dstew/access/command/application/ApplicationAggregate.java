@@ -3,6 +3,7 @@ package uk.gov.justice.laa.dstew.access.command.application;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import org.axonframework.eventsourcing.annotation.EventSourcingHandler;
@@ -14,6 +15,7 @@ import uk.gov.justice.laa.dstew.access.command.application.assignment.Applicatio
 import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationUnassignedFromCaseworkerEvent;
 import uk.gov.justice.laa.dstew.access.command.application.assignment.AssignCaseworkerToApplicationCommand;
 import uk.gov.justice.laa.dstew.access.command.application.assignment.UnassignCaseworkerFromApplicationCommand;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataDelta;
 import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataStore;
 import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationMeritsDecision;
 import uk.gov.justice.laa.dstew.access.command.application.decision.ApplicationDecisionMadeEvent;
@@ -179,7 +181,7 @@ public class ApplicationAggregate {
 
     var meritsDecisions =
         new HashMap<>(
-            current.meritsDecisions() == null ? java.util.Map.of() : current.meritsDecisions());
+            current.meritsDecisions() == null ? Map.of() : current.meritsDecisions());
     effectiveCommand
         .proceedings()
         .forEach(
@@ -189,18 +191,23 @@ public class ApplicationAggregate {
                     new ApplicationMeritsDecision(
                         proceeding.decision(), proceeding.reason(), proceeding.justification())));
     long nextVersion = state.applicationDataVersion + 1;
-    var updated =
-        current.withDecision(
+    var decision =
+        new ApplicationDataDelta.DecisionRecorded(
             effectiveCommand.overallDecision(),
             AutoGrantedState.fromDecisionFlag(effectiveCommand.autoGranted()),
-            meritsDecisions,
+            Map.copyOf(meritsDecisions),
             "GRANTED".equals(effectiveCommand.overallDecision())
                 ? effectiveCommand.certificate()
                 : null,
             command.serialisedRequest(),
             effectiveCommand.eventDescription());
     applicationDataStore.append(
-        applicationId, nextVersion, updated, command.serialisedRequest(), command.occurredAt());
+        applicationId,
+        nextVersion,
+        current,
+        decision,
+        command.serialisedRequest(),
+        command.occurredAt());
 
     eventAppender.append(event);
   }
@@ -218,7 +225,8 @@ public class ApplicationAggregate {
     applicationDataStore.append(
         applicationId,
         nextDataVersion,
-        current.withAssignment(command.eventDescription()),
+        current,
+        new ApplicationDataDelta.AssignmentRecorded(command.eventDescription()),
         command.serialisedRequest(),
         command.occurredAt());
     eventAppender.append(event);
@@ -241,7 +249,8 @@ public class ApplicationAggregate {
     applicationDataStore.append(
         applicationId,
         nextDataVersion,
-        current.withAssignment(command.eventDescription()),
+        current,
+        new ApplicationDataDelta.AssignmentRecorded(command.eventDescription()),
         command.serialisedRequest(),
         command.occurredAt());
     eventAppender.append(event);
@@ -259,7 +268,8 @@ public class ApplicationAggregate {
     applicationDataStore.append(
         applicationId,
         event.applicationDataVersion(),
-        current.withNote(command.noteText(), command.occurredAt()),
+        current,
+        new ApplicationDataDelta.NoteAdded(command.noteText(), command.occurredAt()),
         command.serialisedNoteRequest(),
         command.occurredAt());
     eventAppender.append(event);
@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.access.command.application;
 
+import java.util.concurrent.CompletableFuture;
 import org.springframework.stereotype.Component;
 import uk.gov.justice.laa.dstew.access.command.RetryingCommandDispatcher;
 import uk.gov.justice.laa.dstew.access.query.SubscriptionProjectionGateway;
@@ -23,12 +24,13 @@ public class CreateApplicationUseCase {
   }
 
   /**
-   * Dispatches the command and waits for the projection to become readable.
+   * Dispatches the command and waits, without blocking the caller, for the projection to become
+   * readable.
    *
-   * @return {@code true} when the projection confirms the application within the configured
-   *     timeout; {@code false} on timeout — the command has still committed.
+   * @return a future of {@code true} when the projection confirms the application within the
+   *     configured timeout; {@code false} on timeout — the command has still committed.
    */
-  public boolean execute(CreateApplicationCommand command) {
+  public CompletableFuture<Boolean> execute(CreateApplicationCommand command) {
     return projectionGateway.awaitProjection(
         new FindApplicationByIdQuery(command.applicationId()),
         ApplicationReadModel.class,
@@ -12,7 +12,12 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
-/** Append-only sensitive data associated with one version of an Application aggregate. */
+/**
+ * Append-only sensitive data associated with one version of an Application aggregate.
+ *
+ * <p>A row is either a checkpoint holding the complete {@code payload}, or a {@code delta} to apply
+ * to the previous version. See {@link ApplicationDataStore} for how versions are rebuilt.
+ */
 @Entity
 @Table(name = "application_data")
 @Getter
@@ -24,12 +29,21 @@ public class ApplicationData {
   @EmbeddedId private ApplicationDataId id;
 
   @JdbcTypeCode(SqlTypes.JSON)
-  @Column(nullable = false)
+  @Column
   private ApplicationDataPayload payload;
 
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column
+  private ApplicationDataDelta delta;
+
   @Column(name = "payload_hash", nullable = false)
   private String payloadHash;
 
   @Column(name = "created_at", nullable = false)
   private Instant createdAt;
+
+  /** Returns whether this row holds a complete payload rather than a delta. */
+  public boolean isCheckpoint() {
+    return payload != null;
+  }
 }
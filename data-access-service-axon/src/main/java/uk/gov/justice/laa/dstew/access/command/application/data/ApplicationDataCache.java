@@ -0,0 +1,130 @@
+package uk.gov.justice.laa.dstew.access.command.application.data;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * In-process cache of rebuilt application-data versions, keyed by {@link ApplicationDataId}.
+ *
+ * <p>Versions are immutable once written, so entries never go stale and are only evicted for
+ * space. The cache is bounded by an estimate of the payloads' size in memory rather than by entry
+ * count, since a payload's size is dominated by its stored request and notes.
+ *
+ * <p>Entries added inside a transaction are only cached once it commits, so a version whose write
+ * is rolled back never becomes visible. Disabled with {@code
+ * application.data-cache.enabled=false}.
+ */
+@Component
+public class ApplicationDataCache implements MeterBinder {
+
+  static final String CACHE_NAME = "application-data";
+
+  private final Cache<ApplicationDataId, ApplicationDataPayload> cache;
+
+  public ApplicationDataCache(
+      @Value("${application.data-cache.enabled:true}") boolean enabled,
+      @Value("${application.data-cache.max-weight:64MB}") DataSize maxWeight) {
+    this.cache =
+        enabled
+            ? Caffeine.newBuilder()
+                .maximumWeight(maxWeight.toBytes())
+                .weigher(
+                    (ApplicationDataId id, ApplicationDataPayload payload) -> estimateSize(payload))
+                .recordStats()
+                // Evict on the writing thread so the weight never runs ahead of the bound
+                .executor(Runnable::run)
+                .build()
+            : null;
+  }
+
+  /** Returns the cached payload for a version, or {@code null} if it is not cached. */
+  ApplicationDataPayload get(ApplicationDataId id) {
+    return cache == null ? null : cache.getIfPresent(id);
+  }
+
+  /**
+   * Returns the cached payloads among the supplied versions.
+   *
+   * @param ids the versions to look up
+   * @return the cached payloads, keyed by version
+   */
+  Map<ApplicationDataId, ApplicationDataPayload> getAll(Collection<ApplicationDataId> ids) {
+    if (cache == null) {
+      return Map.of();
+    }
+    Map<ApplicationDataId, ApplicationDataPayload> cached = new HashMap<>();
+    for (ApplicationDataId id : ids) {
+      ApplicationDataPayload payload = cache.getIfPresent(id);
+      if (payload != null) {
+        cached.put(id, payload);
+      }
+    }
+    return cached;
+  }
+
+  /** Caches a version, once the current transaction commits if there is one. */
+  void put(ApplicationDataId id, ApplicationDataPayload payload) {
+    if (cache == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              cache.put(id, payload);
+            }
+          });
+    } else {
+      cache.put(id, payload);
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (cache == null) {
+      return;
+    }
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    Gauge.builder(
+            "cache.weight",
+            cache,
+            value -> value.policy().eviction().orElseThrow().weightedSize().orElse(0))
+        .tag("cache", CACHE_NAME)
+        .description("Estimated bytes held by the cache")
+        .baseUnit("bytes")
+        .register(registry);
+  }
+
+  /**
+   * Estimates the bytes a payload holds in memory from its variable-length parts: the stored
+   * requests, the notes, and a fixed allowance per proceeding and opponent.
+   */
+  static int estimateSize(ApplicationDataPayload payload) {
+    long size = 1024;
+    size += 2L * length(payload.serialisedRequest());
+    size += 2L * length(payload.decisionSerialisedRequest());
+    size += 512L * (payload.proceedings() == null ? 0 : payload.proceedings().size());
+    size += 256L * payload.opponents().size();
+    for (ApplicationNote note : payload.notes()) {
+      size += 64 + 2L * length(note.noteText());
+    }
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  private static int length(String value) {
+    return value == null ? 0 : value.length();
+  }
+}
@@ -0,0 +1,70 @@
+package uk.gov.justice.laa.dstew.access.command.application.data;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import uk.gov.justice.laa.dstew.access.command.application.AutoGrantedState;
+
+/**
+ * A change to an application's sensitive data, stored in place of a full {@link
+ * ApplicationDataPayload} copy for commands that touch only a small part of it.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+  @JsonSubTypes.Type(value = ApplicationDataDelta.NoteAdded.class, name = "NOTE_ADDED"),
+  @JsonSubTypes.Type(
+      value = ApplicationDataDelta.AssignmentRecorded.class,
+      name = "ASSIGNMENT_RECORDED"),
+  @JsonSubTypes.Type(
+      value = ApplicationDataDelta.DecisionRecorded.class,
+      name = "DECISION_RECORDED")
+})
+public sealed interface ApplicationDataDelta {
+
+  /**
+   * Applies this change to the previous version's payload.
+   *
+   * @param previous the payload of the version this change follows
+   * @return the payload of the version this change creates
+   */
+  ApplicationDataPayload applyTo(ApplicationDataPayload previous);
+
+  /** A note appended to the application. */
+  record NoteAdded(String noteText, Instant createdAt) implements ApplicationDataDelta {
+    @Override
+    public ApplicationDataPayload applyTo(ApplicationDataPayload previous) {
+      return previous.withNote(noteText, createdAt);
+    }
+  }
+
+  /** The audit text of a caseworker assignment or unassignment. */
+  record AssignmentRecorded(String eventDescription) implements ApplicationDataDelta {
+    @Override
+    public ApplicationDataPayload applyTo(ApplicationDataPayload previous) {
+      return previous.withAssignment(eventDescription);
+    }
+  }
+
+  /** A decision, carrying the merits decisions of every proceeding decided so far. */
+  record DecisionRecorded(
+      String overallDecision,
+      AutoGrantedState autoGranted,
+      Map<UUID, ApplicationMeritsDecision> meritsDecisions,
+      Map<String, Object> certificate,
+      String decisionSerialisedRequest,
+      String decisionEventDescription)
+      implements ApplicationDataDelta {
+    @Override
+    public ApplicationDataPayload applyTo(ApplicationDataPayload previous) {
+      return previous.withDecision(
+          overallDecision,
+          autoGranted,
+          meritsDecisions,
+          certificate,
+          decisionSerialisedRequest,
+          decisionEventDescription);
+    }
+  }
+}
@@ -1,11 +1,56 @@
 package uk.gov.justice.laa.dstew.access.command.application.data;
 
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.repository.query.Param;
 
 /** Persistence interface for immutable versions of sensitive application data. */
 public interface ApplicationDataRepository
     extends JpaRepository<ApplicationData, ApplicationDataId> {
 
   long countByIdApplicationId(UUID applicationId);
+
+  /**
+   * Finds the rows needed to rebuild a version: the nearest checkpoint at or below it and every
+   * delta after that checkpoint, up to and including the version itself.
+   */
+  @NativeQuery(
+      """
+      SELECT d.*
+      FROM application_data d
+      WHERE d.application_id = :applicationId
+        AND d.version <= :version
+        AND d.version >= (
+          SELECT max(c.version)
+          FROM application_data c
+          WHERE c.application_id = :applicationId
+            AND c.version <= :version
+            AND c.payload IS NOT NULL)
+      ORDER BY d.version""")
+  List<ApplicationData> findVersionChain(
+      @Param("applicationId") UUID applicationId, @Param("version") long version);
+
+  /**
+   * Finds the rows needed to rebuild each requested version, pairing {@code applicationIds} and
+   * {@code versions} by position. Rows shared by several requested versions may be returned more
+   * than once.
+   */
+  @NativeQuery(
+      """
+      SELECT d.*
+      FROM unnest(CAST(:applicationIds AS uuid[]), CAST(:versions AS bigint[]))
+        AS requested(application_id, version)
+      CROSS JOIN LATERAL (
+        SELECT max(c.version) AS version
+        FROM application_data c
+        WHERE c.application_id = requested.application_id
+          AND c.version <= requested.version
+          AND c.payload IS NOT NULL) checkpoint
+      JOIN application_data d
+        ON d.application_id = requested.application_id
+       AND d.version BETWEEN checkpoint.version AND requested.version""")
+  List<ApplicationData> findVersionChains(
+      @Param("applicationIds") UUID[] applicationIds, @Param("versions") Long[] versions);
 }
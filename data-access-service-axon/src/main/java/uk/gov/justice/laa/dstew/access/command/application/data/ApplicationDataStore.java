@@ -3,22 +3,43 @@ package uk.gov.justice.laa.dstew.access.command.application.data;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreationDetails;
 
-/** Writes and retrieves immutable application-data versions. */
+/**
+ * Writes and retrieves immutable application-data versions.
+ *
+ * <p>Versions are stored as full checkpoints or as {@link ApplicationDataDelta}s against the
+ * previous version. Creation, content updates and every {@value #CHECKPOINT_INTERVAL}th version are
+ * checkpoints, so rebuilding a version reads its nearest checkpoint and fewer than {@value
+ * #CHECKPOINT_INTERVAL} deltas. Rows written before deltas existed are all checkpoints and are
+ * read unchanged.
+ *
+ * <p>Every version written or rebuilt is kept in the {@link ApplicationDataCache}, so the next
+ * command or projection reading it does not go back to the database.
+ */
 @Component
 public class ApplicationDataStore {
 
+  /** Versions that are a multiple of this are always stored as checkpoints. */
+  static final int CHECKPOINT_INTERVAL = 16;
+
   private final ApplicationDataRepository repository;
+  private final ApplicationDataCache cache;
 
-  public ApplicationDataStore(ApplicationDataRepository repository) {
+  public ApplicationDataStore(ApplicationDataRepository repository, ApplicationDataCache cache) {
     this.repository = repository;
+    this.cache = cache;
   }
 
   /**
@@ -31,13 +52,16 @@ public class ApplicationDataStore {
    */
   public String append(UUID applicationId, long version, ApplicationCreationDetails details) {
     String fingerprint = fingerprint(details.serialisedRequest());
+    ApplicationDataId id = new ApplicationDataId(applicationId, version);
+    ApplicationDataPayload payload = ApplicationDataPayload.from(details);
     repository.saveAndFlush(
         ApplicationData.builder()
-            .id(new ApplicationDataId(applicationId, version))
-            .payload(ApplicationDataPayload.from(details))
+            .id(id)
+            .payload(payload)
             .payloadHash(fingerprint)
             .createdAt(details.occurredAt())
             .build());
+    cache.put(id, payload);
     return fingerprint;
   }
 
@@ -56,15 +80,54 @@ public class ApplicationDataStore {
       long version,
       ApplicationDataPayload payload,
       String serialisedRequest,
-      java.time.Instant occurredAt) {
+      Instant occurredAt) {
     String fingerprint = fingerprint(serialisedRequest);
+    ApplicationDataId id = new ApplicationDataId(applicationId, version);
     repository.saveAndFlush(
         ApplicationData.builder()
-            .id(new ApplicationDataId(applicationId, version))
+            .id(id)
             .payload(payload)
             .payloadHash(fingerprint)
             .createdAt(occurredAt)
             .build());
+    cache.put(id, payload);
+    return fingerprint;
+  }
+
+  /**
+   * Appends a change to the previous version as a new immutable version. The change is stored as a
+   * delta, unless the version is due a checkpoint, in which case the change is applied to {@code
+   * previous} and the result stored in full.
+   *
+   * @param applicationId the application identifier
+   * @param version the new data version, immediately following {@code previous}
+   * @param previous the complete payload of the previous version
+   * @param delta the change made by the command
+   * @param serialisedRequest the request responsible for the version
+   * @param occurredAt when the version was created
+   * @return the fingerprint of the request
+   */
+  public String append(
+      UUID applicationId,
+      long version,
+      ApplicationDataPayload previous,
+      ApplicationDataDelta delta,
+      String serialisedRequest,
+      Instant occurredAt) {
+    ApplicationDataPayload payload = delta.applyTo(previous);
+    if (isCheckpoint(version)) {
+      return append(applicationId, version, payload, serialisedRequest, occurredAt);
+    }
+    String fingerprint = fingerprint(serialisedRequest);
+    ApplicationDataId id = new ApplicationDataId(applicationId, version);
+    repository.saveAndFlush(
+        ApplicationData.builder()
+            .id(id)
+            .delta(delta)
+            .payloadHash(fingerprint)
+            .createdAt(occurredAt)
+            .build());
+    cache.put(id, payload);
     return fingerprint;
   }
 
@@ -77,13 +140,19 @@ public class ApplicationDataStore {
    * @throws IllegalStateException when the referenced version does not exist
    */
   public ApplicationDataPayload get(UUID applicationId, long version) {
-    return repository
-        .findById(new ApplicationDataId(applicationId, version))
-        .orElseThrow(
-            () ->
-                new IllegalStateException(
-                    "Application data not found for " + applicationId + " version " + version))
-        .getPayload();
+    ApplicationDataId id = new ApplicationDataId(applicationId, version);
+    ApplicationDataPayload cached = cache.get(id);
+    if (cached != null) {
+      return cached;
+    }
+    ApplicationDataPayload payload =
+        rebuild(versionsByNumber(repository.findVersionChain(applicationId, version)), version);
+    if (payload == null) {
+      throw new IllegalStateException(
+          "Application data not found for " + applicationId + " version " + version);
+    }
+    cache.put(id, payload);
+    return payload;
   }
 
   /**
@@ -93,8 +162,79 @@ public class ApplicationDataStore {
    * @return payloads keyed by application-data identifier
    */
   public Map<ApplicationDataId, ApplicationDataPayload> getAll(Collection<ApplicationDataId> ids) {
-    return repository.findAllById(ids).stream()
-        .collect(Collectors.toMap(ApplicationData::getId, ApplicationData::getPayload));
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    Map<ApplicationDataId, ApplicationDataPayload> payloads = new HashMap<>(cache.getAll(ids));
+    List<ApplicationDataId> misses =
+        ids.stream().distinct().filter(id -> !payloads.containsKey(id)).toList();
+    if (misses.isEmpty()) {
+      return payloads;
+    }
+    UUID[] applicationIds =
+        misses.stream().map(ApplicationDataId::applicationId).toArray(UUID[]::new);
+    Long[] versions = misses.stream().map(ApplicationDataId::version).toArray(Long[]::new);
+
+    Map<UUID, List<ApplicationData>> rowsByApplication = new HashMap<>();
+    for (ApplicationData row : repository.findVersionChains(applicationIds, versions)) {
+      rowsByApplication
+          .computeIfAbsent(row.getId().applicationId(), ignored -> new ArrayList<>())
+          .add(row);
+    }
+
+    for (ApplicationDataId id : misses) {
+      ApplicationDataPayload payload =
+          rebuild(
+              versionsByNumber(rowsByApplication.getOrDefault(id.applicationId(), List.of())),
+              id.version());
+      if (payload != null) {
+        payloads.put(id, payload);
+        cache.put(id, payload);
+      }
+    }
+    return payloads;
+  }
+
+  private static NavigableMap<Long, ApplicationData> versionsByNumber(List<ApplicationData> rows) {
+    NavigableMap<Long, ApplicationData> versions = new TreeMap<>();
+    rows.forEach(row -> versions.put(row.getId().version(), row));
+    return versions;
+  }
+
+  /**
+   * Rebuilds a version from the nearest checkpoint at or below it, or returns {@code null} if the
+   * version or its checkpoint is missing.
+   */
+  private static ApplicationDataPayload rebuild(
+      NavigableMap<Long, ApplicationData> rows, long version) {
+    if (!rows.containsKey(version)) {
+      return null;
+    }
+    NavigableMap<Long, ApplicationData> chain = rows.headMap(version, true);
+    Long checkpoint =
+        chain.descendingMap().entrySet().stream()
+            .filter(entry -> entry.getValue().isCheckpoint())
+            .map(Map.Entry::getKey)
+            .findFirst()
+            .orElse(null);
+    if (checkpoint == null) {
+      return null;
+    }
+    ApplicationDataPayload payload = chain.get(checkpoint).getPayload();
+    for (ApplicationData delta : chain.tailMap(checkpoint, false).values()) {
+      payload = delta.getDelta().applyTo(payload);
+    }
+    return payload;
+  }
+
+  /**
+   * Tells whether a version produced by a delta is stored as a checkpoint instead.
+   *
+   * @param version the data version
+   * @return whether the version is a multiple of {@value #CHECKPOINT_INTERVAL}
+   */
+  public static boolean isCheckpoint(long version) {
+    return version % CHECKPOINT_INTERVAL == 0;
   }
 
   /**
@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.access.command.application.priorauthority;
 
+import java.util.concurrent.CompletableFuture;
 import org.springframework.stereotype.Component;
 import uk.gov.justice.laa.dstew.access.command.RetryingCommandDispatcher;
 import uk.gov.justice.laa.dstew.access.query.SubscriptionProjectionGateway;
@@ -23,14 +24,14 @@ public class CreatePriorAuthorityUseCase {
   }
 
   /**
-   * Validates the application is granted, dispatches the command, and waits for the projection to
-   * become readable.
+   * Validates the application is granted, dispatches the command, and waits, without blocking the
+   * caller, for the projection to become readable.
    *
-   * @return {@code true} when the projection confirms the submission within the configured timeout;
-   *     {@code false} on timeout — the command has still committed.
+   * @return a future of {@code true} when the projection confirms the submission within the
+   *     configured timeout; {@code false} on timeout — the command has still committed.
    * @throws RuntimeException propagated from validation if the application is not granted
    */
-  public boolean execute(CreatePriorAuthorityCommand command) {
+  public CompletableFuture<Boolean> execute(CreatePriorAuthorityCommand command) {
     dispatcher.dispatch(new ValidateApplicationGrantedCommand(command.applicationId()));
     return projectionGateway.awaitProjection(
         new FindPriorAuthorityBySubmissionIdQuery(command.submissionId()),
@@ -0,0 +1,32 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import java.time.Duration;
+
+/**
+ * Decides when loading an event-sourced aggregate should leave a snapshot behind.
+ *
+ * <p>A snapshot is due once a load applies {@code everyEvents} events, or takes longer than {@code
+ * loadTimeThreshold} to apply however many it did. A load that applied no events, because it
+ * started from a snapshot with nothing after it, never triggers another.
+ *
+ * @param everyEvents the number of events applied in one load that triggers a snapshot
+ * @param loadTimeThreshold the load time above which a snapshot is taken
+ */
+public record AggregateSnapshotTrigger(int everyEvents, Duration loadTimeThreshold) {
+
+  public AggregateSnapshotTrigger {
+    if (everyEvents < 1) {
+      throw new IllegalArgumentException("everyEvents must be at least 1");
+    }
+  }
+
+  /**
+   * Returns whether a load that applied the given events in the given time should be snapshotted.
+   */
+  public boolean shouldSnapshot(long eventsApplied, Duration loadTime) {
+    if (eventsApplied == 0) {
+      return false;
+    }
+    return eventsApplied >= everyEvents || loadTime.compareTo(loadTimeThreshold) > 0;
+  }
+}
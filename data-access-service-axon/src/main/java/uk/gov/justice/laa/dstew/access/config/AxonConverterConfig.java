@@ -0,0 +1,45 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import org.axonframework.messaging.core.conversion.DelegatingMessageConverter;
+import org.axonframework.messaging.core.conversion.MessageConverter;
+import org.axonframework.messaging.eventhandling.conversion.DelegatingEventConverter;
+import org.axonframework.messaging.eventhandling.conversion.EventConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Replaces Axon's Jackson converters with a {@link CompactJacksonConverter} once {@code
+ * application.event-store.format} is set, so events, snapshots and tokens can be stored as CBOR or
+ * Smile instead of JSON.
+ *
+ * <p>Without the property Axon's own converters are used unchanged. Once compact payloads have been
+ * written, return to JSON by setting the format to {@code json} rather than removing it: only this
+ * converter can read the compact payloads already stored.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.event-store.format")
+public class AxonConverterConfig {
+
+  @Bean
+  @Primary
+  CompactJacksonConverter compactJacksonConverter(
+      ObjectMapper objectMapper,
+      @Value("${application.event-store.format}") StoredPayloadFormat format,
+      @Value("${application.event-store.deflate:false}") boolean deflate) {
+    return new CompactJacksonConverter(objectMapper, format, deflate);
+  }
+
+  @Bean
+  MessageConverter messageConverter(CompactJacksonConverter converter) {
+    return new DelegatingMessageConverter(converter);
+  }
+
+  @Bean
+  EventConverter eventConverter(CompactJacksonConverter converter) {
+    return new DelegatingEventConverter(converter);
+  }
+}
@@ -1,19 +1,55 @@
 package uk.gov.justice.laa.dstew.access.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.axonframework.common.AxonThreadFactory;
 import org.axonframework.extension.spring.config.EventProcessorDefinition;
 import org.axonframework.messaging.eventhandling.processing.errorhandling.PropagatingErrorHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import uk.gov.justice.laa.dstew.access.observability.EventHandlingMonitor;
 
-/** Defines isolated processors for projections and the synchronous linked-application router. */
+/**
+ * Defines isolated processors for projections and the synchronous linked-application router.
+ *
+ * <p>Pooled streaming processors handle up to {@code application.projection.batch-size} events per
+ * unit of work, so projections that stage their writes in a {@link
+ * uk.gov.justice.laa.dstew.access.query.ProjectionBatch} write once per batch. Segment count,
+ * worker threads, batch size and token claim interval can be set per processor under {@code
+ * application.projection.processors.<processing-group>}; see {@link
+ * ProjectionProcessorProperties}. Each pooled processor records handling time and event age through
+ * an {@link EventHandlingMonitor}.
+ */
 @Configuration
-public class AxonEventProcessingConfig {
+@EnableConfigurationProperties(ProjectionProcessorProperties.class)
+public class AxonEventProcessingConfig implements DisposableBean {
+
+  private final ProjectionProcessorProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final List<ExecutorService> workerExecutors = new CopyOnWriteArrayList<>();
+
+  public AxonEventProcessingConfig(
+      ProjectionProcessorProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
 
   @Bean
   EventProcessorDefinition applicationProjectionProcessor() {
     return pooledStreamingProcessor("application-projection");
   }
 
+  @Bean
+  EventProcessorDefinition applicationListIndexProjectionProcessor() {
+    return pooledStreamingProcessor("application-list-index-projection");
+  }
+
   @Bean
   EventProcessorDefinition applicationHistoryProjectionProcessor() {
     return pooledStreamingProcessor("application-history-projection");
@@ -34,6 +70,11 @@ public class AxonEventProcessingConfig {
     return pooledStreamingProcessor("prior-authority-projection");
   }
 
+  @Bean
+  EventProcessorDefinition individualIndexProjectionProcessor() {
+    return pooledStreamingProcessor("individual-index-projection");
+  }
+
   @Bean
   EventProcessorDefinition linkedApplicationGroupRouterProcessor() {
     return EventProcessorDefinition.subscribingMatching("linked-application-group-router")
@@ -51,9 +92,42 @@ public class AxonEventProcessingConfig {
             configuration -> configuration.errorHandler(PropagatingErrorHandler.instance()));
   }
 
+  /** Stops the worker threads created for processors with a configured thread count. */
+  @Override
+  public void destroy() {
+    workerExecutors.forEach(ExecutorService::shutdown);
+  }
+
   private EventProcessorDefinition pooledStreamingProcessor(String processingGroup) {
+    ProjectionProcessorProperties.Processor settings = properties.processor(processingGroup);
     return EventProcessorDefinition.pooledStreamingMatching(processingGroup)
         .customized(
-            configuration -> configuration.errorHandler(PropagatingErrorHandler.instance()));
+            configuration -> {
+              var customized =
+                  configuration
+                      .batchSize(properties.batchSize(processingGroup))
+                      .errorHandler(PropagatingErrorHandler.instance())
+                      .messageMonitor(new EventHandlingMonitor(processingGroup, meterRegistry));
+              if (settings.segments() != null) {
+                customized = customized.initialSegmentCount(settings.segments());
+              }
+              if (settings.threads() != null) {
+                customized =
+                    customized.workerExecutor(workerExecutor(processingGroup, settings.threads()));
+              }
+              if (settings.tokenClaimInterval() != null) {
+                customized =
+                    customized.tokenClaimInterval(settings.tokenClaimInterval().toMillis());
+              }
+              return customized;
+            });
+  }
+
+  private ScheduledExecutorService workerExecutor(String processingGroup, int threads) {
+    ScheduledExecutorService executor =
+        Executors.newScheduledThreadPool(
+            threads, new AxonThreadFactory("WorkPackage[" + processingGroup + "]"));
+    workerExecutors.add(executor);
+    return executor;
   }
 }
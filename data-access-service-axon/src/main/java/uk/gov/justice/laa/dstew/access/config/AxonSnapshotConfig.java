@@ -0,0 +1,41 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import java.time.Duration;
+import org.axonframework.common.configuration.ConfigurationEnhancer;
+import org.axonframework.eventsourcing.snapshot.api.SnapshotPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Snapshots the event-sourced aggregates, so loading a long-lived {@code ApplicationAggregate},
+ * {@code LinkedApplicationGroupAggregate} or {@code PriorAuthorityAggregate} reads its latest
+ * snapshot and the events after it instead of its whole stream.
+ *
+ * <p>Snapshots are the aggregates' fields serialised with the event serializer and are stored in
+ * {@code snapshot_event_entry}. They are only an optimisation: deleting them, or disabling
+ * snapshotting with {@code application.snapshot.enabled=false}, falls back to full replay.
+ */
+@Configuration
+@ConditionalOnProperty(
+    name = "application.snapshot.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class AxonSnapshotConfig {
+
+  @Bean
+  AggregateSnapshotTrigger aggregateSnapshotTrigger(
+      @Value("${application.snapshot.every-events:50}") int everyEvents,
+      @Value("${application.snapshot.load-time-threshold:100ms}") Duration loadTimeThreshold) {
+    return new AggregateSnapshotTrigger(everyEvents, loadTimeThreshold);
+  }
+
+  /** Applies the trigger to every event-sourced entity in the module. */
+  @Bean
+  ConfigurationEnhancer aggregateSnapshotPolicy(AggregateSnapshotTrigger trigger) {
+    SnapshotPolicy policy =
+        evolution -> trigger.shouldSnapshot(evolution.eventsApplied(), evolution.sourcingTime());
+    return registry -> registry.registerComponent(SnapshotPolicy.class, config -> policy);
+  }
+}
@@ -0,0 +1,197 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+import org.axonframework.common.infra.ComponentDescriptor;
+import org.axonframework.conversion.Converter;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Axon {@link Converter} that stores payloads and metadata as JSON, CBOR or Smile, optionally
+ * deflated, and reads every one of those forms back whichever format is currently written.
+ *
+ * <p>Compact payloads start with a three-byte header: a zero byte, which no JSON document starts
+ * with, the {@link StoredPayloadFormat} and the compression. Bytes without the header are plain
+ * JSON. Events, snapshots and tokens written before the format changed therefore stay readable,
+ * and changing the format, including back to JSON, only affects what is written next. The payload
+ * type and revision are stored outside the bytes and are unaffected, and upcasters can read a
+ * payload in any format as a {@link JsonNode}.
+ */
+public class CompactJacksonConverter implements Converter {
+
+  static final byte MARKER = 0;
+  static final byte UNCOMPRESSED = 'N';
+  static final byte DEFLATED = 'D';
+  static final int HEADER_LENGTH = 3;
+
+  /** Payloads below this size rarely shrink enough to repay deflating them. */
+  static final int DEFLATE_THRESHOLD = 256;
+
+  private final ObjectMapper jsonMapper;
+  private final Map<StoredPayloadFormat, ObjectMapper> binaryMappers =
+      new EnumMap<>(StoredPayloadFormat.class);
+  private final StoredPayloadFormat writeFormat;
+  private final boolean deflate;
+
+  /**
+   * Creates the converter.
+   *
+   * @param jsonMapper the mapper for JSON payloads, including every payload stored without a header
+   * @param writeFormat the format new payloads are written in
+   * @param deflate whether payloads of at least {@value #DEFLATE_THRESHOLD} bytes are deflated
+   */
+  public CompactJacksonConverter(
+      ObjectMapper jsonMapper, StoredPayloadFormat writeFormat, boolean deflate) {
+    this.jsonMapper = jsonMapper;
+    this.writeFormat = writeFormat;
+    this.deflate = deflate;
+    binaryMappers.put(StoredPayloadFormat.CBOR, StoredPayloadFormat.CBOR.binaryMapper());
+    binaryMappers.put(StoredPayloadFormat.SMILE, StoredPayloadFormat.SMILE.binaryMapper());
+  }
+
+  @Override
+  public boolean canConvert(Type sourceType, Type targetType) {
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T convert(Object input, Type targetType) {
+    if (input == null) {
+      return null;
+    }
+    JavaType target = jsonMapper.getTypeFactory().constructType(targetType);
+    Class<?> raw = target.getRawClass();
+    if (raw.isInstance(input) && !target.hasGenericTypes()) {
+      return (T) input;
+    }
+    if (raw == byte[].class) {
+      return (T) write(input);
+    }
+    if (input instanceof byte[] bytes) {
+      return isCompact(bytes) ? readCompact(bytes, target) : readJson(bytes, target);
+    }
+    if (input instanceof String json) {
+      return readJson(json.getBytes(StandardCharsets.UTF_8), target);
+    }
+    return jsonMapper.convertValue(input, target);
+  }
+
+  @Override
+  public void describeTo(ComponentDescriptor descriptor) {
+    descriptor.describeProperty("writeFormat", writeFormat.name());
+    descriptor.describeProperty("deflate", deflate);
+  }
+
+  /** Returns whether the bytes carry a compact payload header. */
+  static boolean isCompact(byte[] bytes) {
+    return bytes.length >= HEADER_LENGTH && bytes[0] == MARKER;
+  }
+
+  private byte[] write(Object input) {
+    if (input instanceof String text) {
+      return text.getBytes(StandardCharsets.UTF_8);
+    }
+    byte[] body = mapperFor(writeFormat).writeValueAsBytes(input);
+    byte[] uncompressed = writeFormat == StoredPayloadFormat.JSON ? body : frame(body);
+    if (deflate && body.length >= DEFLATE_THRESHOLD) {
+      byte[] deflated = deflate(body);
+      if (deflated.length < uncompressed.length) {
+        return deflated;
+      }
+    }
+    return uncompressed;
+  }
+
+  private byte[] frame(byte[] body) {
+    byte[] framed = new byte[body.length + HEADER_LENGTH];
+    writeHeader(framed, UNCOMPRESSED);
+    System.arraycopy(body, 0, framed, HEADER_LENGTH, body.length);
+    return framed;
+  }
+
+  private byte[] deflate(byte[] body) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(body);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + HEADER_LENGTH);
+      byte[] header = new byte[HEADER_LENGTH];
+      writeHeader(header, DEFLATED);
+      out.write(header, 0, HEADER_LENGTH);
+      byte[] buffer = new byte[1024];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void writeHeader(byte[] bytes, byte compression) {
+    bytes[0] = MARKER;
+    bytes[1] = writeFormat.code();
+    bytes[2] = compression;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T readJson(byte[] bytes, JavaType target) {
+    if (target.getRawClass() == String.class) {
+      return (T) new String(bytes, StandardCharsets.UTF_8);
+    }
+    if (target.getRawClass() == JsonNode.class) {
+      return (T) jsonMapper.readTree(bytes);
+    }
+    return jsonMapper.readValue(bytes, target);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T readCompact(byte[] bytes, JavaType target) {
+    ObjectMapper mapper = mapperFor(StoredPayloadFormat.fromCode(bytes[1]));
+    byte[] body = body(bytes);
+    if (target.getRawClass() == String.class) {
+      return (T) jsonMapper.writeValueAsString(mapper.readTree(body));
+    }
+    if (target.getRawClass() == JsonNode.class) {
+      return (T) mapper.readTree(body);
+    }
+    return mapper.readValue(body, target);
+  }
+
+  private byte[] body(byte[] bytes) {
+    int length = bytes.length - HEADER_LENGTH;
+    return switch (bytes[2]) {
+      case UNCOMPRESSED -> {
+        byte[] body = new byte[length];
+        System.arraycopy(bytes, HEADER_LENGTH, body, 0, length);
+        yield body;
+      }
+      case DEFLATED -> inflate(bytes, length);
+      default -> throw new IllegalStateException("Unknown stored payload compression: " + bytes[2]);
+    };
+  }
+
+  private byte[] inflate(byte[] bytes, int length) {
+    try (InputStream in =
+        new InflaterInputStream(new ByteArrayInputStream(bytes, HEADER_LENGTH, length))) {
+      return in.readAllBytes();
+    } catch (IOException e) {
+      throw new IllegalStateException("Stored payload could not be inflated", e);
+    }
+  }
+
+  private ObjectMapper mapperFor(StoredPayloadFormat format) {
+    return format == StoredPayloadFormat.JSON ? jsonMapper : binaryMappers.get(format);
+  }
+}
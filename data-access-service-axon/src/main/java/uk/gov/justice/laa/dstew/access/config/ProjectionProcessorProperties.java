@@ -0,0 +1,50 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the pooled streaming processors behind the projections.
+ *
+ * @param batchSize events handled per unit of work by processors that do not override it
+ * @param processors per-processor overrides, keyed by processing group
+ */
+@ConfigurationProperties("application.projection")
+public record ProjectionProcessorProperties(
+    @DefaultValue("100") int batchSize, Map<String, Processor> processors) {
+
+  public ProjectionProcessorProperties {
+    processors = processors == null ? Map.of() : Map.copyOf(processors);
+  }
+
+  /** Returns the overrides for a processing group, with every value unset if it has none. */
+  public Processor processor(String processingGroup) {
+    return processors.getOrDefault(processingGroup, Processor.NONE);
+  }
+
+  /** Returns the batch size a processing group uses. */
+  public int batchSize(String processingGroup) {
+    Integer override = processor(processingGroup).batchSize();
+    return override != null ? override : batchSize;
+  }
+
+  /**
+   * Overrides for one processor. Unset values keep Axon's defaults.
+   *
+   * <p>{@code segments} only applies when the processor's tokens are first created. A processor
+   * that already has tokens keeps its segment count until its {@code token_entry} rows are
+   * removed.
+   *
+   * @param segments segments the processor's event stream is split into
+   * @param threads worker threads processing claimed segments in parallel
+   * @param batchSize events handled per unit of work
+   * @param tokenClaimInterval how often the processor looks for unclaimed segments
+   */
+  public record Processor(
+      Integer segments, Integer threads, Integer batchSize, Duration tokenClaimInterval) {
+
+    static final Processor NONE = new Processor(null, null, null, null);
+  }
+}
@@ -0,0 +1,56 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/** The Jackson data formats {@link CompactJacksonConverter} can write stored payloads in. */
+public enum StoredPayloadFormat {
+  JSON((byte) 'J'),
+  CBOR((byte) 'C'),
+  SMILE((byte) 'S');
+
+  private final byte code;
+
+  StoredPayloadFormat(byte code) {
+    this.code = code;
+  }
+
+  /** The byte identifying this format in a compact payload header. */
+  byte code() {
+    return code;
+  }
+
+  /**
+   * Returns the format a compact payload header identifies.
+   *
+   * @throws IllegalStateException if no format uses the code
+   */
+  static StoredPayloadFormat fromCode(byte code) {
+    for (StoredPayloadFormat format : values()) {
+      if (format.code == code) {
+        return format;
+      }
+    }
+    throw new IllegalStateException("Unknown stored payload format code: " + code);
+  }
+
+  /**
+   * Creates the mapper for a binary format. Unknown properties are ignored, so fields removed from
+   * an event do not break replay of payloads that still carry them.
+   */
+  ObjectMapper binaryMapper() {
+    return switch (this) {
+      case CBOR ->
+          CBORMapper.builder()
+              .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+              .build();
+      case SMILE ->
+          SmileMapper.builder()
+              .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+              .build();
+      case JSON -> throw new IllegalStateException("JSON payloads use the application mapper");
+    };
+  }
+}
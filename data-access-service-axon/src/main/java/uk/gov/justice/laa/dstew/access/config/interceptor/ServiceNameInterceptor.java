@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.access.config.interceptor;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.UUID;
@@ -9,7 +10,13 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import uk.gov.justice.laa.dstew.access.config.ServiceNameContext;
 import uk.gov.justice.laa.dstew.access.model.ServiceName;
 
-/** Captures the X-Service-Name HTTP header for the duration of an API request. */
+/**
+ * Captures the X-Service-Name HTTP header for the duration of an API request.
+ *
+ * <p>Requests completed asynchronously are dispatched a second time to write their result; the
+ * request-scoped context captured on the first dispatch is kept rather than recaptured, so the
+ * correlation id returned matches the one sent with the request's commands.
+ */
 @Component
 public class ServiceNameInterceptor implements HandlerInterceptor {
 
@@ -24,6 +31,9 @@ public class ServiceNameInterceptor implements HandlerInterceptor {
   @Override
   public boolean preHandle(
       HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+    if (request.getDispatcherType() == DispatcherType.ASYNC) {
+      return true;
+    }
     String serviceNameHeader = request.getHeader("X-Service-Name");
     if (serviceNameHeader != null) {
       serviceNameContext.setServiceName(ServiceName.fromValue(serviceNameHeader));
@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import java.net.URI;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -145,9 +146,12 @@ public class ApplicationCommandController {
     return ResponseEntity.noContent().build();
   }
 
-  /** Dispatches create directly to Axon and returns 201 once the projection is readable. */
+  /**
+   * Dispatches create directly to Axon and returns 201 once the projection is readable, releasing
+   * the request thread while the projection catches up.
+   */
   @PostMapping
-  public ResponseEntity<Void> createApplication(
+  public CompletableFuture<ResponseEntity<Void>> createApplication(
       @RequestHeader("X-Service-Name") ServiceName serviceName,
       @RequestHeader(value = "X-Schema-Version", required = false, defaultValue = "1") @Min(1)
           int schemaVersion,
@@ -158,10 +162,13 @@ public class ApplicationCommandController {
             .path("/{id}")
             .buildAndExpand(command.applicationId())
             .toUri();
-    boolean projected = createApplicationUseCase.execute(command);
-    return projected
-        ? ResponseEntity.created(location).build()
-        : ResponseEntity.accepted().location(location).build();
+    return createApplicationUseCase
+        .execute(command)
+        .thenApply(
+            projected ->
+                projected
+                    ? ResponseEntity.created(location).build()
+                    : ResponseEntity.accepted().location(location).build());
   }
 
   /** Replaces an existing Application's content and optional status. */
@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import java.net.URI;
 import java.time.ZoneOffset;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -33,9 +34,12 @@ public class PriorAuthorityCommandController {
     this.commandMapper = commandMapper;
   }
 
-  /** Dispatches create-prior-authority and returns 201 once the projection is readable. */
+  /**
+   * Dispatches create-prior-authority and returns 201 once the projection is readable, releasing
+   * the request thread while the projection catches up.
+   */
   @PostMapping("/{id}/prior-authority")
-  public ResponseEntity<CreatePriorAuthorityResponse> createPriorAuthority(
+  public CompletableFuture<ResponseEntity<CreatePriorAuthorityResponse>> createPriorAuthority(
       @RequestHeader("X-Service-Name") ServiceName serviceName,
       @PathVariable UUID id,
       @Valid @RequestBody CreatePriorAuthorityRequest request) {
@@ -48,9 +52,12 @@ public class PriorAuthorityCommandController {
     CreatePriorAuthorityResponse body =
         new CreatePriorAuthorityResponse(
             command.submissionId(), command.occurredAt().atOffset(ZoneOffset.UTC));
-    boolean projected = useCase.execute(command);
-    return projected
-        ? ResponseEntity.created(location).body(body)
-        : ResponseEntity.accepted().location(location).body(body);
+    return useCase
+        .execute(command)
+        .thenApply(
+            projected ->
+                projected
+                    ? ResponseEntity.created(location).body(body)
+                    : ResponseEntity.accepted().location(location).body(body));
   }
 }
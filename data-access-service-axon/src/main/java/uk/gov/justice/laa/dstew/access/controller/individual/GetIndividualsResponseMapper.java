@@ -1,6 +1,5 @@
 package uk.gov.justice.laa.dstew.access.controller.individual;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.springframework.stereotype.Component;
@@ -21,14 +20,14 @@ public class GetIndividualsResponseMapper {
 
   /** Maps a query result and its paging metadata to the generated response model. */
   public IndividualsResponse toResponse(FindIndividualsResult result) {
-    List<IndividualResponse> individuals = new ArrayList<>();
-    if (result.client() != null) {
-      individuals.add(toClientResponse(result.client(), result.includeClientDetails()));
-    }
+    List<IndividualResponse> individuals =
+        result.clients().stream()
+            .map(client -> toClientResponse(client, result.includeClientDetails()))
+            .toList();
     PagingResponse paging = new PagingResponse();
     paging.setPage(result.page());
     paging.setPageSize(result.pageSize());
-    paging.setTotalRecords(result.totalRecords());
+    paging.setTotalRecords(Math.toIntExact(result.totalRecords()));
     paging.setItemsReturned(individuals.size());
     return new IndividualsResponse().individuals(individuals).paging(paging);
   }
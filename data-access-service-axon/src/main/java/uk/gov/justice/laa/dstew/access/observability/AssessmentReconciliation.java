@@ -17,7 +17,12 @@ import uk.gov.justice.laa.dstew.access.query.application.FindStalledAssessmentsQ
 import uk.gov.justice.laa.dstew.access.query.application.StalledAssessment;
 import uk.gov.justice.laa.dstew.access.query.application.StalledAssessments;
 
-/** Detects and reports old submitted Applications without mutating or republishing them. */
+/**
+ * Detects and reports old submitted Applications without mutating or republishing them.
+ *
+ * <p>Every stalled Application is counted, but only the oldest {@code
+ * application.assessment.reconciliation.report-limit} are logged individually.
+ */
 @Component
 public class AssessmentReconciliation {
 
@@ -27,6 +32,7 @@ public class AssessmentReconciliation {
   private final MeterRegistry meterRegistry;
   private final Clock clock;
   private final Duration threshold;
+  private final int reportLimit;
   private final AtomicLong stalledCount = new AtomicLong();
   private final AtomicLong oldestAgeSeconds = new AtomicLong();
   private final AtomicLong fresh = new AtomicLong();
@@ -36,16 +42,22 @@ public class AssessmentReconciliation {
   public AssessmentReconciliation(
       QueryGateway queryGateway,
       MeterRegistry meterRegistry,
-      @Value("${application.assessment.reconciliation.threshold:15m}") Duration threshold) {
-    this(queryGateway, meterRegistry, Clock.systemUTC(), threshold);
+      @Value("${application.assessment.reconciliation.threshold:15m}") Duration threshold,
+      @Value("${application.assessment.reconciliation.report-limit:100}") int reportLimit) {
+    this(queryGateway, meterRegistry, Clock.systemUTC(), threshold, reportLimit);
   }
 
   AssessmentReconciliation(
-      QueryGateway queryGateway, MeterRegistry meterRegistry, Clock clock, Duration threshold) {
+      QueryGateway queryGateway,
+      MeterRegistry meterRegistry,
+      Clock clock,
+      Duration threshold,
+      int reportLimit) {
     this.queryGateway = queryGateway;
     this.meterRegistry = meterRegistry;
     this.clock = clock;
     this.threshold = threshold;
+    this.reportLimit = reportLimit;
     Gauge.builder("application.assessment.stalled", stalledCount, AtomicLong::get)
         .description("Applications awaiting automatic assessment beyond the threshold")
         .register(meterRegistry);
@@ -70,9 +82,10 @@ public class AssessmentReconciliation {
       StalledAssessments result =
           queryGateway
               .query(
-                  new FindStalledAssessmentsQuery(now.minus(threshold)), StalledAssessments.class)
+                  new FindStalledAssessmentsQuery(now.minus(threshold), reportLimit),
+                  StalledAssessments.class)
               .join();
-      stalledCount.set(result.applications().size());
+      stalledCount.set(result.total());
       oldestAgeSeconds.set(
           result.applications().stream()
               .mapToLong(application -> ageSeconds(application, now))
@@ -83,6 +96,10 @@ public class AssessmentReconciliation {
           .counter("application.assessment.reconciliation", "outcome", "success")
           .increment();
       result.applications().forEach(application -> report(application, now));
+      long unreported = result.total() - result.applications().size();
+      if (unreported > 0) {
+        LOG.warn("{} more Applications remain unassessed beyond those reported", unreported);
+      }
     } catch (RuntimeException exception) {
       fresh.set(0);
       meterRegistry
@@ -2,29 +2,109 @@ package uk.gov.justice.laa.dstew.access.observability;
 
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.axonframework.common.configuration.AxonConfiguration;
 import org.axonframework.messaging.eventhandling.processing.streaming.StreamingEventProcessor;
+import org.axonframework.messaging.eventhandling.processing.streaming.segmenting.EventTrackerStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-/** Exposes Axon projection health independently from unassessed-Application age. */
+/**
+ * Exposes Axon projection health independently from unassessed-Application age.
+ *
+ * <p>Besides the running, error and caught-up flags of each streaming processor, the event store
+ * head and every claimed segment's position are sampled on a schedule. For each segment the lag is
+ * published both in events behind the head and in seconds since the oldest event it has not yet
+ * seen was appended, so read-model staleness can be alerted on directly. Segments no longer claimed
+ * by this instance report {@code NaN}.
+ */
 @Component
 public class AxonProcessorMetrics implements ApplicationRunner {
 
+  private static final Logger LOG = LoggerFactory.getLogger(AxonProcessorMetrics.class);
+
   private final AxonConfiguration configuration;
   private final MeterRegistry meterRegistry;
+  private final EventStorePositions eventStorePositions;
+  private final Clock clock;
+  private final AtomicLong head = new AtomicLong();
+  private final Map<SegmentKey, SegmentLag> segments = new ConcurrentHashMap<>();
+
+  @Autowired
+  public AxonProcessorMetrics(
+      AxonConfiguration configuration,
+      MeterRegistry meterRegistry,
+      EventStorePositions eventStorePositions) {
+    this(configuration, meterRegistry, eventStorePositions, Clock.systemUTC());
+  }
 
-  public AxonProcessorMetrics(AxonConfiguration configuration, MeterRegistry meterRegistry) {
+  AxonProcessorMetrics(
+      AxonConfiguration configuration,
+      MeterRegistry meterRegistry,
+      EventStorePositions eventStorePositions,
+      Clock clock) {
     this.configuration = configuration;
     this.meterRegistry = meterRegistry;
+    this.eventStorePositions = eventStorePositions;
+    this.clock = clock;
   }
 
   @Override
   public void run(ApplicationArguments arguments) {
+    Gauge.builder("axon.event.store.head", head, AtomicLong::get)
+        .description("Global index of the newest event in the event store")
+        .register(meterRegistry);
     configuration.getComponents(StreamingEventProcessor.class).forEach(this::registerProcessor);
   }
 
+  /** Samples the event store head and each claimed segment's position and lag. */
+  @Scheduled(
+      fixedDelayString = "${application.projection.metrics.interval:15s}",
+      initialDelayString = "${application.projection.metrics.interval:15s}")
+  public void sampleLag() {
+    try {
+      long current = eventStorePositions.head();
+      head.set(current);
+      Instant now = clock.instant();
+      Set<SegmentKey> seen = new HashSet<>();
+      configuration
+          .getComponents(StreamingEventProcessor.class)
+          .forEach(
+              (name, processor) ->
+                  processor
+                      .processingStatus()
+                      .forEach(
+                          (segment, status) -> {
+                            SegmentKey key = new SegmentKey(name, segment);
+                            seen.add(key);
+                            segments
+                                .computeIfAbsent(key, this::registerSegment)
+                                .update(status, current, now);
+                          }));
+      segments.forEach(
+          (key, lag) -> {
+            if (!seen.contains(key)) {
+              lag.clear();
+            }
+          });
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to sample event processor lag", e);
+    }
+  }
+
   private void registerProcessor(String name, StreamingEventProcessor processor) {
     Gauge.builder("axon.event.processor.running", processor, value -> value.isRunning() ? 1 : 0)
         .tag("processor", name)
@@ -44,4 +124,63 @@ public class AxonProcessorMetrics implements ApplicationRunner {
         .tag("processor", name)
         .register(meterRegistry);
   }
+
+  private SegmentLag registerSegment(SegmentKey key) {
+    SegmentLag lag = new SegmentLag(eventStorePositions);
+    String segment = String.valueOf(key.segment());
+    Gauge.builder("axon.event.processor.segment.position", lag, value -> value.position)
+        .description("Global index reached by the segment's tracking token")
+        .tags("processor", key.processor(), "segment", segment)
+        .register(meterRegistry);
+    Gauge.builder("axon.event.processor.segment.lag.events", lag, value -> value.lagEvents)
+        .description("Events appended after the segment's position")
+        .tags("processor", key.processor(), "segment", segment)
+        .register(meterRegistry);
+    Gauge.builder("axon.event.processor.segment.lag", lag, value -> value.lagSeconds)
+        .description("Age of the oldest event the segment has not yet handled")
+        .tags("processor", key.processor(), "segment", segment)
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    return lag;
+  }
+
+  private record SegmentKey(String processor, int segment) {}
+
+  /** Latest sampled position and lag of one segment. */
+  private static final class SegmentLag {
+
+    private final EventStorePositions eventStorePositions;
+    private volatile double position = Double.NaN;
+    private volatile double lagEvents = Double.NaN;
+    private volatile double lagSeconds = Double.NaN;
+
+    private SegmentLag(EventStorePositions eventStorePositions) {
+      this.eventStorePositions = eventStorePositions;
+    }
+
+    private void update(EventTrackerStatus status, long head, Instant now) {
+      OptionalLong current = status.getCurrentPosition();
+      if (current.isEmpty()) {
+        clear();
+        return;
+      }
+      long reached = current.getAsLong();
+      position = reached;
+      lagEvents = Math.max(0, head - reached);
+      lagSeconds =
+          reached >= head
+              ? 0
+              : eventStorePositions
+                  .nextAppendedAt(reached)
+                  .map(appendedAt -> Math.max(0, Duration.between(appendedAt, now).toMillis()))
+                  .orElse(0L)
+                  / 1000.0;
+    }
+
+    private void clear() {
+      position = Double.NaN;
+      lagEvents = Double.NaN;
+      lagSeconds = Double.NaN;
+    }
+  }
 }
@@ -0,0 +1,77 @@
+package uk.gov.justice.laa.dstew.access.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import org.axonframework.messaging.eventhandling.EventMessage;
+import org.axonframework.messaging.monitoring.MessageMonitor;
+
+/**
+ * Records, for one event processor, how long handling each event takes and how old each event is
+ * when it is handled.
+ *
+ * <p>{@code axon.event.processor.handling} is tagged with the outcome, so its count gives the
+ * processor's throughput. {@code axon.event.processor.event.age} is the time between an event being
+ * appended and being handled, the end-to-end staleness of the processor's read model.
+ */
+public class EventHandlingMonitor implements MessageMonitor<EventMessage> {
+
+  private final Clock clock;
+  private final Timer succeeded;
+  private final Timer failed;
+  private final Timer ignored;
+  private final Timer eventAge;
+
+  public EventHandlingMonitor(String processor, MeterRegistry meterRegistry) {
+    this(processor, meterRegistry, Clock.systemUTC());
+  }
+
+  EventHandlingMonitor(String processor, MeterRegistry meterRegistry, Clock clock) {
+    this.clock = clock;
+    this.succeeded = handlingTimer(processor, "success", meterRegistry);
+    this.failed = handlingTimer(processor, "failure", meterRegistry);
+    this.ignored = handlingTimer(processor, "ignored", meterRegistry);
+    this.eventAge =
+        Timer.builder("axon.event.processor.event.age")
+            .description("Time between an event being appended and its processor handling it")
+            .tag("processor", processor)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+  }
+
+  @Override
+  public MonitorCallback onMessageIngested(EventMessage message) {
+    long started = clock.millis();
+    eventAge.record(Duration.between(message.timestamp(), clock.instant()));
+    return new MonitorCallback() {
+      @Override
+      public void reportSuccess() {
+        record(succeeded);
+      }
+
+      @Override
+      public void reportFailure(Throwable cause) {
+        record(failed);
+      }
+
+      @Override
+      public void reportIgnored() {
+        record(ignored);
+      }
+
+      private void record(Timer timer) {
+        timer.record(Duration.ofMillis(clock.millis() - started));
+      }
+    };
+  }
+
+  private static Timer handlingTimer(String processor, String outcome, MeterRegistry registry) {
+    return Timer.builder("axon.event.processor.handling")
+        .description("Time taken by an event processor to handle an event")
+        .tag("processor", processor)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+}
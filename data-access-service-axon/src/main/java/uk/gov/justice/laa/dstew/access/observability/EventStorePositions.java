@@ -0,0 +1,41 @@
+package uk.gov.justice.laa.dstew.access.observability;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** Reads positions in the event store, for comparison with streaming processors' tokens. */
+@Component
+public class EventStorePositions {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public EventStorePositions(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Returns the global index of the newest event, or {@code 0} if there are none. */
+  public long head() {
+    Long head =
+        jdbcTemplate.queryForObject("SELECT MAX(global_index) FROM domain_event_entry", Long.class);
+    return head == null ? 0 : head;
+  }
+
+  /**
+   * Returns when the first event after {@code globalIndex} was appended.
+   *
+   * @param globalIndex the position a processor has reached
+   * @return the append time of the oldest event the processor has not seen, if there is one
+   */
+  public Optional<Instant> nextAppendedAt(long globalIndex) {
+    List<String> timestamps =
+        jdbcTemplate.queryForList(
+            "SELECT time_stamp FROM domain_event_entry WHERE global_index > ?"
+                + " ORDER BY global_index LIMIT 1",
+            String.class,
+            globalIndex);
+    return timestamps.stream().findFirst().map(Instant::parse);
+  }
+}
@@ -0,0 +1,167 @@
+package uk.gov.justice.laa.dstew.access.observability;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.axonframework.common.configuration.AxonConfiguration;
+import org.axonframework.messaging.eventhandling.processing.streaming.StreamingEventProcessor;
+import org.axonframework.messaging.eventhandling.processing.streaming.segmenting.EventTrackerStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint reporting streaming processor progress and replaying a processor on request.
+ *
+ * <p>{@code GET /actuator/projections} lists every streaming processor and {@code GET
+ * /actuator/projections/{processor}} reports one. {@code POST /actuator/projections/{processor}}
+ * stops the processor, resets its tokens, which runs its reset handlers, and starts it again, so
+ * it rebuilds its projection from the first event. Only the processor in this instance is
+ * affected; stop it on other instances first.
+ *
+ * <p>The module has no Spring Security, so the endpoint is read-only by default and the replay
+ * operation is not mapped. Set {@code PROJECTIONS_ENDPOINT_ACCESS=unrestricted}, on an instance
+ * whose management port is not reachable from outside, to enable it.
+ *
+ * <p>Progress compares the slowest segment's position with the newest event's global index. The
+ * event rate is measured between consecutive reads of the same processor, so poll the endpoint to
+ * follow a replay.
+ */
+@Component
+@Endpoint(id = "projections")
+public class ProjectionReplayEndpoint {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ProjectionReplayEndpoint.class);
+
+  private final AxonConfiguration configuration;
+  private final EventStorePositions eventStorePositions;
+  private final Clock clock;
+  private final Map<String, Sample> lastSamples = new ConcurrentHashMap<>();
+
+  @Autowired
+  public ProjectionReplayEndpoint(
+      AxonConfiguration configuration, EventStorePositions eventStorePositions) {
+    this(configuration, eventStorePositions, Clock.systemUTC());
+  }
+
+  ProjectionReplayEndpoint(
+      AxonConfiguration configuration, EventStorePositions eventStorePositions, Clock clock) {
+    this.configuration = configuration;
+    this.eventStorePositions = eventStorePositions;
+    this.clock = clock;
+  }
+
+  /** Reports the progress of every streaming processor, keyed by name. */
+  @ReadOperation
+  public Map<String, ProcessorProgress> processors() {
+    long head = eventStorePositions.head();
+    Map<String, ProcessorProgress> progress = new TreeMap<>();
+    streamingProcessors()
+        .forEach((name, processor) -> progress.put(name, progress(name, processor, head)));
+    return progress;
+  }
+
+  /** Reports the progress of one streaming processor, or nothing if there is no such processor. */
+  @ReadOperation
+  public ProcessorProgress processor(@Selector String processor) {
+    StreamingEventProcessor streamingProcessor = streamingProcessors().get(processor);
+    return streamingProcessor == null
+        ? null
+        : progress(processor, streamingProcessor, eventStorePositions.head());
+  }
+
+  /**
+   * Rebuilds a processor's projection from the first event.
+   *
+   * @param processor the processor name
+   * @return the processor's progress once it has restarted
+   */
+  @WriteOperation
+  public ProcessorProgress replay(@Selector String processor) {
+    StreamingEventProcessor streamingProcessor = streamingProcessors().get(processor);
+    if (streamingProcessor == null) {
+      throw new InvalidEndpointRequestException(
+          "Unknown streaming processor: " + processor, "Unknown streaming processor");
+    }
+    LOG.info("Replaying streaming processor {}", processor);
+    streamingProcessor.shutdown().join();
+    streamingProcessor.resetTokens().join();
+    streamingProcessor.start().join();
+    lastSamples.put(processor, new Sample(clock.instant(), 0));
+    return progress(processor, streamingProcessor, eventStorePositions.head());
+  }
+
+  private Map<String, StreamingEventProcessor> streamingProcessors() {
+    return configuration.getComponents(StreamingEventProcessor.class);
+  }
+
+  private ProcessorProgress progress(String name, StreamingEventProcessor processor, long head) {
+    Map<Integer, EventTrackerStatus> status = processor.processingStatus();
+    Long position =
+        status.values().stream()
+            .map(EventTrackerStatus::getCurrentPosition)
+            .filter(OptionalLong::isPresent)
+            .mapToLong(OptionalLong::getAsLong)
+            .boxed()
+            .min(Long::compare)
+            .orElse(null);
+    boolean replaying = status.values().stream().anyMatch(EventTrackerStatus::isReplaying);
+    return new ProcessorProgress(
+        processor.isRunning(),
+        processor.isError(),
+        replaying,
+        status.size(),
+        position,
+        head,
+        eventsPerSecond(name, position));
+  }
+
+  /** Rate since the previous read of the processor, or {@code null} if it cannot be measured. */
+  private Double eventsPerSecond(String name, Long position) {
+    if (position == null) {
+      return null;
+    }
+    Sample current = new Sample(clock.instant(), position);
+    Sample previous = lastSamples.put(name, current);
+    if (previous == null || current.position() < previous.position()) {
+      return null;
+    }
+    Duration elapsed = Duration.between(previous.at(), current.at());
+    if (elapsed.isZero() || elapsed.isNegative()) {
+      return null;
+    }
+    return (current.position() - previous.position()) / (elapsed.toNanos() / 1e9);
+  }
+
+  /**
+   * How far a streaming processor has got through the event store.
+   *
+   * @param running whether the processor is running
+   * @param error whether any segment has stopped on an error
+   * @param replaying whether any segment is replaying after a reset
+   * @param segments the number of segments claimed by this instance
+   * @param position global index reached by the slowest claimed segment, if any
+   * @param head global index of the newest event
+   * @param eventsPerSecond events processed per second since the previous read, if known
+   */
+  public record ProcessorProgress(
+      boolean running,
+      boolean error,
+      boolean replaying,
+      int segments,
+      Long position,
+      long head,
+      Double eventsPerSecond) {}
+
+  private record Sample(Instant at, long position) {}
+}
@@ -0,0 +1,20 @@
+package uk.gov.justice.laa.dstew.access.query;
+
+import org.axonframework.messaging.core.unitofwork.ProcessingContext;
+import org.axonframework.messaging.eventhandling.processing.streaming.token.TrackingToken;
+
+/** Reads the event store position of the event being handled by a streaming processor. */
+public final class EventPosition {
+
+  private EventPosition() {}
+
+  /**
+   * Returns the global index of the event being handled.
+   *
+   * @param context the context the event is handled in
+   * @return the tracking token's position, or {@code 0} outside a streaming processor
+   */
+  public static long of(ProcessingContext context) {
+    return TrackingToken.fromContext(context).map(token -> token.position().orElse(0)).orElse(0L);
+  }
+}
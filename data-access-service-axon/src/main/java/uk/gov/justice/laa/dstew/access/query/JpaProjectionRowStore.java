@@ -0,0 +1,61 @@
+package uk.gov.justice.laa.dstew.access.query;
+
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * {@link ProjectionRowStore} over a JPA read model.
+ *
+ * <p>New rows are persisted directly rather than saved, as saving an entity with an assigned
+ * identifier reads it first to decide between insert and update. Rows are written when the
+ * transaction flushes, in JDBC batches of {@code hibernate.jdbc.batch_size}. Rows are removed with
+ * a single delete statement.
+ *
+ * @param <R> the read model type
+ */
+public class JpaProjectionRowStore<R> implements ProjectionRowStore<R> {
+
+  private final JpaRepository<R, UUID> repository;
+  private final Function<R, UUID> idOf;
+  private final EntityManager entityManager;
+
+  /**
+   * Constructs a row store for one read model.
+   *
+   * @param repository the read model's repository
+   * @param idOf returns a row's identifier
+   * @param entityManager the shared entity manager the repository uses
+   */
+  public JpaProjectionRowStore(
+      JpaRepository<R, UUID> repository, Function<R, UUID> idOf, EntityManager entityManager) {
+    this.repository = repository;
+    this.idOf = idOf;
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public Map<UUID, R> findAllById(Collection<UUID> ids) {
+    return repository.findAllById(ids).stream()
+        .collect(Collectors.toMap(idOf, Function.identity()));
+  }
+
+  @Override
+  public void insertAll(Collection<R> rows) {
+    rows.forEach(entityManager::persist);
+  }
+
+  @Override
+  public void updateAll(Collection<R> rows) {
+    repository.saveAll(rows);
+  }
+
+  @Override
+  public void deleteAll(Collection<R> rows) {
+    repository.deleteAllInBatch(rows);
+  }
+}
@@ -0,0 +1,143 @@
+package uk.gov.justice.laa.dstew.access.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.axonframework.messaging.core.Context.ResourceKey;
+import org.axonframework.messaging.core.unitofwork.ProcessingContext;
+
+/**
+ * Changes to one projection table staged during a unit of work and written when it commits.
+ *
+ * <p>Pooled streaming processors handle a batch of events in a single unit of work. Instead of
+ * reading and saving a row for every event, handlers stage inserts and updates here. When the unit
+ * of work prepares to commit, every row the batch touches is loaded with one query, the staged
+ * changes are applied in event order, and the changed rows are handed to the store to write
+ * together. Rows inserted earlier in the same batch are updated in memory without being read back.
+ *
+ * <p>An update to a row that neither exists nor was inserted in the batch is dropped, as the
+ * per-event handlers did before.
+ *
+ * @param <R> the row type
+ */
+public final class ProjectionBatch<R> {
+
+  private final ProjectionRowStore<R> store;
+  private final Map<UUID, List<UnaryOperator<R>>> changes = new LinkedHashMap<>();
+  private final List<Runnable> beforeApply = new ArrayList<>();
+  private final Map<UUID, Consumer<R>> afterWrite = new LinkedHashMap<>();
+
+  ProjectionBatch(ProjectionRowStore<R> store) {
+    this.store = store;
+  }
+
+  /**
+   * Returns the batch for {@code key} in the current unit of work, creating it and scheduling its
+   * flush on first use.
+   *
+   * @param context the unit of work handling the event
+   * @param key identifies the batch among the unit of work's resources
+   * @param store reads and writes the batch's table
+   * @return the batch shared by every event in the unit of work
+   */
+  public static <R> ProjectionBatch<R> forContext(
+      ProcessingContext context, ResourceKey<ProjectionBatch<R>> key, ProjectionRowStore<R> store) {
+    return context.computeResourceIfAbsent(
+        key,
+        () -> {
+          ProjectionBatch<R> batch = new ProjectionBatch<>(store);
+          context.runOnPrepareCommit(ignored -> batch.flush());
+          return batch;
+        });
+  }
+
+  /**
+   * Stages a new row, replacing any earlier state of it. The row is built when the batch is
+   * flushed, after any {@link #beforeApply} actions have run. If {@code row} supplies {@code null},
+   * the row is removed instead.
+   */
+  public void insert(UUID id, Supplier<R> row) {
+    changes.computeIfAbsent(id, ignored -> new ArrayList<>()).add(ignored -> row.get());
+  }
+
+  /** Stages a change to an existing row. */
+  public void update(UUID id, Consumer<R> change) {
+    changes
+        .computeIfAbsent(id, ignored -> new ArrayList<>())
+        .add(
+            row -> {
+              if (row != null) {
+                change.accept(row);
+              }
+              return row;
+            });
+  }
+
+  /** Runs an action once the batch is flushed, before any staged change is applied. */
+  public void beforeApply(Runnable action) {
+    beforeApply.add(action);
+  }
+
+  /**
+   * Passes a row to {@code callback} once it has been written. Only the last callback registered
+   * for a row runs, and only if the row was written.
+   */
+  public void afterWrite(UUID id, Consumer<R> callback) {
+    afterWrite.put(id, callback);
+  }
+
+  /** Applies the staged changes and writes the changed rows. */
+  public void flush() {
+    if (changes.isEmpty()) {
+      return;
+    }
+    beforeApply.forEach(Runnable::run);
+    Map<UUID, R> existing = store.findAllById(List.copyOf(changes.keySet()));
+
+    Map<UUID, R> written = new LinkedHashMap<>();
+    List<R> inserts = new ArrayList<>();
+    List<R> updates = new ArrayList<>();
+    List<R> deletes = new ArrayList<>();
+    changes.forEach(
+        (id, rowChanges) -> {
+          R row = existing.get(id);
+          for (UnaryOperator<R> change : rowChanges) {
+            row = change.apply(row);
+          }
+          if (row != null) {
+            written.put(id, row);
+            if (existing.containsKey(id)) {
+              updates.add(row);
+            } else {
+              inserts.add(row);
+            }
+          } else if (existing.containsKey(id)) {
+            deletes.add(existing.get(id));
+          }
+        });
+    if (!inserts.isEmpty()) {
+      store.insertAll(inserts);
+    }
+    if (!updates.isEmpty()) {
+      store.updateAll(updates);
+    }
+    if (!deletes.isEmpty()) {
+      store.deleteAll(deletes);
+    }
+    afterWrite.forEach(
+        (id, callback) -> {
+          R row = written.get(id);
+          if (row != null) {
+            callback.accept(row);
+          }
+        });
+    changes.clear();
+    beforeApply.clear();
+    afterWrite.clear();
+  }
+}
@@ -0,0 +1,77 @@
+package uk.gov.justice.laa.dstew.access.query;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.axonframework.messaging.core.Context.ResourceKey;
+import org.axonframework.messaging.core.unitofwork.ProcessingContext;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataId;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataPayload;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataStore;
+
+/**
+ * The {@code application_data} versions a {@link ProjectionBatch} needs, loaded together with one
+ * {@link ApplicationDataStore#getAll} call before the batch is applied.
+ *
+ * <p>Handlers {@link #require} the versions their events reference and read them with {@link #get}
+ * from the row changes they stage, which only run once the payloads have been loaded.
+ */
+public final class ProjectionPayloads {
+
+  private final ApplicationDataStore applicationDataStore;
+  private final Set<ApplicationDataId> required = new HashSet<>();
+  private final Map<ApplicationDataId, ApplicationDataPayload> loaded = new HashMap<>();
+
+  private ProjectionPayloads(ApplicationDataStore applicationDataStore) {
+    this.applicationDataStore = applicationDataStore;
+  }
+
+  /**
+   * Returns the payloads for {@code key} in the current unit of work, creating them and scheduling
+   * their load ahead of {@code batch} on first use.
+   *
+   * @param context the unit of work handling the event
+   * @param key identifies the payloads among the unit of work's resources
+   * @param batch the batch whose staged changes read the payloads
+   * @param applicationDataStore loads the payloads
+   * @return the payloads shared by every event in the unit of work
+   */
+  public static ProjectionPayloads forBatch(
+      ProcessingContext context,
+      ResourceKey<ProjectionPayloads> key,
+      ProjectionBatch<?> batch,
+      ApplicationDataStore applicationDataStore) {
+    return context.computeResourceIfAbsent(
+        key,
+        () -> {
+          ProjectionPayloads created = new ProjectionPayloads(applicationDataStore);
+          batch.beforeApply(created::load);
+          return created;
+        });
+  }
+
+  /** Registers a data version to load with the rest of the batch's payloads. */
+  public ProjectionPayloads require(ApplicationDataId id) {
+    required.add(id);
+    return this;
+  }
+
+  /**
+   * Returns a loaded payload.
+   *
+   * @throws IllegalStateException if the version was not required or does not exist
+   */
+  public ApplicationDataPayload get(ApplicationDataId id) {
+    ApplicationDataPayload payload = loaded.get(id);
+    if (payload == null) {
+      throw new IllegalStateException(
+          "Application data not found for " + id.applicationId() + " version " + id.version());
+    }
+    return payload;
+  }
+
+  private void load() {
+    loaded.putAll(applicationDataStore.getAll(required));
+  }
+}
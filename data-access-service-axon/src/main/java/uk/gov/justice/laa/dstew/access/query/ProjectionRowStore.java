@@ -0,0 +1,44 @@
+package uk.gov.justice.laa.dstew.access.query;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bulk reads and writes of one projection table, used by {@link ProjectionBatch} to load the rows
+ * a batch of events touches with one query and write them back together.
+ *
+ * @param <R> the row type
+ */
+public interface ProjectionRowStore<R> {
+
+  /**
+   * Loads the rows with the given identifiers.
+   *
+   * @param ids the row identifiers
+   * @return the rows found, keyed by identifier
+   */
+  Map<UUID, R> findAllById(Collection<UUID> ids);
+
+  /**
+   * Writes rows that do not exist yet.
+   *
+   * @param rows the new rows
+   */
+  void insertAll(Collection<R> rows);
+
+  /**
+   * Writes rows that exist, whether returned by {@link #findAllById} or rebuilt with the same
+   * identifier.
+   *
+   * @param rows the complete rows to write
+   */
+  void updateAll(Collection<R> rows);
+
+  /**
+   * Removes rows returned by {@link #findAllById}.
+   *
+   * @param rows the rows to remove
+   */
+  void deleteAll(Collection<R> rows);
+}
@@ -3,6 +3,7 @@ package uk.gov.justice.laa.dstew.access.query;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 import org.axonframework.messaging.queryhandling.gateway.QueryGateway;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,43 +15,71 @@ import reactor.core.publisher.Mono;
  * <p>The subscription is opened before the caller's action runs, so a fast tracking processor
  * cannot emit an update that is missed between dispatch and the wait. The subscription is always
  * closed — on success, timeout, action failure, and interruption.
+ *
+ * <p>{@link #awaitProjection} waits without holding the calling thread, so command endpoints can
+ * release their servlet thread while a tracking processor catches up. At most {@code
+ * application.projection.max-waiters} waits are open at once; beyond that the action still runs
+ * but its caller is told immediately that the projection is not yet readable.
  */
 @Component
 public class SubscriptionProjectionGateway {
 
   private final QueryGateway queryGateway;
   private final Duration timeout;
+  private final Semaphore waiters;
 
-  /** Creates the gateway using the configured projection timeout. */
+  /** Creates the gateway using the configured projection timeout and waiter bound. */
   public SubscriptionProjectionGateway(
-      QueryGateway queryGateway, @Value("${application.projection.timeout:5s}") Duration timeout) {
+      QueryGateway queryGateway,
+      @Value("${application.projection.timeout:5s}") Duration timeout,
+      @Value("${application.projection.max-waiters:1000}") int maxWaiters) {
     this.queryGateway = queryGateway;
     this.timeout = timeout;
+    this.waiters = new Semaphore(maxWaiters);
   }
 
   /**
-   * Opens a subscription for {@code query}, runs {@code action}, then waits for the projection to
-   * become readable.
+   * Opens a subscription for {@code query}, runs {@code action}, then waits asynchronously for the
+   * projection to become readable.
    *
    * @param query the subscription query to register.
    * @param projectionType the expected projection read-model type.
    * @param action the side-effecting work (typically a command dispatch) whose event the projection
-   *     must reflect.
-   * @return {@code true} when the projection is readable within the configured timeout; {@code
-   *     false} when the timeout expires — the action has still committed its event and the caller
-   *     should signal acceptance rather than failure.
-   * @throws RuntimeException propagated from {@code action} or the query bus; the interrupt flag is
-   *     restored when Reactor wraps an {@link InterruptedException}.
+   *     must reflect; it runs on the calling thread before this method returns.
+   * @return a future completing with {@code true} when the projection is readable within the
+   *     configured timeout, and with {@code false} when the timeout expires, the subscription
+   *     completes without a result, or every waiter is in use — the action has still committed
+   *     its event and the caller should signal acceptance rather than failure. It completes
+   *     exceptionally when the query bus fails.
+   * @throws RuntimeException propagated from {@code action} or from opening the subscription.
    */
-  public <R> boolean awaitProjection(Object query, Class<R> projectionType, Runnable action) {
-    CompletableFuture<R> firstResult =
-        Mono.from(queryGateway.subscriptionQuery(query, projectionType)).toFuture();
+  public <R> CompletableFuture<Boolean> awaitProjection(
+      Object query, Class<R> projectionType, Runnable action) {
+    if (!waiters.tryAcquire()) {
+      action.run();
+      return CompletableFuture.completedFuture(false);
+    }
+    CompletableFuture<R> firstResult;
+    try {
+      firstResult = Mono.from(queryGateway.subscriptionQuery(query, projectionType)).toFuture();
+    } catch (RuntimeException e) {
+      waiters.release();
+      throw e;
+    }
     try {
       action.run();
-      return doAwait(firstResult);
-    } finally {
+    } catch (RuntimeException e) {
       firstResult.cancel(true);
+      waiters.release();
+      throw e;
     }
+    return awaitFirst(firstResult)
+        .doFinally(
+            signal -> {
+              firstResult.cancel(true);
+              waiters.release();
+            })
+        .toFuture();
   }
 
   /** Waits for an existing projection to become readable, including the first delayed update. */
@@ -69,18 +98,20 @@ public class SubscriptionProjectionGateway {
 
   private <R> boolean doAwait(CompletableFuture<R> firstResult) {
     try {
-      Boolean result =
-          Mono.fromFuture(firstResult)
-              .map(ignored -> true)
-              .timeout(timeout, Mono.just(false))
-              .block();
-      return Boolean.TRUE.equals(result);
+      return Boolean.TRUE.equals(awaitFirst(firstResult).block());
     } catch (RuntimeException e) {
       restoreInterrupt(e);
       throw e;
     }
   }
 
+  private <R> Mono<Boolean> awaitFirst(CompletableFuture<R> firstResult) {
+    return Mono.fromFuture(firstResult)
+        .map(ignored -> true)
+        .defaultIfEmpty(false)
+        .timeout(timeout, Mono.just(false));
+  }
+
   private void restoreInterrupt(RuntimeException exception) {
     if (exception.getCause() instanceof InterruptedException) {
       Thread.currentThread().interrupt();
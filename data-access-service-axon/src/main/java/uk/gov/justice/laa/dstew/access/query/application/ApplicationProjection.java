@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.access.query.application;
 
+import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -7,12 +8,15 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.axonframework.messaging.core.Context.ResourceKey;
 import org.axonframework.messaging.core.annotation.Namespace;
+import org.axonframework.messaging.core.unitofwork.ProcessingContext;
 import org.axonframework.messaging.eventhandling.annotation.EventHandler;
 import org.axonframework.messaging.eventhandling.replay.annotation.ResetHandler;
 import org.axonframework.messaging.queryhandling.QueryUpdateEmitter;
 import org.axonframework.messaging.queryhandling.annotation.QueryHandler;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,7 +24,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreatedEvent;
 import uk.gov.justice.laa.dstew.access.command.application.ApplicationLinkedEvent;
-import uk.gov.justice.laa.dstew.access.command.application.AutoGrantedState;
 import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationAssignedToCaseworkerEvent;
 import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationUnassignedFromCaseworkerEvent;
 import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataId;
@@ -31,19 +34,30 @@ import uk.gov.justice.laa.dstew.access.command.application.decision.ApplicationD
 import uk.gov.justice.laa.dstew.access.command.application.note.NoteCreatedEvent;
 import uk.gov.justice.laa.dstew.access.command.application.ready.ApplicationReadyForManualAssessmentEvent;
 import uk.gov.justice.laa.dstew.access.command.application.update.ApplicationUpdatedEvent;
-import uk.gov.justice.laa.dstew.access.model.ApplicationStatus;
+import uk.gov.justice.laa.dstew.access.query.JpaProjectionRowStore;
+import uk.gov.justice.laa.dstew.access.query.ProjectionBatch;
+import uk.gov.justice.laa.dstew.access.query.ProjectionRowStore;
 import uk.gov.justice.laa.dstew.access.query.application.linkedgroup.LinkedApplicationGroupReadModel;
 import uk.gov.justice.laa.dstew.access.query.application.linkedgroup.LinkedApplicationGroupReadRepository;
 import uk.gov.justice.laa.dstew.access.query.application.listindex.ApplicationListIndexReadModel;
 import uk.gov.justice.laa.dstew.access.query.application.listindex.ApplicationListIndexReadRepository;
 import uk.gov.justice.laa.dstew.access.query.application.listindex.ApplicationListIndexSpecification;
 
-/** Independently replayable projection of the current state of each Application. */
+/**
+ * Independently replayable projection of the current state of each Application.
+ *
+ * <p>Event handlers stage their changes in a {@link ProjectionBatch}, which is written once per
+ * processed batch; query updates are emitted once the row has been written.
+ */
 @Component
 @Namespace("application-projection")
 public class ApplicationProjection {
 
+  private static final ResourceKey<ProjectionBatch<ApplicationReadModel>> BATCH =
+      ResourceKey.withLabel("application-projection-batch");
+
   private final ApplicationReadRepository applicationReadRepository;
+  private final ProjectionRowStore<ApplicationReadModel> rowStore;
   private final LinkedApplicationGroupReadRepository groupReadRepository;
   private final ApplicationDataStore applicationDataStore;
   private final ApplicationListIndexReadRepository listIndexRepository;
@@ -56,14 +70,20 @@ public class ApplicationProjection {
    *     linked_application_group_current_state}; used by {@link FindAllApplicationsQuery} to
    *     batch-fetch group membership for the result page
    * @param listIndexRepository persistence interface for {@code application_list_index}; used by
-   *     {@link FindAllApplicationsQuery} for database-side filtering and paging
+   *     {@link FindAllApplicationsQuery} for database-side filtering and paging and by {@link
+   *     FindStalledAssessmentsQuery}
+   * @param entityManager writes the rows staged by event handlers
    */
   public ApplicationProjection(
       ApplicationReadRepository applicationReadRepository,
       LinkedApplicationGroupReadRepository groupReadRepository,
       ApplicationDataStore applicationDataStore,
-      ApplicationListIndexReadRepository listIndexRepository) {
+      ApplicationListIndexReadRepository listIndexRepository,
+      EntityManager entityManager) {
     this.applicationReadRepository = applicationReadRepository;
+    this.rowStore =
+        new JpaProjectionRowStore<>(
+            applicationReadRepository, ApplicationReadModel::getApplicationId, entityManager);
     this.groupReadRepository = groupReadRepository;
     this.applicationDataStore = applicationDataStore;
     this.listIndexRepository = listIndexRepository;
@@ -153,31 +173,36 @@ public class ApplicationProjection {
         content, groupsByLeadId, indexPage.getTotalElements(), query.page(), query.pageSize());
   }
 
-  /** Returns old submitted Applications that still have no automatic-assessment outcome. */
+  /**
+   * Returns old submitted Applications that still have no automatic-assessment outcome, oldest
+   * first.
+   *
+   * <p>Served from {@code application_list_index}, which carries the status, outcome and
+   * submission time, so no {@code application_data} payload is read. When the query is limited,
+   * the total is only counted separately if the limit was reached.
+   */
   @QueryHandler
   public StalledAssessments handle(FindStalledAssessmentsQuery query) {
-    return new StalledAssessments(
-        hydrate(
-                applicationReadRepository.findAllByStatus(
-                    ApplicationStatus.APPLICATION_SUBMITTED.name()))
-            .stream()
-            .filter(application -> application.getAutoGranted() == AutoGrantedState.PENDING)
-            .filter(application -> application.getSubmittedAt() != null)
-            .filter(application -> application.getSubmittedAt().isBefore(query.submittedBefore()))
-            .map(
-                application ->
-                    new StalledAssessment(
-                        application.getApplicationId(),
-                        application.getApplicationVersion(),
-                        application.getSubmittedAt()))
-            .toList());
+    Limit limit = query.limit() == null ? Limit.unlimited() : Limit.of(query.limit());
+    List<StalledAssessment> oldest =
+        listIndexRepository.findStalledAssessments(query.submittedBefore(), limit);
+    long total =
+        limit.isLimited() && oldest.size() == limit.max()
+            ? listIndexRepository.countStalledAssessments(query.submittedBefore())
+            : oldest.size();
+    return new StalledAssessments(oldest, total);
   }
 
   /** Creates the current-state row from an Application's creation event. */
   @EventHandler
-  public void on(ApplicationCreatedEvent event, QueryUpdateEmitter queryUpdateEmitter) {
-    ApplicationReadModel saved =
-        applicationReadRepository.save(
+  public void on(
+      ApplicationCreatedEvent event,
+      QueryUpdateEmitter queryUpdateEmitter,
+      ProcessingContext context) {
+    ProjectionBatch<ApplicationReadModel> batch = batch(context);
+    batch.insert(
+        event.applicationId(),
+        () ->
             ApplicationReadModel.builder()
                 .applicationId(event.applicationId())
                 .status(event.status())
@@ -188,29 +213,29 @@ public class ApplicationProjection {
                 .modifiedAt(event.occurredAt())
                 .leadApplicationId(event.leadApplicationId())
                 .build());
-    queryUpdateEmitter.emit(
-        FindApplicationByIdQuery.class,
-        query -> query.applicationId().equals(event.applicationId()),
-        saved);
+    emitOnWrite(batch, event.applicationId(), queryUpdateEmitter);
   }
 
   /** Updates the linked-group membership after the Application is created. */
   @EventHandler
-  public void on(ApplicationLinkedEvent event) {
-    applicationReadRepository
-        .findById(event.applicationId())
-        .ifPresent(
+  public void on(ApplicationLinkedEvent event, ProcessingContext context) {
+    batch(context)
+        .update(
+            event.applicationId(),
             application -> {
               application.setLeadApplicationId(event.leadApplicationId());
               application.setModifiedAt(event.occurredAt());
-              applicationReadRepository.save(application);
             });
   }
 
   /** Advances the current-state row to the immutable data version containing the decision. */
   @EventHandler
-  public void on(ApplicationDecisionMadeEvent event, QueryUpdateEmitter queryUpdateEmitter) {
+  public void on(
+      ApplicationDecisionMadeEvent event,
+      QueryUpdateEmitter queryUpdateEmitter,
+      ProcessingContext context) {
     advanceCurrentState(
+        context,
         event.applicationId(),
         event.applicationVersion(),
         event.applicationDataVersion(),
@@ -221,8 +246,11 @@ public class ApplicationProjection {
   /** Advances the current-state row to the immutable data version containing manual readiness. */
   @EventHandler
   public void on(
-      ApplicationReadyForManualAssessmentEvent event, QueryUpdateEmitter queryUpdateEmitter) {
+      ApplicationReadyForManualAssessmentEvent event,
+      QueryUpdateEmitter queryUpdateEmitter,
+      ProcessingContext context) {
     advanceCurrentState(
+        context,
         event.applicationId(),
         event.applicationVersion(),
         event.applicationDataVersion(),
@@ -232,85 +260,96 @@ public class ApplicationProjection {
 
   /** Advances current state to the updated immutable data and status. */
   @EventHandler
-  public void on(ApplicationUpdatedEvent event, QueryUpdateEmitter queryUpdateEmitter) {
-    applicationReadRepository
-        .findById(event.applicationId())
-        .ifPresent(
-            application -> {
-              application.setStatus(event.status());
-              application.setApplicationVersion(event.applicationVersion());
-              application.setApplicationDataVersion(event.applicationDataVersion());
-              application.setModifiedAt(event.occurredAt());
-              ApplicationReadModel saved = applicationReadRepository.save(application);
-              queryUpdateEmitter.emit(
-                  FindApplicationByIdQuery.class,
-                  query -> query.applicationId().equals(event.applicationId()),
-                  saved);
-            });
+  public void on(
+      ApplicationUpdatedEvent event,
+      QueryUpdateEmitter queryUpdateEmitter,
+      ProcessingContext context) {
+    ProjectionBatch<ApplicationReadModel> batch = batch(context);
+    batch.update(
+        event.applicationId(),
+        application -> {
+          application.setStatus(event.status());
+          application.setApplicationVersion(event.applicationVersion());
+          application.setApplicationDataVersion(event.applicationDataVersion());
+          application.setModifiedAt(event.occurredAt());
+        });
+    emitOnWrite(batch, event.applicationId(), queryUpdateEmitter);
   }
 
   /** Updates the assigned caseworker and referenced application-data version. */
   @EventHandler
-  public void on(ApplicationAssignedToCaseworkerEvent event) {
-    applicationReadRepository
-        .findById(event.applicationId())
-        .ifPresent(
+  public void on(ApplicationAssignedToCaseworkerEvent event, ProcessingContext context) {
+    batch(context)
+        .update(
+            event.applicationId(),
             application -> {
               application.setCaseworkerId(event.caseworkerId());
               application.setApplicationVersion(event.applicationVersion());
               application.setApplicationDataVersion(event.applicationDataVersion());
               application.setModifiedAt(event.occurredAt());
-              applicationReadRepository.save(application);
             });
   }
 
   /** Clears the assigned caseworker and updates the referenced application-data version. */
   @EventHandler
-  public void on(ApplicationUnassignedFromCaseworkerEvent event) {
-    applicationReadRepository
-        .findById(event.applicationId())
-        .ifPresent(
+  public void on(ApplicationUnassignedFromCaseworkerEvent event, ProcessingContext context) {
+    batch(context)
+        .update(
+            event.applicationId(),
             application -> {
               application.setCaseworkerId(null);
               application.setApplicationVersion(event.applicationVersion());
               application.setApplicationDataVersion(event.applicationDataVersion());
               application.setModifiedAt(event.occurredAt());
-              applicationReadRepository.save(application);
             });
   }
 
   /** Advances the referenced application-data version when a note is created. */
   @EventHandler
-  public void on(NoteCreatedEvent event) {
-    applicationReadRepository
-        .findById(event.applicationId())
-        .ifPresent(
+  public void on(NoteCreatedEvent event, ProcessingContext context) {
+    batch(context)
+        .update(
+            event.applicationId(),
             application -> {
               application.setApplicationDataVersion(event.applicationDataVersion());
               application.setModifiedAt(event.occurredAt());
-              applicationReadRepository.save(application);
             });
   }
 
   private void advanceCurrentState(
+      ProcessingContext context,
       UUID applicationId,
       long applicationVersion,
       long applicationDataVersion,
       java.time.Instant occurredAt,
       QueryUpdateEmitter queryUpdateEmitter) {
-    applicationReadRepository
-        .findById(applicationId)
-        .ifPresent(
-            application -> {
-              application.setApplicationDataVersion(applicationDataVersion);
-              application.setApplicationVersion(applicationVersion);
-              application.setModifiedAt(occurredAt);
-              ApplicationReadModel saved = applicationReadRepository.save(application);
-              queryUpdateEmitter.emit(
-                  FindApplicationByIdQuery.class,
-                  query -> query.applicationId().equals(applicationId),
-                  saved);
-            });
+    ProjectionBatch<ApplicationReadModel> batch = batch(context);
+    batch.update(
+        applicationId,
+        application -> {
+          application.setApplicationDataVersion(applicationDataVersion);
+          application.setApplicationVersion(applicationVersion);
+          application.setModifiedAt(occurredAt);
+        });
+    emitOnWrite(batch, applicationId, queryUpdateEmitter);
+  }
+
+  private ProjectionBatch<ApplicationReadModel> batch(ProcessingContext context) {
+    return ProjectionBatch.forContext(context, BATCH, rowStore);
+  }
+
+  /** Emits the row to subscribers once the batch has written it. */
+  private static void emitOnWrite(
+      ProjectionBatch<ApplicationReadModel> batch,
+      UUID applicationId,
+      QueryUpdateEmitter queryUpdateEmitter) {
+    batch.afterWrite(
+        applicationId,
+        saved ->
+            queryUpdateEmitter.emit(
+                FindApplicationByIdQuery.class,
+                query -> query.applicationId().equals(applicationId),
+                saved));
   }
 
   /** Clears the disposable current-state table before replay. */
@@ -334,28 +373,6 @@ public class ApplicationProjection {
     return data == null ? Optional.empty() : Optional.of(hydrate(application, data));
   }
 
-  private List<ApplicationReadModel> hydrate(List<ApplicationReadModel> applications) {
-    List<ApplicationDataId> ids =
-        applications.stream()
-            .map(
-                application ->
-                    new ApplicationDataId(
-                        application.getApplicationId(), application.getApplicationDataVersion()))
-            .toList();
-    Map<ApplicationDataId, ApplicationDataPayload> dataById = applicationDataStore.getAll(ids);
-    return applications.stream()
-        .map(
-            application -> {
-              ApplicationDataId id =
-                  new ApplicationDataId(
-                      application.getApplicationId(), application.getApplicationDataVersion());
-              ApplicationDataPayload data = dataById.get(id);
-              return data == null ? null : hydrate(application, data);
-            })
-        .filter(Objects::nonNull)
-        .toList();
-  }
-
   private ApplicationReadModel hydrate(
       ApplicationReadModel application, ApplicationDataPayload data) {
     application.setLaaReference(data.laaReference());
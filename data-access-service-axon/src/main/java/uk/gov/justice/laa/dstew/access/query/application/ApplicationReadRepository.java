@@ -1,6 +1,5 @@
 package uk.gov.justice.laa.dstew.access.query.application;
 
-import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -8,7 +7,4 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 /** Persistence interface for the current Application projection. */
 public interface ApplicationReadRepository
     extends JpaRepository<ApplicationReadModel, UUID>,
-        JpaSpecificationExecutor<ApplicationReadModel> {
-
-  List<ApplicationReadModel> findAllByStatus(String status);
-}
+        JpaSpecificationExecutor<ApplicationReadModel> {}
@@ -2,5 +2,23 @@ package uk.gov.justice.laa.dstew.access.query.application;
 
 import java.time.Instant;
 
-/** Finds assessment-eligible Applications submitted before an operational threshold. */
-public record FindStalledAssessmentsQuery(Instant submittedBefore) {}
+/**
+ * Finds assessment-eligible Applications submitted before an operational threshold.
+ *
+ * @param submittedBefore only Applications submitted before this instant are returned
+ * @param limit the maximum number of Applications to return, oldest first, or {@code null} to
+ *     return all of them
+ */
+public record FindStalledAssessmentsQuery(Instant submittedBefore, Integer limit) {
+
+  public FindStalledAssessmentsQuery {
+    if (limit != null && limit < 1) {
+      throw new IllegalArgumentException("limit must be positive");
+    }
+  }
+
+  /** Finds every Application submitted before the threshold. */
+  public FindStalledAssessmentsQuery(Instant submittedBefore) {
+    this(submittedBefore, null);
+  }
+}
@@ -2,8 +2,13 @@ package uk.gov.justice.laa.dstew.access.query.application;
 
 import java.util.List;
 
-/** Reconciliation query result containing no Application content or personal data. */
-public record StalledAssessments(List<StalledAssessment> applications) {
+/**
+ * Reconciliation query result containing no Application content or personal data.
+ *
+ * @param applications the matching Applications, oldest first, up to the query's limit
+ * @param total the number of matching Applications, including any beyond the limit
+ */
+public record StalledAssessments(List<StalledAssessment> applications, long total) {
 
   public StalledAssessments {
     applications = List.copyOf(applications);
@@ -1,11 +1,18 @@
 package uk.gov.justice.laa.dstew.access.query.application.linkedgroup;
 
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import org.axonframework.messaging.core.Context.ResourceKey;
 import org.axonframework.messaging.core.annotation.Namespace;
+import org.axonframework.messaging.core.unitofwork.ProcessingContext;
 import org.axonframework.messaging.eventhandling.annotation.EventHandler;
 import org.axonframework.messaging.eventhandling.replay.annotation.ResetHandler;
 import org.springframework.stereotype.Component;
 import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupCreatedEvent;
 import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.MemberAddedToGroupEvent;
+import uk.gov.justice.laa.dstew.access.query.JpaProjectionRowStore;
+import uk.gov.justice.laa.dstew.access.query.ProjectionBatch;
+import uk.gov.justice.laa.dstew.access.query.ProjectionRowStore;
 
 /**
  * Independently replayable projection of the current state of each linked application group.
@@ -13,16 +20,26 @@ import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.MemberAdd
  * <p>Owns only {@code linked_application_group_current_state}. Group membership is queried directly
  * from this table; {@code isLead} is derived at read time from {@code leadApplicationId}, not
  * denormalised onto {@code application_current_state}.
+ *
+ * <p>Changes are staged in a {@link ProjectionBatch} and written once per processed batch.
  */
 @Component
 @Namespace("linked-application-group-projection")
 public class LinkedApplicationGroupProjection {
 
+  private static final ResourceKey<ProjectionBatch<LinkedApplicationGroupReadModel>> BATCH =
+      ResourceKey.withLabel("linked-application-group-projection-batch");
+
   private final LinkedApplicationGroupReadRepository groupReadRepository;
+  private final ProjectionRowStore<LinkedApplicationGroupReadModel> rowStore;
 
   public LinkedApplicationGroupProjection(
-      LinkedApplicationGroupReadRepository groupReadRepository) {
+      LinkedApplicationGroupReadRepository groupReadRepository,
+      EntityManager entityManager) {
     this.groupReadRepository = groupReadRepository;
+    this.rowStore =
+        new JpaProjectionRowStore<>(
+            groupReadRepository, LinkedApplicationGroupReadModel::getGroupId, entityManager);
   }
 
   /**
@@ -31,15 +48,18 @@ public class LinkedApplicationGroupProjection {
    * leadApplicationId} on each member's application read model.
    */
   @EventHandler
-  public void on(LinkedApplicationGroupCreatedEvent event) {
-    groupReadRepository.save(
-        LinkedApplicationGroupReadModel.builder()
-            .groupId(event.groupId())
-            .leadApplicationId(event.leadApplicationId())
-            .memberIds(event.memberApplicationIds())
-            .createdAt(event.occurredAt())
-            .modifiedAt(event.occurredAt())
-            .build());
+  public void on(LinkedApplicationGroupCreatedEvent event, ProcessingContext context) {
+    batch(context)
+        .insert(
+            event.groupId(),
+            () ->
+                LinkedApplicationGroupReadModel.builder()
+                    .groupId(event.groupId())
+                    .leadApplicationId(event.leadApplicationId())
+                    .memberIds(new ArrayList<>(event.memberApplicationIds()))
+                    .createdAt(event.occurredAt())
+                    .modifiedAt(event.occurredAt())
+                    .build());
   }
 
   /**
@@ -47,14 +67,13 @@ public class LinkedApplicationGroupProjection {
    * and updates {@code modifiedAt}.
    */
   @EventHandler
-  public void on(MemberAddedToGroupEvent event) {
-    groupReadRepository
-        .findById(event.groupId())
-        .ifPresent(
+  public void on(MemberAddedToGroupEvent event, ProcessingContext context) {
+    batch(context)
+        .update(
+            event.groupId(),
             group -> {
               group.getMemberIds().add(event.memberId());
               group.setModifiedAt(event.occurredAt());
-              groupReadRepository.save(group);
             });
   }
 
@@ -63,4 +82,8 @@ public class LinkedApplicationGroupProjection {
   public void reset() {
     groupReadRepository.deleteAllInBatch();
   }
+
+  private ProjectionBatch<LinkedApplicationGroupReadModel> batch(ProcessingContext context) {
+    return ProjectionBatch.forContext(context, BATCH, rowStore);
+  }
 }
@@ -1,7 +1,11 @@
 package uk.gov.justice.laa.dstew.access.query.application.listindex;
 
+import jakarta.persistence.EntityManager;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.axonframework.messaging.core.Context.ResourceKey;
 import org.axonframework.messaging.core.annotation.Namespace;
-import org.axonframework.messaging.eventhandling.EventMessage;
+import org.axonframework.messaging.core.unitofwork.ProcessingContext;
 import org.axonframework.messaging.eventhandling.annotation.EventHandler;
 import org.axonframework.messaging.eventhandling.replay.annotation.ResetHandler;
 import org.springframework.stereotype.Component;
@@ -11,85 +15,85 @@ import uk.gov.justice.laa.dstew.access.command.application.ApplicationLinkedEven
 import uk.gov.justice.laa.dstew.access.command.application.AutoGrantedState;
 import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationAssignedToCaseworkerEvent;
 import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationUnassignedFromCaseworkerEvent;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataId;
 import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataPayload;
 import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataStore;
 import uk.gov.justice.laa.dstew.access.command.application.decision.ApplicationDecisionMadeEvent;
 import uk.gov.justice.laa.dstew.access.command.application.note.NoteCreatedEvent;
 import uk.gov.justice.laa.dstew.access.command.application.ready.ApplicationReadyForManualAssessmentEvent;
 import uk.gov.justice.laa.dstew.access.command.application.update.ApplicationUpdatedEvent;
+import uk.gov.justice.laa.dstew.access.query.EventPosition;
+import uk.gov.justice.laa.dstew.access.query.JpaProjectionRowStore;
+import uk.gov.justice.laa.dstew.access.query.ProjectionBatch;
+import uk.gov.justice.laa.dstew.access.query.ProjectionPayloads;
+import uk.gov.justice.laa.dstew.access.query.ProjectionRowStore;
 
 /**
  * Independently replayable tracking projection that maintains {@code application_list_index}.
  *
  * <p>This projection writes PII filter columns ({@code client_first_name}, {@code
  * client_last_name}, {@code client_date_of_birth}) and other filter/sort fields into the index row
- * at event-handling time, reading them once from {@code application_data}. This means the list
- * query can push all filters and paging to the database and only bulk-load {@code application_data}
+ * at event-handling time, reading them from {@code application_data}. This means the list query
+ * can push all filters and paging to the database and only bulk-load {@code application_data}
  * payloads for the page of results returned to the caller.
  *
- * <p>Each event handler reads from {@link ApplicationDataStore} at most once per event. There is no
- * N+1 risk: the query path reads {@code application_data} only for the page, not for every
- * candidate row.
+ * <p>Changes are staged in a {@link ProjectionBatch} and written once per processed batch. The
+ * {@code application_data} versions the batch's events reference are loaded together with one
+ * {@link ApplicationDataStore#getAll} call when the batch is flushed.
  */
 @Component
 @Namespace("application-list-index-projection")
 public class ApplicationListIndexProjection {
 
+  private static final ResourceKey<ProjectionBatch<ApplicationListIndexReadModel>> BATCH =
+      ResourceKey.withLabel("application-list-index-projection-batch");
+  private static final ResourceKey<ProjectionPayloads> PAYLOADS =
+      ResourceKey.withLabel("application-list-index-projection-payloads");
+
   private final ApplicationListIndexReadRepository listIndexRepository;
+  private final ProjectionRowStore<ApplicationListIndexReadModel> rowStore;
   private final ApplicationDataStore applicationDataStore;
 
-  /** Constructs the projection with its repository and data store. */
+  /** Constructs the projection with its repository, data store and entity manager. */
   public ApplicationListIndexProjection(
       ApplicationListIndexReadRepository listIndexRepository,
-      ApplicationDataStore applicationDataStore) {
+      ApplicationDataStore applicationDataStore,
+      EntityManager entityManager) {
     this.listIndexRepository = listIndexRepository;
+    this.rowStore =
+        new JpaProjectionRowStore<>(
+            listIndexRepository, ApplicationListIndexReadModel::getApplicationId, entityManager);
     this.applicationDataStore = applicationDataStore;
   }
 
   /**
    * Inserts the initial index row from an Application's creation event.
    *
-   * <p>Reads the referenced {@code application_data} version once to populate PII filter columns
-   * and filter fields that are not carried on the thin event.
+   * <p>Reads the referenced {@code application_data} version to populate PII filter columns and
+   * filter fields that are not carried on the thin event.
    */
   @EventHandler
-  public void on(ApplicationCreatedEvent event, EventMessage message) {
-    ApplicationDataPayload data =
-        applicationDataStore.get(event.applicationId(), event.applicationDataVersion());
-
-    ApplicationClient client = data.client();
-
-    listIndexRepository.save(
-        ApplicationListIndexReadModel.builder()
-            .applicationId(event.applicationId())
-            .status(event.status())
-            .laaReference(data.laaReference())
-            .caseworkerId(null)
-            .matterType(data.matterType() == null ? null : data.matterType())
-            .autoGranted(AutoGrantedState.PENDING)
-            .submittedAt(data.submittedAt())
-            .modifiedAt(event.occurredAt())
-            .leadApplicationId(event.leadApplicationId())
-            .clientFirstName(client != null ? client.getFirstName() : null)
-            .clientLastName(client != null ? client.getLastName() : null)
-            .clientDateOfBirth(client != null ? client.getDateOfBirth() : null)
-            .streamVersion(0L)
-            .projectionPosition(message.identifier().hashCode())
-            .build());
+  public void on(ApplicationCreatedEvent event, ProcessingContext context) {
+    long position = EventPosition.of(context);
+    ApplicationDataId dataId =
+        new ApplicationDataId(event.applicationId(), event.applicationDataVersion());
+    ProjectionPayloads payloads = payloads(context, dataId);
+    batch(context)
+        .insert(event.applicationId(), () -> newRow(event, position, payloads.get(dataId)));
   }
 
   /** Updates the {@code lead_application_id} when an application is linked to a group. */
   @EventHandler
-  public void on(ApplicationLinkedEvent event, EventMessage message) {
-    listIndexRepository
-        .findById(event.applicationId())
-        .ifPresent(
-            row -> {
-              row.setLeadApplicationId(event.leadApplicationId());
-              row.setModifiedAt(event.occurredAt());
-              row.setProjectionPosition(message.identifier().hashCode());
-              listIndexRepository.save(row);
-            });
+  public void on(ApplicationLinkedEvent event, ProcessingContext context) {
+    long position = EventPosition.of(context);
+    update(
+        context,
+        event.applicationId(),
+        row -> {
+          row.setLeadApplicationId(event.leadApplicationId());
+          row.setModifiedAt(event.occurredAt());
+          row.setProjectionPosition(position);
+        });
   }
 
   /**
@@ -97,89 +101,91 @@ public class ApplicationListIndexProjection {
    * made.
    */
   @EventHandler
-  public void on(ApplicationDecisionMadeEvent event, EventMessage message) {
-    listIndexRepository
-        .findById(event.applicationId())
-        .ifPresent(
-            row -> {
-              row.setStatus(
-                  event.overallDecision() != null ? event.overallDecision() : row.getStatus());
-              row.setAutoGranted(event.autoGranted());
-              row.setStreamVersion(event.applicationVersion());
-              row.setModifiedAt(event.occurredAt());
-              row.setProjectionPosition(message.identifier().hashCode());
-              listIndexRepository.save(row);
-            });
+  public void on(ApplicationDecisionMadeEvent event, ProcessingContext context) {
+    long position = EventPosition.of(context);
+    update(
+        context,
+        event.applicationId(),
+        row -> {
+          row.setStatus(
+              event.overallDecision() != null ? event.overallDecision() : row.getStatus());
+          row.setAutoGranted(event.autoGranted());
+          row.setStreamVersion(event.applicationVersion());
+          row.setModifiedAt(event.occurredAt());
+          row.setProjectionPosition(position);
+        });
   }
 
   /** Records that automatic assessment completed with a manual-assessment outcome. */
   @EventHandler
-  public void on(ApplicationReadyForManualAssessmentEvent event, EventMessage message) {
-    listIndexRepository
-        .findById(event.applicationId())
-        .ifPresent(
-            row -> {
-              row.setAutoGranted(AutoGrantedState.MANUAL);
-              row.setStreamVersion(event.applicationVersion());
-              row.setModifiedAt(event.occurredAt());
-              row.setProjectionPosition(message.identifier().hashCode());
-              listIndexRepository.save(row);
-            });
+  public void on(ApplicationReadyForManualAssessmentEvent event, ProcessingContext context) {
+    long position = EventPosition.of(context);
+    update(
+        context,
+        event.applicationId(),
+        row -> {
+          row.setAutoGranted(AutoGrantedState.MANUAL);
+          row.setStreamVersion(event.applicationVersion());
+          row.setModifiedAt(event.occurredAt());
+          row.setProjectionPosition(position);
+        });
   }
 
   /** Refreshes filter and sort fields from the new immutable application-data version. */
   @EventHandler
-  public void on(ApplicationUpdatedEvent event, EventMessage message) {
-    listIndexRepository
-        .findById(event.applicationId())
-        .ifPresent(
-            row -> {
-              ApplicationDataPayload data =
-                  applicationDataStore.get(event.applicationId(), event.applicationDataVersion());
-              ApplicationClient client = data.client();
-              row.setStatus(event.status());
-              row.setLaaReference(data.laaReference());
-              row.setMatterType(data.matterType() == null ? null : data.matterType());
-              row.setAutoGranted(data.autoGranted());
-              row.setSubmittedAt(data.submittedAt());
-              row.setClientFirstName(client != null ? client.getFirstName() : null);
-              row.setClientLastName(client != null ? client.getLastName() : null);
-              row.setClientDateOfBirth(client != null ? client.getDateOfBirth() : null);
-              row.setStreamVersion(event.applicationVersion());
-              row.setModifiedAt(event.occurredAt());
-              row.setProjectionPosition(message.identifier().hashCode());
-              listIndexRepository.save(row);
-            });
+  public void on(ApplicationUpdatedEvent event, ProcessingContext context) {
+    long position = EventPosition.of(context);
+    ApplicationDataId dataId =
+        new ApplicationDataId(event.applicationId(), event.applicationDataVersion());
+    ProjectionPayloads payloads = payloads(context, dataId);
+    update(
+        context,
+        event.applicationId(),
+        row -> {
+          ApplicationDataPayload data = payloads.get(dataId);
+          ApplicationClient client = data.client();
+          row.setStatus(event.status());
+          row.setLaaReference(data.laaReference());
+          row.setMatterType(data.matterType() == null ? null : data.matterType());
+          row.setAutoGranted(data.autoGranted());
+          row.setSubmittedAt(data.submittedAt());
+          row.setClientFirstName(client != null ? client.getFirstName() : null);
+          row.setClientLastName(client != null ? client.getLastName() : null);
+          row.setClientDateOfBirth(client != null ? client.getDateOfBirth() : null);
+          row.setStreamVersion(event.applicationVersion());
+          row.setModifiedAt(event.occurredAt());
+          row.setProjectionPosition(position);
+        });
   }
 
   /** Updates {@code caseworker_id} and {@code stream_version} when a caseworker is assigned. */
   @EventHandler
-  public void on(ApplicationAssignedToCaseworkerEvent event, EventMessage message) {
-    listIndexRepository
-        .findById(event.applicationId())
-        .ifPresent(
-            row -> {
-              row.setCaseworkerId(event.caseworkerId());
-              row.setStreamVersion(event.applicationVersion());
-              row.setModifiedAt(event.occurredAt());
-              row.setProjectionPosition(message.identifier().hashCode());
-              listIndexRepository.save(row);
-            });
+  public void on(ApplicationAssignedToCaseworkerEvent event, ProcessingContext context) {
+    long position = EventPosition.of(context);
+    update(
+        context,
+        event.applicationId(),
+        row -> {
+          row.setCaseworkerId(event.caseworkerId());
+          row.setStreamVersion(event.applicationVersion());
+          row.setModifiedAt(event.occurredAt());
+          row.setProjectionPosition(position);
+        });
   }
 
   /** Clears {@code caseworker_id} and updates {@code stream_version} on unassignment. */
   @EventHandler
-  public void on(ApplicationUnassignedFromCaseworkerEvent event, EventMessage message) {
-    listIndexRepository
-        .findById(event.applicationId())
-        .ifPresent(
-            row -> {
-              row.setCaseworkerId(null);
-              row.setStreamVersion(event.applicationVersion());
-              row.setModifiedAt(event.occurredAt());
-              row.setProjectionPosition(message.identifier().hashCode());
-              listIndexRepository.save(row);
-            });
+  public void on(ApplicationUnassignedFromCaseworkerEvent event, ProcessingContext context) {
+    long position = EventPosition.of(context);
+    update(
+        context,
+        event.applicationId(),
+        row -> {
+          row.setCaseworkerId(null);
+          row.setStreamVersion(event.applicationVersion());
+          row.setModifiedAt(event.occurredAt());
+          row.setProjectionPosition(position);
+        });
   }
 
   /**
@@ -189,15 +195,15 @@ public class ApplicationListIndexProjection {
    * bookkeeping column is updated.
    */
   @EventHandler
-  public void on(NoteCreatedEvent event, EventMessage message) {
-    listIndexRepository
-        .findById(event.applicationId())
-        .ifPresent(
-            row -> {
-              row.setModifiedAt(event.occurredAt());
-              row.setProjectionPosition(message.identifier().hashCode());
-              listIndexRepository.save(row);
-            });
+  public void on(NoteCreatedEvent event, ProcessingContext context) {
+    long position = EventPosition.of(context);
+    update(
+        context,
+        event.applicationId(),
+        row -> {
+          row.setModifiedAt(event.occurredAt());
+          row.setProjectionPosition(position);
+        });
   }
 
   /** Clears the disposable index table before replay. */
@@ -205,4 +211,42 @@ public class ApplicationListIndexProjection {
   public void reset() {
     listIndexRepository.deleteAllInBatch();
   }
+
+  private static ApplicationListIndexReadModel newRow(
+      ApplicationCreatedEvent event, long position, ApplicationDataPayload data) {
+    ApplicationClient client = data.client();
+    return ApplicationListIndexReadModel.builder()
+        .applicationId(event.applicationId())
+        .status(event.status())
+        .laaReference(data.laaReference())
+        .caseworkerId(null)
+        .matterType(data.matterType() == null ? null : data.matterType())
+        .autoGranted(AutoGrantedState.PENDING)
+        .submittedAt(data.submittedAt())
+        .modifiedAt(event.occurredAt())
+        .leadApplicationId(event.leadApplicationId())
+        .clientFirstName(client != null ? client.getFirstName() : null)
+        .clientLastName(client != null ? client.getLastName() : null)
+        .clientDateOfBirth(client != null ? client.getDateOfBirth() : null)
+        .streamVersion(0L)
+        .projectionPosition(position)
+        .build();
+  }
+
+  private void update(
+      ProcessingContext context,
+      UUID applicationId,
+      Consumer<ApplicationListIndexReadModel> change) {
+    batch(context).update(applicationId, change);
+  }
+
+  private ProjectionBatch<ApplicationListIndexReadModel> batch(ProcessingContext context) {
+    return ProjectionBatch.forContext(context, BATCH, rowStore);
+  }
+
+  /** Registers a data version to load with the rest of the batch's payloads. */
+  private ProjectionPayloads payloads(ProcessingContext context, ApplicationDataId id) {
+    return ProjectionPayloads.forBatch(context, PAYLOADS, batch(context), applicationDataStore)
+        .require(id);
+  }
 }
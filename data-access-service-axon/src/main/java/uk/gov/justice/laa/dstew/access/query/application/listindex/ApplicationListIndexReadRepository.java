@@ -1,10 +1,48 @@
 package uk.gov.justice.laa.dstew.access.query.application.listindex;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import uk.gov.justice.laa.dstew.access.query.application.StalledAssessment;
 
-/** Persistence interface for the {@code application_list_index} projection. */
+/**
+ * Persistence interface for the {@code application_list_index} projection.
+ *
+ * <p>The stalled-assessment queries keep the submitted status and pending outcome as literals so
+ * that PostgreSQL can match them to the partial {@code idx_ali_pending_assessment} index created
+ * by the V9 migration, including under generic prepared-statement plans.
+ */
 public interface ApplicationListIndexReadRepository
     extends JpaRepository<ApplicationListIndexReadModel, UUID>,
-        JpaSpecificationExecutor<ApplicationListIndexReadModel> {}
+        JpaSpecificationExecutor<ApplicationListIndexReadModel> {
+
+  /** Returns submitted Applications still awaiting automatic assessment, oldest first. */
+  @Query(
+      """
+      SELECT new uk.gov.justice.laa.dstew.access.query.application.StalledAssessment(
+          i.applicationId, i.streamVersion, i.submittedAt)
+      FROM ApplicationListIndexReadModel i
+      WHERE i.status = 'APPLICATION_SUBMITTED'
+        AND i.autoGranted = PENDING
+        AND i.submittedAt < :submittedBefore
+      ORDER BY i.submittedAt, i.applicationId
+      """)
+  List<StalledAssessment> findStalledAssessments(
+      @Param("submittedBefore") Instant submittedBefore, Limit limit);
+
+  /** Counts submitted Applications still awaiting automatic assessment. */
+  @Query(
+      """
+      SELECT COUNT(i)
+      FROM ApplicationListIndexReadModel i
+      WHERE i.status = 'APPLICATION_SUBMITTED'
+        AND i.autoGranted = PENDING
+        AND i.submittedAt < :submittedBefore
+      """)
+  long countStalledAssessments(@Param("submittedBefore") Instant submittedBefore);
+}
@@ -1,11 +1,15 @@
 package uk.gov.justice.laa.dstew.access.query.individual;
 
+import java.util.List;
 import uk.gov.justice.laa.dstew.access.applicationcontent.ApplicationClient;
 
-/** Paginated individuals query result with client details from application data. */
+/**
+ * Page of clients matching an individuals query. Without client details only the name and date of
+ * birth of each client are returned.
+ */
 public record FindIndividualsResult(
-    ApplicationClient client,
+    List<ApplicationClient> clients,
     int page,
     int pageSize,
-    int totalRecords,
+    long totalRecords,
     boolean includeClientDetails) {}
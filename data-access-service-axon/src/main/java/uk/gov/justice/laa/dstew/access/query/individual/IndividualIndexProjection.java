@@ -0,0 +1,108 @@
+package uk.gov.justice.laa.dstew.access.query.individual;
+
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.UUID;
+import org.axonframework.messaging.core.Context.ResourceKey;
+import org.axonframework.messaging.core.annotation.Namespace;
+import org.axonframework.messaging.core.unitofwork.ProcessingContext;
+import org.axonframework.messaging.eventhandling.annotation.EventHandler;
+import org.axonframework.messaging.eventhandling.replay.annotation.ResetHandler;
+import org.springframework.stereotype.Component;
+import uk.gov.justice.laa.dstew.access.applicationcontent.ApplicationClient;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataId;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataStore;
+import uk.gov.justice.laa.dstew.access.command.application.update.ApplicationUpdatedEvent;
+import uk.gov.justice.laa.dstew.access.query.EventPosition;
+import uk.gov.justice.laa.dstew.access.query.JpaProjectionRowStore;
+import uk.gov.justice.laa.dstew.access.query.ProjectionBatch;
+import uk.gov.justice.laa.dstew.access.query.ProjectionPayloads;
+
+/**
+ * Independently replayable tracking projection that maintains {@code individual_index}.
+ *
+ * <p>The client of each application is read from the {@code application_data} version its
+ * creation or update event references. Applications without a client have no row, and an update
+ * that removes the client removes the row.
+ */
+@Component
+@Namespace("individual-index-projection")
+public class IndividualIndexProjection {
+
+  private static final ResourceKey<ProjectionBatch<IndividualIndexReadModel>> BATCH =
+      ResourceKey.withLabel("individual-index-projection-batch");
+  private static final ResourceKey<ProjectionPayloads> PAYLOADS =
+      ResourceKey.withLabel("individual-index-projection-payloads");
+
+  private final IndividualIndexReadRepository individualIndexRepository;
+  private final JpaProjectionRowStore<IndividualIndexReadModel> rowStore;
+  private final ApplicationDataStore applicationDataStore;
+
+  /** Constructs the projection with its repository, data store and entity manager. */
+  public IndividualIndexProjection(
+      IndividualIndexReadRepository individualIndexRepository,
+      ApplicationDataStore applicationDataStore,
+      EntityManager entityManager) {
+    this.individualIndexRepository = individualIndexRepository;
+    this.rowStore =
+        new JpaProjectionRowStore<>(
+            individualIndexRepository, IndividualIndexReadModel::getIndividualId, entityManager);
+    this.applicationDataStore = applicationDataStore;
+  }
+
+  /** Indexes the client of a newly created application. */
+  @EventHandler
+  public void on(ApplicationCreatedEvent event, ProcessingContext context) {
+    indexClient(
+        context, event.applicationId(), event.applicationDataVersion(), event.occurredAt());
+  }
+
+  /** Re-indexes the client from the application's new immutable data version. */
+  @EventHandler
+  public void on(ApplicationUpdatedEvent event, ProcessingContext context) {
+    indexClient(
+        context, event.applicationId(), event.applicationDataVersion(), event.occurredAt());
+  }
+
+  /** Clears the disposable index table before replay. */
+  @ResetHandler
+  public void reset() {
+    individualIndexRepository.deleteAllInBatch();
+  }
+
+  /**
+   * Replaces the client row of an application with the client in the given data version, or
+   * removes it when that version has no client.
+   */
+  private void indexClient(
+      ProcessingContext context, UUID applicationId, long dataVersion, Instant occurredAt) {
+    long position = EventPosition.of(context);
+    ApplicationDataId dataId = new ApplicationDataId(applicationId, dataVersion);
+    ProjectionBatch<IndividualIndexReadModel> batch = batch(context);
+    ProjectionPayloads payloads =
+        ProjectionPayloads.forBatch(context, PAYLOADS, batch, applicationDataStore).require(dataId);
+    UUID individualId = IndividualIndexReadModel.clientId(applicationId);
+    batch.insert(
+        individualId,
+        () -> {
+          ApplicationClient client = payloads.get(dataId).client();
+          return client == null
+              ? null
+              : IndividualIndexReadModel.builder()
+                  .individualId(individualId)
+                  .applicationId(applicationId)
+                  .individualType(IndividualIndexReadModel.CLIENT)
+                  .firstName(client.getFirstName())
+                  .lastName(client.getLastName())
+                  .dateOfBirth(client.getDateOfBirth())
+                  .modifiedAt(occurredAt)
+                  .projectionPosition(position)
+                  .build();
+        });
+  }
+
+  private ProjectionBatch<IndividualIndexReadModel> batch(ProcessingContext context) {
+    return ProjectionBatch.forContext(context, BATCH, rowStore);
+  }
+}
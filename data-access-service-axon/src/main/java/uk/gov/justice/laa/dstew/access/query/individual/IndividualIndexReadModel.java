@@ -0,0 +1,71 @@
+package uk.gov.justice.laa.dstew.access.query.individual;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Replayable index of the individuals linked to each application, used for filtering, counting,
+ * and paging the {@code GET /individuals} endpoint.
+ *
+ * <p>Only the fields returned without {@code CLIENT_DETAILS} are stored here. Client details are
+ * read from the application's current {@code application_data} version for the result page only.
+ */
+@Entity
+@Table(name = "individual_index")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndividualIndexReadModel {
+
+  /** The {@code individual_type} of an application's client. */
+  public static final String CLIENT = "CLIENT";
+
+  /**
+   * Identifies the individual within this index. Derived from the application and individual type
+   * so that a replay rebuilds the same identifiers.
+   */
+  @Id
+  @Column(name = "individual_id")
+  private UUID individualId;
+
+  @Column(name = "application_id", nullable = false)
+  private UUID applicationId;
+
+  @Column(name = "individual_type", nullable = false)
+  private String individualType;
+
+  @Column(name = "first_name")
+  private String firstName;
+
+  @Column(name = "last_name")
+  private String lastName;
+
+  @Column(name = "date_of_birth")
+  private LocalDate dateOfBirth;
+
+  @Column(name = "modified_at", nullable = false)
+  private Instant modifiedAt;
+
+  /**
+   * The Axon global event index at which this row was last written. Used to measure projection lag
+   * relative to {@code domain_event_entry.global_index}.
+   */
+  @Column(name = "projection_position", nullable = false)
+  private long projectionPosition;
+
+  /** Returns the identifier of the client linked to an application. */
+  public static UUID clientId(UUID applicationId) {
+    return UUID.nameUUIDFromBytes((CLIENT + ":" + applicationId).getBytes(StandardCharsets.UTF_8));
+  }
+}
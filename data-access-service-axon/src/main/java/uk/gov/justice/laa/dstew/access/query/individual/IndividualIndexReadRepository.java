@@ -0,0 +1,10 @@
+package uk.gov.justice.laa.dstew.access.query.individual;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/** Persistence interface for the {@code individual_index} projection. */
+public interface IndividualIndexReadRepository
+    extends JpaRepository<IndividualIndexReadModel, UUID>,
+        JpaSpecificationExecutor<IndividualIndexReadModel> {}
@@ -0,0 +1,33 @@
+package uk.gov.justice.laa.dstew.access.query.individual;
+
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Builds a JPA {@link Specification} from a {@link FindIndividualsQuery}.
+ *
+ * <p>Every non-null filter becomes a database predicate, so filtering and counting happen in
+ * PostgreSQL before any rows are returned to the application.
+ */
+public final class IndividualIndexSpecification {
+
+  private IndividualIndexSpecification() {}
+
+  /** Returns a {@link Specification} that applies every non-null filter in the query. */
+  public static Specification<IndividualIndexReadModel> from(FindIndividualsQuery query) {
+    return (root, criteriaQuery, cb) -> {
+      List<Predicate> predicates = new ArrayList<>();
+
+      if (query.applicationId() != null) {
+        predicates.add(cb.equal(root.get("applicationId"), query.applicationId()));
+      }
+      if (query.individualType() != null) {
+        predicates.add(cb.equal(root.get("individualType"), query.individualType()));
+      }
+
+      return cb.and(predicates.toArray(new Predicate[0]));
+    };
+  }
+}
@@ -1,10 +1,11 @@
 package uk.gov.justice.laa.dstew.access.query.individual;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.UUID;
 import org.axonframework.messaging.queryhandling.annotation.QueryHandler;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import uk.gov.justice.laa.dstew.access.applicationcontent.ApplicationClient;
 import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataId;
@@ -13,52 +14,83 @@ import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataS
 import uk.gov.justice.laa.dstew.access.query.application.ApplicationReadModel;
 import uk.gov.justice.laa.dstew.access.query.application.ApplicationReadRepository;
 
-/** Handles individual searches over the current immutable data version of each application. */
+/**
+ * Handles individual searches. Searches across applications use the {@code individual_index}
+ * projection; a search for one application reads its current data version directly.
+ */
 @Component
 public class IndividualsQueryHandler {
 
+  private static final Sort PAGE_ORDER = Sort.by("lastName", "firstName", "individualId");
+
+  private final IndividualIndexReadRepository individualIndexRepository;
   private final ApplicationReadRepository applicationRepository;
   private final ApplicationDataStore applicationDataStore;
 
   public IndividualsQueryHandler(
-      ApplicationReadRepository applicationRepository, ApplicationDataStore applicationDataStore) {
+      IndividualIndexReadRepository individualIndexRepository,
+      ApplicationReadRepository applicationRepository,
+      ApplicationDataStore applicationDataStore) {
+    this.individualIndexRepository = individualIndexRepository;
     this.applicationRepository = applicationRepository;
     this.applicationDataStore = applicationDataStore;
   }
 
-  /** Returns current client after applying application and type filters. */
+  /**
+   * Returns a page of clients after applying application and type filters.
+   *
+   * <p>Without an application filter, filtering, counting, and paging are pushed to the database
+   * via {@code individual_index}. That index is filled by its own processor after the application
+   * is created, so searches for one application read the current data version instead and see the
+   * client as soon as the creation has been acknowledged.
+   */
   @QueryHandler
   public FindIndividualsResult handle(FindIndividualsQuery query) {
-    // If type filter is not CLIENT, return empty
-    if (query.individualType() != null && !"CLIENT".equals(query.individualType())) {
-      return new FindIndividualsResult(null, query.page(), query.pageSize(), 0, false);
+    if (query.applicationId() != null) {
+      return applicationClient(query);
     }
+    Pageable pageable = PageRequest.of(Math.max(0, query.page() - 1), query.pageSize(), PAGE_ORDER);
+    Page<IndividualIndexReadModel> indexPage =
+        individualIndexRepository.findAll(IndividualIndexSpecification.from(query), pageable);
+    return new FindIndividualsResult(
+        indexPage.getContent().stream().map(IndividualsQueryHandler::summary).toList(),
+        query.page(),
+        query.pageSize(),
+        indexPage.getTotalElements(),
+        query.includeClientDetails());
+  }
 
-    List<ApplicationReadModel> applications = findApplications(query.applicationId());
-    List<ApplicationDataId> dataIds =
-        applications.stream()
-            .map(
-                application ->
-                    new ApplicationDataId(
-                        application.getApplicationId(), application.getApplicationDataVersion()))
-            .toList();
-    Map<ApplicationDataId, ApplicationDataPayload> payloads = applicationDataStore.getAll(dataIds);
-
-    ApplicationClient client =
-        payloads.values().stream()
-            .map(ApplicationDataPayload::client)
-            .filter(Objects::nonNull)
-            .findFirst()
-            .orElse(null);
-
-    int totalRecords = client != null ? 1 : 0;
+  /** Returns the client in the application's current data version, if the type filter allows. */
+  private FindIndividualsResult applicationClient(FindIndividualsQuery query) {
+    ApplicationClient client = null;
+    if (query.individualType() == null
+        || IndividualIndexReadModel.CLIENT.equals(query.individualType())) {
+      client =
+          applicationRepository
+              .findById(query.applicationId())
+              .map(this::currentData)
+              .map(ApplicationDataPayload::client)
+              .orElse(null);
+    }
+    long totalRecords = client != null ? 1 : 0;
+    List<ApplicationClient> clients =
+        client != null && query.page() == 1 ? List.of(client) : List.of();
     return new FindIndividualsResult(
-        client, query.page(), query.pageSize(), totalRecords, query.includeClientDetails());
+        clients, query.page(), query.pageSize(), totalRecords, query.includeClientDetails());
+  }
+
+  private ApplicationDataPayload currentData(ApplicationReadModel application) {
+    ApplicationDataId dataId =
+        new ApplicationDataId(
+            application.getApplicationId(), application.getApplicationDataVersion());
+    return applicationDataStore.getAll(List.of(dataId)).get(dataId);
   }
 
-  private List<ApplicationReadModel> findApplications(UUID applicationId) {
-    return applicationId == null
-        ? applicationRepository.findAll()
-        : applicationRepository.findById(applicationId).stream().toList();
+  private static ApplicationClient summary(IndividualIndexReadModel row) {
+    return ApplicationClient.builder()
+        .firstName(row.getFirstName())
+        .lastName(row.getLastName())
+        .dateOfBirth(row.getDateOfBirth())
+        .build();
   }
 }
@@ -0,0 +1,13 @@
+-- Small commands (notes, assignments, decisions) store a typed delta against the previous
+-- version instead of a full payload copy. Existing rows all have a payload and are checkpoints,
+-- so no data is rewritten; the append-only triggers stay in place.
+ALTER TABLE application_data
+    ALTER COLUMN payload DROP NOT NULL,
+    ADD COLUMN delta JSONB,
+    ADD CONSTRAINT application_data_payload_or_delta
+        CHECK ((payload IS NULL) <> (delta IS NULL));
+
+-- Finds the nearest checkpoint at or below a version when rebuilding it.
+CREATE INDEX application_data_checkpoint_idx
+    ON application_data (application_id, version)
+    WHERE payload IS NOT NULL;
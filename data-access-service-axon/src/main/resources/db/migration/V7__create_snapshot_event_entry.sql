@@ -0,0 +1,16 @@
+-- Aggregate snapshots, in the layout Axon's aggregate-based JPA storage expects alongside
+-- domain_event_entry. Only the latest snapshot of an aggregate is read; older ones are kept
+-- until pruned and can be deleted at any time.
+CREATE TABLE snapshot_event_entry (
+    aggregate_identifier VARCHAR(255) NOT NULL,
+    sequence_number BIGINT NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    event_identifier VARCHAR(255) NOT NULL,
+    meta_data BYTEA,
+    payload BYTEA NOT NULL,
+    payload_revision VARCHAR(255),
+    payload_type VARCHAR(255) NOT NULL,
+    time_stamp VARCHAR(255) NOT NULL,
+    PRIMARY KEY (aggregate_identifier, sequence_number, type),
+    CONSTRAINT uk_snapshot_event_identifier UNIQUE (event_identifier)
+);
@@ -0,0 +1,21 @@
+-- One row per individual linked to an application, so individual searches can filter, count and
+-- page in SQL instead of reading every application's data.
+CREATE TABLE individual_index (
+    individual_id        UUID         NOT NULL,
+    application_id       UUID         NOT NULL,
+    individual_type      VARCHAR(32)  NOT NULL,
+    first_name           VARCHAR(255),
+    last_name            VARCHAR(255),
+    date_of_birth        DATE,
+    modified_at          TIMESTAMPTZ  NOT NULL,
+    projection_position  BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (individual_id)
+);
+
+-- Individuals of one application
+CREATE INDEX idx_ii_application ON individual_index (application_id);
+
+-- Page order, unfiltered and filtered by type
+CREATE INDEX idx_ii_name ON individual_index (last_name, first_name, individual_id);
+CREATE INDEX idx_ii_type_name
+    ON individual_index (individual_type, last_name, first_name, individual_id);
@@ -0,0 +1,7 @@
+-- Submitted applications still awaiting automatic assessment, oldest first. Only pending rows are
+-- indexed, so the index stays as small as the assessment backlog, and the included version lets
+-- reconciliation read everything it reports from the index alone.
+CREATE INDEX idx_ali_pending_assessment
+    ON application_list_index (submitted_at, application_id)
+    INCLUDE (stream_version)
+    WHERE status = 'APPLICATION_SUBMITTED' AND auto_granted = 'PENDING';
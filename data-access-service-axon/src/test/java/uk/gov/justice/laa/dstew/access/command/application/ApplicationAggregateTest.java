@@ -186,7 +186,8 @@ class ApplicationAggregateTest {
     ApplicationCreatedEvent created = applicationCreatedEvent(applicationId, details);
     ApplicationDataPayload current = ApplicationDataPayload.from(details);
     when(applicationDataStore.get(applicationId, 0L)).thenReturn(current);
-    when(applicationDataStore.append(any(), anyLong(), any(), any(), any())).thenReturn("hash");
+    when(applicationDataStore.append(any(), anyLong(), any(), any(), any(), any()))
+        .thenReturn("hash");
 
     fixture
         .given()
@@ -217,7 +218,7 @@ class ApplicationAggregateTest {
     ApplicationCreationDetails details = detailsWithProceeding(applicationId, proceedingId);
     when(applicationDataStore.get(applicationId, 0L))
         .thenReturn(ApplicationDataPayload.from(details));
-    when(applicationDataStore.append(any(), anyLong(), any(), any(), any()))
+    when(applicationDataStore.append(any(), anyLong(), any(), any(), any(), any()))
         .thenThrow(new IllegalStateException("application data unavailable"));
 
     fixture
@@ -239,7 +240,8 @@ class ApplicationAggregateTest {
     ApplicationCreationDetails details = detailsWithProceeding(applicationId, proceedingId);
     ApplicationDataPayload current = ApplicationDataPayload.from(details);
     when(applicationDataStore.get(applicationId, 1L)).thenReturn(current);
-    when(applicationDataStore.append(any(), anyLong(), any(), any(), any())).thenReturn("hash");
+    when(applicationDataStore.append(any(), anyLong(), any(), any(), any(), any()))
+        .thenReturn("hash");
 
     fixture
         .given()
@@ -474,7 +476,8 @@ class ApplicationAggregateTest {
     ApplicationCreationDetails details = applicationCreationDetails(applicationId);
     when(applicationDataStore.get(applicationId, 0L))
         .thenReturn(ApplicationDataPayload.from(details));
-    when(applicationDataStore.append(any(), anyLong(), any(), any(), any())).thenReturn("hash");
+    when(applicationDataStore.append(any(), anyLong(), any(), any(), any(), any()))
+        .thenReturn("hash");
 
     fixture
         .given()
@@ -502,7 +505,8 @@ class ApplicationAggregateTest {
     ApplicationCreationDetails details = applicationCreationDetails(applicationId);
     when(applicationDataStore.get(applicationId, 1L))
         .thenReturn(ApplicationDataPayload.from(details).withAssignment("Assigned"));
-    when(applicationDataStore.append(any(), anyLong(), any(), any(), any())).thenReturn("hash");
+    when(applicationDataStore.append(any(), anyLong(), any(), any(), any(), any()))
+        .thenReturn("hash");
 
     fixture
         .given()
@@ -662,7 +666,8 @@ class ApplicationAggregateTest {
     ApplicationDataPayload currentPayload =
         ApplicationDataPayload.from(applicationCreationDetails(applicationId));
     when(applicationDataStore.get(applicationId, 0L)).thenReturn(currentPayload);
-    when(applicationDataStore.append(any(), anyLong(), any(), any(), any())).thenReturn("hash");
+    when(applicationDataStore.append(any(), anyLong(), any(), any(), any(), any()))
+        .thenReturn("hash");
 
     fixture
         .given()
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uk.gov.justice.laa.dstew.access.command.RetryingCommandDispatcher;
@@ -34,9 +35,9 @@ class CreateApplicationUseCaseTest {
   void givenProjectionConfirmed_whenExecute_thenReturnsTrue() {
     CreateApplicationCommand command = stubCommand();
     when(projectionGateway.awaitProjection(any(), eq(ApplicationReadModel.class), any()))
-        .thenReturn(true);
+        .thenReturn(CompletableFuture.completedFuture(true));
 
-    boolean result = useCase.execute(command);
+    boolean result = useCase.execute(command).join();
 
     assertThat(result).isTrue();
     verify(projectionGateway)
@@ -50,9 +51,9 @@ class CreateApplicationUseCaseTest {
   void givenProjectionTimeout_whenExecute_thenReturnsFalse() {
     CreateApplicationCommand command = stubCommand();
     when(projectionGateway.awaitProjection(any(), eq(ApplicationReadModel.class), any()))
-        .thenReturn(false);
+        .thenReturn(CompletableFuture.completedFuture(false));
 
-    boolean result = useCase.execute(command);
+    boolean result = useCase.execute(command).join();
 
     assertThat(result).isFalse();
   }
@@ -64,7 +65,7 @@ class CreateApplicationUseCaseTest {
             invocation -> {
               Runnable action = invocation.getArgument(2);
               action.run();
-              return true;
+              return CompletableFuture.completedFuture(true);
             })
         .when(projectionGateway)
         .awaitProjection(any(), eq(ApplicationReadModel.class), any());
@@ -0,0 +1,90 @@
+package uk.gov.justice.laa.dstew.access.command.application.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture.applicationCreationDetails;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+class ApplicationDataCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void givenLookups_whenScraped_thenReportsHitsMissesAndWeight() {
+    ApplicationDataCache cache = new ApplicationDataCache(true, DataSize.ofMegabytes(1));
+    cache.bindTo(meterRegistry);
+    ApplicationDataId id = new ApplicationDataId(UUID.randomUUID(), 0L);
+    ApplicationDataPayload payload = payload(id);
+
+    cache.get(id);
+    cache.put(id, payload);
+    cache.get(id);
+
+    assertThat(meterRegistry.get("cache.gets").tags("result", "hit").functionCounter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get("cache.gets").tags("result", "miss").functionCounter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get("cache.weight").tags("cache", "application-data").gauge().value())
+        .isEqualTo(ApplicationDataCache.estimateSize(payload));
+  }
+
+  @Test
+  void givenTransaction_whenPut_thenCachedOnlyAfterCommit() {
+    ApplicationDataCache cache = new ApplicationDataCache(true, DataSize.ofMegabytes(1));
+    ApplicationDataId id = new ApplicationDataId(UUID.randomUUID(), 0L);
+    TransactionSynchronizationManager.initSynchronization();
+
+    cache.put(id, payload(id));
+
+    assertThat(cache.get(id)).isNull();
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+    assertThat(cache.get(id)).isEqualTo(payload(id));
+  }
+
+  @Test
+  void givenPayloadsLargerThanTheBound_whenPut_thenEvictsToStayWithinIt() {
+    ApplicationDataId id = new ApplicationDataId(UUID.randomUUID(), 0L);
+    int size = ApplicationDataCache.estimateSize(payload(id));
+    ApplicationDataCache cache = new ApplicationDataCache(true, DataSize.ofBytes(size * 2L));
+    cache.bindTo(meterRegistry);
+
+    for (long version = 0; version < 10; version++) {
+      ApplicationDataId versionId = new ApplicationDataId(id.applicationId(), version);
+      cache.put(versionId, payload(versionId));
+    }
+
+    assertThat(meterRegistry.get("cache.weight").gauge().value()).isLessThanOrEqualTo(size * 2.0);
+  }
+
+  @Test
+  void givenCacheDisabled_whenPutAndBound_thenCachesAndRegistersNothing() {
+    ApplicationDataCache cache = new ApplicationDataCache(false, DataSize.ofMegabytes(1));
+    ApplicationDataId id = new ApplicationDataId(UUID.randomUUID(), 0L);
+
+    cache.put(id, payload(id));
+    cache.bindTo(meterRegistry);
+
+    assertThat(cache.get(id)).isNull();
+    assertThat(meterRegistry.getMeters()).isEmpty();
+  }
+
+  private static ApplicationDataPayload payload(ApplicationDataId id) {
+    return ApplicationDataPayload.from(applicationCreationDetails(id.applicationId()));
+  }
+}
@@ -3,29 +3,34 @@ package uk.gov.justice.laa.dstew.access.command.application.data;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture.applicationCreationDetails;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.unit.DataSize;
 
 class ApplicationDataStoreTest {
 
+  private static final Instant NOTE_AT = Instant.parse("2026-07-20T10:00:00Z");
+
   private ApplicationDataRepository repository;
   private ApplicationDataStore store;
 
   @BeforeEach
   void setUp() {
     repository = mock(ApplicationDataRepository.class);
-    store = new ApplicationDataStore(repository);
+    store = new ApplicationDataStore(repository, new ApplicationDataCache(false, DataSize.ZERO));
   }
 
   @Test
@@ -76,11 +81,76 @@ class ApplicationDataStoreTest {
         .hasMessageContaining("duplicate application data version");
   }
 
+  @Test
+  void givenChangeBetweenCheckpoints_whenAppended_thenStoresOnlyTheDelta() {
+    UUID applicationId = UUID.randomUUID();
+    ApplicationDataPayload previous =
+        ApplicationDataPayload.from(applicationCreationDetails(applicationId));
+    var delta = new ApplicationDataDelta.NoteAdded("A note", NOTE_AT);
+
+    String hash = store.append(applicationId, 3L, previous, delta, "note-request", NOTE_AT);
+
+    ArgumentCaptor<ApplicationData> captor = ArgumentCaptor.forClass(ApplicationData.class);
+    verify(repository).saveAndFlush(captor.capture());
+    assertThat(captor.getValue().getId()).isEqualTo(new ApplicationDataId(applicationId, 3L));
+    assertThat(captor.getValue().getDelta()).isEqualTo(delta);
+    assertThat(captor.getValue().getPayload()).isNull();
+    assertThat(hash).isEqualTo(ApplicationDataStore.fingerprint("note-request"));
+  }
+
+  @Test
+  void givenCheckpointVersion_whenChangeAppended_thenStoresTheFullPayload() {
+    UUID applicationId = UUID.randomUUID();
+    ApplicationDataPayload previous =
+        ApplicationDataPayload.from(applicationCreationDetails(applicationId));
+    long version = ApplicationDataStore.CHECKPOINT_INTERVAL;
+
+    store.append(
+        applicationId,
+        version,
+        previous,
+        new ApplicationDataDelta.AssignmentRecorded("Assigned"),
+        "assign-request",
+        NOTE_AT);
+
+    ArgumentCaptor<ApplicationData> captor = ArgumentCaptor.forClass(ApplicationData.class);
+    verify(repository).saveAndFlush(captor.capture());
+    assertThat(captor.getValue().getPayload()).isEqualTo(previous.withAssignment("Assigned"));
+    assertThat(captor.getValue().getDelta()).isNull();
+  }
+
+  @Test
+  void givenCheckpointAndDeltas_whenRetrieved_thenRebuildsTheVersion() {
+    UUID applicationId = UUID.randomUUID();
+    ApplicationDataPayload checkpoint =
+        ApplicationDataPayload.from(applicationCreationDetails(applicationId));
+    when(repository.findVersionChain(applicationId, 2L))
+        .thenReturn(
+            List.of(
+                checkpointRow(applicationId, 0L, checkpoint),
+                deltaRow(applicationId, 1L, new ApplicationDataDelta.NoteAdded("A note", NOTE_AT)),
+                deltaRow(applicationId, 2L, new ApplicationDataDelta.AssignmentRecorded("Mine"))));
+
+    assertThat(store.get(applicationId, 2L))
+        .isEqualTo(checkpoint.withNote("A note", NOTE_AT).withAssignment("Mine"));
+  }
+
+  @Test
+  void givenDeltaWithoutCheckpoint_whenRetrieved_thenReportsMissingVersion() {
+    UUID applicationId = UUID.randomUUID();
+    when(repository.findVersionChain(applicationId, 1L))
+        .thenReturn(
+            List.of(deltaRow(applicationId, 1L, new ApplicationDataDelta.AssignmentRecorded("x"))));
+
+    assertThatThrownBy(() -> store.get(applicationId, 1L))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Application data not found for " + applicationId + " version 1");
+  }
+
   @Test
   void givenMissingVersion_whenRetrieved_thenReportsApplicationAndVersion() {
     UUID applicationId = UUID.randomUUID();
-    when(repository.findById(new ApplicationDataId(applicationId, 7L)))
-        .thenReturn(Optional.empty());
+    when(repository.findVersionChain(applicationId, 7L)).thenReturn(List.of());
 
     assertThatThrownBy(() -> store.get(applicationId, 7L))
         .isInstanceOf(IllegalStateException.class)
@@ -92,18 +162,108 @@ class ApplicationDataStoreTest {
     UUID applicationId = UUID.randomUUID();
     ApplicationDataId firstId = new ApplicationDataId(applicationId, 0L);
     ApplicationDataId secondId = new ApplicationDataId(applicationId, 1L);
+    ApplicationDataId missingId = new ApplicationDataId(applicationId, 2L);
     ApplicationDataPayload first =
         ApplicationDataPayload.from(applicationCreationDetails(applicationId));
-    ApplicationDataPayload second = first.withAssignment("Assigned");
-    when(repository.findAllById(List.of(firstId, secondId)))
+    when(repository.findVersionChains(
+            new UUID[] {applicationId, applicationId, applicationId}, new Long[] {0L, 1L, 2L}))
         .thenReturn(
             List.of(
-                ApplicationData.builder().id(firstId).payload(first).build(),
-                ApplicationData.builder().id(secondId).payload(second).build()));
+                checkpointRow(applicationId, 0L, first),
+                checkpointRow(applicationId, 0L, first),
+                deltaRow(
+                    applicationId, 1L, new ApplicationDataDelta.AssignmentRecorded("Assigned"))));
+
+    var result = store.getAll(List.of(firstId, secondId, missingId));
+
+    assertThat(result)
+        .containsOnlyKeys(firstId, secondId)
+        .containsEntry(firstId, first)
+        .containsEntry(secondId, first.withAssignment("Assigned"));
+  }
+
+  @Test
+  void givenNoIdentifiers_whenRetrieved_thenDoesNotQuery() {
+    assertThat(store.getAll(List.of())).isEmpty();
+
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void givenCachingEnabled_whenAppendedVersionRetrieved_thenDoesNotQuery() {
+    store = cachingStore();
+    UUID applicationId = UUID.randomUUID();
+    ApplicationDataPayload previous =
+        ApplicationDataPayload.from(applicationCreationDetails(applicationId));
+
+    store.append(applicationId, 0L, applicationCreationDetails(applicationId));
+    store.append(
+        applicationId,
+        1L,
+        previous,
+        new ApplicationDataDelta.NoteAdded("A note", NOTE_AT),
+        "note-request",
+        NOTE_AT);
+
+    assertThat(store.get(applicationId, 0L)).isEqualTo(previous);
+    assertThat(store.get(applicationId, 1L)).isEqualTo(previous.withNote("A note", NOTE_AT));
+    verify(repository, never()).findVersionChain(any(), anyLong());
+  }
 
-    var result = store.getAll(List.of(firstId, secondId));
+  @Test
+  void givenCachingEnabled_whenVersionRetrievedTwice_thenQueriesOnce() {
+    store = cachingStore();
+    UUID applicationId = UUID.randomUUID();
+    ApplicationDataPayload payload =
+        ApplicationDataPayload.from(applicationCreationDetails(applicationId));
+    when(repository.findVersionChain(applicationId, 0L))
+        .thenReturn(List.of(checkpointRow(applicationId, 0L, payload)));
+
+    store.get(applicationId, 0L);
+
+    assertThat(store.get(applicationId, 0L)).isEqualTo(payload);
+    verify(repository).findVersionChain(applicationId, 0L);
+  }
+
+  @Test
+  void givenSomeVersionsCached_whenRetrieved_thenQueriesOnlyTheMisses() {
+    store = cachingStore();
+    UUID cachedApplicationId = UUID.randomUUID();
+    UUID uncachedApplicationId = UUID.randomUUID();
+    ApplicationDataId cachedId = new ApplicationDataId(cachedApplicationId, 0L);
+    ApplicationDataId uncachedId = new ApplicationDataId(uncachedApplicationId, 0L);
+    store.append(cachedApplicationId, 0L, applicationCreationDetails(cachedApplicationId));
+    ApplicationDataPayload uncached =
+        ApplicationDataPayload.from(applicationCreationDetails(uncachedApplicationId));
+    when(repository.findVersionChains(new UUID[] {uncachedApplicationId}, new Long[] {0L}))
+        .thenReturn(List.of(checkpointRow(uncachedApplicationId, 0L, uncached)));
+
+    var result = store.getAll(List.of(cachedId, uncachedId));
+
+    assertThat(result).containsOnlyKeys(cachedId, uncachedId).containsEntry(uncachedId, uncached);
+    assertThat(store.getAll(List.of(cachedId, uncachedId))).isEqualTo(result);
+    verify(repository).findVersionChains(any(), any());
+  }
+
+  private ApplicationDataStore cachingStore() {
+    return new ApplicationDataStore(
+        repository, new ApplicationDataCache(true, DataSize.ofMegabytes(1)));
+  }
+
+  private static ApplicationData checkpointRow(
+      UUID applicationId, long version, ApplicationDataPayload payload) {
+    return ApplicationData.builder()
+        .id(new ApplicationDataId(applicationId, version))
+        .payload(payload)
+        .build();
+  }
 
-    assertThat(result).containsEntry(firstId, first).containsEntry(secondId, second);
+  private static ApplicationData deltaRow(
+      UUID applicationId, long version, ApplicationDataDelta delta) {
+    return ApplicationData.builder()
+        .id(new ApplicationDataId(applicationId, version))
+        .delta(delta)
+        .build();
   }
 
   @Test
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
@@ -41,9 +42,9 @@ class CreatePriorAuthorityUseCaseTest {
   void givenValidApplication_whenProjectionConfirmed_thenReturnsTrue() {
     CreatePriorAuthorityCommand command = stubCommand();
     when(projectionGateway.awaitProjection(any(), eq(PriorAuthorityReadModel.class), any()))
-        .thenReturn(true);
+        .thenReturn(CompletableFuture.completedFuture(true));
 
-    boolean result = useCase.execute(command);
+    boolean result = useCase.execute(command).join();
 
     assertThat(result).isTrue();
   }
@@ -52,9 +53,9 @@ class CreatePriorAuthorityUseCaseTest {
   void givenValidApplication_whenProjectionTimeout_thenReturnsFalse() {
     CreatePriorAuthorityCommand command = stubCommand();
     when(projectionGateway.awaitProjection(any(), eq(PriorAuthorityReadModel.class), any()))
-        .thenReturn(false);
+        .thenReturn(CompletableFuture.completedFuture(false));
 
-    boolean result = useCase.execute(command);
+    boolean result = useCase.execute(command).join();
 
     assertThat(result).isFalse();
   }
@@ -63,7 +64,7 @@ class CreatePriorAuthorityUseCaseTest {
   void givenValidApplication_whenExecute_thenDispatchesValidationBeforeProjectionGateway() {
     CreatePriorAuthorityCommand command = stubCommand();
     when(projectionGateway.awaitProjection(any(), eq(PriorAuthorityReadModel.class), any()))
-        .thenReturn(true);
+        .thenReturn(CompletableFuture.completedFuture(true));
 
     useCase.execute(command);
 
@@ -78,7 +79,7 @@ class CreatePriorAuthorityUseCaseTest {
   void givenValidApplication_whenExecute_thenPassesExactQueryAndModelClass() {
     CreatePriorAuthorityCommand command = stubCommand();
     when(projectionGateway.awaitProjection(any(), eq(PriorAuthorityReadModel.class), any()))
-        .thenReturn(true);
+        .thenReturn(CompletableFuture.completedFuture(true));
 
     useCase.execute(command);
 
@@ -96,7 +97,7 @@ class CreatePriorAuthorityUseCaseTest {
             invocation -> {
               Runnable action = invocation.getArgument(2);
               action.run();
-              return true;
+              return CompletableFuture.completedFuture(true);
             })
         .when(projectionGateway)
         .awaitProjection(any(), eq(PriorAuthorityReadModel.class), any());
@@ -0,0 +1,40 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AggregateSnapshotTriggerTest {
+
+  private final AggregateSnapshotTrigger trigger =
+      new AggregateSnapshotTrigger(50, Duration.ofMillis(100));
+
+  @Test
+  void givenFewEventsLoadedQuickly_whenChecked_thenNoSnapshot() {
+    assertThat(trigger.shouldSnapshot(49, Duration.ofMillis(10))).isFalse();
+  }
+
+  @Test
+  void givenEventCountReached_whenChecked_thenSnapshot() {
+    assertThat(trigger.shouldSnapshot(50, Duration.ofMillis(10))).isTrue();
+  }
+
+  @Test
+  void givenSlowLoad_whenChecked_thenSnapshotRegardlessOfEventCount() {
+    assertThat(trigger.shouldSnapshot(3, Duration.ofMillis(101))).isTrue();
+  }
+
+  @Test
+  void givenNoEventsAppliedAfterSnapshot_whenSlowLoadChecked_thenNoSnapshot() {
+    assertThat(trigger.shouldSnapshot(0, Duration.ofSeconds(1))).isFalse();
+  }
+
+  @Test
+  void givenNonPositiveEventCount_whenCreated_thenRejected() {
+    assertThatThrownBy(() -> new AggregateSnapshotTrigger(0, Duration.ofMillis(100)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("everyEvents must be at least 1");
+  }
+}
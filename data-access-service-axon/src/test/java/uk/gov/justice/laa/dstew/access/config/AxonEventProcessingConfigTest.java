@@ -2,13 +2,17 @@ package uk.gov.justice.laa.dstew.access.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
 import org.axonframework.extension.spring.config.EventProcessorDefinition;
 import org.axonframework.extension.spring.config.EventProcessorSettings;
 import org.junit.jupiter.api.Test;
 
 class AxonEventProcessingConfigTest {
 
-  private final AxonEventProcessingConfig config = new AxonEventProcessingConfig();
+  private final AxonEventProcessingConfig config =
+      new AxonEventProcessingConfig(
+          new ProjectionProcessorProperties(100, Map.of()), new SimpleMeterRegistry());
 
   @Test
   void priorAuthorityProjectionProcessorBeanUsesPooledStreamingWithCorrectNamespace() {
@@ -0,0 +1,180 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupRequested;
+
+class CompactJacksonConverterTest {
+
+  private final ObjectMapper jsonMapper = JsonMapper.builder().build();
+
+  @ParameterizedTest
+  @EnumSource(StoredPayloadFormat.class)
+  void givenEvent_whenWrittenAndRead_thenRoundTrips(StoredPayloadFormat format) {
+    CompactJacksonConverter converter = new CompactJacksonConverter(jsonMapper, format, false);
+    ApplicationCreatedEvent event = event();
+
+    byte[] stored = converter.convert(event, byte[].class);
+
+    assertThat(converter.convert(stored, ApplicationCreatedEvent.class)).isEqualTo(event);
+  }
+
+  @Test
+  void givenJsonFormat_whenWritten_thenStoresPlainJsonWithoutHeader() {
+    CompactJacksonConverter converter =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.JSON, false);
+    ApplicationCreatedEvent event = event();
+
+    byte[] stored = converter.convert(event, byte[].class);
+
+    assertThat(stored).isEqualTo(jsonMapper.writeValueAsBytes(event));
+  }
+
+  @Test
+  void givenCborFormat_whenWritten_thenStoresHeaderAndFewerBytesThanJson() {
+    CompactJacksonConverter converter =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.CBOR, false);
+    ApplicationCreatedEvent event = event();
+
+    byte[] stored = converter.convert(event, byte[].class);
+
+    assertThat(stored[0]).isEqualTo(CompactJacksonConverter.MARKER);
+    assertThat(stored[1]).isEqualTo((byte) 'C');
+    assertThat(stored[2]).isEqualTo(CompactJacksonConverter.UNCOMPRESSED);
+    assertThat(stored.length).isLessThan(jsonMapper.writeValueAsBytes(event).length);
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = StoredPayloadFormat.class,
+      names = {"CBOR", "SMILE"})
+  void givenLegacyJsonPayload_whenReadByCompactWriter_thenDecodes(StoredPayloadFormat format) {
+    CompactJacksonConverter converter = new CompactJacksonConverter(jsonMapper, format, true);
+    ApplicationCreatedEvent event = event();
+
+    byte[] legacy = jsonMapper.writeValueAsBytes(event);
+
+    assertThat(converter.convert(legacy, ApplicationCreatedEvent.class)).isEqualTo(event);
+  }
+
+  @Test
+  void givenCompactPayload_whenFormatSwitchedBackToJson_thenStillDecodes() {
+    ApplicationCreatedEvent event = event();
+    byte[] stored =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.SMILE, true)
+            .convert(event, byte[].class);
+
+    CompactJacksonConverter json =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.JSON, false);
+
+    assertThat(json.convert(stored, ApplicationCreatedEvent.class)).isEqualTo(event);
+  }
+
+  @Test
+  void givenLargePayloadAndDeflate_whenWritten_thenStoresDeflatedAndRoundTrips() {
+    CompactJacksonConverter converter =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.CBOR, true);
+    LinkedApplicationGroupRequested event = largeEvent();
+    byte[] undeflated =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.CBOR, false)
+            .convert(event, byte[].class);
+
+    byte[] stored = converter.convert(event, byte[].class);
+
+    assertThat(stored[2]).isEqualTo(CompactJacksonConverter.DEFLATED);
+    assertThat(stored.length).isLessThan(undeflated.length);
+    assertThat(converter.convert(stored, LinkedApplicationGroupRequested.class)).isEqualTo(event);
+  }
+
+  @Test
+  void givenSmallPayloadAndDeflate_whenWritten_thenStoresUncompressed() {
+    CompactJacksonConverter converter =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.CBOR, true);
+
+    byte[] stored = converter.convert(Map.of("serviceName", "CIVIL_APPLY"), byte[].class);
+
+    assertThat(stored[2]).isEqualTo(CompactJacksonConverter.UNCOMPRESSED);
+  }
+
+  @Test
+  void givenCompactPayload_whenReadAsJsonNode_thenUpcastersSeeTheFields() {
+    CompactJacksonConverter converter =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.CBOR, true);
+    ApplicationCreatedEvent event = event();
+    byte[] stored = converter.convert(event, byte[].class);
+
+    JsonNode node = converter.convert(stored, JsonNode.class);
+
+    assertThat(node.get("applicationId").asString()).isEqualTo(event.applicationId().toString());
+    assertThat(node.get("status").asString()).isEqualTo("APPLICATION_SUBMITTED");
+  }
+
+  @Test
+  void givenCompactPayload_whenReadAsString_thenReturnsEquivalentJson() {
+    CompactJacksonConverter converter =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.SMILE, false);
+    ApplicationCreatedEvent event = event();
+    byte[] stored = converter.convert(event, byte[].class);
+
+    String json = converter.convert(stored, String.class);
+
+    assertThat(jsonMapper.readValue(json, ApplicationCreatedEvent.class)).isEqualTo(event);
+  }
+
+  @Test
+  void givenUnknownCompression_whenRead_thenRejected() {
+    CompactJacksonConverter converter =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.CBOR, false);
+    byte[] stored = converter.convert(event(), byte[].class);
+    stored[2] = 'X';
+
+    assertThatThrownBy(() -> converter.convert(stored, ApplicationCreatedEvent.class))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("compression");
+  }
+
+  @Test
+  void givenStringInput_whenWritten_thenStoresUtf8Bytes() {
+    CompactJacksonConverter converter =
+        new CompactJacksonConverter(jsonMapper, StoredPayloadFormat.CBOR, false);
+
+    byte[] stored = converter.convert("{\"a\":1}", byte[].class);
+
+    assertThat(stored).isEqualTo("{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+  }
+
+  private ApplicationCreatedEvent event() {
+    return new ApplicationCreatedEvent(
+        UUID.randomUUID(),
+        0L,
+        "fingerprint",
+        "APPLICATION_SUBMITTED",
+        1,
+        Instant.parse("2026-08-01T10:00:00Z"),
+        null,
+        List.of(UUID.randomUUID()));
+  }
+
+  private LinkedApplicationGroupRequested largeEvent() {
+    UUID member = UUID.randomUUID();
+    return new LinkedApplicationGroupRequested(
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+        Collections.nCopies(50, member),
+        Instant.parse("2026-08-01T10:00:00Z"));
+  }
+}
@@ -0,0 +1,51 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ProjectionProcessorPropertiesTest {
+
+  private final ProjectionProcessorProperties properties =
+      new ProjectionProcessorProperties(
+          100,
+          Map.of(
+              "application-projection",
+              new ProjectionProcessorProperties.Processor(8, 4, 250, Duration.ofSeconds(1)),
+              "application-history-projection",
+              new ProjectionProcessorProperties.Processor(4, 4, null, null)));
+
+  @Test
+  void givenProcessorOverride_whenResolved_thenUsesItsSettings() {
+    ProjectionProcessorProperties.Processor processor =
+        properties.processor("application-projection");
+
+    assertThat(processor.segments()).isEqualTo(8);
+    assertThat(processor.threads()).isEqualTo(4);
+    assertThat(processor.tokenClaimInterval()).isEqualTo(Duration.ofSeconds(1));
+    assertThat(properties.batchSize("application-projection")).isEqualTo(250);
+  }
+
+  @Test
+  void givenOverrideWithoutBatchSize_whenResolved_thenFallsBackToSharedBatchSize() {
+    assertThat(properties.batchSize("application-history-projection")).isEqualTo(100);
+  }
+
+  @Test
+  void givenProcessorWithoutOverride_whenResolved_thenLeavesEverythingUnset() {
+    ProjectionProcessorProperties.Processor processor =
+        properties.processor("prior-authority-projection");
+
+    assertThat(processor.segments()).isNull();
+    assertThat(processor.threads()).isNull();
+    assertThat(processor.tokenClaimInterval()).isNull();
+    assertThat(properties.batchSize("prior-authority-projection")).isEqualTo(100);
+  }
+
+  @Test
+  void givenNoOverrides_whenBound_thenProcessorsIsEmpty() {
+    assertThat(new ProjectionProcessorProperties(100, null).processors()).isEmpty();
+  }
+}
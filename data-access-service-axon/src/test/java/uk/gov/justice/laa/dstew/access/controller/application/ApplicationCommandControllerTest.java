@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.access.controller.application;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -138,8 +139,8 @@ class ApplicationCommandControllerTest {
   void givenProjectedResult_whenCreateApplication_thenDelegatesToUseCaseAndReturns201() {
     CreateApplicationCommand command = stubCreateCommand();
     when(commandMapper.toCommand(any(), anyInt())).thenReturn(command);
-    when(createApplicationUseCase.execute(command)).thenReturn(true);
-    ResponseEntity<Void> response = controller.createApplication(null, 1, null);
+    when(createApplicationUseCase.execute(command)).thenReturn(completedFuture(true));
+    ResponseEntity<Void> response = controller.createApplication(null, 1, null).join();
     verify(createApplicationUseCase).execute(command);
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
   }
@@ -148,8 +149,8 @@ class ApplicationCommandControllerTest {
   void givenTimeoutResult_whenCreateApplication_thenDelegatesToUseCaseAndReturns202() {
     CreateApplicationCommand command = stubCreateCommand();
     when(commandMapper.toCommand(any(), anyInt())).thenReturn(command);
-    when(createApplicationUseCase.execute(command)).thenReturn(false);
-    ResponseEntity<Void> response = controller.createApplication(null, 1, null);
+    when(createApplicationUseCase.execute(command)).thenReturn(completedFuture(false));
+    ResponseEntity<Void> response = controller.createApplication(null, 1, null).join();
     verify(createApplicationUseCase).execute(command);
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
   }
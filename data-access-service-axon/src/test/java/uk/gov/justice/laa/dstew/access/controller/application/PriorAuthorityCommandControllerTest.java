@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.access.controller.application;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -50,10 +51,10 @@ class PriorAuthorityCommandControllerTest {
     Instant occurredAt = Instant.parse("2026-08-19T10:00:00Z");
     CreatePriorAuthorityCommand command = stubCommand(submissionId, id, occurredAt);
     when(commandMapper.toCommand(id, null)).thenReturn(command);
-    when(useCase.execute(command)).thenReturn(true);
+    when(useCase.execute(command)).thenReturn(completedFuture(true));
 
     ResponseEntity<CreatePriorAuthorityResponse> response =
-        controller.createPriorAuthority(ServiceName.CIVIL_APPLY, id, null);
+        controller.createPriorAuthority(ServiceName.CIVIL_APPLY, id, null).join();
 
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
     assertThat(response.getBody()).isNotNull();
@@ -70,10 +71,10 @@ class PriorAuthorityCommandControllerTest {
     Instant occurredAt = Instant.parse("2026-08-19T11:00:00Z");
     CreatePriorAuthorityCommand command = stubCommand(submissionId, id, occurredAt);
     when(commandMapper.toCommand(id, null)).thenReturn(command);
-    when(useCase.execute(command)).thenReturn(false);
+    when(useCase.execute(command)).thenReturn(completedFuture(false));
 
     ResponseEntity<CreatePriorAuthorityResponse> response =
-        controller.createPriorAuthority(ServiceName.CIVIL_APPLY, id, null);
+        controller.createPriorAuthority(ServiceName.CIVIL_APPLY, id, null).join();
 
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
     assertThat(response.getBody()).isNotNull();
@@ -89,7 +90,7 @@ class PriorAuthorityCommandControllerTest {
     CreatePriorAuthorityRequest request = new CreatePriorAuthorityRequest();
     CreatePriorAuthorityCommand command = stubCommand(UUID.randomUUID(), id, Instant.now());
     when(commandMapper.toCommand(id, request)).thenReturn(command);
-    when(useCase.execute(command)).thenReturn(true);
+    when(useCase.execute(command)).thenReturn(completedFuture(true));
 
     controller.createPriorAuthority(null, id, request);
 
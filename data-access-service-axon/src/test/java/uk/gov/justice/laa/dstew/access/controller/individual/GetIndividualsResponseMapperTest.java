@@ -1,6 +1,7 @@
 package uk.gov.justice.laa.dstew.access.controller.individual;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -35,7 +36,7 @@ class GetIndividualsResponseMapperTest {
             .build();
 
     IndividualsResponse response =
-        mapper.toResponse(new FindIndividualsResult(client, 2, 5, 1, true));
+        mapper.toResponse(new FindIndividualsResult(List.of(client), 2, 5, 1, true));
 
     IndividualResponse mapped = response.getIndividuals().get(0);
     assertThat(mapped.getClientId()).isNull();
@@ -49,4 +50,30 @@ class GetIndividualsResponseMapperTest {
     assertThat(response.getPaging().getTotalRecords()).isEqualTo(1);
     assertThat(response.getPaging().getItemsReturned()).isEqualTo(1);
   }
+
+  @Test
+  void givenPageOfClientsWithoutDetails_whenMapped_thenMapsEachClientWithoutDetails() {
+    List<ApplicationClient> clients =
+        List.of(
+            ApplicationClient.builder().firstName("Ada").lastNameAtBirth("Byron").build(),
+            ApplicationClient.builder().firstName("Grace").build());
+
+    IndividualsResponse response =
+        mapper.toResponse(new FindIndividualsResult(clients, 1, 2, 9, false));
+
+    assertThat(response.getIndividuals())
+        .extracting(IndividualResponse::getFirstName)
+        .containsExactly("Ada", "Grace");
+    assertThat(response.getIndividuals().getFirst().getLastNameAtBirth()).isNull();
+    assertThat(response.getPaging().getTotalRecords()).isEqualTo(9);
+    assertThat(response.getPaging().getItemsReturned()).isEqualTo(2);
+  }
+
+  @Test
+  void givenTotalBeyondTheResponseRange_whenMapped_thenFailsRatherThanTruncating() {
+    FindIndividualsResult result =
+        new FindIndividualsResult(List.of(), 1, 20, Integer.MAX_VALUE + 1L, false);
+
+    assertThatThrownBy(() -> mapper.toResponse(result)).isInstanceOf(ArithmeticException.class);
+  }
 }
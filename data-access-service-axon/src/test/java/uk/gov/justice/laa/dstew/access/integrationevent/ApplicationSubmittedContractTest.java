@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.access.integrationevent;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -8,7 +9,7 @@ import uk.gov.justice.laa.dstew.access.validation.JsonSchemaValidator;
 
 class ApplicationSubmittedContractTest {
 
-  private final JsonSchemaValidator validator = new JsonSchemaValidator();
+  private final JsonSchemaValidator validator = new JsonSchemaValidator(new SimpleMeterRegistry());
 
   @Test
   void givenOptionalDataFieldAdded_whenVersionOneValidated_thenContractRemainsCompatible() {
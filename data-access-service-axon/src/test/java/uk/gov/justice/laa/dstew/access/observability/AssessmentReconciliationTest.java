@@ -39,10 +39,15 @@ class AssessmentReconciliationTest {
     StalledAssessment stalled =
         new StalledAssessment(applicationId, 4L, now.minus(Duration.ofMinutes(45)));
     when(queryGateway.query(any(FindStalledAssessmentsQuery.class), eq(StalledAssessments.class)))
-        .thenReturn(CompletableFuture.completedFuture(new StalledAssessments(List.of(stalled))));
+        .thenReturn(
+            CompletableFuture.completedFuture(new StalledAssessments(List.of(stalled), 1)));
     AssessmentReconciliation reconciliation =
         new AssessmentReconciliation(
-            queryGateway, meterRegistry, Clock.fixed(now, ZoneOffset.UTC), Duration.ofMinutes(15));
+            queryGateway,
+            meterRegistry,
+            Clock.fixed(now, ZoneOffset.UTC),
+            Duration.ofMinutes(15),
+            100);
 
     reconciliation.run();
 
@@ -50,6 +55,7 @@ class AssessmentReconciliationTest {
         ArgumentCaptor.forClass(FindStalledAssessmentsQuery.class);
     verify(queryGateway).query(query.capture(), eq(StalledAssessments.class));
     assertThat(query.getValue().submittedBefore()).isEqualTo(now.minus(Duration.ofMinutes(15)));
+    assertThat(query.getValue().limit()).isEqualTo(100);
     assertThat(output)
         .contains(applicationId.toString(), "applicationVersion=4", "ageSeconds=2700");
     assertThat(meterRegistry.get("application.assessment.stalled").gauge().value()).isEqualTo(1);
@@ -59,6 +65,34 @@ class AssessmentReconciliationTest {
         .isEqualTo(1);
   }
 
+  @Test
+  void givenMoreStalledApplicationsThanTheReportLimit_whenReconciliationRuns_thenCountsThemAll(
+      CapturedOutput output) {
+    QueryGateway queryGateway = mock(QueryGateway.class);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    Instant now = Instant.parse("2026-08-04T10:00:00Z");
+    StalledAssessment oldest =
+        new StalledAssessment(UUID.randomUUID(), 2L, now.minus(Duration.ofHours(2)));
+    when(queryGateway.query(any(FindStalledAssessmentsQuery.class), eq(StalledAssessments.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(new StalledAssessments(List.of(oldest), 40)));
+    AssessmentReconciliation reconciliation =
+        new AssessmentReconciliation(
+            queryGateway,
+            meterRegistry,
+            Clock.fixed(now, ZoneOffset.UTC),
+            Duration.ofMinutes(15),
+            1);
+
+    reconciliation.run();
+
+    assertThat(meterRegistry.get("application.assessment.stalled").gauge().value()).isEqualTo(40);
+    assertThat(meterRegistry.get("application.assessment.oldest.age").gauge().value())
+        .isEqualTo(7200);
+    assertThat(output)
+        .contains(oldest.applicationId().toString(), "39 more Applications remain unassessed");
+  }
+
   @Test
   void givenTheProjectionQueryFails_whenReconciliationRuns_thenMarksItsSignalsStale() {
     QueryGateway queryGateway = mock(QueryGateway.class);
@@ -70,7 +104,8 @@ class AssessmentReconciliationTest {
             queryGateway,
             meterRegistry,
             Clock.fixed(Instant.parse("2026-08-04T10:00:00Z"), ZoneOffset.UTC),
-            Duration.ofMinutes(15));
+            Duration.ofMinutes(15),
+            100);
 
     assertThatThrownBy(reconciliation::run).isInstanceOf(RuntimeException.class);
 
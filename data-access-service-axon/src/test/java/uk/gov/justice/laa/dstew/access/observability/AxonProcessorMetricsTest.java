@@ -5,7 +5,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import org.axonframework.common.configuration.AxonConfiguration;
 import org.axonframework.messaging.eventhandling.processing.streaming.StreamingEventProcessor;
 import org.axonframework.messaging.eventhandling.processing.streaming.segmenting.EventTrackerStatus;
@@ -13,6 +18,8 @@ import org.junit.jupiter.api.Test;
 
 class AxonProcessorMetricsTest {
 
+  private static final Instant NOW = Instant.parse("2026-08-10T09:00:00Z");
+
   @Test
   void givenLaggingFailedProcessor_whenMetricsAreRead_thenHealthIsSeparateFromReconciliation() {
     AxonConfiguration configuration = mock(AxonConfiguration.class);
@@ -26,7 +33,8 @@ class AxonProcessorMetricsTest {
     when(status.isCaughtUp()).thenReturn(false);
     SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
-    new AxonProcessorMetrics(configuration, meterRegistry).run(null);
+    new AxonProcessorMetrics(configuration, meterRegistry, mock(EventStorePositions.class))
+        .run(null);
 
     assertThat(
             meterRegistry
@@ -50,4 +58,68 @@ class AxonProcessorMetricsTest {
                 .value())
         .isZero();
   }
+
+  @Test
+  void givenSegmentBehindHead_whenLagSampled_thenPublishesPositionAndLagInEventsAndSeconds() {
+    AxonConfiguration configuration = mock(AxonConfiguration.class);
+    StreamingEventProcessor processor = mock(StreamingEventProcessor.class);
+    EventTrackerStatus behind = mock(EventTrackerStatus.class);
+    EventTrackerStatus caughtUp = mock(EventTrackerStatus.class);
+    EventStorePositions positions = mock(EventStorePositions.class);
+    when(configuration.getComponents(StreamingEventProcessor.class))
+        .thenReturn(Map.of("application-projection", processor));
+    when(processor.processingStatus()).thenReturn(Map.of(0, behind, 1, caughtUp));
+    when(behind.getCurrentPosition()).thenReturn(OptionalLong.of(90));
+    when(caughtUp.getCurrentPosition()).thenReturn(OptionalLong.of(120));
+    when(positions.head()).thenReturn(120L);
+    when(positions.nextAppendedAt(90)).thenReturn(Optional.of(NOW.minusSeconds(30)));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AxonProcessorMetrics metrics =
+        new AxonProcessorMetrics(
+            configuration, meterRegistry, positions, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    metrics.run(null);
+    metrics.sampleLag();
+
+    assertThat(meterRegistry.get("axon.event.store.head").gauge().value()).isEqualTo(120);
+    assertThat(segmentGauge(meterRegistry, "axon.event.processor.segment.position", "0"))
+        .isEqualTo(90);
+    assertThat(segmentGauge(meterRegistry, "axon.event.processor.segment.lag.events", "0"))
+        .isEqualTo(30);
+    assertThat(segmentGauge(meterRegistry, "axon.event.processor.segment.lag", "0"))
+        .isEqualTo(30);
+    assertThat(segmentGauge(meterRegistry, "axon.event.processor.segment.lag.events", "1"))
+        .isZero();
+    assertThat(segmentGauge(meterRegistry, "axon.event.processor.segment.lag", "1")).isZero();
+  }
+
+  @Test
+  void givenSegmentReleased_whenLagSampledAgain_thenReportsNaNForIt() {
+    AxonConfiguration configuration = mock(AxonConfiguration.class);
+    StreamingEventProcessor processor = mock(StreamingEventProcessor.class);
+    EventTrackerStatus status = mock(EventTrackerStatus.class);
+    EventStorePositions positions = mock(EventStorePositions.class);
+    when(configuration.getComponents(StreamingEventProcessor.class))
+        .thenReturn(Map.of("application-projection", processor));
+    when(processor.processingStatus()).thenReturn(Map.of(0, status), Map.of());
+    when(status.getCurrentPosition()).thenReturn(OptionalLong.of(120));
+    when(positions.head()).thenReturn(120L);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AxonProcessorMetrics metrics =
+        new AxonProcessorMetrics(
+            configuration, meterRegistry, positions, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    metrics.sampleLag();
+    metrics.sampleLag();
+
+    assertThat(segmentGauge(meterRegistry, "axon.event.processor.segment.position", "0")).isNaN();
+  }
+
+  private static double segmentGauge(SimpleMeterRegistry registry, String name, String segment) {
+    return registry
+        .get(name)
+        .tags("processor", "application-projection", "segment", segment)
+        .gauge()
+        .value();
+  }
 }
@@ -0,0 +1,64 @@
+package uk.gov.justice.laa.dstew.access.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.axonframework.messaging.eventhandling.EventMessage;
+import org.junit.jupiter.api.Test;
+
+class EventHandlingMonitorTest {
+
+  private static final Instant APPENDED = Instant.parse("2026-08-10T09:00:00Z");
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Clock clock = mock(Clock.class);
+  private final EventMessage message = mock(EventMessage.class);
+
+  @Test
+  void givenEventHandled_whenReported_thenRecordsHandlingTimeAndEventAge() {
+    when(message.timestamp()).thenReturn(APPENDED);
+    when(clock.instant()).thenReturn(APPENDED.plusSeconds(3));
+    when(clock.millis()).thenReturn(1_000L, 1_250L);
+    EventHandlingMonitor monitor =
+        new EventHandlingMonitor("application-projection", meterRegistry, clock);
+
+    monitor.onMessageIngested(message).reportSuccess();
+
+    Timer handling = handling("success");
+    assertThat(handling.count()).isEqualTo(1);
+    assertThat(handling.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250);
+    Timer age =
+        meterRegistry
+            .get("axon.event.processor.event.age")
+            .tag("processor", "application-projection")
+            .timer();
+    assertThat(age.totalTime(TimeUnit.SECONDS)).isEqualTo(3);
+  }
+
+  @Test
+  void givenHandlerFailure_whenReported_thenRecordsFailureOutcome() {
+    when(message.timestamp()).thenReturn(APPENDED);
+    when(clock.instant()).thenReturn(APPENDED);
+    when(clock.millis()).thenReturn(1_000L, 1_010L);
+    EventHandlingMonitor monitor =
+        new EventHandlingMonitor("application-projection", meterRegistry, clock);
+
+    monitor.onMessageIngested(message).reportFailure(new IllegalStateException("boom"));
+
+    assertThat(handling("failure").count()).isEqualTo(1);
+    assertThat(handling("success").count()).isZero();
+  }
+
+  private Timer handling(String outcome) {
+    return meterRegistry
+        .get("axon.event.processor.handling")
+        .tags("processor", "application-projection", "outcome", outcome)
+        .timer();
+  }
+}
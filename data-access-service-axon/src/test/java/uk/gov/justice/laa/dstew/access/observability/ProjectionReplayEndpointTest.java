@@ -0,0 +1,118 @@
+package uk.gov.justice.laa.dstew.access.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import org.axonframework.common.configuration.AxonConfiguration;
+import org.axonframework.messaging.eventhandling.processing.streaming.StreamingEventProcessor;
+import org.axonframework.messaging.eventhandling.processing.streaming.segmenting.EventTrackerStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+class ProjectionReplayEndpointTest {
+
+  private static final Instant NOW = Instant.parse("2026-08-10T09:00:00Z");
+
+  private final AxonConfiguration configuration = mock(AxonConfiguration.class);
+  private final EventStorePositions eventStorePositions = mock(EventStorePositions.class);
+  private final Clock clock = mock(Clock.class);
+  private final StreamingEventProcessor processor = mock(StreamingEventProcessor.class);
+  private final EventTrackerStatus first = mock(EventTrackerStatus.class);
+  private final EventTrackerStatus second = mock(EventTrackerStatus.class);
+  private ProjectionReplayEndpoint endpoint;
+
+  @BeforeEach
+  void setUp() {
+    when(configuration.getComponents(StreamingEventProcessor.class))
+        .thenReturn(Map.of("application-projection", processor));
+    when(eventStorePositions.head()).thenReturn(1_000L);
+    when(processor.processingStatus()).thenReturn(Map.of(0, first, 1, second));
+    when(processor.isRunning()).thenReturn(true);
+    endpoint = new ProjectionReplayEndpoint(configuration, eventStorePositions, clock);
+  }
+
+  @Test
+  void givenSegmentsAtDifferentPositions_whenRead_thenReportsSlowestAgainstHead() {
+    when(clock.instant()).thenReturn(NOW);
+    when(first.getCurrentPosition()).thenReturn(OptionalLong.of(600));
+    when(second.getCurrentPosition()).thenReturn(OptionalLong.of(400));
+    when(second.isReplaying()).thenReturn(true);
+
+    ProjectionReplayEndpoint.ProcessorProgress progress =
+        endpoint.processor("application-projection");
+
+    assertThat(progress.running()).isTrue();
+    assertThat(progress.replaying()).isTrue();
+    assertThat(progress.segments()).isEqualTo(2);
+    assertThat(progress.position()).isEqualTo(400L);
+    assertThat(progress.head()).isEqualTo(1_000L);
+    assertThat(progress.eventsPerSecond()).isNull();
+  }
+
+  @Test
+  void givenTwoReads_whenSecondRead_thenReportsEventRateBetweenThem() {
+    when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(2));
+    when(first.getCurrentPosition()).thenReturn(OptionalLong.of(100), OptionalLong.of(700));
+    when(second.getCurrentPosition()).thenReturn(OptionalLong.of(200), OptionalLong.of(500));
+
+    endpoint.processor("application-projection");
+    ProjectionReplayEndpoint.ProcessorProgress progress =
+        endpoint.processor("application-projection");
+
+    assertThat(progress.position()).isEqualTo(500L);
+    assertThat(progress.eventsPerSecond()).isEqualTo(200.0);
+  }
+
+  @Test
+  void givenKnownProcessor_whenReplayed_thenStopsResetsAndRestartsIt() {
+    when(clock.instant()).thenReturn(NOW);
+    when(processor.shutdown()).thenReturn(CompletableFuture.completedFuture(null));
+    when(processor.resetTokens()).thenReturn(CompletableFuture.completedFuture(null));
+    when(processor.start()).thenReturn(CompletableFuture.completedFuture(null));
+    when(first.getCurrentPosition()).thenReturn(OptionalLong.empty());
+    when(second.getCurrentPosition()).thenReturn(OptionalLong.empty());
+
+    ProjectionReplayEndpoint.ProcessorProgress progress =
+        endpoint.replay("application-projection");
+
+    InOrder order = inOrder(processor);
+    order.verify(processor).shutdown();
+    order.verify(processor).resetTokens();
+    order.verify(processor).start();
+    assertThat(progress.position()).isNull();
+    assertThat(progress.head()).isEqualTo(1_000L);
+  }
+
+  @Test
+  void givenUnknownProcessor_whenReplayed_thenRejectsRequest() {
+    assertThatThrownBy(() -> endpoint.replay("missing-projection"))
+        .isInstanceOf(InvalidEndpointRequestException.class)
+        .hasMessageContaining("missing-projection");
+    verify(processor, never()).resetTokens();
+  }
+
+  @Test
+  void givenAllProcessors_whenRead_thenReportsEachByName() {
+    when(clock.instant()).thenReturn(NOW);
+    when(first.getCurrentPosition()).thenReturn(OptionalLong.of(1_000));
+    when(second.getCurrentPosition()).thenReturn(OptionalLong.of(1_000));
+
+    assertThat(endpoint.processors())
+        .containsOnlyKeys("application-projection")
+        .extractingByKey("application-projection")
+        .extracting(ProjectionReplayEndpoint.ProcessorProgress::position)
+        .isEqualTo(1_000L);
+  }
+}
@@ -0,0 +1,69 @@
+package uk.gov.justice.laa.dstew.access.query;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.axonframework.messaging.core.Context.ResourceKey;
+import org.axonframework.messaging.core.unitofwork.ProcessingContext;
+import org.axonframework.messaging.eventhandling.processing.streaming.token.GlobalSequenceTrackingToken;
+import org.axonframework.messaging.eventhandling.processing.streaming.token.TrackingToken;
+
+/**
+ * Mock {@link ProcessingContext} that keeps resources and prepare-commit callbacks, so tests can
+ * stage changes in a {@link ProjectionBatch} and then {@link #commit()} them.
+ */
+public final class CommittableProcessingContext {
+
+  private final Map<ResourceKey<?>, Object> resources = new HashMap<>();
+  private final List<Consumer<ProcessingContext>> prepareCommit = new ArrayList<>();
+  private final ProcessingContext context = mock(ProcessingContext.class);
+
+  @SuppressWarnings("unchecked")
+  public CommittableProcessingContext() {
+    lenient()
+        .when(context.computeResourceIfAbsent(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              ResourceKey<?> key = invocation.getArgument(0);
+              if (!resources.containsKey(key)) {
+                resources.put(key, ((Supplier<Object>) invocation.getArgument(1)).get());
+              }
+              return resources.get(key);
+            });
+    lenient()
+        .when(context.runOnPrepareCommit(any()))
+        .thenAnswer(
+            invocation -> {
+              prepareCommit.add(invocation.getArgument(0));
+              return context;
+            });
+  }
+
+  /** Makes the context report a streaming processor handling the event at {@code globalIndex}. */
+  public CommittableProcessingContext atPosition(long globalIndex) {
+    TrackingToken token = new GlobalSequenceTrackingToken(globalIndex);
+    lenient().when(context.containsResource(TrackingToken.RESOURCE_KEY)).thenReturn(true);
+    lenient().when(context.getResource(TrackingToken.RESOURCE_KEY)).thenReturn(token);
+    return this;
+  }
+
+  /** The context to pass to event handlers. */
+  public ProcessingContext context() {
+    return context;
+  }
+
+  /** Runs the prepare-commit callbacks registered so far, then forgets them and the resources. */
+  public void commit() {
+    List<Consumer<ProcessingContext>> callbacks = new ArrayList<>(prepareCommit);
+    prepareCommit.clear();
+    resources.clear();
+    callbacks.forEach(callback -> callback.accept(context));
+  }
+}
@@ -0,0 +1,195 @@
+package uk.gov.justice.laa.dstew.access.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.axonframework.messaging.core.Context.ResourceKey;
+import org.junit.jupiter.api.Test;
+
+class ProjectionBatchTest {
+
+  private static final ResourceKey<ProjectionBatch<Row>> KEY = ResourceKey.withLabel("test-batch");
+
+  private final InMemoryRowStore store = new InMemoryRowStore();
+
+  @Test
+  void givenUpdatesToExistingRow_whenFlushed_thenLoadsOnceAndUpdatesOnce() {
+    UUID id = UUID.randomUUID();
+    store.rows.put(id, new Row(id, "created"));
+    ProjectionBatch<Row> batch = new ProjectionBatch<>(store);
+
+    batch.update(id, row -> row.value += "+first");
+    batch.update(id, row -> row.value += "+second");
+    batch.flush();
+
+    assertThat(store.loads).containsExactly(List.of(id));
+    assertThat(store.updated)
+        .singleElement()
+        .extracting(row -> row.value)
+        .isEqualTo("created+first+second");
+    assertThat(store.inserted).isEmpty();
+  }
+
+  @Test
+  void givenInsertFollowedByUpdate_whenFlushed_thenInsertsTheUpdatedRow() {
+    UUID id = UUID.randomUUID();
+    ProjectionBatch<Row> batch = new ProjectionBatch<>(store);
+
+    batch.insert(id, () -> new Row(id, "created"));
+    batch.update(id, row -> row.value += "+assigned");
+    batch.flush();
+
+    assertThat(store.inserted)
+        .singleElement()
+        .extracting(row -> row.value)
+        .isEqualTo("created+assigned");
+    assertThat(store.updated).isEmpty();
+  }
+
+  @Test
+  void givenInsertOfExistingRow_whenFlushed_thenUpdatesIt() {
+    UUID id = UUID.randomUUID();
+    store.rows.put(id, new Row(id, "stale"));
+    ProjectionBatch<Row> batch = new ProjectionBatch<>(store);
+
+    batch.insert(id, () -> new Row(id, "replayed"));
+    batch.flush();
+
+    assertThat(store.inserted).isEmpty();
+    assertThat(store.updated).singleElement().extracting(row -> row.value).isEqualTo("replayed");
+  }
+
+  @Test
+  void givenUpdateToMissingRow_whenFlushed_thenWritesNothingAndSkipsCallback() {
+    UUID id = UUID.randomUUID();
+    List<Row> written = new ArrayList<>();
+    ProjectionBatch<Row> batch = new ProjectionBatch<>(store);
+
+    batch.update(id, row -> row.value = "changed");
+    batch.afterWrite(id, written::add);
+    batch.flush();
+
+    assertThat(store.inserted).isEmpty();
+    assertThat(store.updated).isEmpty();
+    assertThat(written).isEmpty();
+  }
+
+  @Test
+  void givenInsertOfNoRowOverExistingRow_whenFlushed_thenDeletesItAndSkipsCallback() {
+    UUID id = UUID.randomUUID();
+    Row existing = new Row(id, "created");
+    store.rows.put(id, existing);
+    List<Row> written = new ArrayList<>();
+    ProjectionBatch<Row> batch = new ProjectionBatch<>(store);
+
+    batch.update(id, row -> row.value += "+changed");
+    batch.insert(id, () -> null);
+    batch.afterWrite(id, written::add);
+    batch.flush();
+
+    assertThat(store.deleted).containsExactly(existing);
+    assertThat(store.updated).isEmpty();
+    assertThat(written).isEmpty();
+  }
+
+  @Test
+  void givenInsertOfNoRowForMissingRow_whenFlushed_thenWritesNothing() {
+    UUID id = UUID.randomUUID();
+    ProjectionBatch<Row> batch = new ProjectionBatch<>(store);
+
+    batch.insert(id, () -> null);
+    batch.flush();
+
+    assertThat(store.inserted).isEmpty();
+    assertThat(store.deleted).isEmpty();
+  }
+
+  @Test
+  void givenBeforeApplyAction_whenFlushed_thenRunsBeforeRowsAreBuilt() {
+    UUID id = UUID.randomUUID();
+    List<String> steps = new ArrayList<>();
+    ProjectionBatch<Row> batch = new ProjectionBatch<>(store);
+
+    batch.insert(
+        id,
+        () -> {
+          steps.add("build");
+          return new Row(id, "created");
+        });
+    batch.beforeApply(() -> steps.add("load"));
+    batch.afterWrite(id, row -> steps.add("written"));
+    batch.flush();
+
+    assertThat(steps).containsExactly("load", "build", "written");
+  }
+
+  @Test
+  void givenEventsInOneUnitOfWork_whenCommitted_thenShareOneBatchAndFlushOnce() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    CommittableProcessingContext unitOfWork = new CommittableProcessingContext();
+
+    ProjectionBatch.forContext(unitOfWork.context(), KEY, store)
+        .insert(first, () -> new Row(first, "first"));
+    ProjectionBatch.forContext(unitOfWork.context(), KEY, store)
+        .insert(second, () -> new Row(second, "second"));
+    assertThat(store.inserted).isEmpty();
+    unitOfWork.commit();
+
+    assertThat(store.loads).hasSize(1);
+    assertThat(store.inserted).extracting(row -> row.id).containsExactly(first, second);
+  }
+
+  @Test
+  void givenNothingStaged_whenFlushed_thenDoesNotTouchTheStore() {
+    new ProjectionBatch<>(store).flush();
+
+    assertThat(store.loads).isEmpty();
+  }
+
+  private static final class Row {
+    private final UUID id;
+    private String value;
+
+    private Row(UUID id, String value) {
+      this.id = id;
+      this.value = value;
+    }
+  }
+
+  private static final class InMemoryRowStore implements ProjectionRowStore<Row> {
+    private final Map<UUID, Row> rows = new HashMap<>();
+    private final List<Collection<UUID>> loads = new ArrayList<>();
+    private final List<Row> inserted = new ArrayList<>();
+    private final List<Row> updated = new ArrayList<>();
+    private final List<Row> deleted = new ArrayList<>();
+
+    @Override
+    public Map<UUID, Row> findAllById(Collection<UUID> ids) {
+      loads.add(ids);
+      Map<UUID, Row> found = new HashMap<>();
+      ids.stream().filter(rows::containsKey).forEach(id -> found.put(id, rows.get(id)));
+      return found;
+    }
+
+    @Override
+    public void insertAll(Collection<Row> rows) {
+      inserted.addAll(rows);
+    }
+
+    @Override
+    public void updateAll(Collection<Row> rows) {
+      updated.addAll(rows);
+    }
+
+    @Override
+    public void deleteAll(Collection<Row> rows) {
+      deleted.addAll(rows);
+    }
+  }
+}
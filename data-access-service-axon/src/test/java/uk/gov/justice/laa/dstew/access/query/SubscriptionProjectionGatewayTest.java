@@ -5,11 +5,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.axonframework.messaging.queryhandling.gateway.QueryGateway;
@@ -29,85 +33,70 @@ class SubscriptionProjectionGatewayTest {
   @BeforeEach
   void setUp() {
     queryGateway = mock(QueryGateway.class);
-    gateway = new SubscriptionProjectionGateway(queryGateway, Duration.ofMillis(100));
+    gateway = new SubscriptionProjectionGateway(queryGateway, Duration.ofMillis(100), 10);
   }
 
   // ── awaitProjection: initial-result paths ────────────────────────────────
 
   @Test
-  void givenPresentInitialResult_whenAwaitProjection_thenReturnsTrueImmediately() {
+  void givenPresentInitialResult_whenAwaitProjection_thenCompletesTrue() {
     ApplicationReadModel readModel = mock(ApplicationReadModel.class);
     subscription(Mono.just(readModel));
 
-    boolean result = gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {});
+    boolean result = gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {}).join();
 
     assertThat(result).isTrue();
   }
 
   @Test
-  void givenEmptyInitialResultAndFirstUpdate_whenAwaitProjection_thenReturnsTrue() {
+  void givenEmptyInitialResultAndFirstUpdate_whenAwaitProjection_thenCompletesTrue() {
     ApplicationReadModel readModel = mock(ApplicationReadModel.class);
     Sinks.One<ApplicationReadModel> update = Sinks.one();
     subscription(update.asMono());
 
-    boolean result =
-        gateway.awaitProjection(
-            query(), ApplicationReadModel.class, () -> update.tryEmitValue(readModel));
+    CompletableFuture<Boolean> result =
+        gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {});
+    update.tryEmitValue(readModel);
 
-    assertThat(result).isTrue();
+    assertThat(result.join()).isTrue();
   }
 
   @Test
-  void givenNeverCompletingInitialResult_whenAwaitProjection_thenReturnsFalseWithinTimeout() {
+  void givenNeverCompletingInitialResult_whenAwaitProjection_thenReturnsBeforeCompletingFalse() {
+    gateway = new SubscriptionProjectionGateway(queryGateway, Duration.ofMillis(500), 10);
     subscription(Mono.never());
 
     long startNs = System.nanoTime();
-    boolean result = gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {});
-    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
+    CompletableFuture<Boolean> result =
+        gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {});
 
-    assertThat(result).isFalse();
-    assertThat(elapsedMs).isLessThan(2_000L);
+    assertThat(result).isNotDone();
+    assertThat(result.join()).isFalse();
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs)).isLessThan(2_000L);
   }
 
-  // ── awaitProjection: error and interrupt paths ───────────────────────────
-
   @Test
-  void givenInitialResultError_whenAwaitProjection_thenPropagatesError() {
-    subscription(Mono.error(new RuntimeException("query bus failure")));
+  void givenSubscriptionCompletingEmpty_whenAwaitProjection_thenCompletesFalse() {
+    subscription(Flux.empty());
 
-    assertThatThrownBy(() -> gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {}))
-        .isInstanceOf(RuntimeException.class)
-        .hasMessage("query bus failure");
-  }
+    CompletableFuture<Boolean> result =
+        gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {});
 
-  @Test
-  void givenInterruptedBlock_whenAwaitProjection_thenRestoresInterruptFlagAndRethrows() {
-    RuntimeException wrappedInterrupt =
-        new RuntimeException(new InterruptedException("interrupted"));
-    subscription(Mono.error(wrappedInterrupt));
-
-    try {
-      assertThatThrownBy(
-              () -> gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {}))
-          .isInstanceOf(RuntimeException.class)
-          .hasCauseInstanceOf(InterruptedException.class);
-
-      assertThat(Thread.currentThread().isInterrupted())
-          .as("interrupt flag must be restored after Reactor wraps InterruptedException")
-          .isTrue();
-    } finally {
-      Thread.interrupted();
-    }
+    assertThat(result.join()).isFalse();
   }
 
+  // ── awaitProjection: error paths ─────────────────────────────────────────
+
   @Test
-  void givenNonInterruptRuntimeException_whenAwaitProjection_thenDoesNotSetInterruptFlag() {
-    subscription(Mono.error(new RuntimeException("other failure")));
+  void givenInitialResultError_whenAwaitProjection_thenCompletesExceptionally() {
+    subscription(Mono.error(new RuntimeException("query bus failure")));
 
-    assertThatThrownBy(() -> gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {}))
-        .isInstanceOf(RuntimeException.class);
+    CompletableFuture<Boolean> result =
+        gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {});
 
-    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    assertThatThrownBy(result::join)
+        .isInstanceOf(CompletionException.class)
+        .hasRootCauseMessage("query bus failure");
   }
 
   // ── awaitProjection: action lifecycle ────────────────────────────────────
@@ -138,11 +127,70 @@ class SubscriptionProjectionGatewayTest {
     subscription(
         Flux.just(readModel).concatWith(Flux.never()).doOnCancel(() -> cancelled.set(true)));
 
-    gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {});
+    gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {}).join();
+
+    assertThat(cancelled).isTrue();
+  }
+
+  @Test
+  void givenTimeout_whenAwaitProjection_thenSubscriptionIsClosed() {
+    AtomicBoolean cancelled = new AtomicBoolean();
+    subscription(Flux.<ApplicationReadModel>never().doOnCancel(() -> cancelled.set(true)));
+
+    gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {}).join();
 
     assertThat(cancelled).isTrue();
   }
 
+  // ── awaitProjection: waiter bound ────────────────────────────────────────
+
+  @Test
+  void givenEveryWaiterInUse_whenAwaitProjection_thenRunsActionAndCompletesFalseAtOnce() {
+    gateway = new SubscriptionProjectionGateway(queryGateway, Duration.ofSeconds(5), 1);
+    subscription(Mono.never());
+    gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {});
+    AtomicBoolean actionRan = new AtomicBoolean();
+
+    CompletableFuture<Boolean> result =
+        gateway.awaitProjection(query(), ApplicationReadModel.class, () -> actionRan.set(true));
+
+    assertThat(actionRan).isTrue();
+    assertThat(result).isCompletedWithValue(false);
+    verify(queryGateway, times(1)).subscriptionQuery(any(), eq(ApplicationReadModel.class));
+  }
+
+  @Test
+  void givenCompletedWait_whenAwaitProjectionAgain_thenWaiterIsReused() {
+    gateway = new SubscriptionProjectionGateway(queryGateway, Duration.ofMillis(100), 1);
+    subscription(Mono.just(mock(ApplicationReadModel.class)));
+
+    gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {}).join();
+    boolean result = gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {}).join();
+
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void givenActionThrows_whenAwaitProjectionAgain_thenWaiterIsReused() {
+    gateway = new SubscriptionProjectionGateway(queryGateway, Duration.ofMillis(100), 1);
+    subscription(Mono.just(mock(ApplicationReadModel.class)));
+    assertThatThrownBy(
+        () ->
+            gateway.awaitProjection(
+                query(),
+                ApplicationReadModel.class,
+                () -> {
+                  throw new RuntimeException("dispatch failed");
+                }))
+        .hasMessage("dispatch failed");
+
+    boolean result = gateway.awaitProjection(query(), ApplicationReadModel.class, () -> {}).join();
+
+    assertThat(result).isTrue();
+  }
+
+  // ── findProjection ────────────────────────────────────────────────────────
+
   @Test
   void givenDelayedResult_whenFindProjection_thenReturnsFirstAvailableProjection() {
     ApplicationReadModel notification = mock(ApplicationReadModel.class);
@@ -150,7 +198,7 @@ class SubscriptionProjectionGatewayTest {
     FindApplicationByIdQuery query = query();
     subscription(Mono.delay(Duration.ofMillis(10)).map(ignored -> notification));
     when(queryGateway.query(query, ApplicationReadModel.class))
-        .thenReturn(java.util.concurrent.CompletableFuture.completedFuture(hydrated));
+        .thenReturn(CompletableFuture.completedFuture(hydrated));
 
     Optional<ApplicationReadModel> result =
         gateway.findProjection(query, ApplicationReadModel.class);
@@ -168,6 +216,35 @@ class SubscriptionProjectionGatewayTest {
     assertThat(result).isEmpty();
   }
 
+  @Test
+  void givenInterruptedBlock_whenFindProjection_thenRestoresInterruptFlagAndRethrows() {
+    RuntimeException wrappedInterrupt =
+        new RuntimeException(new InterruptedException("interrupted"));
+    subscription(Mono.error(wrappedInterrupt));
+
+    try {
+      assertThatThrownBy(() -> gateway.findProjection(query(), ApplicationReadModel.class))
+          .isInstanceOf(RuntimeException.class)
+          .hasCauseInstanceOf(InterruptedException.class);
+
+      assertThat(Thread.currentThread().isInterrupted())
+          .as("interrupt flag must be restored after Reactor wraps InterruptedException")
+          .isTrue();
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  void givenNonInterruptRuntimeException_whenFindProjection_thenDoesNotSetInterruptFlag() {
+    subscription(Mono.error(new RuntimeException("other failure")));
+
+    assertThatThrownBy(() -> gateway.findProjection(query(), ApplicationReadModel.class))
+        .isInstanceOf(RuntimeException.class);
+
+    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+  }
+
   // ── helpers ───────────────────────────────────────────────────────────────
 
   private FindApplicationByIdQuery query() {
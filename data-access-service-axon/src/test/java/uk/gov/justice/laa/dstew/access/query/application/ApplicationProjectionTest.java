@@ -6,11 +6,13 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture.applicationCreatedEvent;
 import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture.applicationCreationDetails;
 
+import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -21,7 +23,9 @@ import java.util.function.Predicate;
 import org.axonframework.messaging.queryhandling.QueryUpdateEmitter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -36,6 +40,7 @@ import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataS
 import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationNote;
 import uk.gov.justice.laa.dstew.access.command.application.decision.ApplicationDecisionMadeEvent;
 import uk.gov.justice.laa.dstew.access.command.application.ready.ApplicationReadyForManualAssessmentEvent;
+import uk.gov.justice.laa.dstew.access.query.CommittableProcessingContext;
 import uk.gov.justice.laa.dstew.access.query.application.linkedgroup.LinkedApplicationGroupReadRepository;
 import uk.gov.justice.laa.dstew.access.query.application.listindex.ApplicationListIndexReadModel;
 import uk.gov.justice.laa.dstew.access.query.application.listindex.ApplicationListIndexReadRepository;
@@ -47,7 +52,9 @@ class ApplicationProjectionTest {
   private QueryUpdateEmitter queryUpdateEmitter;
   private ApplicationDataStore applicationDataStore;
   private ApplicationListIndexReadRepository listIndexRepository;
+  private EntityManager entityManager;
   private ApplicationProjection projection;
+  private CommittableProcessingContext unitOfWork;
 
   @BeforeEach
   void setUp() {
@@ -56,6 +63,7 @@ class ApplicationProjectionTest {
     queryUpdateEmitter = mock(QueryUpdateEmitter.class);
     applicationDataStore = mock(ApplicationDataStore.class);
     listIndexRepository = mock(ApplicationListIndexReadRepository.class);
+    entityManager = mock(EntityManager.class);
     when(applicationDataStore.get(any(), anyLong()))
         .thenAnswer(
             invocation ->
@@ -65,21 +73,24 @@ class ApplicationProjectionTest {
             applicationReadRepository,
             groupReadRepository,
             applicationDataStore,
-            listIndexRepository);
+            listIndexRepository,
+            entityManager);
+    unitOfWork = new CommittableProcessingContext();
   }
 
   @Test
   void givenCreatedEvent_whenHandled_thenSavesBeforeEmitting() {
     UUID applicationId = UUID.randomUUID();
     ApplicationCreatedEvent event = applicationCreatedEvent(applicationId);
-    ApplicationReadModel saved =
-        ApplicationReadModel.builder().applicationId(applicationId).build();
-    when(applicationReadRepository.save(any())).thenReturn(saved);
 
-    projection.on(event, queryUpdateEmitter);
+    projection.on(event, queryUpdateEmitter, unitOfWork.context());
+
+    verify(queryUpdateEmitter, never())
+        .emit(any(Class.class), any(Predicate.class), any(ApplicationReadModel.class));
+    unitOfWork.commit();
 
-    InOrder order = inOrder(applicationReadRepository, queryUpdateEmitter);
-    order.verify(applicationReadRepository).save(any());
+    InOrder order = inOrder(entityManager, queryUpdateEmitter);
+    order.verify(entityManager).persist(any(ApplicationReadModel.class));
     order
         .verify(queryUpdateEmitter)
         .emit(any(Class.class), any(Predicate.class), any(ApplicationReadModel.class));
@@ -101,10 +112,8 @@ class ApplicationProjectionTest {
         .when(queryUpdateEmitter)
         .emit(any(Class.class), any(Predicate.class), any(ApplicationReadModel.class));
 
-    when(applicationReadRepository.save(any()))
-        .thenReturn(ApplicationReadModel.builder().applicationId(applicationId).build());
-
-    projection.on(event, queryUpdateEmitter);
+    projection.on(event, queryUpdateEmitter, unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(capturedPredicate[0]).isNotNull();
     Predicate<FindApplicationByIdQuery> predicate =
@@ -113,6 +122,29 @@ class ApplicationProjectionTest {
     assertThat(predicate.test(new FindApplicationByIdQuery(otherId))).isFalse();
   }
 
+  @Test
+  void givenCreatedAndAssignedInOneBatch_whenCommitted_thenPersistsOnceAndEmitsOnce() {
+    UUID applicationId = UUID.randomUUID();
+    UUID caseworkerId = UUID.randomUUID();
+    Instant occurredAt = Instant.parse("2026-07-20T08:00:00Z");
+
+    projection.on(applicationCreatedEvent(applicationId), queryUpdateEmitter, unitOfWork.context());
+    projection.on(
+        new ApplicationAssignedToCaseworkerEvent(applicationId, 1L, 2L, caseworkerId, occurredAt),
+        unitOfWork.context());
+    unitOfWork.commit();
+
+    ArgumentCaptor<ApplicationReadModel> persisted =
+        ArgumentCaptor.forClass(ApplicationReadModel.class);
+    verify(entityManager).persist(persisted.capture());
+    assertThat(persisted.getValue().getCaseworkerId()).isEqualTo(caseworkerId);
+    assertThat(persisted.getValue().getApplicationVersion()).isEqualTo(1L);
+    verify(applicationReadRepository).findAllById(List.of(applicationId));
+    verify(applicationReadRepository, never()).saveAll(any());
+    verify(queryUpdateEmitter)
+        .emit(any(Class.class), any(Predicate.class), any(ApplicationReadModel.class));
+  }
+
   @Test
   void givenResetCalled_whenHandled_thenDeletesAllProjections() {
     projection.reset();
@@ -121,33 +153,48 @@ class ApplicationProjectionTest {
   }
 
   @Test
-  void givenSubmittedApplications_whenReconciliationQueries_thenReturnsOnlyOldUnassessedOnes() {
+  void givenUnlimitedReconciliationQuery_whenHandled_thenReadsListIndexWithoutCounting() {
     Instant threshold = Instant.parse("2026-08-04T09:45:00Z");
-    UUID stalledId = UUID.randomUUID();
-    UUID assessedId = UUID.randomUUID();
-    UUID recentId = UUID.randomUUID();
-    ApplicationReadModel stalled = reconciliationReadModel(stalledId);
-    ApplicationReadModel assessed = reconciliationReadModel(assessedId);
-    ApplicationReadModel recent = reconciliationReadModel(recentId);
-    when(applicationReadRepository.findAllByStatus("APPLICATION_SUBMITTED"))
-        .thenReturn(List.of(stalled, assessed, recent));
-    ApplicationDataPayload stalledData =
-        reconciliationData(threshold.minus(15, ChronoUnit.MINUTES), null);
-    ApplicationDataPayload assessedData =
-        reconciliationData(threshold.minus(20, ChronoUnit.MINUTES), false);
-    ApplicationDataPayload recentData = reconciliationData(threshold.plusSeconds(1), null);
-    when(applicationDataStore.getAll(any()))
-        .thenReturn(
-            Map.of(
-                dataId(stalled), stalledData,
-                dataId(assessed), assessedData,
-                dataId(recent), recentData));
+    StalledAssessment stalled =
+        new StalledAssessment(UUID.randomUUID(), 3L, threshold.minus(15, ChronoUnit.MINUTES));
+    when(listIndexRepository.findStalledAssessments(threshold, Limit.unlimited()))
+        .thenReturn(List.of(stalled));
 
     StalledAssessments result = projection.handle(new FindStalledAssessmentsQuery(threshold));
 
-    assertThat(result.applications())
-        .containsExactly(
-            new StalledAssessment(stalledId, 3L, threshold.minus(15, ChronoUnit.MINUTES)));
+    assertThat(result.applications()).containsExactly(stalled);
+    assertThat(result.total()).isEqualTo(1);
+    verify(listIndexRepository, never()).countStalledAssessments(any());
+    verify(applicationDataStore, never()).getAll(any());
+  }
+
+  @Test
+  void givenReconciliationQueryReachingItsLimit_whenHandled_thenCountsEveryStalledApplication() {
+    Instant threshold = Instant.parse("2026-08-04T09:45:00Z");
+    StalledAssessment oldest =
+        new StalledAssessment(UUID.randomUUID(), 1L, threshold.minus(2, ChronoUnit.HOURS));
+    StalledAssessment next =
+        new StalledAssessment(UUID.randomUUID(), 4L, threshold.minus(1, ChronoUnit.HOURS));
+    when(listIndexRepository.findStalledAssessments(threshold, Limit.of(2)))
+        .thenReturn(List.of(oldest, next));
+    when(listIndexRepository.countStalledAssessments(threshold)).thenReturn(7L);
+
+    StalledAssessments result = projection.handle(new FindStalledAssessmentsQuery(threshold, 2));
+
+    assertThat(result.applications()).containsExactly(oldest, next);
+    assertThat(result.total()).isEqualTo(7);
+  }
+
+  @Test
+  void givenReconciliationQueryBelowItsLimit_whenHandled_thenDoesNotCount() {
+    Instant threshold = Instant.parse("2026-08-04T09:45:00Z");
+    when(listIndexRepository.findStalledAssessments(threshold, Limit.of(5))).thenReturn(List.of());
+
+    StalledAssessments result = projection.handle(new FindStalledAssessmentsQuery(threshold, 5));
+
+    assertThat(result.applications()).isEmpty();
+    assertThat(result.total()).isZero();
+    verify(listIndexRepository, never()).countStalledAssessments(any());
   }
 
   @Test
@@ -156,14 +203,15 @@ class ApplicationProjectionTest {
     UUID leadApplicationId = UUID.randomUUID();
     ApplicationReadModel existing =
         ApplicationReadModel.builder().applicationId(applicationId).build();
-    when(applicationReadRepository.findById(applicationId)).thenReturn(Optional.of(existing));
+    when(applicationReadRepository.findAllById(any())).thenReturn(List.of(existing));
     ApplicationLinkedEvent event =
         new ApplicationLinkedEvent(applicationId, leadApplicationId, Instant.now());
 
-    projection.on(event);
+    projection.on(event, unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getLeadApplicationId()).isEqualTo(leadApplicationId);
-    verify(applicationReadRepository).save(existing);
+    verify(applicationReadRepository).saveAll(List.of(existing));
   }
 
   @Test
@@ -172,13 +220,14 @@ class ApplicationProjectionTest {
     Instant occurredAt = Instant.parse("2026-07-20T08:00:00Z");
     ApplicationReadModel existing =
         ApplicationReadModel.builder().applicationId(applicationId).build();
-    when(applicationReadRepository.findById(applicationId)).thenReturn(Optional.of(existing));
-    when(applicationReadRepository.save(existing)).thenReturn(existing);
+    when(applicationReadRepository.findAllById(any())).thenReturn(List.of(existing));
 
     projection.on(
         new ApplicationDecisionMadeEvent(
             applicationId, 3L, 4L, "GRANTED", AutoGrantedState.MANUAL, occurredAt),
-        queryUpdateEmitter);
+        queryUpdateEmitter,
+        unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getApplicationVersion()).isEqualTo(3L);
     assertThat(existing.getApplicationDataVersion()).isEqualTo(4L);
@@ -193,12 +242,13 @@ class ApplicationProjectionTest {
     Instant occurredAt = Instant.parse("2026-07-21T09:30:00Z");
     ApplicationReadModel existing =
         ApplicationReadModel.builder().applicationId(applicationId).build();
-    when(applicationReadRepository.findById(applicationId)).thenReturn(Optional.of(existing));
-    when(applicationReadRepository.save(existing)).thenReturn(existing);
+    when(applicationReadRepository.findAllById(any())).thenReturn(List.of(existing));
 
     projection.on(
         new ApplicationReadyForManualAssessmentEvent(applicationId, 1L, 1L, occurredAt),
-        queryUpdateEmitter);
+        queryUpdateEmitter,
+        unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getStatus()).isNull();
     assertThat(existing.getApplicationVersion()).isEqualTo(1L);
@@ -213,16 +263,18 @@ class ApplicationProjectionTest {
     Instant occurredAt = Instant.parse("2026-07-20T08:00:00Z");
     ApplicationReadModel existing =
         ApplicationReadModel.builder().applicationId(applicationId).build();
-    when(applicationReadRepository.findById(applicationId)).thenReturn(Optional.of(existing));
+    when(applicationReadRepository.findAllById(any())).thenReturn(List.of(existing));
 
     projection.on(
-        new ApplicationAssignedToCaseworkerEvent(applicationId, 1L, 2L, caseworkerId, occurredAt));
+        new ApplicationAssignedToCaseworkerEvent(applicationId, 1L, 2L, caseworkerId, occurredAt),
+        unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getCaseworkerId()).isEqualTo(caseworkerId);
     assertThat(existing.getApplicationVersion()).isEqualTo(1L);
     assertThat(existing.getApplicationDataVersion()).isEqualTo(2L);
     assertThat(existing.getModifiedAt()).isEqualTo(occurredAt);
-    verify(applicationReadRepository).save(existing);
+    verify(applicationReadRepository).saveAll(List.of(existing));
   }
 
   @Test
@@ -234,15 +286,18 @@ class ApplicationProjectionTest {
             .applicationId(applicationId)
             .caseworkerId(UUID.randomUUID())
             .build();
-    when(applicationReadRepository.findById(applicationId)).thenReturn(Optional.of(existing));
+    when(applicationReadRepository.findAllById(any())).thenReturn(List.of(existing));
 
-    projection.on(new ApplicationUnassignedFromCaseworkerEvent(applicationId, 2L, 3L, occurredAt));
+    projection.on(
+        new ApplicationUnassignedFromCaseworkerEvent(applicationId, 2L, 3L, occurredAt),
+        unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getCaseworkerId()).isNull();
     assertThat(existing.getApplicationVersion()).isEqualTo(2L);
     assertThat(existing.getApplicationDataVersion()).isEqualTo(3L);
     assertThat(existing.getModifiedAt()).isEqualTo(occurredAt);
-    verify(applicationReadRepository).save(existing);
+    verify(applicationReadRepository).saveAll(List.of(existing));
   }
 
   @Test
@@ -256,16 +311,18 @@ class ApplicationProjectionTest {
             .applicationVersion(0L)
             .applicationDataVersion(0L)
             .build();
-    when(applicationReadRepository.findById(applicationId)).thenReturn(Optional.of(existing));
+    when(applicationReadRepository.findAllById(any())).thenReturn(List.of(existing));
 
     projection.on(
         new uk.gov.justice.laa.dstew.access.command.application.note.NoteCreatedEvent(
-            applicationId, 1L, occurredAt));
+            applicationId, 1L, occurredAt),
+        unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getApplicationDataVersion()).isEqualTo(1L);
     assertThat(existing.getApplicationVersion()).isEqualTo(0L);
     assertThat(existing.getModifiedAt()).isEqualTo(occurredAt);
-    verify(applicationReadRepository).save(existing);
+    verify(applicationReadRepository).saveAll(List.of(existing));
   }
 
   @Test
@@ -373,25 +430,4 @@ class ApplicationProjectionTest {
     assertThat(result.applications()).isEmpty();
     assertThat(result.totalElements()).isZero();
   }
-
-  private ApplicationReadModel reconciliationReadModel(UUID applicationId) {
-    return ApplicationReadModel.builder()
-        .applicationId(applicationId)
-        .status("APPLICATION_SUBMITTED")
-        .applicationDataVersion(2L)
-        .applicationVersion(3L)
-        .build();
-  }
-
-  private ApplicationDataId dataId(ApplicationReadModel application) {
-    return new ApplicationDataId(
-        application.getApplicationId(), application.getApplicationDataVersion());
-  }
-
-  private ApplicationDataPayload reconciliationData(Instant submittedAt, Boolean autoGranted) {
-    ApplicationDataPayload data = mock(ApplicationDataPayload.class);
-    when(data.submittedAt()).thenReturn(submittedAt);
-    when(data.autoGranted()).thenReturn(AutoGrantedState.fromDecisionFlag(autoGranted));
-    return data;
-  }
 }
@@ -3,28 +3,35 @@ package uk.gov.justice.laa.dstew.access.query.application.linkedgroup;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupCreatedEvent;
 import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.MemberAddedToGroupEvent;
+import uk.gov.justice.laa.dstew.access.query.CommittableProcessingContext;
 
 class LinkedApplicationGroupProjectionTest {
 
   private LinkedApplicationGroupReadRepository groupReadRepository;
+  private EntityManager entityManager;
   private LinkedApplicationGroupProjection projection;
+  private CommittableProcessingContext unitOfWork;
 
   @BeforeEach
   void setUp() {
     groupReadRepository = mock(LinkedApplicationGroupReadRepository.class);
-    projection = new LinkedApplicationGroupProjection(groupReadRepository);
+    entityManager = mock(EntityManager.class);
+    projection = new LinkedApplicationGroupProjection(groupReadRepository, entityManager);
+    unitOfWork = new CommittableProcessingContext();
   }
 
   @Test
@@ -36,9 +43,35 @@ class LinkedApplicationGroupProjectionTest {
 
     projection.on(
         new LinkedApplicationGroupCreatedEvent(
-            groupId, leadId, members, Instant.parse("2026-07-15T08:00:00Z")));
+            groupId, leadId, members, Instant.parse("2026-07-15T08:00:00Z")),
+        unitOfWork.context());
 
-    verify(groupReadRepository).save(any(LinkedApplicationGroupReadModel.class));
+    verify(entityManager, never()).persist(any());
+    unitOfWork.commit();
+    verify(entityManager).persist(any(LinkedApplicationGroupReadModel.class));
+  }
+
+  @Test
+  void givenGroupCreatedAndMemberAddedInOneBatch_whenCommitted_thenPersistsGroupWithMember() {
+    UUID groupId = UUID.randomUUID();
+    UUID leadId = UUID.randomUUID();
+    UUID newMemberId = UUID.randomUUID();
+    Instant occurredAt = Instant.parse("2026-07-15T09:00:00Z");
+
+    projection.on(
+        new LinkedApplicationGroupCreatedEvent(
+            groupId, leadId, List.of(leadId), Instant.parse("2026-07-15T08:00:00Z")),
+        unitOfWork.context());
+    projection.on(
+        new MemberAddedToGroupEvent(groupId, newMemberId, occurredAt), unitOfWork.context());
+    unitOfWork.commit();
+
+    ArgumentCaptor<LinkedApplicationGroupReadModel> persisted =
+        ArgumentCaptor.forClass(LinkedApplicationGroupReadModel.class);
+    verify(entityManager).persist(persisted.capture());
+    assertThat(persisted.getValue().getMemberIds()).containsExactly(leadId, newMemberId);
+    assertThat(persisted.getValue().getModifiedAt()).isEqualTo(occurredAt);
+    verify(groupReadRepository).findAllById(List.of(groupId));
   }
 
   @Test
@@ -58,13 +91,15 @@ class LinkedApplicationGroupProjectionTest {
             .modifiedAt(Instant.parse("2026-07-15T08:00:00Z"))
             .build();
 
-    when(groupReadRepository.findById(groupId)).thenReturn(Optional.of(existing));
+    when(groupReadRepository.findAllById(any())).thenReturn(List.of(existing));
 
-    projection.on(new MemberAddedToGroupEvent(groupId, newMemberId, occurredAt));
+    projection.on(
+        new MemberAddedToGroupEvent(groupId, newMemberId, occurredAt), unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getMemberIds()).contains(newMemberId);
     assertThat(existing.getModifiedAt()).isEqualTo(occurredAt);
-    verify(groupReadRepository).save(existing);
+    verify(groupReadRepository).saveAll(List.of(existing));
   }
 
   @Test
@@ -4,20 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture.applicationCreatedEvent;
 import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture.applicationCreationDetails;
 
+import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
-import org.axonframework.messaging.core.MessageType;
-import org.axonframework.messaging.eventhandling.EventMessage;
-import org.axonframework.messaging.eventhandling.GenericEventMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -27,27 +25,34 @@ import uk.gov.justice.laa.dstew.access.command.application.ApplicationLinkedEven
 import uk.gov.justice.laa.dstew.access.command.application.AutoGrantedState;
 import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationAssignedToCaseworkerEvent;
 import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationUnassignedFromCaseworkerEvent;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataId;
 import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataPayload;
 import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataStore;
 import uk.gov.justice.laa.dstew.access.command.application.decision.ApplicationDecisionMadeEvent;
 import uk.gov.justice.laa.dstew.access.command.application.note.NoteCreatedEvent;
+import uk.gov.justice.laa.dstew.access.query.CommittableProcessingContext;
 
 class ApplicationListIndexProjectionTest {
 
   private ApplicationListIndexReadRepository listIndexRepository;
   private ApplicationDataStore applicationDataStore;
+  private EntityManager entityManager;
   private ApplicationListIndexProjection projection;
+  private CommittableProcessingContext unitOfWork;
 
   @BeforeEach
   void setUp() {
     listIndexRepository = mock(ApplicationListIndexReadRepository.class);
     applicationDataStore = mock(ApplicationDataStore.class);
-    projection = new ApplicationListIndexProjection(listIndexRepository, applicationDataStore);
+    entityManager = mock(EntityManager.class);
+    projection =
+        new ApplicationListIndexProjection(
+            listIndexRepository, applicationDataStore, entityManager);
+    unitOfWork = new CommittableProcessingContext();
   }
 
-  private static EventMessage anyMessage() {
-    return new GenericEventMessage(
-        "test-id", new MessageType(String.class), "test", Map.of(), Instant.now());
+  private static ApplicationDataId dataId(UUID applicationId, ApplicationCreatedEvent event) {
+    return new ApplicationDataId(applicationId, event.applicationDataVersion());
   }
 
   // -------------------------------------------------------------------------
@@ -60,14 +65,15 @@ class ApplicationListIndexProjectionTest {
     ApplicationCreatedEvent event = applicationCreatedEvent(applicationId);
     ApplicationDataPayload payload =
         ApplicationDataPayload.from(applicationCreationDetails(applicationId));
-    when(applicationDataStore.get(applicationId, event.applicationDataVersion()))
-        .thenReturn(payload);
+    when(applicationDataStore.getAll(any()))
+        .thenReturn(Map.of(dataId(applicationId, event), payload));
 
-    projection.on(event, anyMessage());
+    projection.on(event, unitOfWork.context());
+    unitOfWork.commit();
 
     ArgumentCaptor<ApplicationListIndexReadModel> captor =
         ArgumentCaptor.forClass(ApplicationListIndexReadModel.class);
-    verify(listIndexRepository).save(captor.capture());
+    verify(entityManager).persist(captor.capture());
     ApplicationListIndexReadModel saved = captor.getValue();
 
     assertThat(saved.getApplicationId()).isEqualTo(applicationId);
@@ -113,14 +119,15 @@ class ApplicationListIndexProjectionTest {
             basePayload.assignmentEventDescription(),
             basePayload.notes());
 
-    when(applicationDataStore.get(applicationId, event.applicationDataVersion()))
-        .thenReturn(payloadWithClient);
+    when(applicationDataStore.getAll(any()))
+        .thenReturn(Map.of(dataId(applicationId, event), payloadWithClient));
 
-    projection.on(event, anyMessage());
+    projection.on(event, unitOfWork.context());
+    unitOfWork.commit();
 
     ArgumentCaptor<ApplicationListIndexReadModel> captor =
         ArgumentCaptor.forClass(ApplicationListIndexReadModel.class);
-    verify(listIndexRepository).save(captor.capture());
+    verify(entityManager).persist(captor.capture());
     ApplicationListIndexReadModel saved = captor.getValue();
 
     assertThat(saved.getClientFirstName()).isEqualTo("Jane");
@@ -134,14 +141,15 @@ class ApplicationListIndexProjectionTest {
     ApplicationCreatedEvent event = applicationCreatedEvent(applicationId);
     ApplicationDataPayload payload =
         ApplicationDataPayload.from(applicationCreationDetails(applicationId));
-    when(applicationDataStore.get(applicationId, event.applicationDataVersion()))
-        .thenReturn(payload);
+    when(applicationDataStore.getAll(any()))
+        .thenReturn(Map.of(dataId(applicationId, event), payload));
 
-    projection.on(event, anyMessage());
+    projection.on(event, unitOfWork.context());
+    unitOfWork.commit();
 
     ArgumentCaptor<ApplicationListIndexReadModel> captor =
         ArgumentCaptor.forClass(ApplicationListIndexReadModel.class);
-    verify(listIndexRepository).save(captor.capture());
+    verify(entityManager).persist(captor.capture());
     ApplicationListIndexReadModel saved = captor.getValue();
 
     assertThat(saved.getClientFirstName()).isNull();
@@ -149,6 +157,60 @@ class ApplicationListIndexProjectionTest {
     assertThat(saved.getClientDateOfBirth()).isNull();
   }
 
+  @Test
+  void givenCreatedEventsInOneBatch_whenCommitted_thenLoadsPayloadsAndRowsOnce() {
+    UUID firstId = UUID.randomUUID();
+    UUID secondId = UUID.randomUUID();
+    ApplicationCreatedEvent first = applicationCreatedEvent(firstId);
+    ApplicationCreatedEvent second = applicationCreatedEvent(secondId);
+    when(applicationDataStore.getAll(any()))
+        .thenReturn(
+            Map.of(
+                dataId(firstId, first),
+                ApplicationDataPayload.from(applicationCreationDetails(firstId)),
+                dataId(secondId, second),
+                ApplicationDataPayload.from(applicationCreationDetails(secondId))));
+
+    projection.on(first, unitOfWork.context());
+    projection.on(second, unitOfWork.context());
+    projection.on(new NoteCreatedEvent(firstId, 1L, Instant.now()), unitOfWork.context());
+
+    verify(entityManager, never()).persist(any());
+    unitOfWork.commit();
+
+    verify(applicationDataStore).getAll(any());
+    verify(listIndexRepository).findAllById(List.of(firstId, secondId));
+    verify(entityManager, times(2)).persist(any(ApplicationListIndexReadModel.class));
+  }
+
+  @Test
+  void givenEventsAtGlobalIndexes_whenHandled_thenRecordsIndexAsProjectionPosition() {
+    UUID applicationId = UUID.randomUUID();
+    ApplicationCreatedEvent event = applicationCreatedEvent(applicationId);
+    when(applicationDataStore.getAll(any()))
+        .thenReturn(
+            Map.of(
+                dataId(applicationId, event),
+                ApplicationDataPayload.from(applicationCreationDetails(applicationId))));
+
+    projection.on(event, unitOfWork.atPosition(41).context());
+    unitOfWork.commit();
+
+    ArgumentCaptor<ApplicationListIndexReadModel> captor =
+        ArgumentCaptor.forClass(ApplicationListIndexReadModel.class);
+    verify(entityManager).persist(captor.capture());
+    ApplicationListIndexReadModel saved = captor.getValue();
+    assertThat(saved.getProjectionPosition()).isEqualTo(41L);
+
+    when(listIndexRepository.findAllById(any())).thenReturn(List.of(saved));
+    projection.on(
+        new NoteCreatedEvent(applicationId, 1L, Instant.now()),
+        unitOfWork.atPosition(57).context());
+    unitOfWork.commit();
+
+    assertThat(saved.getProjectionPosition()).isEqualTo(57L);
+  }
+
   // -------------------------------------------------------------------------
   // ApplicationLinkedEvent
   // -------------------------------------------------------------------------
@@ -159,23 +221,28 @@ class ApplicationListIndexProjectionTest {
     UUID leadId = UUID.randomUUID();
     ApplicationListIndexReadModel existing =
         ApplicationListIndexReadModel.builder().applicationId(applicationId).build();
-    when(listIndexRepository.findById(applicationId)).thenReturn(Optional.of(existing));
+    when(listIndexRepository.findAllById(any())).thenReturn(List.of(existing));
 
-    projection.on(new ApplicationLinkedEvent(applicationId, leadId, Instant.now()), anyMessage());
+    projection.on(
+        new ApplicationLinkedEvent(applicationId, leadId, Instant.now()), unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getLeadApplicationId()).isEqualTo(leadId);
-    verify(listIndexRepository).save(existing);
+    verify(listIndexRepository).saveAll(List.of(existing));
   }
 
   @Test
   void givenLinkedEventForUnknownApplication_whenHandled_thenDoesNothing() {
     UUID applicationId = UUID.randomUUID();
-    when(listIndexRepository.findById(applicationId)).thenReturn(Optional.empty());
+    when(listIndexRepository.findAllById(any())).thenReturn(List.of());
 
     projection.on(
-        new ApplicationLinkedEvent(applicationId, UUID.randomUUID(), Instant.now()), anyMessage());
+        new ApplicationLinkedEvent(applicationId, UUID.randomUUID(), Instant.now()),
+        unitOfWork.context());
+    unitOfWork.commit();
 
-    verify(listIndexRepository, never()).save(any());
+    verify(listIndexRepository, never()).saveAll(any());
+    verify(entityManager, never()).persist(any());
   }
 
   // -------------------------------------------------------------------------
@@ -191,17 +258,18 @@ class ApplicationListIndexProjectionTest {
             .status("APPLICATION_SUBMITTED")
             .streamVersion(0L)
             .build();
-    when(listIndexRepository.findById(applicationId)).thenReturn(Optional.of(existing));
+    when(listIndexRepository.findAllById(any())).thenReturn(List.of(existing));
 
     projection.on(
         new ApplicationDecisionMadeEvent(
             applicationId, 3L, 4L, "GRANTED", AutoGrantedState.AUTOGRANTED, Instant.now()),
-        anyMessage());
+        unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getStatus()).isEqualTo("GRANTED");
     assertThat(existing.getAutoGranted()).isEqualTo(AutoGrantedState.AUTOGRANTED);
     assertThat(existing.getStreamVersion()).isEqualTo(3L);
-    verify(listIndexRepository).save(existing);
+    verify(listIndexRepository).saveAll(List.of(existing));
   }
 
   @Test
@@ -213,15 +281,16 @@ class ApplicationListIndexProjectionTest {
             .status("APPLICATION_SUBMITTED")
             .streamVersion(0L)
             .build();
-    when(listIndexRepository.findById(applicationId)).thenReturn(Optional.of(existing));
+    when(listIndexRepository.findAllById(any())).thenReturn(List.of(existing));
 
     projection.on(
         new ApplicationDecisionMadeEvent(
             applicationId, 3L, 4L, null, AutoGrantedState.MANUAL, Instant.now()),
-        anyMessage());
+        unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getStatus()).isEqualTo("APPLICATION_SUBMITTED");
-    verify(listIndexRepository).save(existing);
+    verify(listIndexRepository).saveAll(List.of(existing));
   }
 
   // -------------------------------------------------------------------------
@@ -237,16 +306,17 @@ class ApplicationListIndexProjectionTest {
             .applicationId(applicationId)
             .streamVersion(0L)
             .build();
-    when(listIndexRepository.findById(applicationId)).thenReturn(Optional.of(existing));
+    when(listIndexRepository.findAllById(any())).thenReturn(List.of(existing));
 
     projection.on(
         new ApplicationAssignedToCaseworkerEvent(
             applicationId, 1L, 2L, caseworkerId, Instant.now()),
-        anyMessage());
+        unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getCaseworkerId()).isEqualTo(caseworkerId);
     assertThat(existing.getStreamVersion()).isEqualTo(1L);
-    verify(listIndexRepository).save(existing);
+    verify(listIndexRepository).saveAll(List.of(existing));
   }
 
   // -------------------------------------------------------------------------
@@ -262,15 +332,16 @@ class ApplicationListIndexProjectionTest {
             .caseworkerId(UUID.randomUUID())
             .streamVersion(1L)
             .build();
-    when(listIndexRepository.findById(applicationId)).thenReturn(Optional.of(existing));
+    when(listIndexRepository.findAllById(any())).thenReturn(List.of(existing));
 
     projection.on(
         new ApplicationUnassignedFromCaseworkerEvent(applicationId, 2L, 3L, Instant.now()),
-        anyMessage());
+        unitOfWork.context());
+    unitOfWork.commit();
 
     assertThat(existing.getCaseworkerId()).isNull();
     assertThat(existing.getStreamVersion()).isEqualTo(2L);
-    verify(listIndexRepository).save(existing);
+    verify(listIndexRepository).saveAll(List.of(existing));
   }
 
   // -------------------------------------------------------------------------
@@ -287,15 +358,16 @@ class ApplicationListIndexProjectionTest {
             .clientFirstName("Jane")
             .streamVersion(1L)
             .build();
-    when(listIndexRepository.findById(applicationId)).thenReturn(Optional.of(existing));
+    when(listIndexRepository.findAllById(any())).thenReturn(List.of(existing));
 
-    projection.on(new NoteCreatedEvent(applicationId, 2L, Instant.now()), anyMessage());
+    projection.on(new NoteCreatedEvent(applicationId, 2L, Instant.now()), unitOfWork.context());
+    unitOfWork.commit();
 
     // Filter fields must not be modified
     assertThat(existing.getStatus()).isEqualTo("APPLICATION_SUBMITTED");
     assertThat(existing.getClientFirstName()).isEqualTo("Jane");
     assertThat(existing.getStreamVersion()).isEqualTo(1L);
-    verify(listIndexRepository).save(existing);
+    verify(listIndexRepository).saveAll(List.of(existing));
   }
 
   // -------------------------------------------------------------------------
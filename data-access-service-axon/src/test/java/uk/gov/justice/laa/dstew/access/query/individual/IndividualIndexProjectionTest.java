@@ -0,0 +1,215 @@
+package uk.gov.justice.laa.dstew.access.query.individual;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture.applicationCreatedEvent;
+import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture.applicationCreationDetails;
+
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import uk.gov.justice.laa.dstew.access.applicationcontent.ApplicationClient;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreationDetails;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataId;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataPayload;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataStore;
+import uk.gov.justice.laa.dstew.access.command.application.update.ApplicationUpdatedEvent;
+import uk.gov.justice.laa.dstew.access.query.CommittableProcessingContext;
+
+class IndividualIndexProjectionTest {
+
+  private static final ApplicationClient ADA =
+      ApplicationClient.builder()
+          .firstName("Ada")
+          .lastName("Lovelace")
+          .dateOfBirth(LocalDate.of(1815, 12, 10))
+          .build();
+
+  private IndividualIndexReadRepository individualIndexRepository;
+  private ApplicationDataStore applicationDataStore;
+  private EntityManager entityManager;
+  private IndividualIndexProjection projection;
+  private CommittableProcessingContext unitOfWork;
+
+  @BeforeEach
+  void setUp() {
+    individualIndexRepository = mock(IndividualIndexReadRepository.class);
+    applicationDataStore = mock(ApplicationDataStore.class);
+    entityManager = mock(EntityManager.class);
+    projection =
+        new IndividualIndexProjection(
+            individualIndexRepository, applicationDataStore, entityManager);
+    unitOfWork = new CommittableProcessingContext();
+  }
+
+  @Test
+  void givenCreatedEventWithClient_whenHandled_thenInsertsClientRow() {
+    UUID applicationId = UUID.randomUUID();
+    ApplicationCreatedEvent event = applicationCreatedEvent(applicationId);
+    when(applicationDataStore.getAll(any()))
+        .thenReturn(
+            Map.of(
+                new ApplicationDataId(applicationId, event.applicationDataVersion()),
+                payload(applicationId, ADA)));
+
+    projection.on(event, unitOfWork.atPosition(12).context());
+    unitOfWork.commit();
+
+    ArgumentCaptor<IndividualIndexReadModel> captor =
+        ArgumentCaptor.forClass(IndividualIndexReadModel.class);
+    verify(entityManager).persist(captor.capture());
+    IndividualIndexReadModel saved = captor.getValue();
+    assertThat(saved.getIndividualId()).isEqualTo(IndividualIndexReadModel.clientId(applicationId));
+    assertThat(saved.getApplicationId()).isEqualTo(applicationId);
+    assertThat(saved.getIndividualType()).isEqualTo(IndividualIndexReadModel.CLIENT);
+    assertThat(saved.getFirstName()).isEqualTo("Ada");
+    assertThat(saved.getLastName()).isEqualTo("Lovelace");
+    assertThat(saved.getDateOfBirth()).isEqualTo(LocalDate.of(1815, 12, 10));
+    assertThat(saved.getModifiedAt()).isEqualTo(event.occurredAt());
+    assertThat(saved.getProjectionPosition()).isEqualTo(12);
+  }
+
+  @Test
+  void givenCreatedEventWithoutClient_whenHandled_thenWritesNothing() {
+    UUID applicationId = UUID.randomUUID();
+    ApplicationCreatedEvent event = applicationCreatedEvent(applicationId);
+    when(applicationDataStore.getAll(any()))
+        .thenReturn(
+            Map.of(
+                new ApplicationDataId(applicationId, event.applicationDataVersion()),
+                ApplicationDataPayload.from(applicationCreationDetails(applicationId))));
+
+    projection.on(event, unitOfWork.context());
+    unitOfWork.commit();
+
+    verify(entityManager, never()).persist(any());
+    verify(individualIndexRepository, never()).saveAll(any());
+    verify(individualIndexRepository, never()).deleteAllInBatch(any());
+  }
+
+  @Test
+  void givenUpdatedEvent_whenHandled_thenReplacesClientFromNewDataVersion() {
+    UUID applicationId = UUID.randomUUID();
+    IndividualIndexReadModel existing = row(applicationId, "Ada", "Byron");
+    when(individualIndexRepository.findAllById(any())).thenReturn(List.of(existing));
+    when(applicationDataStore.getAll(any()))
+        .thenReturn(
+            Map.of(new ApplicationDataId(applicationId, 2L), payload(applicationId, ADA)));
+
+    projection.on(updatedEvent(applicationId, 2L), unitOfWork.context());
+    unitOfWork.commit();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<IndividualIndexReadModel>> captor = ArgumentCaptor.forClass(List.class);
+    verify(individualIndexRepository).saveAll(captor.capture());
+    assertThat(captor.getValue())
+        .singleElement()
+        .satisfies(
+            saved -> {
+              assertThat(saved.getIndividualId()).isEqualTo(existing.getIndividualId());
+              assertThat(saved.getLastName()).isEqualTo("Lovelace");
+            });
+    verify(entityManager, never()).persist(any());
+  }
+
+  @Test
+  void givenUpdatedEventWithoutClient_whenHandled_thenRemovesClientRow() {
+    UUID applicationId = UUID.randomUUID();
+    IndividualIndexReadModel existing = row(applicationId, "Ada", "Lovelace");
+    when(individualIndexRepository.findAllById(any())).thenReturn(List.of(existing));
+    when(applicationDataStore.getAll(any()))
+        .thenReturn(
+            Map.of(
+                new ApplicationDataId(applicationId, 2L),
+                ApplicationDataPayload.from(applicationCreationDetails(applicationId))));
+
+    projection.on(updatedEvent(applicationId, 2L), unitOfWork.context());
+    unitOfWork.commit();
+
+    verify(individualIndexRepository).deleteAllInBatch(List.of(existing));
+    verify(individualIndexRepository, never()).saveAll(any());
+  }
+
+  @Test
+  void givenEventsInOneBatch_whenCommitted_thenLoadsPayloadsOnce() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    ApplicationCreatedEvent firstEvent = applicationCreatedEvent(first);
+    ApplicationCreatedEvent secondEvent = applicationCreatedEvent(second);
+    when(applicationDataStore.getAll(any()))
+        .thenReturn(
+            Map.of(
+                new ApplicationDataId(first, firstEvent.applicationDataVersion()),
+                payload(first, ADA),
+                new ApplicationDataId(second, secondEvent.applicationDataVersion()),
+                payload(second, ADA)));
+
+    projection.on(firstEvent, unitOfWork.context());
+    projection.on(secondEvent, unitOfWork.context());
+    unitOfWork.commit();
+
+    verify(applicationDataStore).getAll(any());
+    verify(individualIndexRepository).findAllById(any());
+  }
+
+  @Test
+  void givenReset_whenHandled_thenClearsIndex() {
+    projection.reset();
+
+    verify(individualIndexRepository).deleteAllInBatch();
+  }
+
+  private static ApplicationUpdatedEvent updatedEvent(UUID applicationId, long dataVersion) {
+    return new ApplicationUpdatedEvent(
+        applicationId,
+        1L,
+        dataVersion,
+        "APPLICATION_IN_PROGRESS",
+        "APPLICATION_SUBMITTED",
+        Instant.parse("2026-07-16T09:00:00Z"));
+  }
+
+  private static IndividualIndexReadModel row(
+      UUID applicationId, String firstName, String lastName) {
+    return IndividualIndexReadModel.builder()
+        .individualId(IndividualIndexReadModel.clientId(applicationId))
+        .applicationId(applicationId)
+        .individualType(IndividualIndexReadModel.CLIENT)
+        .firstName(firstName)
+        .lastName(lastName)
+        .modifiedAt(Instant.EPOCH)
+        .build();
+  }
+
+  private static ApplicationDataPayload payload(UUID applicationId, ApplicationClient client) {
+    ApplicationCreationDetails base = applicationCreationDetails(applicationId);
+    return ApplicationDataPayload.from(
+        new ApplicationCreationDetails(
+            base.status(),
+            base.laaReference(),
+            client,
+            base.provider(),
+            base.opponents(),
+            base.allLinkedApplications(),
+            base.schemaVersion(),
+            base.submittedAt(),
+            base.usedDelegatedFunctions(),
+            base.categoryOfLaw(),
+            base.matterType(),
+            base.proceedings(),
+            base.serialisedRequest(),
+            base.occurredAt(),
+            base.leadApplicationId()));
+  }
+}
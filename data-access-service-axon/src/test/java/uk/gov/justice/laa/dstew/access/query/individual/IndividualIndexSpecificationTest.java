@@ -0,0 +1,59 @@
+package uk.gov.justice.laa.dstew.access.query.individual;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IndividualIndexSpecificationTest {
+
+  private Root<IndividualIndexReadModel> root;
+  private CriteriaQuery<?> criteriaQuery;
+  private CriteriaBuilder cb;
+  private Predicate equalPredicate;
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  void setUp() {
+    root = mock(Root.class);
+    criteriaQuery = mock(CriteriaQuery.class);
+    cb = mock(CriteriaBuilder.class);
+    equalPredicate = mock(Predicate.class);
+
+    Path mockPath = mock(Path.class);
+    when(root.get(any(String.class))).thenReturn(mockPath);
+    when(cb.equal(any(), any())).thenReturn(equalPredicate);
+  }
+
+  @Test
+  void givenNoFilters_whenBuilt_thenProducesAndWithNoPredicates() {
+    IndividualIndexSpecification.from(new FindIndividualsQuery(null, null, false, 1, 20))
+        .toPredicate(root, criteriaQuery, cb);
+
+    verify(cb).and(new Predicate[0]);
+  }
+
+  @Test
+  void givenApplicationAndTypeFilters_whenBuilt_thenAddsEqualPredicates() {
+    UUID applicationId = UUID.randomUUID();
+    FindIndividualsQuery query = new FindIndividualsQuery(applicationId, "CLIENT", true, 1, 20);
+
+    IndividualIndexSpecification.from(query).toPredicate(root, criteriaQuery, cb);
+
+    verify(root).get("applicationId");
+    verify(cb).equal(any(), eq(applicationId));
+    verify(root).get("individualType");
+    verify(cb).equal(any(), eq("CLIENT"));
+    verify(cb).and(equalPredicate, equalPredicate);
+  }
+}
@@ -1,17 +1,25 @@
 package uk.gov.justice.laa.dstew.access.query.individual;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import uk.gov.justice.laa.dstew.access.applicationcontent.ApplicationAddress;
 import uk.gov.justice.laa.dstew.access.applicationcontent.ApplicationClient;
 import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreationDetails;
@@ -24,48 +32,51 @@ import uk.gov.justice.laa.dstew.access.testutils.ApplicationCreatedEventFixture;
 
 class IndividualsQueryHandlerTest {
 
+  private IndividualIndexReadRepository individualIndexRepository;
   private ApplicationReadRepository applicationRepository;
   private ApplicationDataStore applicationDataStore;
   private IndividualsQueryHandler handler;
 
   @BeforeEach
   void setUp() {
+    individualIndexRepository = mock(IndividualIndexReadRepository.class);
     applicationRepository = mock(ApplicationReadRepository.class);
     applicationDataStore = mock(ApplicationDataStore.class);
-    handler = new IndividualsQueryHandler(applicationRepository, applicationDataStore);
+    handler =
+        new IndividualsQueryHandler(
+            individualIndexRepository, applicationRepository, applicationDataStore);
   }
 
   @Test
-  void givenApplications_whenQueried_thenReturnsClient() {
-    UUID firstApplicationId = UUID.randomUUID();
-    UUID secondApplicationId = UUID.randomUUID();
-    ApplicationReadModel firstApplication = application(firstApplicationId, 2L);
-    ApplicationReadModel secondApplication = application(secondApplicationId, 4L);
-    ApplicationClient client =
-        ApplicationClient.builder().firstName("Ada").lastName("Lovelace").build();
-    when(applicationRepository.findAll()).thenReturn(List.of(firstApplication, secondApplication));
-    when(applicationDataStore.getAll(anyCollection()))
-        .thenReturn(
-            Map.of(
-                new ApplicationDataId(firstApplicationId, 2L), payload(firstApplicationId, client),
-                new ApplicationDataId(secondApplicationId, 4L),
-                    payload(secondApplicationId, client)));
+  @SuppressWarnings("unchecked")
+  void givenIndexedClients_whenQueried_thenReturnsPageFromIndexOnly() {
+    IndividualIndexReadModel first = indexRow(UUID.randomUUID(), "Ada", "Lovelace");
+    IndividualIndexReadModel second = indexRow(UUID.randomUUID(), "Grace", "Hopper");
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    when(individualIndexRepository.findAll(any(Specification.class), pageable.capture()))
+        .thenReturn(new PageImpl<>(List.of(first, second), PageRequest.of(1, 2), 7));
 
     FindIndividualsResult result =
-        handler.handle(new FindIndividualsQuery(null, "CLIENT", false, 1, 20));
-
-    assertThat(result.client()).isNotNull();
-    assertThat(result.client().getFirstName()).isEqualTo("Ada");
-    assertThat(result.totalRecords()).isEqualTo(1);
-    assertThat(result.page()).isEqualTo(1);
-    assertThat(result.pageSize()).isEqualTo(20);
+        handler.handle(new FindIndividualsQuery(null, "CLIENT", false, 2, 2));
+
+    assertThat(pageable.getValue().getPageNumber()).isEqualTo(1);
+    assertThat(pageable.getValue().getPageSize()).isEqualTo(2);
+    assertThat(pageable.getValue().getSort())
+        .isEqualTo(Sort.by("lastName", "firstName", "individualId"));
+    assertThat(result.clients())
+        .extracting(ApplicationClient::getFirstName)
+        .containsExactly("Ada", "Grace");
+    assertThat(result.clients().getFirst().getDateOfBirth()).isEqualTo(LocalDate.of(1815, 12, 10));
+    assertThat(result.totalRecords()).isEqualTo(7);
+    assertThat(result.page()).isEqualTo(2);
+    assertThat(result.pageSize()).isEqualTo(2);
     assertThat(result.includeClientDetails()).isFalse();
+    verifyNoInteractions(applicationRepository, applicationDataStore);
   }
 
   @Test
-  void givenApplicationFilterAndClientDetails_whenQueried_thenReturnsEnrichedResult() {
+  void givenApplicationFilterAndClientDetails_whenQueried_thenReadsClientFromCurrentData() {
     UUID applicationId = UUID.randomUUID();
-    ApplicationReadModel application = application(applicationId, 3L);
     ApplicationClient client =
         ApplicationClient.builder()
             .firstName("Ada")
@@ -83,58 +94,96 @@ class IndividualsQueryHandlerTest {
                         .countryName("United Kingdom")
                         .build()))
             .build();
-    when(applicationRepository.findById(applicationId)).thenReturn(Optional.of(application));
-    when(applicationDataStore.getAll(anyCollection()))
-        .thenReturn(
-            Map.of(new ApplicationDataId(applicationId, 3L), payload(applicationId, client)));
+    when(applicationRepository.findById(applicationId))
+        .thenReturn(Optional.of(application(applicationId, 3L)));
+    ApplicationDataId dataId = new ApplicationDataId(applicationId, 3L);
+    when(applicationDataStore.getAll(List.of(dataId)))
+        .thenReturn(Map.of(dataId, payload(applicationId, client)));
 
     FindIndividualsResult result =
         handler.handle(new FindIndividualsQuery(applicationId, "CLIENT", true, 1, 20));
 
-    verify(applicationRepository).findById(applicationId);
-    assertThat(result.client()).isEqualTo(client);
+    assertThat(result.clients()).containsExactly(client);
+    assertThat(result.totalRecords()).isEqualTo(1);
     assertThat(result.includeClientDetails()).isTrue();
+    verifyNoInteractions(individualIndexRepository);
+  }
+
+  @Test
+  void givenApplicationFilterBeyondFirstPage_whenQueried_thenCountsTheClientOnly() {
+    UUID applicationId = UUID.randomUUID();
+    when(applicationRepository.findById(applicationId))
+        .thenReturn(Optional.of(application(applicationId, 0L)));
+    ApplicationDataId dataId = new ApplicationDataId(applicationId, 0L);
+    when(applicationDataStore.getAll(List.of(dataId)))
+        .thenReturn(
+            Map.of(
+                dataId,
+                payload(applicationId, ApplicationClient.builder().firstName("Ada").build())));
+
+    FindIndividualsResult result =
+        handler.handle(new FindIndividualsQuery(applicationId, null, false, 2, 20));
+
+    assertThat(result.clients()).isEmpty();
+    assertThat(result.totalRecords()).isEqualTo(1);
   }
 
   @Test
   void givenUnknownApplication_whenQueried_thenReturnsEmptyPage() {
     UUID applicationId = UUID.randomUUID();
     when(applicationRepository.findById(applicationId)).thenReturn(Optional.empty());
-    when(applicationDataStore.getAll(List.of())).thenReturn(Map.of());
 
     FindIndividualsResult result =
-        handler.handle(new FindIndividualsQuery(applicationId, null, false, 1, 20));
+        handler.handle(new FindIndividualsQuery(applicationId, null, true, 1, 20));
 
-    assertThat(result.client()).isNull();
+    assertThat(result.clients()).isEmpty();
     assertThat(result.totalRecords()).isZero();
+    verifyNoInteractions(individualIndexRepository, applicationDataStore);
   }
 
   @Test
-  void givenAbsentPaging_whenQueryCreated_thenUsesSharedDefaults() {
-    FindIndividualsQuery query = new FindIndividualsQuery(null, null, false, null, null);
+  void givenApplicationFilterAndOtherType_whenQueried_thenReturnsEmptyPage() {
+    FindIndividualsResult result =
+        handler.handle(new FindIndividualsQuery(UUID.randomUUID(), "OTHER", false, 1, 20));
 
-    assertThat(query.page()).isEqualTo(1);
-    assertThat(query.pageSize()).isEqualTo(20);
+    assertThat(result.clients()).isEmpty();
+    assertThat(result.totalRecords()).isZero();
+    verifyNoInteractions(individualIndexRepository, applicationRepository, applicationDataStore);
   }
 
   @Test
-  void givenNonClientType_whenQueried_thenReturnsEmpty() {
-    UUID applicationId = UUID.randomUUID();
-    ApplicationReadModel application = application(applicationId, 1L);
-    ApplicationClient client =
-        ApplicationClient.builder().firstName("Ada").lastName("Lovelace").build();
-    when(applicationRepository.findById(applicationId)).thenReturn(Optional.of(application));
-    when(applicationDataStore.getAll(anyCollection()))
-        .thenReturn(
-            Map.of(new ApplicationDataId(applicationId, 1L), payload(applicationId, client)));
+  @SuppressWarnings("unchecked")
+  void givenNoMatchingIndividuals_whenQueried_thenReturnsEmptyPage() {
+    when(individualIndexRepository.findAll(any(Specification.class), any(Pageable.class)))
+        .thenReturn(new PageImpl<>(List.of()));
 
     FindIndividualsResult result =
-        handler.handle(new FindIndividualsQuery(applicationId, "OTHER", false, 1, 20));
+        handler.handle(new FindIndividualsQuery(null, "OTHER", false, 1, 20));
 
-    assertThat(result.client()).isNull();
+    assertThat(result.clients()).isEmpty();
     assertThat(result.totalRecords()).isZero();
   }
 
+  @Test
+  void givenAbsentPaging_whenQueryCreated_thenUsesSharedDefaults() {
+    FindIndividualsQuery query = new FindIndividualsQuery(null, null, false, null, null);
+
+    assertThat(query.page()).isEqualTo(1);
+    assertThat(query.pageSize()).isEqualTo(20);
+  }
+
+  private IndividualIndexReadModel indexRow(UUID applicationId, String firstName, String lastName) {
+    return IndividualIndexReadModel.builder()
+        .individualId(IndividualIndexReadModel.clientId(applicationId))
+        .applicationId(applicationId)
+        .individualType(IndividualIndexReadModel.CLIENT)
+        .firstName(firstName)
+        .lastName(lastName)
+        .dateOfBirth(LocalDate.of(1815, 12, 10))
+        .modifiedAt(Instant.EPOCH)
+        .build();
+  }
+
   private ApplicationReadModel application(UUID id, long dataVersion) {
     return ApplicationReadModel.builder()
         .applicationId(id)
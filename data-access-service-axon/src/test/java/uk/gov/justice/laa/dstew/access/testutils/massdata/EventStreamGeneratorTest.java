@@ -0,0 +1,107 @@
+package uk.gov.justice.laa.dstew.access.testutils.massdata;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.justice.laa.dstew.access.applicationcontent.ApplicationContentParser;
+import uk.gov.justice.laa.dstew.access.applicationcontent.PayloadValidator;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreationDetailsFactory;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataStore;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupCreatedEvent;
+import uk.gov.justice.laa.dstew.access.controller.application.CreateApplicationCommandMapper;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.EventStreamGenerator.Chunk;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.EventStreamGenerator.DataVersion;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.EventStreamGenerator.StoredEvent;
+
+class EventStreamGeneratorTest {
+  private static final List<UUID> CASEWORKERS = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void generatesTheSameStreamsForTheSameSeed() {
+    Chunk first = generator(42L).generate(1, 250, 500);
+    Chunk second = generator(42L).generate(1, 250, 500);
+
+    assertThat(objectMapper.writeValueAsString(second))
+        .isEqualTo(objectMapper.writeValueAsString(first));
+    assertThat(objectMapper.writeValueAsString(generator(43L).generate(1, 250, 500)))
+        .isNotEqualTo(objectMapper.writeValueAsString(first));
+  }
+
+  @Test
+  void numbersEveryStreamAndDataHistoryContiguously() {
+    Chunk chunk = generator(42L).generate(0, 0, 250);
+
+    Map<String, List<Long>> sequences =
+        chunk.events().stream()
+            .collect(
+                groupingBy(
+                    StoredEvent::aggregateIdentifier,
+                    mapping(StoredEvent::sequenceNumber, toList())));
+    sequences.forEach(
+        (aggregate, numbers) ->
+            assertThat(numbers)
+                .as(aggregate)
+                .containsExactlyElementsOf(LongStream.range(0, numbers.size()).boxed().toList()));
+
+    Map<UUID, List<DataVersion>> versions =
+        chunk.dataVersions().stream().collect(groupingBy(DataVersion::applicationId));
+    assertThat(versions).hasSize(250);
+    versions.forEach(
+        (applicationId, history) -> {
+          for (int version = 0; version < history.size(); version++) {
+            DataVersion row = history.get(version);
+            assertThat(row.version()).isEqualTo(version);
+            boolean checkpoint = ApplicationDataStore.isCheckpoint(version);
+            assertThat(row.payload() != null).isEqualTo(checkpoint);
+            assertThat(row.delta() != null).isEqualTo(!checkpoint);
+          }
+        });
+    assertThat(chunk.tally().applications()).isEqualTo(250);
+  }
+
+  @Test
+  void linksAssociatesToTheirLeadAndBuildsTheGroupStream() {
+    Chunk chunk = generator(42L).generate(0, 0, 250);
+
+    List<ApplicationCreatedEvent> associates =
+        chunk.events().stream()
+            .map(StoredEvent::payload)
+            .filter(ApplicationCreatedEvent.class::isInstance)
+            .map(ApplicationCreatedEvent.class::cast)
+            .filter(created -> created.leadApplicationId() != null)
+            .toList();
+    long groups =
+        chunk.events().stream()
+            .filter(event -> event.payload() instanceof LinkedApplicationGroupCreatedEvent)
+            .count();
+
+    assertThat(chunk.tally().linkedGroups()).isPositive();
+    assertThat(groups).isEqualTo(chunk.tally().linkedGroups());
+    assertThat(associates).hasSizeGreaterThanOrEqualTo(chunk.tally().linkedGroups());
+  }
+
+  private EventStreamGenerator generator(long seed) {
+    ApplicationContentParser parser =
+        new ApplicationContentParser(
+            new PayloadValidator(
+                new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator()));
+    return new EventStreamGenerator(
+        seed,
+        CASEWORKERS,
+        new ApplicationCreationDetailsFactory(parser),
+        new CreateApplicationCommandMapper(objectMapper),
+        objectMapper);
+  }
+}
@@ -1,6 +1,7 @@
 package uk.gov.justice.laa.dstew.access.testutils.massdata;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
@@ -14,7 +15,8 @@ class MassDataConfigurationTest {
           "massDataMaxWorkers",
           "massDataSeed",
           "massDataDump",
-          "massDataProgressInterval");
+          "massDataProgressInterval",
+          "massDataMode");
 
   @AfterEach
   void clearProperties() {
@@ -40,4 +42,31 @@ class MassDataConfigurationTest {
 
     assertThat(configuration.maxWorkers()).isEqualTo(10);
   }
+
+  @Test
+  void defaultsToDispatchingCommands() {
+    System.setProperty("massDataCount", "1");
+
+    assertThat(MassDataConfiguration.fromSystemProperties().mode())
+        .isEqualTo(MassDataConfiguration.Mode.COMMANDS);
+  }
+
+  @Test
+  void parsesTheDirectModeCaseInsensitively() {
+    System.setProperty("massDataCount", "1");
+    System.setProperty("massDataMode", "Direct");
+
+    assertThat(MassDataConfiguration.fromSystemProperties().mode())
+        .isEqualTo(MassDataConfiguration.Mode.DIRECT);
+  }
+
+  @Test
+  void rejectsAnUnknownMode() {
+    System.setProperty("massDataCount", "1");
+    System.setProperty("massDataMode", "sql");
+
+    assertThatThrownBy(MassDataConfiguration::fromSystemProperties)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("massDataMode must be one of commands, direct");
+  }
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreateRequestFixture.validApplicationContent;
 import static uk.gov.justice.laa.dstew.access.testutils.ApplicationCreateRequestFixture.validProceedingContent;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,7 +14,7 @@ import org.junit.jupiter.api.Test;
 
 class JsonSchemaValidatorTest {
 
-  private final JsonSchemaValidator validator = new JsonSchemaValidator();
+  private final JsonSchemaValidator validator = new JsonSchemaValidator(new SimpleMeterRegistry());
 
   @Test
   void givenApplyPayloadAndVersionOneSchema_whenValidate_thenAcceptsPayload() {
@@ -3,6 +3,7 @@ package uk.gov.justice.laa.dstew.access.validation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,7 +20,7 @@ import uk.gov.justice.laa.dstew.access.content.priorauthority.TimeRequested;
 
 class PriorAuthoritySchemaTest {
 
-  private final JsonSchemaValidator validator = new JsonSchemaValidator();
+  private final JsonSchemaValidator validator = new JsonSchemaValidator(new SimpleMeterRegistry());
 
   @Test
   void givenHourlyExpertPayload_whenValidate_thenAccepts() {
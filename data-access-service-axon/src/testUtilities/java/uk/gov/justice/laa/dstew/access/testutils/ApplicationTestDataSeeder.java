@@ -66,7 +66,9 @@ public class ApplicationTestDataSeeder {
       ApplicationLifecycle lifecycle,
       UUID caseworkerId) {
     boolean projectionFound =
-        createApplicationUseCase.execute(createApplicationCommandMapper.toCommand(request, 1));
+        createApplicationUseCase
+            .execute(createApplicationCommandMapper.toCommand(request, 1))
+            .join();
     if (!projectionFound) {
       throw new IllegalStateException("Create projection did not become available");
     }
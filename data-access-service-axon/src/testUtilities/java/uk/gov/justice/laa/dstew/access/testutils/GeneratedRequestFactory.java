@@ -35,17 +35,23 @@ public class GeneratedRequestFactory {
   }
 
   public MakeDecisionRequest decision(UUID proceedingId) {
+    return decision(proceedingId, DecisionStatus.REFUSED);
+  }
+
+  public MakeDecisionRequest decision(UUID proceedingId, DecisionStatus outcome) {
+    boolean granted = outcome == DecisionStatus.GRANTED;
+    String wording = granted ? "grant" : "refusal";
     return MakeDecisionRequest.builder()
-        .overallDecision(DecisionStatus.REFUSED)
+        .overallDecision(outcome)
         .proceedings(
             List.of(
                 MakeDecisionProceedingRequest.builder()
                     .proceedingId(proceedingId)
                     .meritsDecision(
                         MeritsDecisionDetailsRequest.builder()
-                            .decision(MeritsDecisionStatus.REFUSED)
-                            .reason("Mass-data refusal")
-                            .justification("Mass-data generated refusal")
+                            .decision(MeritsDecisionStatus.valueOf(outcome.name()))
+                            .reason("Mass-data " + wording)
+                            .justification("Mass-data generated " + wording)
                             .build())
                     .build()))
         .applicationVersion(0L)
@@ -0,0 +1,273 @@
+package uk.gov.justice.laa.dstew.access.testutils.massdata;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationAssignedToCaseworkerEvent;
+import uk.gov.justice.laa.dstew.access.command.application.assignment.ApplicationUnassignedFromCaseworkerEvent;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataDelta;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataPayload;
+import uk.gov.justice.laa.dstew.access.command.application.decision.ApplicationDecisionMadeEvent;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupRequested;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.MemberAddedToGroupEvent;
+import uk.gov.justice.laa.dstew.access.command.application.note.NoteCreatedEvent;
+import uk.gov.justice.laa.dstew.access.shared.massdata.CsvCopyRows;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.EventStreamGenerator.Chunk;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.EventStreamGenerator.DataVersion;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.EventStreamGenerator.StoredEvent;
+import uk.gov.justice.laa.dstew.access.testutils.massdata.EventStreamGenerator.Tally;
+
+/**
+ * Writes generated event streams straight into {@code domain_event_entry} and {@code
+ * application_data} with PostgreSQL {@code COPY}, bypassing the command side entirely.
+ *
+ * <p>Applications are generated in chunks of {@value #CHUNK_SIZE} on a pool of worker threads and
+ * each chunk is copied and committed as one transaction. The running streaming processors build
+ * the read models from the new events as they would from live traffic; subscribing processors
+ * never see them, so no linked-group commands are dispatched and nothing is published.
+ *
+ * <p>Tracking processors treat a global index that is missing when they read past it as a gap, and
+ * stop waiting for it after a while. So that no event is skipped, chunks reserve their range of
+ * global indexes and commit strictly in chunk order, while generating and copying in parallel.
+ * Nothing else may append events while a write is running.
+ */
+public class DirectEventStoreWriter {
+
+  static final int CHUNK_SIZE = 250;
+
+  /** Every payload type the generator writes, and so needs calibrated columns for. */
+  public static final List<Class<?>> PAYLOAD_TYPES =
+      List.of(
+          ApplicationCreatedEvent.class,
+          ApplicationDecisionMadeEvent.class,
+          ApplicationAssignedToCaseworkerEvent.class,
+          ApplicationUnassignedFromCaseworkerEvent.class,
+          NoteCreatedEvent.class,
+          LinkedApplicationGroupRequested.class,
+          LinkedApplicationGroupCreatedEvent.class,
+          MemberAddedToGroupEvent.class);
+
+  private static final String RESERVE_SQL =
+      "SELECT setval('\"aggregate-event-global-index-sequence\"',"
+          + " nextval('\"aggregate-event-global-index-sequence\"') + ? - 1)";
+
+  /** Totals for a completed write. */
+  public record Result(long events, long dataVersions, Tally tally) {}
+
+  private final DataSource dataSource;
+  private final EventStoreCalibration calibration;
+  private final Supplier<EventStreamGenerator> generators;
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter payloadWriter;
+  private final ObjectWriter deltaWriter;
+
+  /**
+   * Creates a writer for events whose Axon-owned columns are taken from {@code calibration}.
+   *
+   * @param generators creates the generator each worker thread uses
+   */
+  public DirectEventStoreWriter(
+      DataSource dataSource,
+      EventStoreCalibration calibration,
+      Supplier<EventStreamGenerator> generators,
+      ObjectMapper objectMapper) {
+    this.dataSource = dataSource;
+    this.calibration = calibration;
+    this.generators = generators;
+    this.objectMapper = objectMapper;
+    this.payloadWriter = objectMapper.writerFor(ApplicationDataPayload.class);
+    this.deltaWriter = objectMapper.writerFor(ApplicationDataDelta.class);
+  }
+
+  /** Generates and writes {@code count} applications on {@code workers} threads. */
+  public Result write(int count, int workers) {
+    ThreadLocal<EventStreamGenerator> generator = ThreadLocal.withInitial(generators);
+    Turnstile reservations = new Turnstile();
+    Turnstile commits = new Turnstile();
+    AtomicInteger written = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(workers);
+    List<Future<Result>> chunks = new ArrayList<>();
+    try {
+      for (int from = 0, chunkIndex = 0; from < count; from += CHUNK_SIZE, chunkIndex++) {
+        int start = from;
+        int end = Math.min(count, from + CHUNK_SIZE);
+        int index = chunkIndex;
+        chunks.add(
+            executor.submit(
+                () -> {
+                  Chunk chunk = generator.get().generate(index, start, end);
+                  Result result = copyAndCommit(index, chunk, reservations, commits);
+                  System.out.printf(
+                      "Direct write progress: applications=%d/%d%n",
+                      written.addAndGet(end - start), count);
+                  return result;
+                }));
+      }
+
+      long events = 0;
+      long dataVersions = 0;
+      Tally tally = Tally.EMPTY;
+      for (Future<Result> future : chunks) {
+        Result chunk = await(future);
+        events += chunk.events();
+        dataVersions += chunk.dataVersions();
+        tally = tally.plus(chunk.tally());
+      }
+      return new Result(events, dataVersions, tally);
+    } catch (IllegalStateException e) {
+      chunks.forEach(future -> future.cancel(true));
+      throw e;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private Result copyAndCommit(int index, Chunk chunk, Turnstile reservations, Turnstile commits)
+      throws InterruptedException {
+    List<byte[]> payloads =
+        chunk.events().stream()
+            .map(event -> objectMapper.writeValueAsBytes(event.payload()))
+            .toList();
+    CsvCopyRows dataRows =
+        new CsvCopyRows(
+            "application_data",
+            "application_id",
+            "version",
+            "payload",
+            "delta",
+            "payload_hash",
+            "created_at");
+    for (DataVersion version : chunk.dataVersions()) {
+      dataRows.row(
+          version.applicationId(),
+          version.version(),
+          version.payload() == null ? null : payloadWriter.writeValueAsString(version.payload()),
+          version.delta() == null ? null : deltaWriter.writeValueAsString(version.delta()),
+          version.payloadHash(),
+          version.createdAt());
+    }
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+      try {
+        long first;
+        reservations.await(index);
+        try {
+          first = reserve(connection, chunk.events().size());
+        } finally {
+          reservations.advance();
+        }
+        copyIn(copyManager, eventRows(chunk.events(), payloads, first));
+        copyIn(copyManager, dataRows);
+        commits.await(index);
+        try {
+          connection.commit();
+        } finally {
+          commits.advance();
+        }
+      } catch (SQLException | IOException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      }
+    } catch (SQLException | IOException e) {
+      throw new IllegalStateException("Writing generated events failed", e);
+    }
+    return new Result(chunk.events().size(), chunk.dataVersions().size(), chunk.tally());
+  }
+
+  private CsvCopyRows eventRows(List<StoredEvent> events, List<byte[]> payloads, long first) {
+    CsvCopyRows rows =
+        new CsvCopyRows(
+            "domain_event_entry",
+            "global_index",
+            "event_identifier",
+            "meta_data",
+            "payload",
+            "payload_revision",
+            "payload_type",
+            "time_stamp",
+            "aggregate_identifier",
+            "sequence_number",
+            "type");
+    for (int i = 0; i < events.size(); i++) {
+      StoredEvent event = events.get(i);
+      EventStoreCalibration.Columns columns = calibration.columnsFor(event.payload());
+      rows.row(
+          first + i,
+          event.eventIdentifier(),
+          columns.metadata(),
+          payloads.get(i),
+          columns.payloadRevision(),
+          event.payload().getClass().getName(),
+          event.occurredAt(),
+          event.aggregateIdentifier(),
+          event.sequenceNumber(),
+          columns.type());
+    }
+    return rows;
+  }
+
+  private static void copyIn(CopyManager copyManager, CsvCopyRows rows)
+      throws SQLException, IOException {
+    if (!rows.isEmpty()) {
+      copyManager.copyIn(rows.copyStatement(), rows.reader());
+    }
+  }
+
+  /** Reserves {@code size} consecutive global indexes and returns the first. */
+  private static long reserve(Connection connection, int size) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(RESERVE_SQL)) {
+      statement.setInt(1, size);
+      try (ResultSet result = statement.executeQuery()) {
+        result.next();
+        return result.getLong(1) - size + 1;
+      }
+    }
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while writing generated events", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Writing generated events failed", e.getCause());
+    }
+  }
+
+  /** Lets chunks through one at a time, in chunk order. */
+  private static final class Turnstile {
+
+    private int next;
+
+    synchronized void await(int index) throws InterruptedException {
+      while (next != index) {
+        wait();
+      }
+    }
+
+    synchronized void advance() {
+      next++;
+      notifyAll();
+    }
+  }
+}
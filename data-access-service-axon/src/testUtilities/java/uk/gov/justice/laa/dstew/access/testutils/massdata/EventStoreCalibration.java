@@ -0,0 +1,74 @@
+package uk.gov.justice.laa.dstew.access.testutils.massdata;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * The Axon-owned columns of {@code domain_event_entry}, read back from events the application
+ * appended itself, so directly written rows carry the same revision, aggregate type and metadata
+ * encoding as real ones for each payload type.
+ *
+ * <p>Only JSON payloads are supported: an event store configured with {@code
+ * application.event-store.format} stores compact payloads the direct writer does not produce.
+ */
+public final class EventStoreCalibration {
+
+  private static final String FIND_SQL =
+      """
+      SELECT DISTINCT ON (payload_type) payload_type, payload_revision, type, meta_data, payload
+      FROM domain_event_entry
+      ORDER BY payload_type, global_index
+      """;
+
+  /** The columns shared by every stored event of one payload type. */
+  public record Columns(String payloadRevision, String type, byte[] metadata) {}
+
+  private final Map<String, Columns> columnsByPayloadType;
+
+  private EventStoreCalibration(Map<String, Columns> columnsByPayloadType) {
+    this.columnsByPayloadType = Map.copyOf(columnsByPayloadType);
+  }
+
+  /**
+   * Reads the columns of the first stored event of each payload type.
+   *
+   * @throws IllegalStateException when a required payload type has not been stored yet or a
+   *     payload is not JSON
+   */
+  public static EventStoreCalibration read(
+      JdbcTemplate jdbcTemplate, Collection<Class<?>> required) {
+    Map<String, Columns> columns = new HashMap<>();
+    jdbcTemplate.query(
+        FIND_SQL,
+        rs -> {
+          byte[] payload = rs.getBytes("payload");
+          if (payload.length == 0 || payload[0] != '{') {
+            throw new IllegalStateException(
+                "Stored payloads are not JSON; unset application.event-store.format to write events"
+                    + " directly");
+          }
+          columns.put(
+              rs.getString("payload_type"),
+              new Columns(rs.getString("payload_revision"), rs.getString("type"), rs.getBytes(4)));
+        });
+    List<String> missing =
+        required.stream().map(Class::getName).filter(name -> !columns.containsKey(name)).toList();
+    if (!missing.isEmpty()) {
+      throw new IllegalStateException("No stored events to calibrate from for " + missing);
+    }
+    return new EventStoreCalibration(columns);
+  }
+
+  /** Returns the columns for events with the given payload. */
+  public Columns columnsFor(Object payload) {
+    Columns columns = columnsByPayloadType.get(payload.getClass().getName());
+    if (columns == null) {
+      throw new IllegalStateException(
+          "No calibrated columns for " + payload.getClass().getName());
+    }
+    return columns;
+  }
+}
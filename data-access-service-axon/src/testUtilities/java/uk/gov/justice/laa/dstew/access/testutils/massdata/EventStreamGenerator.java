@@ -0,0 +1,597 @@
+package uk.gov.justice.laa.dstew.access.testutils.massdata;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import net.datafaker.Faker;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreationDetails;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationCreationDetailsFactory;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationDecider;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationEvolve;
+import uk.gov.justice.laa.dstew.access.command.application.ApplicationState;
+import uk.gov.justice.laa.dstew.access.command.application.AutoGrantedState;
+import uk.gov.justice.laa.dstew.access.command.application.assignment.AssignCaseworkerToApplicationCommand;
+import uk.gov.justice.laa.dstew.access.command.application.assignment.UnassignCaseworkerFromApplicationCommand;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataDelta;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataPayload;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationDataStore;
+import uk.gov.justice.laa.dstew.access.command.application.data.ApplicationMeritsDecision;
+import uk.gov.justice.laa.dstew.access.command.application.decision.ApplicationDecisionMadeEvent;
+import uk.gov.justice.laa.dstew.access.command.application.decision.MakeApplicationDecisionCommand;
+import uk.gov.justice.laa.dstew.access.command.application.decision.MakeDecisionProceeding;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.InitialiseLinkedApplicationGroupCommand;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupCreatedEvent;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupDecider;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupEvolve;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupRequested;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.LinkedApplicationGroupState;
+import uk.gov.justice.laa.dstew.access.command.application.linkedgroup.MemberAddedToGroupEvent;
+import uk.gov.justice.laa.dstew.access.command.application.note.CreateNoteCommand;
+import uk.gov.justice.laa.dstew.access.command.application.note.NoteCreatedEvent;
+import uk.gov.justice.laa.dstew.access.controller.application.CreateApplicationCommandMapper;
+import uk.gov.justice.laa.dstew.access.model.ApplicationCreateRequest;
+import uk.gov.justice.laa.dstew.access.model.ApplicationStatus;
+import uk.gov.justice.laa.dstew.access.model.CreateNoteRequest;
+import uk.gov.justice.laa.dstew.access.model.DecisionStatus;
+import uk.gov.justice.laa.dstew.access.model.MakeDecisionRequest;
+import uk.gov.justice.laa.dstew.access.shared.massdata.SeedStreams;
+import uk.gov.justice.laa.dstew.access.testutils.ApplicationLifecycle;
+import uk.gov.justice.laa.dstew.access.testutils.GeneratedRequestFactory;
+
+/**
+ * Synthesises the event streams and application-data versions the command side would have stored
+ * for a contiguous range of applications, without dispatching any commands.
+ *
+ * <p>Events are decided by {@link ApplicationDecider} and {@link LinkedApplicationGroupDecider} and
+ * folded with {@link ApplicationEvolve}, exactly as the aggregates do, so versions, fingerprints
+ * and payloads match what the real command handlers write. Application-data versions follow the
+ * checkpoint and delta layout of {@link ApplicationDataStore}.
+ *
+ * <p>Each application is generated from its own {@link SeedStreams} stream, and the linked groups
+ * of a range from one stream per range, so linked groups never span two ranges.
+ *
+ * <p>Not thread-safe: each instance reuses one {@link Faker}, so each worker thread uses its own.
+ */
+public class EventStreamGenerator {
+
+  /** When the first generated application was created. */
+  static final Instant EPOCH = Instant.parse("2026-01-01T00:00:00Z");
+
+  private static final Duration CREATION_SPACING = Duration.ofSeconds(10);
+  private static final Duration FIRST_ACTION_DELAY = Duration.ofHours(1);
+  private static final int MAX_ACTION_GAP_MINUTES = 3 * 24 * 60;
+  private static final int SCHEMA_VERSION = 1;
+
+  private static final double LINK_RATE = 0.1;
+  private static final int MAX_ASSOCIATES = 3;
+  private static final double NOTE_RATE = 0.4;
+  private static final int MAX_NOTES = 6;
+  private static final double GRANTED_RATE = 1.0 / 3;
+  private static final List<String> OFFICE_CODES =
+      List.of("1A001B", "2B002C", "3C003D", "4D004E", "5E005F", "6F006G", "7G007H", "8H008J");
+
+  /** Separates the random streams drawn from one seed. */
+  enum Stream {
+    APPLICATION,
+    LINKED_GROUP
+  }
+
+  /** One row of {@code domain_event_entry}, before it is given a global index. */
+  public record StoredEvent(
+      String aggregateIdentifier,
+      long sequenceNumber,
+      UUID eventIdentifier,
+      Object payload,
+      Instant occurredAt) {}
+
+  /** One row of {@code application_data}: either a checkpoint {@code payload} or a delta. */
+  public record DataVersion(
+      UUID applicationId,
+      long version,
+      ApplicationDataPayload payload,
+      ApplicationDataDelta delta,
+      String payloadHash,
+      Instant createdAt) {}
+
+  /** The rows for one range, with events in the order they would have been appended. */
+  public record Chunk(List<StoredEvent> events, List<DataVersion> dataVersions, Tally tally) {}
+
+  /** Counts of what a range contains. */
+  public record Tally(
+      int applications, int linkedGroups, int decisions, int assignments, int notes) {
+
+    static final Tally EMPTY = new Tally(0, 0, 0, 0, 0);
+
+    Tally plus(Tally other) {
+      return new Tally(
+          applications + other.applications,
+          linkedGroups + other.linkedGroups,
+          decisions + other.decisions,
+          assignments + other.assignments,
+          notes + other.notes);
+    }
+  }
+
+  private final long seed;
+  private final List<UUID> caseworkerIds;
+  private final ApplicationCreationDetailsFactory detailsFactory;
+  private final CreateApplicationCommandMapper createApplicationCommandMapper;
+  private final ObjectMapper objectMapper;
+  private final ApplicationLifecycleSelector lifecycleSelector = new ApplicationLifecycleSelector();
+  private final GeneratedRequestFactory requests;
+  private final Random fakerRandom = new Random();
+  private final Faker faker = new Faker(fakerRandom);
+
+  public EventStreamGenerator(
+      long seed,
+      List<UUID> caseworkerIds,
+      ApplicationCreationDetailsFactory detailsFactory,
+      CreateApplicationCommandMapper createApplicationCommandMapper,
+      ObjectMapper objectMapper) {
+    this.seed = seed;
+    this.caseworkerIds = List.copyOf(caseworkerIds);
+    this.detailsFactory = detailsFactory;
+    this.createApplicationCommandMapper = createApplicationCommandMapper;
+    this.objectMapper = objectMapper;
+    this.requests = new GeneratedRequestFactory("s" + seed);
+  }
+
+  /**
+   * Generates applications {@code from} (inclusive) to {@code to} (exclusive).
+   *
+   * <p>Each range walks its own applications, starting a linked group at an application with
+   * probability {@value #LINK_RATE} and adding the next one to {@value #MAX_ASSOCIATES}
+   * applications to it as associates. Every associate's creation is followed, as on the real
+   * path, by a {@link LinkedApplicationGroupRequested} on the lead's stream and a created or
+   * member-added event on the group's stream.
+   */
+  public Chunk generate(int chunkIndex, int from, int to) {
+    SplittableRandom groupRandom = SeedStreams.random(seed, Stream.LINKED_GROUP, chunkIndex);
+    Map<Integer, List<Integer>> associatesByLead = new HashMap<>();
+    Map<Integer, Integer> leadByAssociate = new HashMap<>();
+    for (int index = from; index < to; ) {
+      if (groupRandom.nextDouble() < LINK_RATE && index + 1 < to) {
+        int lead = index++;
+        int associates = groupRandom.nextInt(1, MAX_ASSOCIATES + 1);
+        List<Integer> members = new ArrayList<>();
+        for (int j = 0; j < associates && index < to; j++) {
+          members.add(index);
+          leadByAssociate.put(index++, lead);
+        }
+        associatesByLead.put(lead, members);
+      } else {
+        index++;
+      }
+    }
+
+    List<StoredEvent> events = new ArrayList<>();
+    List<DataVersion> dataVersions = new ArrayList<>();
+    Tally tally = Tally.EMPTY;
+    for (int index = from; index < to; index++) {
+      Integer lead = leadByAssociate.get(index);
+      tally =
+          tally.plus(
+              generateApplication(
+                  index,
+                  lead == null ? null : applicationId(lead),
+                  associatesByLead.getOrDefault(index, List.of()),
+                  events,
+                  dataVersions));
+    }
+    for (var group : associatesByLead.entrySet()) {
+      generateGroup(group.getKey(), group.getValue(), groupRandom, events);
+    }
+    events.sort(
+        (a, b) -> {
+          int byTime = a.occurredAt().compareTo(b.occurredAt());
+          return byTime != 0 ? byTime : Long.compare(a.sequenceNumber(), b.sequenceNumber());
+        });
+    return new Chunk(
+        events,
+        dataVersions,
+        new Tally(
+            tally.applications(),
+            associatesByLead.size(),
+            tally.decisions(),
+            tally.assignments(),
+            tally.notes()));
+  }
+
+  private Tally generateApplication(
+      int index,
+      UUID leadApplicationId,
+      List<Integer> associates,
+      List<StoredEvent> events,
+      List<DataVersion> dataVersions) {
+    SplittableRandom random = SeedStreams.random(seed, Stream.APPLICATION, index);
+    ApplicationStream stream =
+        new ApplicationStream(SeedStreams.uuid(random), random, events, dataVersions);
+    fakerRandom.setSeed(random.nextLong());
+    Instant createdAt = createdAt(index);
+
+    ApplicationCreateRequest request =
+        ApplicationCreateRequest.builder()
+            .id(stream.applicationId)
+            .status(ApplicationStatus.APPLICATION_SUBMITTED)
+            .laaReference("AXON-MG-s" + seed + "-" + index)
+            .applicationContent(content(stream.applicationId, leadApplicationId, random, createdAt))
+            .build();
+    ApplicationCreationDetails details =
+        withOccurredAt(
+            detailsFactory.prepare(
+                createApplicationCommandMapper.toCommand(request, SCHEMA_VERSION)),
+            createdAt);
+    String fingerprint = ApplicationDataStore.fingerprint(details.serialisedRequest());
+    ApplicationDataPayload current = ApplicationDataPayload.from(details);
+    dataVersions.add(
+        new DataVersion(stream.applicationId, 0L, current, null, fingerprint, createdAt));
+    var created =
+        (ApplicationCreatedEvent)
+            ApplicationDecider.decideCreate(
+                    stream.state, stream.applicationId, SCHEMA_VERSION, fingerprint, details, 0L)
+                .getFirst();
+    ApplicationEvolve.apply(stream.state, created);
+    stream.append(created, createdAt);
+
+    for (int associate : associates) {
+      LinkedApplicationGroupRequested requested =
+          ApplicationDecider.decideCreateLinkedGroup(
+              stream.state,
+              groupId(stream.applicationId),
+              List.of(stream.applicationId, applicationId(associate)),
+              createdAt(associate).plusMillis(1));
+      ApplicationEvolve.apply(stream.state, requested);
+      stream.append(requested, requested.occurredAt());
+    }
+
+    ApplicationLifecycle lifecycle = lifecycleSelector.select(random);
+    Instant at = createdAt.plus(FIRST_ACTION_DELAY);
+    if (lifecycle.autoGranted()) {
+      stream.autoGrant(current, at);
+      return new Tally(1, 0, 1, 0, 0);
+    }
+
+    int assignments = 0;
+    if (lifecycle.assignCaseworker()) {
+      UUID caseworkerId = caseworkerIds.get(random.nextInt(caseworkerIds.size()));
+      var assignRequest = requests.assignment(stream.applicationId, caseworkerId);
+      String serialised = objectMapper.writeValueAsString(assignRequest);
+      var event =
+          ApplicationDecider.decideAssign(
+              stream.state,
+              new AssignCaseworkerToApplicationCommand(
+                  stream.applicationId, caseworkerId, serialised, null, at));
+      ApplicationEvolve.apply(stream.state, event);
+      current =
+          stream.appendData(
+              event.applicationDataVersion(),
+              current,
+              new ApplicationDataDelta.AssignmentRecorded(null),
+              serialised,
+              at);
+      stream.append(event, at);
+      assignments++;
+      at = stream.later(at);
+    }
+
+    int notes = random.nextDouble() < NOTE_RATE ? 1 + random.nextInt(MAX_NOTES) : 0;
+    for (int note = 0; note < notes; note++) {
+      String text = faker.lorem().sentence(random.nextInt(6, 30));
+      String serialised = objectMapper.writeValueAsString(new CreateNoteRequest(text));
+      NoteCreatedEvent event =
+          ApplicationDecider.decideNote(
+              stream.state, new CreateNoteCommand(stream.applicationId, text, serialised, at));
+      ApplicationEvolve.apply(stream.state, event);
+      current =
+          stream.appendData(
+              event.applicationDataVersion(),
+              current,
+              new ApplicationDataDelta.NoteAdded(text, at),
+              serialised,
+              at);
+      stream.append(event, at);
+      at = stream.later(at);
+    }
+
+    if (lifecycle.makeDecision()) {
+      DecisionStatus outcome =
+          random.nextDouble() < GRANTED_RATE ? DecisionStatus.GRANTED : DecisionStatus.REFUSED;
+      UUID proceedingId = current.proceedings().getFirst().getId();
+      current = stream.decide(current, requests.decision(proceedingId, outcome), at);
+      at = stream.later(at);
+    }
+
+    if (lifecycle.unassignCaseworker()) {
+      String serialised = objectMapper.writeValueAsString(requests.unassignment());
+      var event =
+          ApplicationDecider.decideUnassign(
+              stream.state,
+              new UnassignCaseworkerFromApplicationCommand(
+                  stream.applicationId, serialised, null, at));
+      ApplicationEvolve.apply(stream.state, event);
+      stream.appendData(
+          event.applicationDataVersion(),
+          current,
+          new ApplicationDataDelta.AssignmentRecorded(null),
+          serialised,
+          at);
+      stream.append(event, at);
+      assignments++;
+    }
+    return new Tally(1, 0, lifecycle.makeDecision() ? 1 : 0, assignments, notes);
+  }
+
+  /** Appends the group aggregate's own stream, built by the group decider. */
+  private void generateGroup(
+      int lead, List<Integer> associates, SplittableRandom random, List<StoredEvent> events) {
+    UUID leadId = applicationId(lead);
+    UUID groupId = groupId(leadId);
+    LinkedApplicationGroupState state = new LinkedApplicationGroupState();
+    long sequence = 0;
+    for (int associate : associates) {
+      Instant at = createdAt(associate).plusMillis(2);
+      for (Object event :
+          LinkedApplicationGroupDecider.decideInitialise(
+              state,
+              new InitialiseLinkedApplicationGroupCommand(
+                  groupId, leadId, List.of(leadId, applicationId(associate)), at))) {
+        switch (event) {
+          case LinkedApplicationGroupCreatedEvent e -> LinkedApplicationGroupEvolve.apply(state, e);
+          case MemberAddedToGroupEvent e -> LinkedApplicationGroupEvolve.apply(state, e);
+          default -> throw new IllegalStateException("Unexpected group event " + event);
+        }
+        events.add(
+            new StoredEvent(groupId.toString(), sequence++, SeedStreams.uuid(random), event, at));
+      }
+    }
+  }
+
+  private UUID applicationId(int index) {
+    return SeedStreams.uuid(SeedStreams.random(seed, Stream.APPLICATION, index));
+  }
+
+  private static UUID groupId(UUID leadApplicationId) {
+    return UUID.nameUUIDFromBytes(
+        ("linked-group:" + leadApplicationId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Instant createdAt(int index) {
+    return EPOCH.plus(CREATION_SPACING.multipliedBy(index));
+  }
+
+  /**
+   * Builds application content in the shape of {@code ApplicationCreateRequestFixture}, from
+   * seeded values and in a fixed key order so the serialised request, and so its fingerprint, is
+   * the same on every run.
+   */
+  private Map<String, Object> content(
+      UUID applicationId, UUID leadApplicationId, SplittableRandom random, Instant createdAt) {
+    Map<String, Object> address = new LinkedHashMap<>();
+    address.put("location", "home");
+    address.put("addressLineOne", faker.address().streetAddress());
+    address.put("city", faker.address().city());
+    address.put("postcode", faker.address().postcode());
+    address.put("countryCode", "GBR");
+    address.put("countryName", "United Kingdom");
+
+    Map<String, Object> client = new LinkedHashMap<>();
+    client.put("firstName", faker.name().firstName());
+    client.put("lastName", faker.name().lastName());
+    client.put(
+        "dateOfBirth", LocalDate.of(1930, 1, 1).plusDays(random.nextInt(75 * 365)).toString());
+    client.put("appliedPreviously", random.nextDouble() < 0.2);
+    client.put("addresses", List.of(address));
+
+    Map<String, Object> provider = new LinkedHashMap<>();
+    provider.put("officeCode", OFFICE_CODES.get(random.nextInt(OFFICE_CODES.size())));
+    provider.put("contactEmail", faker.internet().emailAddress());
+
+    Map<String, Object> scopeLimitation = new LinkedHashMap<>();
+    scopeLimitation.put("id", SeedStreams.uuid(random).toString());
+    scopeLimitation.put("type", "SUBSTANTIVE");
+    scopeLimitation.put("code", "FM062");
+    scopeLimitation.put("meaning", "Final hearing");
+    scopeLimitation.put(
+        "description", "Limited to all steps up to and including the final hearing");
+
+    boolean usedDelegatedFunctions = random.nextDouble() < 0.3;
+    Map<String, Object> proceeding = new LinkedHashMap<>();
+    proceeding.put("id", SeedStreams.uuid(random).toString());
+    proceeding.put("leadProceeding", true);
+    proceeding.put("code", "SE003");
+    proceeding.put("meaning", "Care order");
+    proceeding.put("description", "Care order");
+    proceeding.put("matterType", "SPECIAL_CHILDREN_ACT");
+    proceeding.put("matterTypeCode", "KPBLW");
+    proceeding.put("categoryOfLaw", "Family");
+    proceeding.put("categoryOfLawCode", "MAT");
+    proceeding.put("clientInvolvementType", "Respondent");
+    proceeding.put("clientInvolvementTypeCode", "A");
+    proceeding.put("usedDelegatedFunctions", usedDelegatedFunctions);
+    proceeding.put("delegatedFunctionsCostLimitation", usedDelegatedFunctions ? "1350" : "0");
+    proceeding.put("substantiveCostLimitation", "2500");
+    proceeding.put("substantiveLevelOfService", 3);
+    proceeding.put("substantiveLevelOfServiceName", "Full Representation");
+    proceeding.put("emergencyLevelOfService", 3);
+    proceeding.put("emergencyLevelOfServiceName", "Full Representation");
+    proceeding.put("scopeLimitations", List.of(scopeLimitation));
+
+    Map<String, Object> content = new LinkedHashMap<>();
+    content.put("createdAt", createdAt.minus(Duration.ofMinutes(30)).toString());
+    content.put("submittedAt", createdAt.minus(Duration.ofMinutes(1)).toString());
+    content.put("provider", provider);
+    content.put("client", client);
+    content.put("proceedings", List.of(proceeding));
+    if (leadApplicationId != null) {
+      Map<String, Object> link = new LinkedHashMap<>();
+      link.put("id", SeedStreams.uuid(random).toString());
+      link.put("leadApplicationId", leadApplicationId.toString());
+      link.put("associatedApplicationId", applicationId.toString());
+      link.put("targetApplicationId", applicationId.toString());
+      link.put("linkTypeCode", "ASSOCIATED");
+      link.put("createdAt", createdAt.toString());
+      link.put("updatedAt", createdAt.toString());
+      link.put("confirmLink", true);
+      content.put("allLinkedApplications", List.of(link));
+    }
+    return content;
+  }
+
+  private static ApplicationCreationDetails withOccurredAt(
+      ApplicationCreationDetails details, Instant occurredAt) {
+    return new ApplicationCreationDetails(
+        details.status(),
+        details.laaReference(),
+        details.client(),
+        details.provider(),
+        details.opponents(),
+        details.allLinkedApplications(),
+        details.schemaVersion(),
+        details.submittedAt(),
+        details.usedDelegatedFunctions(),
+        details.categoryOfLaw(),
+        details.matterType(),
+        details.proceedings(),
+        details.serialisedRequest(),
+        occurredAt,
+        details.leadApplicationId());
+  }
+
+  /** One application's stream as it is built: its folded state and next sequence number. */
+  private final class ApplicationStream {
+    private final UUID applicationId;
+    private final SplittableRandom random;
+    private final List<StoredEvent> events;
+    private final List<DataVersion> dataVersions;
+    private final ApplicationState state = new ApplicationState();
+    private long sequence;
+
+    ApplicationStream(
+        UUID applicationId,
+        SplittableRandom random,
+        List<StoredEvent> events,
+        List<DataVersion> dataVersions) {
+      this.applicationId = applicationId;
+      this.random = random;
+      this.events = events;
+      this.dataVersions = dataVersions;
+    }
+
+    void append(Object event, Instant occurredAt) {
+      events.add(
+          new StoredEvent(
+              applicationId.toString(), sequence++, SeedStreams.uuid(random), event, occurredAt));
+    }
+
+    /** Stores a delta, or the resulting payload where {@link ApplicationDataStore} would. */
+    ApplicationDataPayload appendData(
+        long version,
+        ApplicationDataPayload previous,
+        ApplicationDataDelta delta,
+        String serialisedRequest,
+        Instant occurredAt) {
+      ApplicationDataPayload payload = delta.applyTo(previous);
+      String fingerprint = ApplicationDataStore.fingerprint(serialisedRequest);
+      dataVersions.add(
+          ApplicationDataStore.isCheckpoint(version)
+              ? new DataVersion(applicationId, version, payload, null, fingerprint, occurredAt)
+              : new DataVersion(applicationId, version, null, delta, fingerprint, occurredAt));
+      return payload;
+    }
+
+    /** Records an {@code AUTOGRANTED} outcome the way the aggregate expands it. */
+    void autoGrant(ApplicationDataPayload current, Instant at) {
+      String serialised = objectMapper.writeValueAsString(requests.autoGrant());
+      List<MakeDecisionProceeding> proceedings =
+          current.proceedings().stream()
+              .map(p -> new MakeDecisionProceeding(p.getId(), "GRANTED", null, "Autogranted"))
+              .toList();
+      var command =
+          new MakeApplicationDecisionCommand(
+              applicationId,
+              state.getApplicationVersion(),
+              "GRANTED",
+              true,
+              proceedings,
+              requests.autoGrant().getCertificate(),
+              serialised,
+              "Autogranted",
+              at,
+              true);
+      record(current, command, serialised, at);
+    }
+
+    /** Records a caseworker decision from a generated request. */
+    ApplicationDataPayload decide(
+        ApplicationDataPayload current, MakeDecisionRequest request, Instant at) {
+      String serialised = objectMapper.writeValueAsString(request);
+      var command =
+          new MakeApplicationDecisionCommand(
+              applicationId,
+              state.getApplicationVersion(),
+              request.getOverallDecision().name(),
+              request.getAutoGranted(),
+              request.getProceedings().stream()
+                  .map(
+                      p ->
+                          new MakeDecisionProceeding(
+                              p.getProceedingId(),
+                              p.getMeritsDecision().getDecision().name(),
+                              p.getMeritsDecision().getReason(),
+                              p.getMeritsDecision().getJustification()))
+                  .toList(),
+              request.getCertificate(),
+              serialised,
+              null,
+              at);
+      return record(current, command, serialised, at);
+    }
+
+    private ApplicationDataPayload record(
+        ApplicationDataPayload current,
+        MakeApplicationDecisionCommand command,
+        String serialised,
+        Instant at) {
+      ApplicationDecisionMadeEvent event =
+          ApplicationDecider.decideDecision(state, command, current);
+      Map<UUID, ApplicationMeritsDecision> meritsDecisions =
+          new HashMap<>(current.meritsDecisions());
+      command
+          .proceedings()
+          .forEach(
+              p ->
+                  meritsDecisions.put(
+                      p.proceedingId(),
+                      new ApplicationMeritsDecision(p.decision(), p.reason(), p.justification())));
+      var delta =
+          new ApplicationDataDelta.DecisionRecorded(
+              command.overallDecision(),
+              AutoGrantedState.fromDecisionFlag(command.autoGranted()),
+              Map.copyOf(meritsDecisions),
+              "GRANTED".equals(command.overallDecision()) ? command.certificate() : null,
+              serialised,
+              command.eventDescription());
+      ApplicationEvolve.apply(state, event);
+      ApplicationDataPayload payload =
+          appendData(event.applicationDataVersion(), current, delta, serialised, at);
+      append(event, at);
+      return payload;
+    }
+
+    /** Returns a time between one minute and a few days after {@code at}. */
+    Instant later(Instant at) {
+      return at.plus(Duration.ofMinutes(1 + random.nextInt(MAX_ACTION_GAP_MINUTES)));
+    }
+  }
+}
@@ -1,10 +1,19 @@
 package uk.gov.justice.laa.dstew.access.testutils.massdata;
 
 import java.nio.file.Path;
+import java.util.Locale;
 import java.util.OptionalLong;
 
 public record MassDataConfiguration(
-    int count, int maxWorkers, OptionalLong seed, Path dumpPath, int progressInterval) {
+    int count, int maxWorkers, OptionalLong seed, Path dumpPath, int progressInterval, Mode mode) {
+
+  /** How the generated applications reach the event store. */
+  public enum Mode {
+    /** Dispatch every lifecycle step through the use cases and the Axon command side. */
+    COMMANDS,
+    /** Synthesise the event streams and copy them straight into the event store. */
+    DIRECT
+  }
 
   public static MassDataConfiguration fromSystemProperties() {
     String countValue = System.getProperty("massDataCount");
@@ -29,7 +38,17 @@ public record MassDataConfiguration(
         maxWorkers,
         seed,
         Path.of(System.getProperty("massDataDump", "build/generated-dumps/axon-mass-data.dump")),
-        progressInterval);
+        progressInterval,
+        mode(System.getProperty("massDataMode", "commands")));
+  }
+
+  private static Mode mode(String value) {
+    try {
+      return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException exception) {
+      throw new IllegalArgumentException(
+          "massDataMode must be one of commands, direct", exception);
+    }
   }
 
   private static int positiveInteger(String property, String value) {
@@ -0,0 +1,91 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import uk.gov.justice.laa.dstew.access.model.ApplicationStatus;
+import uk.gov.justice.laa.dstew.access.specification.ApplicationSummaryFilter;
+import uk.gov.justice.laa.dstew.access.utils.BaseIntegrationTest;
+import uk.gov.justice.laa.dstew.access.utils.generator.application.ApplicationEntityGenerator;
+
+/**
+ * Runs the {@link ApplicationCountStrategy#ESTIMATED} count against Postgres: the {@code EXPLAIN}
+ * the filters are rendered to, the planner estimate read from {@code pg_class} statistics, and the
+ * fall back to an exact count below the threshold.
+ */
+public class ApplicationCountEstimateTest extends BaseIntegrationTest {
+
+  private static final ApplicationSummaryFilter NO_FILTER =
+      new ApplicationSummaryFilter(null, null, null, null, null, null, null, null);
+
+  @Test
+  void givenAnalysedTable_whenEstimateIsAboveThreshold_thenPlannerEstimateIsReturned() {
+    persistApplications("ESTIMATE-" + UUID.randomUUID(), 40);
+    entityManager.createNativeQuery("ANALYZE applications").executeUpdate();
+
+    long exact = repository(Long.MAX_VALUE).countMatching(NO_FILTER).total();
+    ApplicationCount estimated = repository(0).countMatching(NO_FILTER);
+
+    assertThat(exact).isGreaterThanOrEqualTo(40);
+    assertThat(estimated.strategy()).isEqualTo(ApplicationCountStrategy.ESTIMATED);
+    assertThat(estimated.total()).isCloseTo(exact, withinPercentage(10));
+  }
+
+  @Test
+  void givenEveryFilter_whenEstimated_thenTheRenderedExplainIsAccepted() {
+    String reference = "ESTIMATE-" + UUID.randomUUID();
+    persistApplications(reference, 3);
+
+    ApplicationCount estimated =
+        repository(0)
+            .countMatching(
+                new ApplicationSummaryFilter(
+                    ApplicationStatus.APPLICATION_IN_PROGRESS,
+                    reference,
+                    "John",
+                    "Smith",
+                    null,
+                    BaseIntegrationTest.CaseworkerJohnDoe.getId(),
+                    null,
+                    "AUTOGRANTED"));
+
+    assertThat(estimated.strategy()).isEqualTo(ApplicationCountStrategy.ESTIMATED);
+    assertThat(estimated.total()).isPositive();
+  }
+
+  @Test
+  void givenEstimateBelowThreshold_whenCounted_thenFallsBackToAnExactCount() {
+    String reference = "ESTIMATE-" + UUID.randomUUID();
+    persistApplications(reference, 3);
+
+    ApplicationCount count =
+        repository(Long.MAX_VALUE)
+            .countMatching(
+                new ApplicationSummaryFilter(null, reference, null, null, null, null, null, null));
+
+    assertThat(count.strategy()).isEqualTo(ApplicationCountStrategy.EXACT);
+    assertThat(count.total()).isEqualTo(3);
+  }
+
+  private void persistApplications(String reference, int count) {
+    for (int i = 0; i < count; i++) {
+      String laaReference = reference + "-" + i;
+      persistedDataGenerator.createAndPersist(
+          ApplicationEntityGenerator.class, builder -> builder.laaReference(laaReference));
+    }
+    clearCache();
+  }
+
+  /** Builds the repository fragment with the given threshold and no meter registry. */
+  @SuppressWarnings("unchecked")
+  private ApplicationRepositoryImpl repository(long estimateThreshold) {
+    ObjectProvider<MeterRegistry> noMetrics = mock(ObjectProvider.class);
+    return new ApplicationRepositoryImpl(
+        entityManager, ApplicationCountStrategy.ESTIMATED, 30, 1000, estimateThreshold, noMetrics);
+  }
+}
@@ -0,0 +1,122 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import uk.gov.justice.laa.dstew.access.entity.ApplicationEntity;
+import uk.gov.justice.laa.dstew.access.model.ApplicationSummaryDto;
+import uk.gov.justice.laa.dstew.access.specification.ApplicationSummaryFilter;
+import uk.gov.justice.laa.dstew.access.utils.BaseIntegrationTest;
+import uk.gov.justice.laa.dstew.access.utils.PageCursor;
+import uk.gov.justice.laa.dstew.access.utils.generator.application.ApplicationEntityGenerator;
+
+/**
+ * Pages through applications whose sort key and first tiebreaker tie, checking the keyset seek
+ * neither skips nor repeats a row in either sort direction.
+ */
+public class ApplicationKeysetPaginationTest extends BaseIntegrationTest {
+
+  private static final String SORT_PROPERTY = "submittedAt";
+  private static final Instant SUBMITTED_AT = Instant.parse("2026-03-01T09:00:00Z");
+  private static final Instant CREATED_AT = Instant.parse("2026-03-01T08:00:00Z");
+  private static final int APPLICATION_COUNT = 9;
+
+  private String reference;
+  private List<UUID> applicationIds;
+
+  @BeforeEach
+  void persistApplicationsWithTiedSortKeys() {
+    reference = "KEYSET-" + UUID.randomUUID();
+    applicationIds = new ArrayList<>();
+    for (int i = 0; i < APPLICATION_COUNT; i++) {
+      // Six applications share a submitted date and the rest share a later one; within each, pairs
+      // share a creation time, so only the id orders them.
+      Instant submittedAt = i < 6 ? SUBMITTED_AT : SUBMITTED_AT.plusSeconds(60);
+      String laaReference = reference + "-" + i;
+      ApplicationEntity application =
+          persistedDataGenerator.createAndPersist(
+              ApplicationEntityGenerator.class,
+              builder -> builder.laaReference(laaReference).submittedAt(submittedAt));
+      applicationIds.add(application.getId());
+    }
+    clearCache();
+    for (int i = 0; i < APPLICATION_COUNT; i++) {
+      entityManager
+          .createNativeQuery("UPDATE applications SET created_at = :createdAt WHERE id = :id")
+          .setParameter("createdAt", CREATED_AT.plusSeconds(i / 2))
+          .setParameter("id", applicationIds.get(i))
+          .executeUpdate();
+    }
+    clearCache();
+  }
+
+  @ParameterizedTest
+  @EnumSource(Sort.Direction.class)
+  void givenTiedSortKeys_whenPagedWithCursors_thenEveryRowIsReturnedOnceInOrder(
+      Sort.Direction direction) {
+    List<UUID> expected = ids(fetch(direction, APPLICATION_COUNT + 1, null));
+    assertThat(expected).containsExactlyInAnyOrderElementsOf(applicationIds);
+
+    for (int pageSize = 1; pageSize <= 4; pageSize++) {
+      assertThat(pageThrough(direction, pageSize)).as("page size %d", pageSize).isEqualTo(expected);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Sort.Direction.class)
+  void givenTiedSortKeys_whenSortedBySubmittedDate_thenTheSortKeyLeadsTheOrder(
+      Sort.Direction direction) {
+    List<Instant> submitted =
+        fetch(direction, APPLICATION_COUNT + 1, null).getContent().stream()
+            .map(ApplicationSummaryDto::getSubmittedAt)
+            .toList();
+
+    assertThat(submitted)
+        .isSortedAccordingTo(
+            direction.isAscending()
+                ? Comparator.<Instant>naturalOrder()
+                : Comparator.<Instant>reverseOrder());
+  }
+
+  private List<UUID> pageThrough(Sort.Direction direction, int pageSize) {
+    List<UUID> ids = new ArrayList<>();
+    PageCursor cursor = null;
+    Slice<ApplicationSummaryDto> page;
+    do {
+      page = fetch(direction, pageSize, cursor);
+      assertThat(page.getContent()).hasSizeLessThanOrEqualTo(pageSize);
+      ids.addAll(ids(page));
+      ApplicationSummaryDto last = page.getContent().getLast();
+      cursor =
+          new PageCursor(
+              SORT_PROPERTY,
+              direction.isAscending(),
+              last.getSubmittedAt(),
+              last.getCreatedAt(),
+              last.getId());
+    } while (page.hasNext());
+    return ids;
+  }
+
+  private Slice<ApplicationSummaryDto> fetch(
+      Sort.Direction direction, int pageSize, PageCursor after) {
+    return applicationRepository.findAllAsDtosAfter(
+        new ApplicationSummaryFilter(null, reference, null, null, null, null, null, null),
+        PageRequest.of(0, pageSize, Sort.by(direction, SORT_PROPERTY)),
+        after);
+  }
+
+  private static List<UUID> ids(Slice<ApplicationSummaryDto> page) {
+    return page.getContent().stream().map(ApplicationSummaryDto::getId).toList();
+  }
+}
@@ -2,14 +2,21 @@ package uk.gov.justice.laa.dstew.access.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
 import uk.gov.justice.laa.dstew.access.entity.ApplicationEntity;
 import uk.gov.justice.laa.dstew.access.entity.DecisionEntity;
 import uk.gov.justice.laa.dstew.access.entity.MeritsDecisionEntity;
 import uk.gov.justice.laa.dstew.access.entity.ProceedingEntity;
+import uk.gov.justice.laa.dstew.access.specification.ApplicationSummarySpecification;
 import uk.gov.justice.laa.dstew.access.utils.BaseIntegrationTest;
 import uk.gov.justice.laa.dstew.access.utils.generator.DataGenerator;
 import uk.gov.justice.laa.dstew.access.utils.generator.application.ApplicationEntityGenerator;
@@ -49,7 +56,8 @@ public class ApplicationRepositoryTest extends BaseIntegrationTest {
     clearCache();
 
     // when
-    ApplicationEntity actual = applicationRepository.findById(expected.getId()).orElse(null);
+    ApplicationEntity actual =
+        applicationRepository.findWithDetailsById(expected.getId()).orElse(null);
 
     // then
     assertApplicationEqual(expected, actual);
@@ -79,14 +87,62 @@ public class ApplicationRepositoryTest extends BaseIntegrationTest {
     assertThat(actual.isLead()).isTrue();
   }
 
+  @Test
+  public void givenApplicationContent_whenFilteredOnGeneratedColumns_thenMatchingApplicationFound() {
+    // given
+    final ApplicationEntity expected =
+        persistedDataGenerator.createAndPersist(
+            ApplicationEntityGenerator.class,
+            builder ->
+                builder.applicationContent(
+                    Map.of(
+                        "submitterEmail",
+                        "Submitter@Example.com",
+                        "proceedings",
+                        List.of(
+                            Map.of("leadProceeding", false, "ccmsCode", "PB002"),
+                            Map.of("leadProceeding", true, "ccmsCode", "PB001")))));
+    persistedDataGenerator.createAndPersist(ApplicationEntityGenerator.class);
+    clearCache();
+
+    // when
+    List<ApplicationEntity> byProceedingCode =
+        findAll(ApplicationSummarySpecification.hasLeadProceedingCode("PB001"));
+    List<ApplicationEntity> byNonLeadProceedingCode =
+        findAll(ApplicationSummarySpecification.hasLeadProceedingCode("PB002"));
+    List<ApplicationEntity> bySubmitterEmail =
+        findAll(ApplicationSummarySpecification.hasSubmitterEmail("submitter@example.COM"));
+
+    // then
+    assertThat(expected.getLeadProceedingCode()).isEqualTo("PB001");
+    assertThat(expected.getSubmitterEmail()).isEqualTo("submitter@example.com");
+    assertThat(byProceedingCode)
+        .extracting(ApplicationEntity::getId)
+        .containsExactly(expected.getId());
+    assertThat(byNonLeadProceedingCode).isEmpty();
+    assertThat(bySubmitterEmail)
+        .extracting(ApplicationEntity::getId)
+        .containsExactly(expected.getId());
+  }
+
+  private List<ApplicationEntity> findAll(Specification<ApplicationEntity> specification) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<ApplicationEntity> query = builder.createQuery(ApplicationEntity.class);
+    Root<ApplicationEntity> root = query.from(ApplicationEntity.class);
+    query.where(specification.toPredicate(root, query, builder));
+    return entityManager.createQuery(query).getResultList();
+  }
+
   private void assertApplicationEqual(ApplicationEntity expected, ApplicationEntity actual) {
     assertThat(actual).as("ApplicationEntity should be found in repository").isNotNull();
 
-    // Compare the application excluding individuals (compared separately below)
+    // Compare the application excluding individuals (compared separately below) and the lazily
+    // loaded caseworker, which is an uninitialised proxy
     assertThat(expected)
         .usingRecursiveComparison()
-        .ignoringFields("createdAt", "modifiedAt", "individuals", "proceedings")
+        .ignoringFields("createdAt", "modifiedAt", "individuals", "proceedings", "caseworker")
         .isEqualTo(actual);
+    assertThat(actual.getCaseworker().getId()).isEqualTo(expected.getCaseworker().getId());
 
     assertThat(actual.getIndividuals())
         .as("individuals")
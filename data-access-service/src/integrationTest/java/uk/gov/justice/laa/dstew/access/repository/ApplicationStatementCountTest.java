@@ -0,0 +1,117 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import uk.gov.justice.laa.dstew.access.entity.ApplicationEntity;
+import uk.gov.justice.laa.dstew.access.entity.ProceedingEntity;
+import uk.gov.justice.laa.dstew.access.utils.BaseIntegrationTest;
+import uk.gov.justice.laa.dstew.access.utils.SqlStatementCounter;
+import uk.gov.justice.laa.dstew.access.utils.generator.DataGenerator;
+import uk.gov.justice.laa.dstew.access.utils.generator.application.ApplicationEntityGenerator;
+import uk.gov.justice.laa.dstew.access.utils.generator.decision.DecisionEntityGenerator;
+import uk.gov.justice.laa.dstew.access.utils.generator.merit.MeritsDecisionsEntityGenerator;
+import uk.gov.justice.laa.dstew.access.utils.generator.proceeding.ProceedingsEntityGenerator;
+
+/** Pins the number of statements each application read issues. */
+public class ApplicationStatementCountTest extends BaseIntegrationTest {
+
+  @Autowired private SqlStatementCounter sqlStatementCounter;
+
+  private UUID applicationId;
+
+  @BeforeEach
+  void persistApplication() {
+    ProceedingEntity proceeding =
+        DataGenerator.createDefault(
+            ProceedingsEntityGenerator.class,
+            builder ->
+                builder.meritsDecision(
+                    DataGenerator.createDefault(MeritsDecisionsEntityGenerator.class)));
+    ApplicationEntity lead =
+        persistedDataGenerator.createAndPersist(
+            ApplicationEntityGenerator.class,
+            builder ->
+                builder
+                    .caseworker(BaseIntegrationTest.CaseworkerJohnDoe)
+                    .linkedApplications(Set.of())
+                    .proceedings(new HashSet<>(Set.of(proceeding)))
+                    .decision(DataGenerator.createDefault(DecisionEntityGenerator.class)));
+    ApplicationEntity associate =
+        persistedDataGenerator.createAndPersist(ApplicationEntityGenerator.class);
+    persistedDataGenerator.persistLink(lead, associate);
+    applicationId = lead.getId();
+    clearCache();
+  }
+
+  @Test
+  void givenApplication_whenLoadedWithDetails_thenOneStatementCoversEverythingRead() {
+    long statements =
+        sqlStatementCounter.countStatements(
+            () -> {
+              ApplicationEntity application =
+                  applicationRepository.findWithDetailsById(applicationId).orElseThrow();
+              assertThat(application.getCaseworker().getId())
+                  .isEqualTo(BaseIntegrationTest.CaseworkerJohnDoe.getId());
+              assertThat(application.getDecision().getOverallDecision()).isNotNull();
+              application
+                  .getProceedings()
+                  .forEach(p -> assertThat(p.getMeritsDecision().getDecision()).isNotNull());
+              assertThat(application.isLead()).isTrue();
+            });
+
+    assertThat(statements).isEqualTo(1);
+  }
+
+  @Test
+  void givenApplication_whenLoadedWithDecision_thenOneStatementCoversDecisionAndMerits() {
+    long statements =
+        sqlStatementCounter.countStatements(
+            () -> {
+              ApplicationEntity application =
+                  applicationRepository.findWithDecisionById(applicationId).orElseThrow();
+              assertThat(application.getDecision().getOverallDecision()).isNotNull();
+              application
+                  .getProceedings()
+                  .forEach(p -> assertThat(p.getMeritsDecision().getDecision()).isNotNull());
+            });
+
+    assertThat(statements).isEqualTo(1);
+  }
+
+  @Test
+  void givenApplication_whenLoadedAsAggregate_thenOneStatementCoversIndividualsAndProceedings() {
+    long statements =
+        sqlStatementCounter.countStatements(
+            () -> {
+              ApplicationEntity application =
+                  applicationRepository.findAggregateById(applicationId).orElseThrow();
+              assertThat(application.getIndividuals()).isNotNull().hasSizeGreaterThan(0);
+              assertThat(application.getDecision()).isNotNull();
+              application
+                  .getProceedings()
+                  .forEach(p -> assertThat(p.getMeritsDecision()).isNotNull());
+            });
+
+    assertThat(statements).isEqualTo(1);
+  }
+
+  @Test
+  void givenApplication_whenLoadedById_thenOnlyTheApplicationRowIsRead() {
+    long statements =
+        sqlStatementCounter.countStatements(
+            () -> {
+              ApplicationEntity application =
+                  applicationRepository.findById(applicationId).orElseThrow();
+              assertThat(application.getCaseworker().getId())
+                  .isEqualTo(BaseIntegrationTest.CaseworkerJohnDoe.getId());
+            });
+
+    assertThat(statements).isEqualTo(1);
+  }
+}
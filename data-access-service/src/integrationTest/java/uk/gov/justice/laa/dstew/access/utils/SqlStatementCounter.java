@@ -0,0 +1,35 @@
+package uk.gov.justice.laa.dstew.access.utils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares while an action runs, so tests can pin down how many
+ * round trips a read makes. Relies on {@code hibernate.generate_statistics} being enabled.
+ */
+@Component
+public class SqlStatementCounter {
+
+  private final Statistics statistics;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  public SqlStatementCounter(EntityManagerFactory entityManagerFactory) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  /**
+   * Runs the action, flushing any pending writes at the end, and returns the number of statements
+   * prepared.
+   */
+  public long countStatements(Runnable action) {
+    statistics.clear();
+    action.run();
+    entityManager.flush();
+    return statistics.getPrepareStatementCount();
+  }
+}
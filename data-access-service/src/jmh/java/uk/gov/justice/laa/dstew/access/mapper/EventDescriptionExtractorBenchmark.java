@@ -0,0 +1,121 @@
+package uk.gov.justice.laa.dstew.access.mapper;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.justice.laa.dstew.access.model.AssignApplicationDomainEventDetails;
+import uk.gov.justice.laa.dstew.access.model.CreateApplicationNoteDomainEventDetails;
+import uk.gov.justice.laa.dstew.access.model.DomainEventType;
+import uk.gov.justice.laa.dstew.access.model.MakeDecisionDomainEventDetails;
+import uk.gov.justice.laa.dstew.access.model.NoteRequest;
+
+/**
+ * Compares extracting the event description with {@link EventDescriptionExtractor} against binding
+ * the whole payload to its details class, as {@link DomainEventMapper} did before. The payloads
+ * are shaped like those written by {@code SaveDomainEventService} and used in {@code
+ * GetDomainEventTest}; the decision payload carries the full make-decision request, which is where
+ * the full bind costs most.
+ *
+ * <p>Run with {@code ./gradlew :data-access-service:jmh -Pjmh.include=EventDescription}; the
+ * {@code gc.alloc.rate.norm} column gives the bytes allocated per extraction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDescriptionExtractorBenchmark {
+
+  private static final String ASSIGN_PAYLOAD =
+      """
+      {"applicationId":"3592f19b-69bc-4d36-86bb-5a5cffc6febd",\
+      "caseWorkerId":"377adde8-632f-43c6-b10b-0843433759d3",\
+      "createdBy":"John.Doe","eventDescription":"Assigned to caseworker",\
+      "createdAt":"2026-07-24T10:00:00Z"}""";
+
+  private static final String NOTES_PAYLOAD =
+      """
+      {"applicationId":"3592f19b-69bc-4d36-86bb-5a5cffc6febd",\
+      "caseworkerId":"377adde8-632f-43c6-b10b-0843433759d3",\
+      "request":"{\\"notes\\":\\"Test note about the application\\"}",\
+      "createdDate":"2026-07-24T10:00:00.000000Z"}""";
+
+  private static final String DECISION_PAYLOAD =
+      """
+      {"applicationId":"3592f19b-69bc-4d36-86bb-5a5cffc6febd",\
+      "caseworkerId":"377adde8-632f-43c6-b10b-0843433759d3",\
+      "request":"{\\"applicationStatus\\":\\"APPLICATION_SUBMITTED\\",\
+      \\"overallDecision\\":\\"REFUSED\\",\\"proceedings\\":[\
+      {\\"proceedingId\\":\\"9a3c1c1e-2f1b-4d7e-8e53-0b7a2a7c9f10\\",\
+      \\"meritsDecision\\":{\\"decision\\":\\"REFUSED\\",\\"refusal\\":\
+      {\\"justification\\":\\"Insufficient prospects of success\\",\\"reason\\":\\"MERITS\\"}}},\
+      {\\"proceedingId\\":\\"4d5e6f70-8192-4a3b-9c4d-5e6f708192a3\\",\
+      \\"meritsDecision\\":{\\"decision\\":\\"REFUSED\\",\\"refusal\\":\
+      {\\"justification\\":\\"Not in scope\\",\\"reason\\":\\"SCOPE\\"}}}],\
+      \\"eventHistory\\":{\\"eventDescription\\":\\"Refused after review\\"}}",\
+      "eventDescription":"Refused after review","createdAt":"2026-07-24T10:00:00Z"}""";
+
+  /** The mapper previously built a new {@link ObjectMapper} for every event. */
+  @Param({"false", "true"})
+  private boolean sharedObjectMapper;
+
+  private ObjectMapper objectMapper;
+
+  @Setup
+  public void setUp() {
+    objectMapper = MapperUtil.getObjectMapper();
+  }
+
+  @Benchmark
+  public String assignStreaming() {
+    return EventDescriptionExtractor.extract(
+        ASSIGN_PAYLOAD, DomainEventType.ASSIGN_APPLICATION_TO_CASEWORKER);
+  }
+
+  @Benchmark
+  public String assignFullBind() {
+    return mapper()
+        .readValue(ASSIGN_PAYLOAD, AssignApplicationDomainEventDetails.class)
+        .getEventDescription();
+  }
+
+  @Benchmark
+  public String notesStreaming() {
+    return EventDescriptionExtractor.extract(NOTES_PAYLOAD, DomainEventType.APPLICATION_NOTES);
+  }
+
+  @Benchmark
+  public String notesFullBind() {
+    CreateApplicationNoteDomainEventDetails details =
+        mapper().readValue(NOTES_PAYLOAD, CreateApplicationNoteDomainEventDetails.class);
+    return mapper().readValue(details.getRequest(), NoteRequest.class).getNotes();
+  }
+
+  @Benchmark
+  public String decisionStreaming() {
+    return EventDescriptionExtractor.extract(
+        DECISION_PAYLOAD, DomainEventType.APPLICATION_MAKE_DECISION_REFUSED);
+  }
+
+  @Benchmark
+  public String decisionFullBind() {
+    return mapper()
+        .readValue(DECISION_PAYLOAD, MakeDecisionDomainEventDetails.class)
+        .getEventDescription();
+  }
+
+  private ObjectMapper mapper() {
+    return sharedObjectMapper ? objectMapper : MapperUtil.getObjectMapper();
+  }
+}
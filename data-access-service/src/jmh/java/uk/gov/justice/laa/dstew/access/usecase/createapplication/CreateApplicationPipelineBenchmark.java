@@ -0,0 +1,108 @@
+package uk.gov.justice.laa.dstew.access.usecase.createapplication;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.justice.laa.dstew.access.domain.ProceedingDomain;
+import uk.gov.justice.laa.dstew.access.mapper.MapperUtil;
+import uk.gov.justice.laa.dstew.access.usecase.shared.parser.ApplicationContent;
+import uk.gov.justice.laa.dstew.access.usecase.shared.parser.ApplicationContentParser;
+import uk.gov.justice.laa.dstew.access.usecase.shared.parser.ParsedAppContentDetails;
+import uk.gov.justice.laa.dstew.access.usecase.shared.parser.PayloadValidator;
+import uk.gov.justice.laa.dstew.access.validation.JsonSchemaValidator;
+
+/**
+ * Compares the content handling of one {@code POST /applications} in {@link
+ * CreateApplicationUseCase} against the pipeline it replaced, using the k6 fixture {@code
+ * k6/fixtures/applicationContent.json} as the bound request content.
+ *
+ * <p>{@code singleTree} converts the content to a JSON tree once, then schema-validates, binds and
+ * parses that tree and builds the proceeding domains. {@code perStepConversion} converts the map
+ * for schema validation and again for binding, and builds a new {@link ObjectMapper} for every
+ * proceeding, as before. The extraction {@code singleTree} also performs only makes the comparison
+ * conservative.
+ *
+ * <p>Run with {@code ./gradlew :data-access-service:jmh -Pjmh.include=CreateApplicationPipeline};
+ * the {@code gc.alloc.rate.norm} column gives the bytes allocated per create.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreateApplicationPipelineBenchmark {
+
+  /** Resolved against the module directory, which the {@code jmh} task runs in. */
+  private static final Path FIXTURE = Path.of("..", "k6", "fixtures", "applicationContent.json");
+
+  private static final String SCHEMA = "ApplyApplication.json";
+  private static final int SCHEMA_VERSION = 1;
+
+  private Map<String, Object> applicationContent;
+  private JsonSchemaValidator jsonSchemaValidator;
+  private PayloadValidator payloadValidator;
+  private ApplicationContentParser parser;
+  private CreateApplicationDomainMapper domainMapper;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() throws IOException {
+    ObjectMapper objectMapper = MapperUtil.getObjectMapper();
+    applicationContent = objectMapper.readValue(Files.readString(FIXTURE), Map.class);
+    jsonSchemaValidator = new JsonSchemaValidator(new SimpleMeterRegistry());
+    jsonSchemaValidator.preloadSchemas();
+    payloadValidator =
+        new PayloadValidator(
+            objectMapper, Validation.buildDefaultValidatorFactory().getValidator());
+    parser = new ApplicationContentParser(payloadValidator);
+    domainMapper = new CreateApplicationDomainMapper();
+  }
+
+  @Benchmark
+  public Set<ProceedingDomain> singleTree() {
+    JsonNode content = parser.toTree(applicationContent);
+    jsonSchemaValidator.validate(content, SCHEMA, SCHEMA_VERSION);
+    ParsedAppContentDetails parsed = parser.parse(content);
+    return domainMapper.toProceedingDomains(parsed.proceedings());
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Set<ProceedingDomain> perStepConversion() {
+    jsonSchemaValidator.validate((Object) applicationContent, SCHEMA, SCHEMA_VERSION);
+    ApplicationContent content =
+        payloadValidator.convertAndValidate(applicationContent, ApplicationContent.class);
+    return content.getProceedings().stream()
+        .map(
+            proceeding ->
+                ProceedingDomain.builder()
+                    .applyProceedingId(proceeding.getId())
+                    .isLead(Boolean.TRUE.equals(proceeding.getLeadProceeding()))
+                    .description(proceeding.getDescription())
+                    .proceedingContent(
+                        MapperUtil.getObjectMapper().convertValue(proceeding, Map.class))
+                    .createdBy("")
+                    .updatedBy("")
+                    .build())
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,96 @@
+package uk.gov.justice.laa.dstew.access.usecase.getallapplications;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.LinkedApplicationSummaryReadModel;
+
+/**
+ * Compares resolving the linked applications of a page of associates through {@link
+ * LinkedApplicationGroups} with the previous scan over every group, as the linked-group size
+ * grows. Every row on the page is an associate in its own group, which is the worst case for the
+ * scan.
+ *
+ * <p>Run with {@code ./gradlew :data-access-service:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkedApplicationGroupsBenchmark {
+
+  @Param({"20"})
+  private int pageSize;
+
+  @Param({"2", "10", "100", "1000"})
+  private int groupSize;
+
+  private List<UUID> pageIds;
+  private List<LinkedApplicationSummaryReadModel> linkedApplications;
+
+  /** Builds one group per page row, with the page row as the last associate of its group. */
+  @Setup
+  public void setUp() {
+    pageIds = new ArrayList<>(pageSize);
+    linkedApplications = new ArrayList<>(pageSize * groupSize);
+    for (int row = 0; row < pageSize; row++) {
+      UUID leadId = UUID.randomUUID();
+      linkedApplications.add(link(leadId, leadId));
+      UUID associateId = null;
+      for (int member = 1; member < groupSize; member++) {
+        associateId = UUID.randomUUID();
+        linkedApplications.add(link(associateId, leadId));
+      }
+      pageIds.add(associateId);
+    }
+  }
+
+  /** Builds the reverse index once and looks up every page row. */
+  @Benchmark
+  public void reverseIndex(Blackhole blackhole) {
+    LinkedApplicationGroups groups = LinkedApplicationGroups.index(linkedApplications);
+    for (UUID id : pageIds) {
+      blackhole.consume(groups.linkedTo(id));
+    }
+  }
+
+  /** The scan used before the reverse index: every group is searched for each associate. */
+  @Benchmark
+  public void linearScan(Blackhole blackhole) {
+    Map<UUID, List<LinkedApplicationSummaryReadModel>> byLeadId =
+        linkedApplications.stream()
+            .collect(Collectors.groupingBy(LinkedApplicationSummaryReadModel::leadApplicationId));
+    for (UUID id : pageIds) {
+      List<LinkedApplicationSummaryReadModel> group =
+          byLeadId.containsKey(id)
+              ? byLeadId.get(id)
+              : byLeadId.values().stream()
+                  .filter(g -> g.stream().anyMatch(dto -> dto.applicationId().equals(id)))
+                  .findFirst()
+                  .orElse(List.of());
+      blackhole.consume(group.stream().filter(dto -> !dto.applicationId().equals(id)).toList());
+    }
+  }
+
+  private static LinkedApplicationSummaryReadModel link(UUID applicationId, UUID leadId) {
+    return new LinkedApplicationSummaryReadModel(
+        applicationId, "REF-" + applicationId, applicationId.equals(leadId), leadId);
+  }
+}
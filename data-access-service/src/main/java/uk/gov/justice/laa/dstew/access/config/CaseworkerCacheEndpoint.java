@@ -0,0 +1,31 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.stereotype.Component;
+import uk.gov.justice.laa.dstew.access.repository.CaseworkerCacheEvictor;
+
+/**
+ * Actuator endpoint evicting caseworkers from the second-level and query caches.
+ *
+ * <p>Writes made through JPA evict the caches on their own. Caseworkers are normally added by SQL
+ * outside the service, though, and those changes are otherwise only seen once the cache entries
+ * expire. Call {@code DELETE /actuator/caseworkercache} after such a change; it needs the {@value
+ * SecurityConfig#ADMIN_ROLE} role.
+ */
+@Component
+@Endpoint(id = "caseworkercache")
+public class CaseworkerCacheEndpoint {
+
+  private final CaseworkerCacheEvictor evictor;
+
+  public CaseworkerCacheEndpoint(CaseworkerCacheEvictor evictor) {
+    this.evictor = evictor;
+  }
+
+  /** Evicts every cached caseworker and the cached list of all caseworkers. */
+  @DeleteOperation
+  public void evict() {
+    evictor.evict();
+  }
+}
@@ -0,0 +1,81 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Clock;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import uk.gov.justice.laa.dstew.access.ExcludeFromGeneratedCodeCoverage;
+
+/**
+ * Routes read-only transactions to a read replica when {@code app.datasource.replica.enabled} is
+ * set.
+ *
+ * <p>The application's {@link DataSource} becomes a {@link LazyConnectionDataSourceProxy} over the
+ * primary pool, so a connection is only fetched once the transaction's read-only flag is known.
+ * Transactions marked {@code readOnly} take theirs from a {@link ReplicaRoutingDataSource}, which
+ * falls back to the primary while {@link ReplicaLagMonitor} reports the replica lagging or down;
+ * everything else, including Flyway, uses the primary.
+ */
+@ExcludeFromGeneratedCodeCoverage
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+  @Bean(defaultCandidate = false)
+  @ConfigurationProperties("spring.datasource.hikari")
+  HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean(defaultCandidate = false)
+  @ConfigurationProperties("app.datasource.replica.hikari")
+  HikariDataSource replicaDataSource(
+      ReplicaDataSourceProperties replica, DataSourceProperties primary) {
+    HikariDataSource dataSource =
+        DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(primary.determineDriverClassName())
+            .url(replica.url())
+            .username(replica.username() != null ? replica.username() : primary.getUsername())
+            .password(replica.password() != null ? replica.password() : primary.getPassword())
+            .build();
+    dataSource.setPoolName("replica");
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  ReplicaLagMonitor replicaLagMonitor(
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReplicaDataSourceProperties replica) {
+    return new ReplicaLagMonitor(
+        new JdbcTemplate(replicaDataSource),
+        replica.maxLag(),
+        replica.lagCheckInterval(),
+        Clock.systemUTC());
+  }
+
+  @Bean
+  @Primary
+  DataSource routingDataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReplicaLagMonitor replicaLagMonitor) {
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+    dataSource.setReadOnlyDataSource(
+        new ReplicaRoutingDataSource(replicaDataSource, primaryDataSource, replicaLagMonitor));
+    return dataSource;
+  }
+}
@@ -0,0 +1,24 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection details for the optional read replica used by read-only transactions.
+ *
+ * @param enabled whether read-only transactions are routed to the replica
+ * @param url JDBC url of the replica
+ * @param username replica user, defaulting to the primary's
+ * @param password replica password, defaulting to the primary's
+ * @param maxLag replication lag above which reads fall back to the primary
+ * @param lagCheckInterval how often the replica's lag is re-checked
+ */
+@ConfigurationProperties("app.datasource.replica")
+public record ReplicaDataSourceProperties(
+    boolean enabled,
+    String url,
+    String username,
+    String password,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("1s") Duration lagCheckInterval) {}
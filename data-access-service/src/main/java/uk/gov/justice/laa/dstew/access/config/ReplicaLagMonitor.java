@@ -0,0 +1,94 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Tracks how far the read replica is behind the primary and whether it may serve reads.
+ *
+ * <p>The lag is checked at most once per check interval, by whichever caller first finds the last
+ * check stale; other callers use the previous result meanwhile. The replica is unusable until the
+ * first check succeeds, while its lag exceeds the maximum, and whenever the check fails.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+  /**
+   * Seconds since the last replayed transaction, or zero when the replica has replayed everything
+   * it has received. Without the second case an idle primary would look like a lagging replica.
+   */
+  static final String LAG_QUERY =
+      """
+      SELECT CASE
+               WHEN NOT pg_is_in_recovery() THEN 0
+               WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+               ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+             END""";
+
+  private final JdbcOperations replica;
+  private final Duration maxLag;
+  private final long checkIntervalMillis;
+  private final Clock clock;
+
+  private final AtomicLong nextCheckAt = new AtomicLong(Long.MIN_VALUE);
+  private volatile double lagSeconds = Double.NaN;
+  private volatile boolean replicaUsable;
+
+  public ReplicaLagMonitor(
+      JdbcOperations replica, Duration maxLag, Duration checkInterval, Clock clock) {
+    this.replica = replica;
+    this.maxLag = maxLag;
+    this.checkIntervalMillis = checkInterval.toMillis();
+    this.clock = clock;
+  }
+
+  /**
+   * Returns whether the replica is close enough to the primary to serve reads, re-checking its lag
+   * if the last check is older than the check interval.
+   */
+  public boolean isReplicaUsable() {
+    long now = clock.millis();
+    long due = nextCheckAt.get();
+    if (now >= due && nextCheckAt.compareAndSet(due, now + checkIntervalMillis)) {
+      refresh();
+    }
+    return replicaUsable;
+  }
+
+  private void refresh() {
+    try {
+      Double lag = replica.queryForObject(LAG_QUERY, Double.class);
+      lagSeconds = lag == null ? 0 : lag;
+      boolean usable = lagSeconds * 1000 <= maxLag.toMillis();
+      if (usable != replicaUsable) {
+        log.info(
+            "Read replica {} reads (lag {}s, max {}s)",
+            usable ? "now serving" : "no longer serving",
+            lagSeconds,
+            maxLag.toSeconds());
+      }
+      replicaUsable = usable;
+    } catch (DataAccessException e) {
+      if (replicaUsable) {
+        log.warn("Read replica lag check failed, routing reads to the primary", e);
+      }
+      lagSeconds = Double.NaN;
+      replicaUsable = false;
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("db.replica.lag", this, monitor -> monitor.lagSeconds)
+        .description("Seconds the read replica is behind the primary, as of the last check")
+        .baseUnit("seconds")
+        .register(registry);
+  }
+}
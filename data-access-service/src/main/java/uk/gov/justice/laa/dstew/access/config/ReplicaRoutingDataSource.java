@@ -0,0 +1,34 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Hands out replica connections while the {@link ReplicaLagMonitor} reports the replica usable, and
+ * primary connections otherwise. Only used for read-only transactions.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  enum Target {
+    REPLICA,
+    PRIMARY
+  }
+
+  private final ReplicaLagMonitor lagMonitor;
+
+  public ReplicaRoutingDataSource(
+      DataSource replica, DataSource primary, ReplicaLagMonitor lagMonitor) {
+    this.lagMonitor = lagMonitor;
+    setTargetDataSources(
+        Map.<Object, Object>of(Target.REPLICA, replica, Target.PRIMARY, primary));
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return lagMonitor.isReplicaUsable() ? Target.REPLICA : Target.PRIMARY;
+  }
+}
@@ -83,6 +83,12 @@ public class SecurityConfig {
   @Value("${app.sds-api.client-registration-id}")
   private String clientRegistrationId;
 
+  /**
+   * Role, from the token's {@code roles} claim, needed for management operations such as evicting
+   * the caseworker cache. Every token is given the caseworker app role, so that cannot be used.
+   */
+  public static final String ADMIN_ROLE = "LAA_ADMIN";
+
   private static final String AUTHORITY_PREFIX = "APPROLE_";
 
   private static final String APP_ROLES_CLAIM = "LAA_APP_ROLES";
@@ -113,6 +119,8 @@ public class SecurityConfig {
                         "/actuator/prometheus",
                         "/actuator/metrics/**")
                     .permitAll()
+                    .requestMatchers("/actuator/caseworkercache")
+                    .hasRole(ADMIN_ROLE)
                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**")
                     .permitAll()
                     .requestMatchers("/api/**")
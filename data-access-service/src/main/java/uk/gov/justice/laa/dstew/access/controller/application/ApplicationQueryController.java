@@ -24,9 +24,11 @@ import uk.gov.justice.laa.dstew.access.model.DomainEventType;
 import uk.gov.justice.laa.dstew.access.model.MatterType;
 import uk.gov.justice.laa.dstew.access.model.ServiceName;
 import uk.gov.justice.laa.dstew.access.service.applications.SdsService;
+import uk.gov.justice.laa.dstew.access.service.domainevents.DomainEventHistoryPage;
 import uk.gov.justice.laa.dstew.access.service.domainevents.GetDomainEventService;
 import uk.gov.justice.laa.dstew.access.shared.logging.aspects.LogMethodArguments;
 import uk.gov.justice.laa.dstew.access.shared.logging.aspects.LogMethodResponse;
+import uk.gov.justice.laa.dstew.access.usecase.getallapplications.GetAllApplicationsQuery;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.GetAllApplicationsUseCase;
 import uk.gov.justice.laa.dstew.access.usecase.getallnotesforapplication.GetAllNotesForApplicationUseCase;
 import uk.gov.justice.laa.dstew.access.usecase.getapplication.GetApplicationUseCase;
@@ -65,23 +67,33 @@ public class ApplicationQueryController implements ApplicationQueryApi {
       ApplicationSortBy sortBy,
       ApplicationOrderBy orderBy,
       Integer page,
-      Integer pageSize) {
+      Integer pageSize,
+      String cursor,
+      Boolean includeTotal) {
 
+    GetAllApplicationsQuery query =
+        getAllApplicationsQueryMapper.toGetAllApplicationsQuery(
+            status,
+            laaReference,
+            clientFirstName,
+            clientLastName,
+            clientDateOfBirth,
+            userId,
+            autoGranted == null ? null : autoGranted.name(),
+            matterType,
+            sortBy,
+            orderBy,
+            page,
+            pageSize,
+            cursor,
+            includeTotal);
+
+    if (cursor != null) {
+      return getAllApplicationsResponseMapper.toGetAllApplicationsResponse(
+          getAllApplicationsUseCase.executeWithCursor(query));
+    }
     return getAllApplicationsResponseMapper.toGetAllApplicationsResponse(
-        getAllApplicationsUseCase.execute(
-            getAllApplicationsQueryMapper.toGetAllApplicationsQuery(
-                status,
-                laaReference,
-                clientFirstName,
-                clientLastName,
-                clientDateOfBirth,
-                userId,
-                autoGranted == null ? null : autoGranted.name(),
-                matterType,
-                sortBy,
-                orderBy,
-                page,
-                pageSize)));
+        getAllApplicationsUseCase.execute(query));
   }
 
   @Override
@@ -97,9 +109,21 @@ public class ApplicationQueryController implements ApplicationQueryApi {
   public ResponseEntity<ApplicationHistoryResponse> getApplicationHistory(
       @NotNull ServiceName serviceName,
       UUID applicationId,
-      @Valid List<DomainEventType> eventType) {
-    var events = getDomainEventsService.getEvents(applicationId, eventType);
-    return ResponseEntity.ok(ApplicationHistoryResponse.builder().events(events).build());
+      @Valid List<DomainEventType> eventType,
+      Integer pageSize,
+      String cursor) {
+    if (pageSize == null && cursor == null) {
+      return ResponseEntity.ok(
+          new StreamingApplicationHistoryResponse(
+              getDomainEventsService.streamEvents(applicationId, eventType)));
+    }
+    DomainEventHistoryPage page =
+        getDomainEventsService.getEventsPage(applicationId, eventType, pageSize, cursor);
+    return ResponseEntity.ok(
+        ApplicationHistoryResponse.builder()
+            .events(page.events())
+            .nextCursor(page.nextCursor())
+            .build());
   }
 
   @Override
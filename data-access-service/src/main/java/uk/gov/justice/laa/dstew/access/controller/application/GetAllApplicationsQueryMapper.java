@@ -26,6 +26,8 @@ public class GetAllApplicationsQueryMapper {
    * @param orderBy optional sort direction
    * @param page one-based page number
    * @param pageSize number of results per page
+   * @param cursor optional keyset cursor; an empty value requests the first keyset page
+   * @param includeTotal whether keyset pagination should also count all matches
    * @return the command record
    */
   public GetAllApplicationsQuery toGetAllApplicationsQuery(
@@ -40,7 +42,9 @@ public class GetAllApplicationsQueryMapper {
       ApplicationSortBy sortBy,
       ApplicationOrderBy orderBy,
       Integer page,
-      Integer pageSize) {
+      Integer pageSize,
+      String cursor,
+      Boolean includeTotal) {
     return GetAllApplicationsQuery.builder()
         .status(status == null ? null : status.name())
         .laaReference(laaReference)
@@ -54,6 +58,8 @@ public class GetAllApplicationsQueryMapper {
         .orderBy(orderBy == null ? null : orderBy.name())
         .page(page)
         .pageSize(pageSize)
+        .cursor(cursor)
+        .includeTotal(includeTotal)
         .build();
   }
 }
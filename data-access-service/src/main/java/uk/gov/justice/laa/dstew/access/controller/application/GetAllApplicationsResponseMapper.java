@@ -10,6 +10,7 @@ import uk.gov.justice.laa.dstew.access.model.CategoryOfLaw;
 import uk.gov.justice.laa.dstew.access.model.LinkedApplicationSummaryResponse;
 import uk.gov.justice.laa.dstew.access.model.MatterType;
 import uk.gov.justice.laa.dstew.access.model.PagingResponse;
+import uk.gov.justice.laa.dstew.access.usecase.getallapplications.GetAllApplicationsCursorResult;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.GetAllApplicationsResult;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.ApplicationSummaryReadModel;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.LinkedApplicationSummaryReadModel;
@@ -35,6 +36,7 @@ public class GetAllApplicationsResponseMapper {
     pagingResponse.setPage(result.requestedPage());
     pagingResponse.pageSize(result.requestedPageSize());
     pagingResponse.totalRecords((int) result.applications().totalElements());
+    pagingResponse.totalRecordsStrategy(result.applications().totalElementsStrategy());
     pagingResponse.itemsReturned(applications.size());
 
     ApplicationSummaryResponse response = new ApplicationSummaryResponse();
@@ -44,6 +46,34 @@ public class GetAllApplicationsResponseMapper {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Maps a keyset-pagination result to a response entity. {@code page} is omitted because keyset
+   * pages have no position number, and {@code totalRecords} is only set when a count was requested.
+   *
+   * @param result the use-case result
+   * @return the application summary response
+   */
+  public ResponseEntity<ApplicationSummaryResponse> toGetAllApplicationsResponse(
+      GetAllApplicationsCursorResult result) {
+    List<ApplicationSummary> applications =
+        result.applications().content().stream().map(this::toApplicationSummary).toList();
+
+    PagingResponse pagingResponse = new PagingResponse();
+    pagingResponse.pageSize(result.requestedPageSize());
+    pagingResponse.itemsReturned(applications.size());
+    pagingResponse.nextCursor(result.applications().nextCursor());
+    if (result.applications().totalElements() != null) {
+      pagingResponse.totalRecords(result.applications().totalElements().intValue());
+      pagingResponse.totalRecordsStrategy(result.applications().totalElementsStrategy());
+    }
+
+    ApplicationSummaryResponse response = new ApplicationSummaryResponse();
+    response.setApplications(applications);
+    response.setPaging(pagingResponse);
+
+    return ResponseEntity.ok(response);
+  }
+
   private ApplicationSummary toApplicationSummary(ApplicationSummaryReadModel summaryReadModel) {
     ApplicationSummary app = new ApplicationSummary();
     app.setApplicationId(summaryReadModel.id());
@@ -0,0 +1,52 @@
+package uk.gov.justice.laa.dstew.access.controller.application;
+
+import java.util.Iterator;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+import uk.gov.justice.laa.dstew.access.model.ApplicationDomainEventResponse;
+import uk.gov.justice.laa.dstew.access.model.ApplicationHistoryResponse;
+
+/**
+ * An {@link ApplicationHistoryResponse} whose events are written straight from an iterator to the
+ * response body as Jackson serialises it, so the full history is never held as a list. The JSON
+ * produced is identical to that of a materialised {@link ApplicationHistoryResponse}.
+ *
+ * <p>The iterator can only be consumed once, and an error while iterating truncates the response
+ * because the status line has already been sent.
+ */
+@JsonSerialize(using = StreamingApplicationHistoryResponse.EventStreamSerializer.class)
+public class StreamingApplicationHistoryResponse extends ApplicationHistoryResponse {
+
+  private final transient Iterator<ApplicationDomainEventResponse> eventStream;
+
+  public StreamingApplicationHistoryResponse(
+      Iterator<ApplicationDomainEventResponse> eventStream) {
+    this.eventStream = eventStream;
+  }
+
+  /** Avoids consuming the stream when the response is logged. */
+  @Override
+  public String toString() {
+    return "StreamingApplicationHistoryResponse {events: <streamed>}";
+  }
+
+  /** Writes {@code {"events":[...]}}, serialising one event at a time. */
+  public static final class EventStreamSerializer
+      extends ValueSerializer<StreamingApplicationHistoryResponse> {
+
+    @Override
+    public void serialize(
+        StreamingApplicationHistoryResponse value, JsonGenerator gen, SerializationContext ctxt) {
+      gen.writeStartObject(value);
+      gen.writeName("events");
+      gen.writeStartArray();
+      while (value.eventStream.hasNext()) {
+        ctxt.writeValue(gen, value.eventStream.next());
+      }
+      gen.writeEndArray();
+      gen.writeEndObject();
+    }
+  }
+}
@@ -32,8 +32,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.Generated;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.generator.EventType;
 import org.hibernate.type.SqlTypes;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import tools.jackson.databind.PropertyNamingStrategies;
@@ -43,7 +45,14 @@ import uk.gov.justice.laa.dstew.access.model.ApplicationStatus;
 import uk.gov.justice.laa.dstew.access.model.CategoryOfLaw;
 import uk.gov.justice.laa.dstew.access.model.MatterType;
 
-/** Represents an application. */
+/**
+ * Represents an application.
+ *
+ * <p>The caseworker, decision, proceedings and linked applications are loaded lazily; reading the
+ * caseworker's id does not load it. Gateways that need the others load the application through an
+ * {@code ApplicationRepository} method with a matching entity graph, so each use case fetches only
+ * what it reads.
+ */
 @ExcludeFromGeneratedCodeCoverage
 @Getter
 @Setter
@@ -75,9 +84,19 @@ public class ApplicationEntity implements AuditableEntity {
   private String officeCode;
 
   @JdbcTypeCode(SqlTypes.JSON)
-  @Column(columnDefinition = "json")
+  @Column(columnDefinition = "jsonb")
   private Map<String, Object> applicationContent;
 
+  /** Code of the lead proceeding, generated by the database from the application content. */
+  @Generated(event = {EventType.INSERT, EventType.UPDATE})
+  @Column(name = "lead_proceeding_code", insertable = false, updatable = false)
+  private String leadProceedingCode;
+
+  /** Lower-cased submitter email, generated by the database from the application content. */
+  @Generated(event = {EventType.INSERT, EventType.UPDATE})
+  @Column(name = "submitter_email", insertable = false, updatable = false)
+  private String submitterEmail;
+
   @ManyToMany(cascade = CascadeType.PERSIST)
   @JoinTable(
       name = "linked_individuals",
@@ -96,7 +115,7 @@ public class ApplicationEntity implements AuditableEntity {
   @UpdateTimestamp
   private Instant modifiedAt;
 
-  @OneToOne()
+  @OneToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "caseworker_id", referencedColumnName = "id")
   private CaseworkerEntity caseworker;
 
@@ -106,9 +125,8 @@ public class ApplicationEntity implements AuditableEntity {
   @Column(name = "submitted_at")
   private Instant submittedAt;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
   @JoinColumn(name = "decision_id", referencedColumnName = "id")
-  @Fetch(FetchMode.JOIN)
   private DecisionEntity decision;
 
   @Column(name = "used_delegated_functions")
@@ -125,12 +143,12 @@ public class ApplicationEntity implements AuditableEntity {
   @Column(name = "is_auto_granted")
   private Boolean isAutoGranted;
 
-  @OneToMany(fetch = FetchType.EAGER)
+  @OneToMany(fetch = FetchType.LAZY)
   @JoinColumn(name = "lead_application_id", insertable = false, updatable = false)
   @Fetch(FetchMode.SUBSELECT)
   private Set<LinkedApplicationEntity> linkedApplications;
 
-  @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "application_id")
   @Fetch(FetchMode.SUBSELECT)
   private Set<ProceedingEntity> proceedings;
@@ -1,7 +1,9 @@
 package uk.gov.justice.laa.dstew.access.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -12,13 +14,20 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import tools.jackson.databind.PropertyNamingStrategies;
 import tools.jackson.databind.annotation.JsonNaming;
 import uk.gov.justice.laa.dstew.access.ExcludeFromGeneratedCodeCoverage;
+import uk.gov.justice.laa.dstew.access.repository.CaseworkerCacheEvictionListener;
 
-/** Represents a case worker. */
+/**
+ * Represents a case worker. Caseworkers are read on most list and assign requests and rarely
+ * change, so they are held in the second-level cache. Writing one evicts the cached list of all
+ * caseworkers.
+ */
 @ExcludeFromGeneratedCodeCoverage
 @Getter
 @Setter
@@ -27,8 +36,14 @@ import uk.gov.justice.laa.dstew.access.ExcludeFromGeneratedCodeCoverage;
 @Builder(toBuilder = true)
 @Entity
 @Table(name = "caseworkers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CaseworkerEntity.CACHE_REGION)
+@EntityListeners(CaseworkerCacheEvictionListener.class)
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class CaseworkerEntity {
+  /** Second-level cache region holding caseworker entities. */
+  public static final String CACHE_REGION = "caseworkers";
+
   @Id
   @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
   @Column(columnDefinition = "UUID")
@@ -33,8 +33,10 @@ import uk.gov.justice.laa.dstew.access.model.ServiceName;
 @Table(name = "domain_events")
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class DomainEventEntity {
+  // Generated in the application rather than by the database so that inserts can be JDBC-batched;
+  // IDENTITY generation forces Hibernate to insert each row immediately to read back its key.
   @Id
-  @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+  @GeneratedValue(strategy = jakarta.persistence.GenerationType.UUID)
   @Column(columnDefinition = "UUID")
   private UUID id;
 
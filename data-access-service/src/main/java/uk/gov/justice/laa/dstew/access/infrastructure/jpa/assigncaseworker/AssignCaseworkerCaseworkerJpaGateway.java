@@ -15,6 +15,7 @@ public class AssignCaseworkerCaseworkerJpaGateway implements AssignCaseworkerCas
 
   @Override
   public boolean exists(UUID caseworkerId) {
-    return caseworkerRepository.existsById(caseworkerId);
+    // findById is served from the second-level cache; existsById always queries the database
+    return caseworkerRepository.findById(caseworkerId).isPresent();
   }
 }
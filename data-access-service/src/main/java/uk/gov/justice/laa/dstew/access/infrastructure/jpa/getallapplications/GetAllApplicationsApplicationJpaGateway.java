@@ -1,26 +1,33 @@
 package uk.gov.justice.laa.dstew.access.infrastructure.jpa.getallapplications;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import uk.gov.justice.laa.dstew.access.model.ApplicationSummaryDto;
 import uk.gov.justice.laa.dstew.access.model.ApplicationSortFields;
 import uk.gov.justice.laa.dstew.access.model.ApplicationStatus;
 import uk.gov.justice.laa.dstew.access.model.MatterType;
+import uk.gov.justice.laa.dstew.access.repository.ApplicationCount;
 import uk.gov.justice.laa.dstew.access.repository.ApplicationRepository;
-import uk.gov.justice.laa.dstew.access.specification.ApplicationSummarySpecification;
+import uk.gov.justice.laa.dstew.access.repository.ApplicationSummaryPage;
+import uk.gov.justice.laa.dstew.access.specification.ApplicationSummaryFilter;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.infrastructure.GetAllApplicationsApplicationGateway;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.ApplicationSummaryReadModel;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.LinkedApplicationSummaryReadModel;
+import uk.gov.justice.laa.dstew.access.usecase.shared.CursorPagedResult;
 import uk.gov.justice.laa.dstew.access.usecase.shared.PagedResult;
+import uk.gov.justice.laa.dstew.access.utils.PageCursor;
 import uk.gov.justice.laa.dstew.access.utils.PaginationHelper;
 
 /**
  * JPA gateway implementation for paginated application queries in the getAllApplications use case.
- * Constructs {@link org.springframework.data.jpa.domain.Specification} and {@link Pageable}
- * internally from the plain-String command parameters.
+ * Constructs the {@link ApplicationSummaryFilter} and {@link Pageable} internally from the
+ * plain-String command parameters.
  */
 public class GetAllApplicationsApplicationJpaGateway
     implements GetAllApplicationsApplicationGateway {
@@ -57,28 +64,70 @@ public class GetAllApplicationsApplicationJpaGateway
     Pageable pageable =
         PaginationHelper.createPageable(page, pageSize, createSortAndOrderBy(sortBy, orderBy));
 
-    ApplicationStatus statusEnum = status != null ? ApplicationStatus.valueOf(status) : null;
-    MatterType matterTypeEnum = matterType != null ? MatterType.valueOf(matterType) : null;
-
-    Page<uk.gov.justice.laa.dstew.access.model.ApplicationSummaryDto> resultPage =
+    ApplicationSummaryPage result =
         applicationRepository.findAllAsDtos(
-            ApplicationSummarySpecification.filterBy(
-                statusEnum,
+            createFilter(
+                status,
                 laaReference,
                 clientFirstName,
                 clientLastName,
                 clientDateOfBirth,
                 userId,
-                matterTypeEnum,
+                matterType,
                 autoGranted),
-            pageable,
+            pageable);
+
+    Page<ApplicationSummaryDto> resultPage = result.page();
+    List<ApplicationSummaryReadModel> content =
+        resultPage.map(gatewayMapper::toApplicationSummaryReadModel).getContent();
+    return new PagedResult<>(content, resultPage.getTotalElements(), result.countStrategy().name());
+  }
+
+  @Override
+  public CursorPagedResult<ApplicationSummaryReadModel> findAllApplicationsAfterCursor(
+      String status,
+      String laaReference,
+      String clientFirstName,
+      String clientLastName,
+      LocalDate clientDateOfBirth,
+      UUID userId,
+      String matterType,
+      String autoGranted,
+      String sortBy,
+      String orderBy,
+      String cursor,
+      boolean includeTotal,
+      Integer pageSize) {
+    Sort sort = createSortAndOrderBy(sortBy, orderBy);
+    Pageable pageable = PaginationHelper.createCursorPageable(pageSize, sort);
+    PageCursor after =
+        cursor == null || cursor.isBlank() ? null : PaginationHelper.validateCursor(cursor, sort);
+
+    ApplicationSummaryFilter filter =
+        createFilter(
+            status,
+            laaReference,
             clientFirstName,
             clientLastName,
-            clientDateOfBirth);
+            clientDateOfBirth,
+            userId,
+            matterType,
+            autoGranted);
+
+    Slice<ApplicationSummaryDto> slice =
+        applicationRepository.findAllAsDtosAfter(filter, pageable, after);
+
+    String nextCursor =
+        slice.hasNext() && slice.hasContent()
+            ? toCursor(slice.getContent().getLast(), sort.iterator().next()).encode()
+            : null;
+    ApplicationCount count = includeTotal ? applicationRepository.countMatching(filter) : null;
 
     List<ApplicationSummaryReadModel> content =
-        resultPage.map(gatewayMapper::toApplicationSummaryReadModel).getContent();
-    return new PagedResult<>(content, resultPage.getTotalElements());
+        slice.map(gatewayMapper::toApplicationSummaryReadModel).getContent();
+    return count != null
+        ? new CursorPagedResult<>(content, nextCursor, count.total(), count.strategy().name())
+        : new CursorPagedResult<>(content, nextCursor, null, null);
   }
 
   @Override
@@ -89,6 +138,38 @@ public class GetAllApplicationsApplicationJpaGateway
         .toList();
   }
 
+  private ApplicationSummaryFilter createFilter(
+      String status,
+      String laaReference,
+      String clientFirstName,
+      String clientLastName,
+      LocalDate clientDateOfBirth,
+      UUID userId,
+      String matterType,
+      String autoGranted) {
+    ApplicationStatus statusEnum = status != null ? ApplicationStatus.valueOf(status) : null;
+    MatterType matterTypeEnum = matterType != null ? MatterType.valueOf(matterType) : null;
+
+    return new ApplicationSummaryFilter(
+        statusEnum,
+        laaReference,
+        clientFirstName,
+        clientLastName,
+        clientDateOfBirth,
+        userId,
+        matterTypeEnum,
+        autoGranted);
+  }
+
+  private PageCursor toCursor(ApplicationSummaryDto last, Sort.Order order) {
+    Instant sortValue =
+        ApplicationSortFields.LAST_UPDATED_DATE.getValue().equals(order.getProperty())
+            ? last.getModifiedAt()
+            : last.getSubmittedAt();
+    return new PageCursor(
+        order.getProperty(), order.isAscending(), sortValue, last.getCreatedAt(), last.getId());
+  }
+
   private Sort createSortAndOrderBy(String sortBy, String orderBy) {
     ApplicationSortFields sortField =
         (sortBy == null)
@@ -22,6 +22,7 @@ public class GetAllApplicationsCaseworkerJpaGateway implements GetAllApplication
 
   @Override
   public boolean caseworkerExists(UUID userId) {
-    return caseworkerRepository.existsById(userId);
+    // findById is served from the second-level cache; existsById always queries the database
+    return caseworkerRepository.findById(userId).isPresent();
   }
 }
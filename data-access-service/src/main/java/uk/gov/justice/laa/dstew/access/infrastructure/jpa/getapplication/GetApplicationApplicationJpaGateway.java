@@ -28,7 +28,7 @@ public class GetApplicationApplicationJpaGateway implements GetApplicationApplic
   @Override
   public Optional<ApplicationDbProjection> findApplicationById(UUID id) {
     return applicationRepository
-        .findById(id)
+        .findWithDetailsById(id)
         .map(getApplicationGatewayMapper::toApplicationDbProjection);
   }
 }
@@ -6,12 +6,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ObjectMapper;
 import uk.gov.justice.laa.dstew.access.entity.ApplicationEntity;
 import uk.gov.justice.laa.dstew.access.entity.ProceedingEntity;
 import uk.gov.justice.laa.dstew.access.usecase.getapplication.dto.ApplicationDbProjection;
 import uk.gov.justice.laa.dstew.access.usecase.getapplication.dto.ProceedingDbProjection;
-import uk.gov.justice.laa.dstew.access.usecase.shared.parser.ApplicationContent;
 import uk.gov.justice.laa.dstew.access.usecase.shared.parser.ApplicationMerits;
 import uk.gov.justice.laa.dstew.access.usecase.shared.parser.InvolvedChild;
 import uk.gov.justice.laa.dstew.access.usecase.shared.parser.OpponentDetails;
@@ -22,10 +22,15 @@ import uk.gov.justice.laa.dstew.access.usecase.shared.parser.ProceedingMerits;
 /**
  * Maps application entities to intermediate DB projection DTOs. Responsible for extracting parsed
  * fields and joining proceedings with merits and involved children.
+ *
+ * <p>Only the sections of the application content the response uses are bound: the submitter
+ * email, the application merits and the proceeding merits. The rest of the content, including its
+ * copy of every proceeding, is never converted.
  */
 public class GetApplicationGatewayMapper {
 
   private final ObjectMapper objectMapper;
+  private final JavaType proceedingMeritsListType;
 
   /**
    * Constructs the mapper.
@@ -34,14 +39,16 @@ public class GetApplicationGatewayMapper {
    */
   public GetApplicationGatewayMapper(ObjectMapper objectMapper) {
     this.objectMapper = objectMapper;
+    this.proceedingMeritsListType =
+        objectMapper.getTypeFactory().constructCollectionType(List.class, ProceedingMerits.class);
   }
 
   /** Extracts an application entity into a DB projection. */
   public ApplicationDbProjection toApplicationDbProjection(ApplicationEntity application) {
-    ApplicationContent applicationContent =
-        toApplicationContent(application.getApplicationContent());
+    Map<String, Object> applicationContent = application.getApplicationContent();
+    ApplicationMerits applicationMerits = toApplicationMerits(applicationContent);
     List<ProceedingMerits> proceedingMerits = toProceedingMerits(applicationContent);
-    List<InvolvedChild> involvedChildren = toInvolvedChildren(applicationContent);
+    List<InvolvedChild> involvedChildren = toInvolvedChildren(applicationMerits);
 
     return ApplicationDbProjection.builder()
         .id(application.getId())
@@ -61,8 +68,8 @@ public class GetApplicationGatewayMapper {
                 : null)
         .version(application.getVersion())
         .officeCode(application.getOfficeCode())
-        .submitterEmail(applicationContent != null ? applicationContent.getSubmitterEmail() : null)
-        .opponents(toOpponentDetails(applicationContent))
+        .submitterEmail(toSubmitterEmail(applicationContent))
+        .opponents(toOpponentDetails(applicationMerits))
         .proceedings(
             toProceedingDbProjections(
                 application.getProceedings(), proceedingMerits, involvedChildren))
@@ -149,42 +156,46 @@ public class GetApplicationGatewayMapper {
         .toList();
   }
 
-  private List<OpponentDetails> toOpponentDetails(ApplicationContent applicationContent) {
-    if (applicationContent == null || applicationContent.getApplicationMerits() == null) {
+  private List<OpponentDetails> toOpponentDetails(ApplicationMerits merits) {
+    if (merits == null || merits.getOpponents() == null) {
       return Collections.emptyList();
     }
 
-    ApplicationMerits merits = applicationContent.getApplicationMerits();
-    if (merits.getOpponents() == null) {
-      return Collections.emptyList();
+    return merits.getOpponents();
+  }
+
+  private String toSubmitterEmail(Map<String, Object> applicationContent) {
+    if (applicationContent == null) {
+      return null;
     }
 
-    return merits.getOpponents();
+    return objectMapper.convertValue(applicationContent.get("submitterEmail"), String.class);
   }
 
-  private ApplicationContent toApplicationContent(Map<String, Object> applicationContent) {
+  private ApplicationMerits toApplicationMerits(Map<String, Object> applicationContent) {
     if (applicationContent == null) {
       return null;
     }
 
-    return objectMapper.convertValue(applicationContent, ApplicationContent.class);
+    return objectMapper.convertValue(
+        applicationContent.get("applicationMerits"), ApplicationMerits.class);
   }
 
-  private List<ProceedingMerits> toProceedingMerits(ApplicationContent applicationContent) {
-    if (applicationContent == null || applicationContent.getProceedingMerits() == null) {
+  private List<ProceedingMerits> toProceedingMerits(Map<String, Object> applicationContent) {
+    if (applicationContent == null || applicationContent.get("proceedingMerits") == null) {
       return Collections.emptyList();
     }
 
-    return applicationContent.getProceedingMerits();
+    return objectMapper.convertValue(
+        applicationContent.get("proceedingMerits"), proceedingMeritsListType);
   }
 
-  private List<InvolvedChild> toInvolvedChildren(ApplicationContent applicationContent) {
-    if (applicationContent == null || applicationContent.getApplicationMerits() == null) {
+  private List<InvolvedChild> toInvolvedChildren(ApplicationMerits merits) {
+    if (merits == null) {
       return Collections.emptyList();
     }
 
-    List<InvolvedChild> involvedChildren =
-        applicationContent.getApplicationMerits().getInvolvedChildren();
+    List<InvolvedChild> involvedChildren = merits.getInvolvedChildren();
     return involvedChildren != null ? involvedChildren : Collections.emptyList();
   }
 }
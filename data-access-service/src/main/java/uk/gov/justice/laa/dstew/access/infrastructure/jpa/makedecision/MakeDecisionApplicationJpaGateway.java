@@ -32,7 +32,7 @@ public class MakeDecisionApplicationJpaGateway implements MakeDecisionApplicatio
   public void updateDecision(ApplicationDomain domain) {
     ApplicationEntity entity =
         applicationRepository
-            .findById(domain.id())
+            .findWithDecisionById(domain.id())
             .orElseThrow(
                 () ->
                     new IllegalStateException(
@@ -50,7 +50,7 @@ public class ApplicationJpaGateway implements ApplicationGateway {
 
   @Override
   public Optional<ApplicationDomain> findByApplicationId(UUID applicationId) {
-    return applicationRepository.findById(applicationId).map(mapper::toApplicationDomain);
+    return applicationRepository.findAggregateById(applicationId).map(mapper::toApplicationDomain);
   }
 
   @Override
@@ -66,7 +66,7 @@ public class ApplicationJpaGateway implements ApplicationGateway {
   public ApplicationDomain update(UUID id, String status, Map<String, Object> applicationContent) {
     ApplicationEntity entity =
         applicationRepository
-            .findById(id)
+            .findAggregateById(id)
             .orElseThrow(
                 () -> new ResourceNotFoundException("No application found with id: " + id));
 
@@ -5,13 +5,7 @@ import java.time.ZoneOffset;
 import org.mapstruct.Mapper;
 import uk.gov.justice.laa.dstew.access.entity.DomainEventEntity;
 import uk.gov.justice.laa.dstew.access.model.ApplicationDomainEventResponse;
-import uk.gov.justice.laa.dstew.access.model.AssignApplicationDomainEventDetails;
-import uk.gov.justice.laa.dstew.access.model.CreateApplicationNoteDomainEventDetails;
-import uk.gov.justice.laa.dstew.access.model.DomainEventDetails;
 import uk.gov.justice.laa.dstew.access.model.DomainEventType;
-import uk.gov.justice.laa.dstew.access.model.MakeDecisionDomainEventDetails;
-import uk.gov.justice.laa.dstew.access.model.NoteRequest;
-import uk.gov.justice.laa.dstew.access.model.UnassignApplicationDomainEventDetails;
 
 /** Maps between domain event entity and domain event API model. */
 @Mapper(componentModel = "spring")
@@ -40,8 +34,8 @@ public interface DomainEventMapper {
   }
 
   /**
-   * Deserialises the JSON data field into the appropriate typed details class based on the domain
-   * event type, then returns the {@code eventDescription} from it.
+   * Extracts the {@code eventDescription} from the JSON data field for the domain event type,
+   * without binding the whole payload. See {@link EventDescriptionExtractor}.
    *
    * <p>Returns {@code null} if {@code data} is null, blank, or the event type has no {@code
    * eventDescription}.
@@ -51,47 +45,6 @@ public interface DomainEventMapper {
    * @return the extracted event description, or {@code null}
    */
   default String deserialiseEventDescription(String data, DomainEventType eventType) {
-    if (data == null || data.isBlank() || eventType == null) {
-      return null;
-    }
-    return switch (eventType) {
-      case ASSIGN_APPLICATION_TO_CASEWORKER ->
-          getEventDescription(data, AssignApplicationDomainEventDetails.class);
-      case UNASSIGN_APPLICATION_TO_CASEWORKER ->
-          getEventDescription(data, UnassignApplicationDomainEventDetails.class);
-      case APPLICATION_MAKE_DECISION_GRANTED, APPLICATION_MAKE_DECISION_REFUSED ->
-          getEventDescription(data, MakeDecisionDomainEventDetails.class);
-      case APPLICATION_NOTES -> getNotesDescription(data);
-      default -> null;
-    };
-  }
-
-  /**
-   * Notes domain events have a nested structure, so we need to deserialize the data twice to get
-   * the note text.
-   *
-   * @param data payload of notes domain event.
-   * @return The note text in the payload.
-   */
-  private String getNotesDescription(String data) {
-    try {
-      CreateApplicationNoteDomainEventDetails details =
-          MapperUtil.getObjectMapper()
-              .readValue(data, CreateApplicationNoteDomainEventDetails.class);
-      NoteRequest noteRequest =
-          MapperUtil.getObjectMapper().readValue(details.getRequest(), NoteRequest.class);
-      return noteRequest.getNotes();
-    } catch (Exception e) {
-      return null;
-    }
-  }
-
-  private static String getEventDescription(
-      String data, Class<? extends DomainEventDetails> detailsClass) {
-    try {
-      return MapperUtil.getObjectMapper().readValue(data, detailsClass).getEventDescription();
-    } catch (Exception e) {
-      return null;
-    }
+    return EventDescriptionExtractor.extract(data, eventType);
   }
 }
@@ -0,0 +1,84 @@
+package uk.gov.justice.laa.dstew.access.mapper;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.justice.laa.dstew.access.model.DomainEventType;
+
+/**
+ * Pulls the event description out of a domain event's {@code data} JSON by walking the token
+ * stream, instead of binding the whole payload to its details class. Only the top level of the
+ * payload is scanned: nested objects and arrays are skipped without being read into memory, and
+ * scanning stops as soon as the description is found.
+ *
+ * <p>Each event type that carries a description has its own extractor. A payload that is not
+ * valid JSON, or in which the description is missing, {@code null} or not a scalar, yields {@code
+ * null}.
+ */
+final class EventDescriptionExtractor {
+
+  private static final ObjectMapper OBJECT_MAPPER = MapperUtil.getObjectMapper();
+
+  private static final Map<DomainEventType, UnaryOperator<String>> EXTRACTORS =
+      new EnumMap<>(DomainEventType.class);
+
+  static {
+    UnaryOperator<String> eventDescription = data -> topLevelValue(data, "eventDescription");
+    EXTRACTORS.put(DomainEventType.ASSIGN_APPLICATION_TO_CASEWORKER, eventDescription);
+    EXTRACTORS.put(DomainEventType.UNASSIGN_APPLICATION_TO_CASEWORKER, eventDescription);
+    EXTRACTORS.put(DomainEventType.APPLICATION_MAKE_DECISION_GRANTED, eventDescription);
+    EXTRACTORS.put(DomainEventType.APPLICATION_MAKE_DECISION_REFUSED, eventDescription);
+    // Notes store the original request as a JSON string, and the description is its note text.
+    EXTRACTORS.put(
+        DomainEventType.APPLICATION_NOTES,
+        data -> topLevelValue(topLevelValue(data, "request"), "notes"));
+  }
+
+  private EventDescriptionExtractor() {}
+
+  /**
+   * Returns the event description held in {@code data}.
+   *
+   * @param data the raw JSON stored in the domain event data field
+   * @param eventType the type of the domain event
+   * @return the event description, or {@code null} if there is none or the type has none
+   */
+  static String extract(String data, DomainEventType eventType) {
+    if (data == null || data.isBlank() || eventType == null) {
+      return null;
+    }
+    UnaryOperator<String> extractor = EXTRACTORS.get(eventType);
+    return extractor == null ? null : extractor.apply(data);
+  }
+
+  /**
+   * Returns the scalar value of a property of the top-level JSON object as text, or {@code null}
+   * if the JSON is not an object, is malformed before the property is reached, or does not have
+   * the property.
+   */
+  static String topLevelValue(String json, String property) {
+    if (json == null) {
+      return null;
+    }
+    try (JsonParser parser = OBJECT_MAPPER.createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        String name = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (property.equals(name)) {
+          return value.isScalarValue() ? parser.getValueAsString() : null;
+        }
+        parser.skipChildren();
+      }
+      return null;
+    } catch (JacksonException e) {
+      return null;
+    }
+  }
+}
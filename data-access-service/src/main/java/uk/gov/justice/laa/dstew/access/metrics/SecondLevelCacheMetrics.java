@@ -0,0 +1,104 @@
+package uk.gov.justice.laa.dstew.access.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import uk.gov.justice.laa.dstew.access.entity.CaseworkerEntity;
+import uk.gov.justice.laa.dstew.access.repository.CaseworkerRepository;
+
+/**
+ * Exports hit and miss counts and the hit ratio of the Hibernate second-level cache regions.
+ *
+ * <p>Regions are read from Hibernate's statistics on every scrape, so regions created lazily, such
+ * as query cache regions, report zero until first used. Nothing is registered if there is no
+ * {@link EntityManagerFactory} or Hibernate statistics are disabled.
+ */
+@Component
+@Slf4j
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+  static final List<String> REGIONS =
+      List.of(CaseworkerEntity.CACHE_REGION, CaseworkerRepository.FIND_ALL_CACHE_REGION);
+
+  private final ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
+
+  public SecondLevelCacheMetrics(
+      ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider) {
+    this.entityManagerFactoryProvider = entityManagerFactoryProvider;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    EntityManagerFactory entityManagerFactory = entityManagerFactoryProvider.getIfAvailable();
+    if (entityManagerFactory == null) {
+      log.debug("EntityManagerFactory not available, skipping second-level cache metrics");
+      return;
+    }
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    if (!statistics.isStatisticsEnabled()) {
+      log.debug("Hibernate statistics disabled, skipping second-level cache metrics");
+      return;
+    }
+    for (String region : REGIONS) {
+      bindRegion(registry, statistics, region);
+    }
+  }
+
+  private static void bindRegion(MeterRegistry registry, Statistics statistics, String region) {
+    FunctionCounter.builder(
+            "hibernate.cache.region.requests",
+            statistics,
+            regionCount(region, CacheRegionStatistics::getHitCount))
+        .description("Second-level cache lookups")
+        .tags("region", region, "result", "hit")
+        .register(registry);
+    FunctionCounter.builder(
+            "hibernate.cache.region.requests",
+            statistics,
+            regionCount(region, CacheRegionStatistics::getMissCount))
+        .description("Second-level cache lookups")
+        .tags("region", region, "result", "miss")
+        .register(registry);
+    Gauge.builder("hibernate.cache.region.hit.ratio", statistics, stats -> hitRatio(stats, region))
+        .description("Share of second-level cache lookups served from the cache")
+        .tags("region", region)
+        .register(registry);
+  }
+
+  private static ToDoubleFunction<Statistics> regionCount(
+      String region, ToDoubleFunction<CacheRegionStatistics> count) {
+    return statistics -> {
+      CacheRegionStatistics regionStatistics = regionStatistics(statistics, region);
+      return regionStatistics == null ? 0 : count.applyAsDouble(regionStatistics);
+    };
+  }
+
+  static double hitRatio(Statistics statistics, String region) {
+    CacheRegionStatistics regionStatistics = regionStatistics(statistics, region);
+    if (regionStatistics == null) {
+      return Double.NaN;
+    }
+    long hits = regionStatistics.getHitCount();
+    long lookups = hits + regionStatistics.getMissCount();
+    return lookups == 0 ? Double.NaN : (double) hits / lookups;
+  }
+
+  private static CacheRegionStatistics regionStatistics(Statistics statistics, String region) {
+    try {
+      return statistics.getCacheRegionStatistics(region);
+    } catch (IllegalArgumentException e) {
+      // The region has not been created yet
+      return null;
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+/**
+ * The total number of applications matching a list query.
+ *
+ * @param total the number of matching applications
+ * @param strategy the strategy that produced {@code total}; a cache miss or an estimate below the
+ *     threshold is reported as {@link ApplicationCountStrategy#EXACT}
+ */
+public record ApplicationCount(long total, ApplicationCountStrategy strategy) {}
@@ -0,0 +1,65 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import uk.gov.justice.laa.dstew.access.specification.ApplicationSummaryFilter;
+
+/**
+ * Short-lived cache of exact application counts keyed on the normalised filter set. Entries expire
+ * after the configured TTL, so a cached total can lag behind inserts by at most that long. When
+ * the cache is full, expired entries are purged and new counts are not cached until there is room
+ * again, which bounds memory without an eviction policy.
+ */
+class ApplicationCountCache {
+
+  private final Map<ApplicationSummaryFilter, Entry> entries = new ConcurrentHashMap<>();
+  private final Duration ttl;
+  private final int maxEntries;
+  private final Clock clock;
+
+  ApplicationCountCache(Duration ttl, int maxEntries, Clock clock) {
+    this.ttl = ttl;
+    this.maxEntries = maxEntries;
+    this.clock = clock;
+  }
+
+  /** Returns the cached count for the filter, or empty if there is none or it has expired. */
+  OptionalLong get(ApplicationSummaryFilter filter) {
+    ApplicationSummaryFilter key = filter.normalised();
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return OptionalLong.empty();
+    }
+    if (entry.isExpired(clock.instant())) {
+      entries.remove(key, entry);
+      return OptionalLong.empty();
+    }
+    return OptionalLong.of(entry.count());
+  }
+
+  /** Caches the exact count for the filter. */
+  void put(ApplicationSummaryFilter filter, long count) {
+    if (entries.size() >= maxEntries) {
+      Instant now = clock.instant();
+      entries.values().removeIf(entry -> entry.isExpired(now));
+      if (entries.size() >= maxEntries) {
+        return;
+      }
+    }
+    entries.put(filter.normalised(), new Entry(count, clock.instant().plus(ttl)));
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private record Entry(long count, Instant expiresAt) {
+    boolean isExpired(Instant now) {
+      return !now.isBefore(expiresAt);
+    }
+  }
+}
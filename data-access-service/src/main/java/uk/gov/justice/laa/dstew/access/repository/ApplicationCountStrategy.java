@@ -0,0 +1,14 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+/** How the total number of applications matching a list query is obtained. */
+public enum ApplicationCountStrategy {
+  /** A {@code COUNT(DISTINCT ...)} query is run for every request. */
+  EXACT,
+  /** An exact count is reused for a short time for requests with the same filters. */
+  CACHED_EXACT,
+  /**
+   * The Postgres planner's row estimate is used when it exceeds the configured threshold; smaller
+   * results are counted exactly.
+   */
+  ESTIMATED
+}
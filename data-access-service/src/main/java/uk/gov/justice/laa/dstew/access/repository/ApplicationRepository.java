@@ -3,6 +3,8 @@ package uk.gov.justice.laa.dstew.access.repository;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
@@ -15,12 +17,44 @@ import uk.gov.justice.laa.dstew.access.model.LinkedApplicationSummaryDto;
 @Repository
 public interface ApplicationRepository
     extends JpaRepository<ApplicationEntity, UUID>, ApplicationSummaryRepositoryCustom {
+  @EntityGraph(
+      type = EntityGraphType.LOAD,
+      attributePaths = {"individuals", "decision", "proceedings", "proceedings.meritsDecision"})
   ApplicationEntity findByApplyApplicationId(UUID applyApplicationId);
 
   boolean existsByApplyApplicationId(UUID applyApplicationId);
 
   List<ApplicationEntity> findAllByApplyApplicationIdIn(List<UUID> applyApplicationIds);
 
+  /**
+   * Loads an application with everything mapped onto an {@code ApplicationDomain}: individuals,
+   * decision and proceedings.
+   */
+  @EntityGraph(
+      type = EntityGraphType.LOAD,
+      attributePaths = {"individuals", "decision", "proceedings", "proceedings.meritsDecision"})
+  Optional<ApplicationEntity> findAggregateById(UUID id);
+
+  /**
+   * Loads an application with the decision, proceedings and linked applications returned by GET
+   * /applications/{id}.
+   */
+  @EntityGraph(
+      type = EntityGraphType.LOAD,
+      attributePaths = {
+        "decision",
+        "proceedings",
+        "proceedings.meritsDecision",
+        "linkedApplications"
+      })
+  Optional<ApplicationEntity> findWithDetailsById(UUID id);
+
+  /** Loads an application with the decision and proceedings that making a decision updates. */
+  @EntityGraph(
+      type = EntityGraphType.LOAD,
+      attributePaths = {"decision", "proceedings", "proceedings.meritsDecision"})
+  Optional<ApplicationEntity> findWithDecisionById(UUID id);
+
   @Query("SELECT a FROM ApplicationEntity a LEFT JOIN FETCH a.linkedApplications WHERE a.id = :id")
   Optional<ApplicationEntity> findByIdWithLinkedApplications(@Param("id") UUID id);
 
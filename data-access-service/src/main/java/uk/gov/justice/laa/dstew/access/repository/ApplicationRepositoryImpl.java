@@ -1,6 +1,9 @@
 package uk.gov.justice.laa.dstew.access.repository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -9,20 +12,31 @@ import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import uk.gov.justice.laa.dstew.access.ExcludeFromGeneratedCodeCoverage;
 import uk.gov.justice.laa.dstew.access.entity.ApplicationEntity;
@@ -39,39 +53,226 @@ import uk.gov.justice.laa.dstew.access.model.CategoryOfLaw;
 import uk.gov.justice.laa.dstew.access.model.IndividualSummaryDto;
 import uk.gov.justice.laa.dstew.access.model.IndividualType;
 import uk.gov.justice.laa.dstew.access.model.MatterType;
+import uk.gov.justice.laa.dstew.access.specification.ApplicationSummaryFilter;
 import uk.gov.justice.laa.dstew.access.specification.ApplicationSummarySpecification;
-
-/** Implementation of custom application summary repository using CriteriaBuilder. */
+import uk.gov.justice.laa.dstew.access.utils.PageCursor;
+
+/**
+ * Implementation of custom application summary repository using CriteriaBuilder.
+ *
+ * <p>The total for a page is produced by the {@link ApplicationCountStrategy} configured under
+ * {@code app.application-count}. On large tables the {@code COUNT(DISTINCT ...)} over the filter
+ * joins can cost more than fetching the page itself, so the count can instead be reused from a
+ * short-lived cache or, once the planner expects more rows than {@code estimate-threshold}, taken
+ * from the Postgres planner's row estimate. The strategy that produced each total is returned to
+ * the caller and counted in the {@code application.count} metric.
+ */
 @ExcludeFromGeneratedCodeCoverage
 public class ApplicationRepositoryImpl implements ApplicationSummaryRepositoryCustom {
 
+  private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
   private final EntityManager entityManager;
+  private final ApplicationCountStrategy countStrategy;
+  private final ApplicationCountCache countCache;
+  private final long estimateThreshold;
+  private final Map<ApplicationCountStrategy, Counter> countCounters;
 
-  public ApplicationRepositoryImpl(EntityManager entityManager) {
+  /**
+   * Creates the repository fragment. The meter registry is optional so that the fragment can be
+   * used in contexts without metrics, such as the mass data generator.
+   */
+  public ApplicationRepositoryImpl(
+      EntityManager entityManager,
+      @Value("${app.application-count.strategy:EXACT}") ApplicationCountStrategy countStrategy,
+      @Value("${app.application-count.cache-ttl-seconds:30}") long cacheTtlSeconds,
+      @Value("${app.application-count.cache-max-entries:1000}") int cacheMaxEntries,
+      @Value("${app.application-count.estimate-threshold:100000}") long estimateThreshold,
+      ObjectProvider<MeterRegistry> meterRegistry) {
     this.entityManager = entityManager;
+    this.countStrategy = countStrategy;
+    this.countCache =
+        new ApplicationCountCache(
+            Duration.ofSeconds(cacheTtlSeconds), cacheMaxEntries, Clock.systemUTC());
+    this.estimateThreshold = estimateThreshold;
+    this.countCounters = new EnumMap<>(ApplicationCountStrategy.class);
+    meterRegistry.ifAvailable(
+        registry -> {
+          for (ApplicationCountStrategy strategy : ApplicationCountStrategy.values()) {
+            countCounters.put(
+                strategy,
+                Counter.builder("application.count")
+                    .description("Application list totals by the strategy that produced them")
+                    .tag("strategy", strategy.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+          }
+        });
   }
 
   @Override
-  public Page<ApplicationSummaryDto> findAllAsDtos(
-      Specification<ApplicationEntity> spec,
-      Pageable pageable,
-      String firstName,
-      String lastName,
-      LocalDate dateOfBirth) {
-    long count = executeCountQuery(spec);
-    if (count == 0) {
-      return new PageImpl<>(List.of(), pageable, 0);
+  public ApplicationSummaryPage findAllAsDtos(ApplicationSummaryFilter filter, Pageable pageable) {
+    Specification<ApplicationEntity> spec = filter.toSpecification();
+    ApplicationCount count = countMatching(filter);
+    if (count.total() == 0) {
+      return new ApplicationSummaryPage(new PageImpl<>(List.of(), pageable, 0), count.strategy());
     }
 
     List<UUID> ids = executeIdQuery(spec, pageable);
     if (ids.isEmpty()) {
-      return new PageImpl<>(List.of(), pageable, count);
+      return new ApplicationSummaryPage(
+          new PageImpl<>(List.of(), pageable, count.total()), count.strategy());
+    }
+
+    List<ApplicationSummaryDto> results =
+        executeDataQuery(
+            ids,
+            filter.clientFirstName(),
+            filter.clientLastName(),
+            filter.clientDateOfBirth(),
+            pageable);
+
+    return new ApplicationSummaryPage(
+        new PageImpl<>(results, pageable, count.total()), count.strategy());
+  }
+
+  @Override
+  public Slice<ApplicationSummaryDto> findAllAsDtosAfter(
+      ApplicationSummaryFilter filter, Pageable pageable, PageCursor after) {
+    List<UUID> ids = executeKeysetIdQuery(filter.toSpecification(), pageable, after);
+    boolean hasNext = ids.size() > pageable.getPageSize();
+    if (hasNext) {
+      ids = ids.subList(0, pageable.getPageSize());
+    }
+    if (ids.isEmpty()) {
+      return new SliceImpl<>(List.of(), pageable, false);
     }
 
     List<ApplicationSummaryDto> results =
-        executeDataQuery(ids, firstName, lastName, dateOfBirth, pageable);
+        executeDataQuery(
+            ids,
+            filter.clientFirstName(),
+            filter.clientLastName(),
+            filter.clientDateOfBirth(),
+            pageable);
+
+    return new SliceImpl<>(results, pageable, hasNext);
+  }
 
-    return new PageImpl<>(results, pageable, count);
+  @Override
+  public ApplicationCount countMatching(ApplicationSummaryFilter filter) {
+    ApplicationCount count =
+        switch (countStrategy) {
+          case EXACT -> exactCount(filter);
+          case CACHED_EXACT -> cachedCount(filter);
+          case ESTIMATED -> estimatedCount(filter);
+        };
+    Counter counter = countCounters.get(count.strategy());
+    if (counter != null) {
+      counter.increment();
+    }
+    return count;
+  }
+
+  private ApplicationCount exactCount(ApplicationSummaryFilter filter) {
+    return new ApplicationCount(
+        executeCountQuery(filter.toSpecification()), ApplicationCountStrategy.EXACT);
+  }
+
+  /** Reuses a recent exact count for the same filters, counting and caching it on a miss. */
+  private ApplicationCount cachedCount(ApplicationSummaryFilter filter) {
+    OptionalLong cached = countCache.get(filter);
+    if (cached.isPresent()) {
+      return new ApplicationCount(cached.getAsLong(), ApplicationCountStrategy.CACHED_EXACT);
+    }
+    ApplicationCount count = exactCount(filter);
+    countCache.put(filter, count.total());
+    return count;
+  }
+
+  /**
+   * Uses the planner's row estimate when it is above the threshold. Below it the exact count is
+   * cheap enough, and small totals are where an estimate would be most visibly wrong.
+   */
+  private ApplicationCount estimatedCount(ApplicationSummaryFilter filter) {
+    OptionalLong estimate = executeEstimateQuery(filter);
+    if (estimate.isPresent() && estimate.getAsLong() > estimateThreshold) {
+      return new ApplicationCount(estimate.getAsLong(), ApplicationCountStrategy.ESTIMATED);
+    }
+    return exactCount(filter);
+  }
+
+  /**
+   * Asks the Postgres planner how many applications match the filters, without running the query.
+   * The criteria count query cannot be rendered to SQL for {@code EXPLAIN}, so the filters of
+   * {@link ApplicationSummarySpecification#filterBy} are mirrored here in native SQL, with the
+   * individual filters as an {@code EXISTS} so that the estimate counts applications rather than
+   * join rows.
+   *
+   * @return the estimated row count, or empty if the plan could not be read
+   */
+  private OptionalLong executeEstimateQuery(ApplicationSummaryFilter filter) {
+    StringBuilder sql = new StringBuilder("EXPLAIN SELECT a.id FROM applications a WHERE TRUE");
+    Map<String, Object> parameters = new LinkedHashMap<>();
+
+    if (filter.status() != null) {
+      sql.append(" AND a.status = :status");
+      parameters.put("status", filter.status().name());
+    }
+    if (filter.laaReference() != null && !filter.laaReference().isBlank()) {
+      sql.append(" AND lower(a.laa_reference) LIKE :reference");
+      parameters.put("reference", "%" + filter.laaReference().toLowerCase() + "%");
+    }
+    if (filter.userId() != null) {
+      sql.append(" AND a.caseworker_id = :userId");
+      parameters.put("userId", filter.userId());
+    }
+    if (filter.matterType() != null) {
+      sql.append(" AND a.matter_types = :matterType");
+      parameters.put("matterType", filter.matterType().name());
+    }
+    if (filter.autoGranted() != null) {
+      sql.append(
+          switch (filter.autoGranted()) {
+            case "PENDING" -> " AND a.is_auto_granted IS NULL";
+            case "AUTOGRANTED" -> " AND a.is_auto_granted IS TRUE";
+            case "MANUAL" -> " AND a.is_auto_granted IS FALSE";
+            default ->
+                throw new IllegalArgumentException(
+                    "Unknown autoGranted state: " + filter.autoGranted());
+          });
+    }
+    if (filter.hasIndividualFilter()) {
+      sql.append(
+          " AND EXISTS (SELECT 1 FROM linked_individuals li"
+              + " JOIN individuals i ON i.id = li.individual_id"
+              + " WHERE li.application_id = a.id AND i.individual_type = :individualType");
+      parameters.put("individualType", IndividualType.CLIENT.name());
+      if (filter.clientFirstName() != null && !filter.clientFirstName().isBlank()) {
+        sql.append(" AND lower(i.first_name) LIKE :firstName");
+        parameters.put("firstName", "%" + filter.clientFirstName().toLowerCase() + "%");
+      }
+      if (filter.clientLastName() != null && !filter.clientLastName().isBlank()) {
+        sql.append(" AND lower(i.last_name) LIKE :lastName");
+        parameters.put("lastName", "%" + filter.clientLastName().toLowerCase() + "%");
+      }
+      if (filter.clientDateOfBirth() != null) {
+        sql.append(" AND i.date_of_birth = :dateOfBirth");
+        parameters.put("dateOfBirth", filter.clientDateOfBirth());
+      }
+      sql.append(")");
+    }
+
+    Query query = entityManager.createNativeQuery(sql.toString());
+    parameters.forEach(query::setParameter);
+    List<?> plan = query.getResultList();
+    if (plan.isEmpty()) {
+      return OptionalLong.empty();
+    }
+
+    // The first plan line is the top node, e.g. "Seq Scan on applications a  (cost=0.00..4.50
+    // rows=120 width=16)", whose row estimate is the number of rows the query would return.
+    Matcher rows = PLAN_ROWS.matcher(String.valueOf(plan.getFirst()));
+    return rows.find() ? OptionalLong.of(Long.parseLong(rows.group(1))) : OptionalLong.empty();
   }
 
   /**
@@ -115,6 +316,65 @@ public class ApplicationRepositoryImpl implements ApplicationSummaryRepositoryCu
     return typedQuery.getResultList();
   }
 
+  /**
+   * Fetches up to {@code pageSize + 1} application IDs that sort after {@code after}. The extra row
+   * tells the caller whether another page follows without running a count query.
+   *
+   * <p>Instead of {@code OFFSET}, the seek predicate {@code (sortKey, created_at, id) > (cursor)}
+   * is added to the outer query so that Postgres can start the scan at the cursor position, e.g.
+   * via {@code idx_applications_status_submitted_created} when filtering on status and sorting by
+   * submitted date. Each page therefore costs the same regardless of how deep it is.
+   */
+  private List<UUID> executeKeysetIdQuery(
+      Specification<ApplicationEntity> spec, Pageable pageable, PageCursor after) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+    Root<ApplicationEntity> outerRoot = query.from(ApplicationEntity.class);
+    query.select(outerRoot.get(ApplicationEntity_.id));
+
+    List<Predicate> predicates = new ArrayList<>();
+    Subquery<UUID> subquery = query.subquery(UUID.class);
+    Root<ApplicationEntity> subRoot = subquery.from(ApplicationEntity.class);
+    Predicate predicate = spec.toPredicate(subRoot, query, cb);
+    if (predicate != null) {
+      subquery.select(subRoot.get(ApplicationEntity_.id)).distinct(true).where(predicate);
+      predicates.add(outerRoot.get(ApplicationEntity_.id).in(subquery));
+    }
+    if (after != null) {
+      predicates.add(seekPredicate(cb, outerRoot, after));
+    }
+    query.where(predicates.toArray(Predicate[]::new));
+
+    applySort(cb, outerRoot, query, pageable);
+
+    TypedQuery<UUID> typedQuery = entityManager.createQuery(query);
+    typedQuery.setMaxResults(pageable.getPageSize() + 1);
+    return typedQuery.getResultList();
+  }
+
+  /**
+   * Builds the predicate selecting rows strictly after the cursor in the order produced by {@link
+   * #applySort}: the sort key in the requested direction, then {@code createdAt} and {@code id}
+   * ascending.
+   */
+  private static Predicate seekPredicate(
+      CriteriaBuilder cb, Root<ApplicationEntity> root, PageCursor after) {
+    Path<Instant> sortKey = root.get(after.sortProperty());
+    Path<Instant> createdAt = root.get(ApplicationEntity_.createdAt);
+    Path<UUID> id = root.get(ApplicationEntity_.id);
+
+    Predicate pastSortKey =
+        after.ascending()
+            ? cb.greaterThan(sortKey, after.sortValue())
+            : cb.lessThan(sortKey, after.sortValue());
+    Predicate pastTiebreakers =
+        cb.or(
+            cb.greaterThan(createdAt, after.createdAt()),
+            cb.and(cb.equal(createdAt, after.createdAt()), cb.greaterThan(id, after.id())));
+
+    return cb.or(pastSortKey, cb.and(cb.equal(sortKey, after.sortValue()), pastTiebreakers));
+  }
+
   /**
    * Named ordinal positions of each selected column in the {@code Object[]} rows returned by {@code
    * executeDataQuery}. The declaration order here must exactly match the argument order passed to
@@ -343,8 +603,10 @@ public class ApplicationRepositoryImpl implements ApplicationSummaryRepositoryCu
                       : cb.desc(root.get(order.getProperty())))
           .forEach(orders::add);
     }
-    // Always add createdAt as a tiebreaker for deterministic, insertion-order pagination
+    // Always add createdAt as a tiebreaker for deterministic, insertion-order pagination, then id
+    // so that rows created in the same instant still have a total order for keyset pagination
     orders.add(cb.asc(root.get(ApplicationEntity_.createdAt)));
+    orders.add(cb.asc(root.get(ApplicationEntity_.id)));
     query.orderBy(orders);
   }
 }
@@ -0,0 +1,11 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+import org.springframework.data.domain.Page;
+import uk.gov.justice.laa.dstew.access.model.ApplicationSummaryDto;
+
+/**
+ * A page of application summaries together with the strategy that produced {@link
+ * Page#getTotalElements()}.
+ */
+public record ApplicationSummaryPage(
+    Page<ApplicationSummaryDto> page, ApplicationCountStrategy countStrategy) {}
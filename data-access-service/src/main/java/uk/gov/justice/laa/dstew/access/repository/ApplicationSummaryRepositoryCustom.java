@@ -1,19 +1,43 @@
 package uk.gov.justice.laa.dstew.access.repository;
 
-import java.time.LocalDate;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
-import uk.gov.justice.laa.dstew.access.entity.ApplicationEntity;
+import org.springframework.data.domain.Slice;
 import uk.gov.justice.laa.dstew.access.model.ApplicationSummaryDto;
+import uk.gov.justice.laa.dstew.access.specification.ApplicationSummaryFilter;
+import uk.gov.justice.laa.dstew.access.utils.PageCursor;
 
 /** Custom repository for fetching application summary data as a projected DTO. */
 public interface ApplicationSummaryRepositoryCustom {
 
-  Page<ApplicationSummaryDto> findAllAsDtos(
-      Specification<ApplicationEntity> spec,
-      Pageable pageable,
-      String firstName,
-      String lastName,
-      LocalDate dateOfBirth);
+  /**
+   * Fetches a page of application summaries. The total is produced by the configured {@link
+   * ApplicationCountStrategy}, which is returned alongside the page.
+   *
+   * @param filter the filters to apply
+   * @param pageable page number, size and sort
+   * @return the page of summaries and the strategy that produced its total
+   */
+  ApplicationSummaryPage findAllAsDtos(ApplicationSummaryFilter filter, Pageable pageable);
+
+  /**
+   * Fetches the page of application summaries that follows {@code after} in the sort order of
+   * {@code pageable}, seeking on the sort key rather than skipping an offset.
+   *
+   * @param filter the filters to apply
+   * @param pageable page size and sort; the page number is ignored
+   * @param after the position of the last row of the previous page, or {@code null} for the first
+   *     page
+   * @return the slice of summaries, with {@link Slice#hasNext()} set when more rows follow
+   */
+  Slice<ApplicationSummaryDto> findAllAsDtosAfter(
+      ApplicationSummaryFilter filter, Pageable pageable, PageCursor after);
+
+  /**
+   * Counts the distinct applications matching the filters using the configured {@link
+   * ApplicationCountStrategy}.
+   *
+   * @param filter the filters to apply
+   * @return the number of matching applications and the strategy that produced it
+   */
+  ApplicationCount countMatching(ApplicationSummaryFilter filter);
 }
@@ -0,0 +1,28 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import uk.gov.justice.laa.dstew.access.entity.CaseworkerEntity;
+
+/**
+ * Entity listener evicting the cached list of all caseworkers whenever a caseworker is written, so
+ * a new or changed caseworker is listed on the next request rather than once the entry expires.
+ * Created by Hibernate through the Spring bean container.
+ */
+public class CaseworkerCacheEvictionListener {
+
+  private final ObjectProvider<CaseworkerCacheEvictor> evictor;
+
+  public CaseworkerCacheEvictionListener(ObjectProvider<CaseworkerCacheEvictor> evictor) {
+    this.evictor = evictor;
+  }
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  void evictCaseworkerList(CaseworkerEntity caseworker) {
+    evictor.ifAvailable(CaseworkerCacheEvictor::evictListAfterCommit);
+  }
+}
@@ -0,0 +1,61 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.justice.laa.dstew.access.entity.CaseworkerEntity;
+
+/** Evicts caseworkers from the second-level cache and the cached list of all caseworkers. */
+@Component
+@Slf4j
+public class CaseworkerCacheEvictor {
+
+  private final ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
+
+  public CaseworkerCacheEvictor(ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider) {
+    this.entityManagerFactoryProvider = entityManagerFactoryProvider;
+  }
+
+  /** Evicts every cached caseworker and the cached list of all caseworkers now. */
+  public void evict() {
+    EntityManagerFactory entityManagerFactory = entityManagerFactoryProvider.getIfAvailable();
+    if (entityManagerFactory == null) {
+      return;
+    }
+    entityManagerFactory.getCache().evict(CaseworkerEntity.class);
+    evictList(entityManagerFactory);
+    log.info("Evicted caseworkers from the second-level cache");
+  }
+
+  /**
+   * Evicts the cached list of all caseworkers once the current transaction commits, so that a
+   * concurrent {@link CaseworkerRepository#findAll()} cannot cache the list again from before the
+   * write. Outside a transaction the list is evicted straight away.
+   */
+  public void evictListAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evictList(entityManagerFactoryProvider.getIfAvailable());
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            evictList(entityManagerFactoryProvider.getIfAvailable());
+          }
+        });
+  }
+
+  private static void evictList(EntityManagerFactory entityManagerFactory) {
+    if (entityManagerFactory != null) {
+      entityManagerFactory
+          .unwrap(SessionFactory.class)
+          .getCache()
+          .evictQueryRegion(CaseworkerRepository.FIND_ALL_CACHE_REGION);
+    }
+  }
+}
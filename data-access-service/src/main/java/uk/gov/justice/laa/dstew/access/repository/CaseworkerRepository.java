@@ -1,10 +1,29 @@
 package uk.gov.justice.laa.dstew.access.repository;
 
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import uk.gov.justice.laa.dstew.access.entity.CaseworkerEntity;
 
 /** Repository for managing caseworker entities. */
 @Repository
-public interface CaseworkerRepository extends JpaRepository<CaseworkerEntity, UUID> {}
+public interface CaseworkerRepository extends JpaRepository<CaseworkerEntity, UUID> {
+
+  /** Query cache region holding the result of {@link #findAll()}. */
+  String FIND_ALL_CACHE_REGION = "caseworkers-query";
+
+  /**
+   * Returns all caseworkers. The result is held in the query cache and invalidated by Hibernate
+   * whenever the {@code caseworkers} table is written through JPA.
+   */
+  @Override
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = FIND_ALL_CACHE_REGION)
+  })
+  List<CaseworkerEntity> findAll();
+}
@@ -0,0 +1,13 @@
+package uk.gov.justice.laa.dstew.access.service.domainevents;
+
+import java.util.List;
+import uk.gov.justice.laa.dstew.access.model.ApplicationDomainEventResponse;
+
+/**
+ * A keyset page of an application's domain event history.
+ *
+ * @param events the events on this page, oldest first
+ * @param nextCursor the cursor for the following page, or {@code null} if this is the last page
+ */
+public record DomainEventHistoryPage(
+    List<ApplicationDomainEventResponse> events, String nextCursor) {}
@@ -1,12 +1,16 @@
 package uk.gov.justice.laa.dstew.access.service.domainevents;
 
 import jakarta.validation.Valid;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.laa.dstew.access.entity.DomainEventEntity;
 import uk.gov.justice.laa.dstew.access.mapper.DomainEventMapper;
 import uk.gov.justice.laa.dstew.access.model.ApplicationDomainEventResponse;
@@ -14,28 +18,125 @@ import uk.gov.justice.laa.dstew.access.model.DomainEventType;
 import uk.gov.justice.laa.dstew.access.repository.DomainEventRepository;
 import uk.gov.justice.laa.dstew.access.security.AllowApiCaseworker;
 import uk.gov.justice.laa.dstew.access.specification.DomainEventSpecification;
+import uk.gov.justice.laa.dstew.access.utils.PageCursor;
+import uk.gov.justice.laa.dstew.access.utils.PaginationHelper;
 
-/** Service to Get Domain events. */
+/**
+ * Service to Get Domain events. Events are returned in createdAt ascending order, with the event id
+ * breaking ties, and the ordering is done by the database using {@code
+ * idx_domain_events_application_id_created_at}.
+ */
 @RequiredArgsConstructor
 @Service
 public class GetDomainEventService {
+
+  private static final String CREATED_AT = "createdAt";
+  private static final Sort HISTORY_ORDER =
+      Sort.by(Sort.Order.asc(CREATED_AT), Sort.Order.asc("id"));
+
+  /** Number of events fetched per query when streaming the full history. */
+  static final int STREAM_CHUNK_SIZE = 500;
+
   private final DomainEventRepository domainEventRepository;
   private final DomainEventMapper mapper;
 
-  /** Provides a list of events associated with an application in createdAt ascending order. */
+  /**
+   * Provides a keyset page of the events associated with an application.
+   *
+   * @param applicationId the application id
+   * @param eventType optional event types to filter on
+   * @param pageSize the maximum number of events to return
+   * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page
+   * @return the page of events and the cursor of the next page, if there is one
+   */
   @AllowApiCaseworker
-  public List<ApplicationDomainEventResponse> getEvents(
+  @Transactional(readOnly = true)
+  public DomainEventHistoryPage getEventsPage(
+      UUID applicationId, @Valid List<DomainEventType> eventType, Integer pageSize, String cursor) {
+    int validatedPageSize = PaginationHelper.validatePageSize(pageSize);
+    PageCursor after =
+        cursor == null || cursor.isBlank()
+            ? null
+            : PaginationHelper.validateCursor(cursor, Sort.by(CREATED_AT));
+
+    List<DomainEventEntity> rows =
+        fetchEvents(applicationId, eventType, after, validatedPageSize + 1);
+    boolean hasNext = rows.size() > validatedPageSize;
+    List<DomainEventEntity> page = hasNext ? rows.subList(0, validatedPageSize) : rows;
+
+    return new DomainEventHistoryPage(
+        page.stream().map(mapper::toDomainEvent).toList(),
+        hasNext ? toCursor(page.getLast()).encode() : null);
+  }
+
+  /**
+   * Provides every event associated with an application as a lazy iterator. Events are fetched in
+   * keyset chunks of {@value #STREAM_CHUNK_SIZE} as the iterator advances, so only one chunk is
+   * held in memory at a time and no transaction is held open while the response is written. Each
+   * chunk is read in the repository's own read-only transaction.
+   *
+   * @param applicationId the application id
+   * @param eventType optional event types to filter on
+   * @return the events in history order
+   */
+  @AllowApiCaseworker
+  public Iterator<ApplicationDomainEventResponse> streamEvents(
       UUID applicationId, @Valid List<DomainEventType> eventType) {
+    return new HistoryIterator(applicationId, eventType);
+  }
 
-    var filterEventType = DomainEventSpecification.filterEventTypes(eventType);
+  private List<DomainEventEntity> fetchEvents(
+      UUID applicationId, List<DomainEventType> eventTypes, PageCursor after, int limit) {
     Specification<DomainEventEntity> filter =
-        DomainEventSpecification.filterApplicationId(applicationId).and(filterEventType);
-
-    Comparator<ApplicationDomainEventResponse> comparer =
-        Comparator.comparing(ApplicationDomainEventResponse::getCreatedAt);
-    return domainEventRepository.findAll(filter).stream()
-        .map(mapper::toDomainEvent)
-        .sorted(comparer)
-        .toList();
+        DomainEventSpecification.filterApplicationId(applicationId)
+            .and(DomainEventSpecification.filterEventTypes(eventTypes))
+            .and(
+                after == null
+                    ? Specification.unrestricted()
+                    : DomainEventSpecification.after(after.createdAt(), after.id()));
+
+    return domainEventRepository.<DomainEventEntity, List<DomainEventEntity>>findBy(
+        filter, query -> query.sortBy(HISTORY_ORDER).limit(limit).all());
+  }
+
+  private static PageCursor toCursor(DomainEventEntity last) {
+    return new PageCursor(CREATED_AT, true, last.getCreatedAt(), last.getCreatedAt(), last.getId());
+  }
+
+  /** Walks the history one keyset chunk at a time. */
+  private final class HistoryIterator implements Iterator<ApplicationDomainEventResponse> {
+
+    private final UUID applicationId;
+    private final List<DomainEventType> eventTypes;
+    private Iterator<DomainEventEntity> chunk = Collections.emptyIterator();
+    private PageCursor after;
+    private boolean exhausted;
+
+    private HistoryIterator(UUID applicationId, List<DomainEventType> eventTypes) {
+      this.applicationId = applicationId;
+      this.eventTypes = eventTypes;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (!chunk.hasNext() && !exhausted) {
+        List<DomainEventEntity> rows =
+            fetchEvents(applicationId, eventTypes, after, STREAM_CHUNK_SIZE);
+        exhausted = rows.size() < STREAM_CHUNK_SIZE;
+        if (!rows.isEmpty()) {
+          after = toCursor(rows.getLast());
+        }
+        chunk = rows.iterator();
+      }
+      return chunk.hasNext();
+    }
+
+    @Override
+    public ApplicationDomainEventResponse next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return mapper.toDomainEvent(chunk.next());
+    }
   }
 }
@@ -1,11 +1,13 @@
 package uk.gov.justice.laa.dstew.access.service.domainevents;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
 import uk.gov.justice.laa.dstew.access.ExcludeFromGeneratedCodeCoverage;
 import uk.gov.justice.laa.dstew.access.config.ServiceNameContext;
 import uk.gov.justice.laa.dstew.access.domain.ApplicationDomain;
@@ -17,6 +19,7 @@ import uk.gov.justice.laa.dstew.access.model.CreateApplicationDomainEventDetails
 import uk.gov.justice.laa.dstew.access.model.CreateApplicationNoteDomainEventDetails;
 import uk.gov.justice.laa.dstew.access.model.DomainEventType;
 import uk.gov.justice.laa.dstew.access.model.MakeDecisionDomainEventDetails;
+import uk.gov.justice.laa.dstew.access.model.ServiceName;
 import uk.gov.justice.laa.dstew.access.model.UnassignApplicationDomainEventDetails;
 import uk.gov.justice.laa.dstew.access.model.UpdateApplicationDomainEventDetails;
 import uk.gov.justice.laa.dstew.access.repository.DomainEventRepository;
@@ -108,24 +111,52 @@ public class SaveDomainEventService {
         domainEventDetails);
   }
 
-  /** Posts an ASSIGN_APPLICATION_TO_CASEWORKER domain event. */
-  public void saveAssignApplicationDomainEvent(
-      UUID applicationId, UUID caseworkerId, String eventDescription) {
+  /**
+   * Posts an ASSIGN_APPLICATION_TO_CASEWORKER domain event for each application, persisting them
+   * in a single {@code saveAll} so that Hibernate can send the inserts as one JDBC batch. The
+   * timestamp, service name and serializer are resolved once for the whole batch.
+   *
+   * @param applicationIds the applications assigned to the caseworker
+   * @param caseworkerId the caseworker the applications were assigned to
+   * @param eventDescription the event description from the request's eventHistory
+   */
+  public void saveAssignApplicationDomainEvents(
+      List<UUID> applicationIds, UUID caseworkerId, String eventDescription) {
+    if (applicationIds.isEmpty()) {
+      return;
+    }
 
-    AssignApplicationDomainEventDetails domainEventDetails =
-        AssignApplicationDomainEventDetails.builder()
-            .applicationId(applicationId)
-            .caseWorkerId(caseworkerId)
-            .createdAt(Instant.now())
-            .createdBy(defaultCreatedByName)
-            .eventDescription(eventDescription)
-            .build();
+    DomainEventType eventType = DomainEventType.ASSIGN_APPLICATION_TO_CASEWORKER;
+    Instant createdAt = Instant.now();
+    ServiceName serviceName = serviceNameContext.getServiceName();
+    ObjectWriter writer = objectMapper.writerFor(AssignApplicationDomainEventDetails.class);
 
-    saveDomainEvent(
-        applicationId,
-        caseworkerId,
-        DomainEventType.ASSIGN_APPLICATION_TO_CASEWORKER,
-        domainEventDetails);
+    List<DomainEventEntity> entities =
+        applicationIds.stream()
+            .map(
+                applicationId ->
+                    DomainEventEntity.builder()
+                        .applicationId(applicationId)
+                        .caseworkerId(caseworkerId)
+                        .createdAt(createdAt)
+                        .createdBy(defaultCreatedByName)
+                        .type(eventType)
+                        .data(
+                            getEventDetailsAsJson(
+                                writer,
+                                AssignApplicationDomainEventDetails.builder()
+                                    .applicationId(applicationId)
+                                    .caseWorkerId(caseworkerId)
+                                    .createdAt(createdAt)
+                                    .createdBy(defaultCreatedByName)
+                                    .eventDescription(eventDescription)
+                                    .build(),
+                                eventType))
+                        .serviceName(serviceName)
+                        .build())
+            .toList();
+
+    domainEventRepository.saveAll(entities);
   }
 
   /**
@@ -137,8 +168,14 @@ public class SaveDomainEventService {
    */
   @ExcludeFromGeneratedCodeCoverage
   private String getEventDetailsAsJson(Object domainEventDetails, DomainEventType domainEventType) {
+    return getEventDetailsAsJson(objectMapper.writer(), domainEventDetails, domainEventType);
+  }
+
+  @ExcludeFromGeneratedCodeCoverage
+  private String getEventDetailsAsJson(
+      ObjectWriter writer, Object domainEventDetails, DomainEventType domainEventType) {
     try {
-      return objectMapper.writeValueAsString(domainEventDetails);
+      return writer.writeValueAsString(domainEventDetails);
     } catch (JacksonException e) {
       throw new DomainEventPublishException(
           String.format("Unable to save Domain Event of type: %s", domainEventType.name()));
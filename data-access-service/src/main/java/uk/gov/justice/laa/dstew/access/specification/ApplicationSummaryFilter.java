@@ -0,0 +1,67 @@
+package uk.gov.justice.laa.dstew.access.specification;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.justice.laa.dstew.access.entity.ApplicationEntity;
+import uk.gov.justice.laa.dstew.access.model.ApplicationStatus;
+import uk.gov.justice.laa.dstew.access.model.MatterType;
+
+/**
+ * The filter values of an application summary query. Unlike the {@link Specification} built from
+ * it, the filter is a value: two filters selecting the same rows are {@link #equals equal} once
+ * {@link #normalised()}, so it can be used as a cache key for the matching row count.
+ */
+public record ApplicationSummaryFilter(
+    ApplicationStatus status,
+    String laaReference,
+    String clientFirstName,
+    String clientLastName,
+    LocalDate clientDateOfBirth,
+    UUID userId,
+    MatterType matterType,
+    String autoGranted) {
+
+  /** Builds the specification applying these filters. */
+  public Specification<ApplicationEntity> toSpecification() {
+    return ApplicationSummarySpecification.filterBy(
+        status,
+        laaReference,
+        clientFirstName,
+        clientLastName,
+        clientDateOfBirth,
+        userId,
+        matterType,
+        autoGranted);
+  }
+
+  /**
+   * Returns an equivalent filter in canonical form. The text filters are matched
+   * case-insensitively and ignored when blank, so they are lower-cased and blank values dropped.
+   */
+  public ApplicationSummaryFilter normalised() {
+    return new ApplicationSummaryFilter(
+        status,
+        normalise(laaReference),
+        normalise(clientFirstName),
+        normalise(clientLastName),
+        clientDateOfBirth,
+        userId,
+        matterType,
+        autoGranted);
+  }
+
+  /** Returns {@code true} if any individual (client) filter is set. */
+  public boolean hasIndividualFilter() {
+    return isPopulated(clientFirstName) || isPopulated(clientLastName) || clientDateOfBirth != null;
+  }
+
+  private static String normalise(String value) {
+    return isPopulated(value) ? value.toLowerCase(Locale.ROOT) : null;
+  }
+
+  private static boolean isPopulated(String value) {
+    return value != null && !value.isBlank();
+  }
+}
@@ -46,6 +46,32 @@ public class ApplicationSummarySpecification {
     return Specification.unrestricted();
   }
 
+  /**
+   * Filters on the code of the lead proceeding, read from the generated {@code
+   * lead_proceeding_code} column rather than the application content.
+   */
+  public static Specification<ApplicationEntity> hasLeadProceedingCode(String proceedingCode) {
+    if (isPopulated(proceedingCode)) {
+      return (root, query, builder) ->
+          builder.equal(root.get("leadProceedingCode"), proceedingCode);
+    }
+
+    return Specification.unrestricted();
+  }
+
+  /**
+   * Filters on the submitter email, ignoring case, read from the generated {@code
+   * submitter_email} column rather than the application content.
+   */
+  public static Specification<ApplicationEntity> hasSubmitterEmail(String submitterEmail) {
+    if (isPopulated(submitterEmail)) {
+      return (root, query, builder) ->
+          builder.equal(root.get("submitterEmail"), submitterEmail.toLowerCase());
+    }
+
+    return Specification.unrestricted();
+  }
+
   private static Specification<ApplicationEntity> isStatus(ApplicationStatus status) {
     if (status != null) {
       return (root, query, builder) -> builder.equal(root.get("status"), status);
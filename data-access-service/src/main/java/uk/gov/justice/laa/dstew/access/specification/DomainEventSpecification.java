@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.access.specification;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.domain.Specification;
@@ -22,4 +23,17 @@ public class DomainEventSpecification {
         ? Specification.unrestricted()
         : (root, query, builder) -> root.get("type").in(eventTypes);
   }
+
+  /**
+   * Selects the events after the given position in {@code (createdAt, id)} order, for keyset
+   * pagination of the history.
+   */
+  public static Specification<DomainEventEntity> after(Instant createdAt, UUID id) {
+    return (root, query, builder) ->
+        builder.or(
+            builder.greaterThan(root.<Instant>get("createdAt"), createdAt),
+            builder.and(
+                builder.equal(root.get("createdAt"), createdAt),
+                builder.greaterThan(root.<UUID>get("id"), id)));
+  }
 }
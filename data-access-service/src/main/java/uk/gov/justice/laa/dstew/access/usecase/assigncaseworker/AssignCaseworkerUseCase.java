@@ -56,10 +56,10 @@ public class AssignCaseworkerUseCase {
       applicationGateway.saveAll(toUpdate, command.caseworkerId());
     }
 
-    applications.forEach(
-        app ->
-            saveDomainEventService.saveAssignApplicationDomainEvent(
-                app.id(), command.caseworkerId(), command.eventDescription()));
+    saveDomainEventService.saveAssignApplicationDomainEvents(
+        applications.stream().map(AssignCaseworkerApplication::id).toList(),
+        command.caseworkerId(),
+        command.eventDescription());
   }
 
   private void checkForMissingApplications(
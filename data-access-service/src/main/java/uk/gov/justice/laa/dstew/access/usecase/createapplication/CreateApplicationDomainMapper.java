@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import tools.jackson.databind.ObjectMapper;
 import uk.gov.justice.laa.dstew.access.domain.ApplicationDomain;
 import uk.gov.justice.laa.dstew.access.domain.ProceedingDomain;
 import uk.gov.justice.laa.dstew.access.mapper.MapperUtil;
@@ -17,6 +18,9 @@ public class CreateApplicationDomainMapper {
 
   static final int APPLICATION_SCHEMA_VERSION = 1;
 
+  /** Shared so serialisers are resolved once, not for every proceeding of every request. */
+  private static final ObjectMapper PROCEEDING_CONTENT_MAPPER = MapperUtil.getObjectMapper();
+
   /**
    * Builds an {@link ApplicationDomain} from a {@link CreateApplicationCommand} and the
    * pre-parsedDetails {@link ParsedAppContentDetails}. The resulting domain is pre-save: {@code id}
@@ -88,6 +92,6 @@ public class CreateApplicationDomainMapper {
    */
   @SuppressWarnings("unchecked")
   public Map<String, Object> toProceedingContentMap(Proceeding proceeding) {
-    return MapperUtil.getObjectMapper().convertValue(proceeding, Map.class);
+    return PROCEEDING_CONTENT_MAPPER.convertValue(proceeding, Map.class);
   }
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.JsonNode;
 import uk.gov.justice.laa.dstew.access.domain.ApplicationDomain;
 import uk.gov.justice.laa.dstew.access.exception.ResourceNotFoundException;
 import uk.gov.justice.laa.dstew.access.security.AllowApiCaseworker;
@@ -38,13 +39,15 @@ public class CreateApplicationUseCase {
   @Transactional
   public ApplicationDomain execute(CreateApplicationCommand command) {
 
-    // 1. Validate against JSON schema
+    // 1. Convert the content to a JSON tree once; schema validation and parsing both read it
+    JsonNode content = applicationContentParser.toTree(command.applicationContent());
+
+    // 2. Validate against JSON schema
     // Currently only one schema defined should be updated when others added
-    jsonSchemaValidator.validate(
-        command.applicationContent(), "ApplyApplication.json", command.schemaVersion());
+    jsonSchemaValidator.validate(content, "ApplyApplication.json", command.schemaVersion());
 
     // 3. Validate and parse application content
-    ParsedAppContentDetails parsed = applicationContentParser.parse(command.applicationContent());
+    ParsedAppContentDetails parsed = applicationContentParser.parse(content);
 
     // 4. Duplicate-check BEFORE save
     if (applicationGateway.existsByApplyApplicationId(command.id())) {
@@ -0,0 +1,11 @@
+package uk.gov.justice.laa.dstew.access.usecase.getallapplications;
+
+import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.ApplicationSummaryReadModel;
+import uk.gov.justice.laa.dstew.access.usecase.shared.CursorPagedResult;
+
+/**
+ * Use-case result record carrying a keyset page of application summaries and the validated page
+ * size needed to construct the paging envelope.
+ */
+public record GetAllApplicationsCursorResult(
+    CursorPagedResult<ApplicationSummaryReadModel> applications, int requestedPageSize) {}
@@ -7,6 +7,9 @@ import lombok.Builder;
 /**
  * Input record carrying all query parameters for the getAllApplications use case. All API-model
  * enum params are stored as nullable Strings (enum names) — no API model imports.
+ *
+ * <p>{@code cursor} and {@code includeTotal} only apply to keyset (cursor) pagination; {@code page}
+ * is ignored when a cursor is supplied.
  */
 @Builder(toBuilder = true)
 public record GetAllApplicationsQuery(
@@ -21,4 +24,6 @@ public record GetAllApplicationsQuery(
     String sortBy,
     String orderBy,
     Integer page,
-    Integer pageSize) {}
+    Integer pageSize,
+    String cursor,
+    Boolean includeTotal) {}
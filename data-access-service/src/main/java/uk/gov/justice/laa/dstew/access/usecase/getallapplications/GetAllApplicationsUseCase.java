@@ -1,14 +1,13 @@
 package uk.gov.justice.laa.dstew.access.usecase.getallapplications;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.laa.dstew.access.security.AllowApiCaseworker;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.infrastructure.GetAllApplicationsApplicationGateway;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.infrastructure.GetAllApplicationsCaseworkerGateway;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.ApplicationSummaryReadModel;
-import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.LinkedApplicationSummaryReadModel;
+import uk.gov.justice.laa.dstew.access.usecase.shared.CursorPagedResult;
 import uk.gov.justice.laa.dstew.access.usecase.shared.PagedResult;
 import uk.gov.justice.laa.dstew.access.utils.PaginationHelper;
 import uk.gov.justice.laa.dstew.access.validation.ValidationException;
@@ -39,6 +38,7 @@ public class GetAllApplicationsUseCase {
    * @return the paged application summaries and pagination metadata
    */
   @AllowApiCaseworker
+  @Transactional(readOnly = true)
   public GetAllApplicationsResult execute(GetAllApplicationsQuery query) {
     int validatedPage = PaginationHelper.validatePage(query.page());
     int validatedPageSize = PaginationHelper.validatePageSize(query.pageSize());
@@ -62,42 +62,68 @@ public class GetAllApplicationsUseCase {
             query.page(),
             query.pageSize());
 
-    PagedResult<ApplicationSummaryReadModel> resolvedPage = page;
-    if (!page.content().isEmpty()) {
-      List<UUID> pageIds = page.content().stream().map(ApplicationSummaryReadModel::id).toList();
-      List<LinkedApplicationSummaryReadModel> allLinked =
-          applicationGateway.findLinkedApplicationsForPageIds(pageIds);
-      Map<UUID, List<LinkedApplicationSummaryReadModel>> byLeadId =
-          allLinked.stream()
-              .collect(Collectors.groupingBy(LinkedApplicationSummaryReadModel::leadApplicationId));
-      List<ApplicationSummaryReadModel> resolved =
-          page.content().stream()
-              .map(
-                  domain ->
-                      domain.toBuilder()
-                          .linkedApplications(resolveLinkedApplications(domain.id(), byLeadId))
-                          .build())
-              .toList();
-      resolvedPage = new PagedResult<>(resolved, page.totalElements());
-    }
+    PagedResult<ApplicationSummaryReadModel> resolvedPage =
+        new PagedResult<>(
+            withLinkedApplications(page.content()),
+            page.totalElements(),
+            page.totalElementsStrategy());
 
     return new GetAllApplicationsResult(resolvedPage, validatedPage, validatedPageSize);
   }
 
-  private List<LinkedApplicationSummaryReadModel> resolveLinkedApplications(
-      UUID applicationId, Map<UUID, List<LinkedApplicationSummaryReadModel>> byLeadId) {
-    List<LinkedApplicationSummaryReadModel> group =
-        byLeadId.containsKey(applicationId)
-            ? byLeadId.get(applicationId)
-            : findLinkedGroupForAssociate(applicationId, byLeadId);
-    return group.stream().filter(dto -> !dto.applicationId().equals(applicationId)).toList();
+  /**
+   * Retrieves a keyset page of application summaries following the cursor in the query. Deep pages
+   * cost the same as the first page, and the total count is only computed when {@code
+   * includeTotal} is set.
+   *
+   * @param query the input query; {@code page} is ignored
+   * @return the keyset page of application summaries, the next cursor and the page size
+   */
+  @AllowApiCaseworker
+  @Transactional(readOnly = true)
+  public GetAllApplicationsCursorResult executeWithCursor(GetAllApplicationsQuery query) {
+    int validatedPageSize = PaginationHelper.validatePageSize(query.pageSize());
+
+    if (query.userId() != null && !caseworkerGateway.caseworkerExists(query.userId())) {
+      throw new ValidationException(List.of("Caseworker not found"));
+    }
+
+    CursorPagedResult<ApplicationSummaryReadModel> page =
+        applicationGateway.findAllApplicationsAfterCursor(
+            query.status(),
+            query.laaReference(),
+            query.clientFirstName(),
+            query.clientLastName(),
+            query.clientDateOfBirth(),
+            query.userId(),
+            query.matterType(),
+            query.autoGranted(),
+            query.sortBy(),
+            query.orderBy(),
+            query.cursor(),
+            Boolean.TRUE.equals(query.includeTotal()),
+            query.pageSize());
+
+    CursorPagedResult<ApplicationSummaryReadModel> resolvedPage =
+        new CursorPagedResult<>(
+            withLinkedApplications(page.content()),
+            page.nextCursor(),
+            page.totalElements(),
+            page.totalElementsStrategy());
+
+    return new GetAllApplicationsCursorResult(resolvedPage, validatedPageSize);
   }
 
-  private List<LinkedApplicationSummaryReadModel> findLinkedGroupForAssociate(
-      UUID applicationId, Map<UUID, List<LinkedApplicationSummaryReadModel>> byLeadId) {
-    return byLeadId.values().stream()
-        .filter(group -> group.stream().anyMatch(dto -> dto.applicationId().equals(applicationId)))
-        .findFirst()
-        .orElse(List.of());
+  private List<ApplicationSummaryReadModel> withLinkedApplications(
+      List<ApplicationSummaryReadModel> content) {
+    if (content.isEmpty()) {
+      return content;
+    }
+    List<UUID> pageIds = content.stream().map(ApplicationSummaryReadModel::id).toList();
+    LinkedApplicationGroups groups =
+        LinkedApplicationGroups.index(applicationGateway.findLinkedApplicationsForPageIds(pageIds));
+    return content.stream()
+        .map(domain -> domain.toBuilder().linkedApplications(groups.linkedTo(domain.id())).build())
+        .toList();
   }
 }
@@ -0,0 +1,58 @@
+package uk.gov.justice.laa.dstew.access.usecase.getallapplications;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.LinkedApplicationSummaryReadModel;
+
+/**
+ * Index of the linked-application groups touching a page of applications, keyed on every member
+ * of each group so that the group of a lead or an associate is found with a single lookup.
+ */
+final class LinkedApplicationGroups {
+
+  private final Map<UUID, List<LinkedApplicationSummaryReadModel>> groupByMemberId;
+
+  private LinkedApplicationGroups(
+      Map<UUID, List<LinkedApplicationSummaryReadModel>> groupByMemberId) {
+    this.groupByMemberId = groupByMemberId;
+  }
+
+  /**
+   * Indexes the linked applications by lead and by member. A lead always resolves to the group it
+   * leads, even if it also appears as a member of another group.
+   *
+   * @param linkedApplications the linked-application rows for a page
+   * @return the index
+   */
+  static LinkedApplicationGroups index(List<LinkedApplicationSummaryReadModel> linkedApplications) {
+    Map<UUID, List<LinkedApplicationSummaryReadModel>> byLeadId =
+        linkedApplications.stream()
+            .collect(Collectors.groupingBy(LinkedApplicationSummaryReadModel::leadApplicationId));
+
+    Map<UUID, List<LinkedApplicationSummaryReadModel>> groupByMemberId =
+        HashMap.newHashMap(linkedApplications.size() + byLeadId.size());
+    for (List<LinkedApplicationSummaryReadModel> group : byLeadId.values()) {
+      for (LinkedApplicationSummaryReadModel member : group) {
+        groupByMemberId.putIfAbsent(member.applicationId(), group);
+      }
+    }
+    groupByMemberId.putAll(byLeadId);
+
+    return new LinkedApplicationGroups(groupByMemberId);
+  }
+
+  /**
+   * Returns the other applications in the group of the given application.
+   *
+   * @param applicationId the lead or associate application ID
+   * @return the linked applications, excluding {@code applicationId}; empty if it is not linked
+   */
+  List<LinkedApplicationSummaryReadModel> linkedTo(UUID applicationId) {
+    return groupByMemberId.getOrDefault(applicationId, List.of()).stream()
+        .filter(dto -> !dto.applicationId().equals(applicationId))
+        .toList();
+  }
+}
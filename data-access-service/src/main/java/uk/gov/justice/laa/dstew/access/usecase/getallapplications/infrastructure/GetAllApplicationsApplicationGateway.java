@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.UUID;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.ApplicationSummaryReadModel;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.LinkedApplicationSummaryReadModel;
+import uk.gov.justice.laa.dstew.access.usecase.shared.CursorPagedResult;
 import uk.gov.justice.laa.dstew.access.usecase.shared.PagedResult;
 
 /** Gateway interface for paginated application queries in the getAllApplications use case. */
@@ -35,6 +36,33 @@ public interface GetAllApplicationsApplicationGateway {
       Integer page,
       Integer pageSize);
 
+  /**
+   * Finds the keyset page of application summaries that follows {@code cursor}.
+   *
+   * @param status optional status filter (enum name)
+   * @param matterType optional matter-type filter (enum name)
+   * @param sortBy optional sort field (enum name; defaults to SUBMITTED_DATE)
+   * @param orderBy optional sort direction (enum name; defaults to ASC)
+   * @param cursor opaque cursor from the previous page, or {@code null} for the first page
+   * @param includeTotal whether to run an exact count of matching applications
+   * @param pageSize number of results per page
+   * @return keyset page of domain summaries
+   */
+  CursorPagedResult<ApplicationSummaryReadModel> findAllApplicationsAfterCursor(
+      String status,
+      String laaReference,
+      String clientFirstName,
+      String clientLastName,
+      LocalDate clientDateOfBirth,
+      UUID userId,
+      String matterType,
+      String autoGranted,
+      String sortBy,
+      String orderBy,
+      String cursor,
+      boolean includeTotal,
+      Integer pageSize);
+
   /**
    * Retrieves all linked-application summaries for the given page of application IDs.
    *
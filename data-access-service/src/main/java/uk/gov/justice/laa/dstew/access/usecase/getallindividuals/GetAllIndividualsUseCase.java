@@ -5,6 +5,7 @@ import static uk.gov.justice.laa.dstew.access.utils.PaginationHelper.validatePag
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.laa.dstew.access.domain.ApplicationClientDetailsDomain;
 import uk.gov.justice.laa.dstew.access.domain.IndividualDomain;
 import uk.gov.justice.laa.dstew.access.security.AllowApiCaseworker;
@@ -26,6 +27,7 @@ public class GetAllIndividualsUseCase {
    * @return result record containing paged individuals and optional client details
    */
   @AllowApiCaseworker
+  @Transactional(readOnly = true)
   public GetAllIndividualsResult execute(GetAllIndividualsQuery query) {
     if ("CLIENT_DETAILS".equals(query.include()) && query.applicationId() == null) {
       throw new ValidationException(
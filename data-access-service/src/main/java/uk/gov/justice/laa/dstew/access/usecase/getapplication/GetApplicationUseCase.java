@@ -1,8 +1,8 @@
 package uk.gov.justice.laa.dstew.access.usecase.getapplication;
 
-import jakarta.transaction.Transactional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.laa.dstew.access.exception.ResourceNotFoundException;
 import uk.gov.justice.laa.dstew.access.security.AllowApiCaseworker;
 import uk.gov.justice.laa.dstew.access.usecase.getapplication.infrastructure.GetApplicationApplicationGateway;
@@ -22,7 +22,7 @@ public class GetApplicationUseCase {
    * @return application read model
    */
   @AllowApiCaseworker
-  @Transactional
+  @Transactional(readOnly = true)
   public ApplicationReadModel execute(UUID id) {
     return applicationGateway
         .findApplicationById(id)
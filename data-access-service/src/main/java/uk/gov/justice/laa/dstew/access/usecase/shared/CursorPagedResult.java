@@ -0,0 +1,11 @@
+package uk.gov.justice.laa.dstew.access.usecase.shared;
+
+import java.util.List;
+
+/**
+ * Carries a keyset page of results, the opaque cursor for the following page ({@code null} when
+ * this is the last page) and the total matching element count when it was requested ({@code null}
+ * otherwise), with the name of the strategy that produced the total.
+ */
+public record CursorPagedResult<T>(
+    List<T> content, String nextCursor, Long totalElements, String totalElementsStrategy) {}
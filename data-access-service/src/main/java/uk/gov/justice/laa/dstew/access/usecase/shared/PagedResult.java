@@ -2,5 +2,14 @@ package uk.gov.justice.laa.dstew.access.usecase.shared;
 
 import java.util.List;
 
-/** Carries a page of results and the total matching element count. */
-public record PagedResult<T>(List<T> content, long totalElements) {}
+/**
+ * Carries a page of results and the total matching element count, with the name of the strategy
+ * that produced the total when the producer reports one ({@code null} otherwise).
+ */
+public record PagedResult<T>(List<T> content, long totalElements, String totalElementsStrategy) {
+
+  /** Creates a page whose total was counted without reporting a strategy. */
+  public PagedResult(List<T> content, long totalElements) {
+    this(content, totalElements, null);
+  }
+}
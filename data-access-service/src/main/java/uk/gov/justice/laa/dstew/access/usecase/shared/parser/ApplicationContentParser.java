@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import tools.jackson.databind.JsonNode;
 import uk.gov.justice.laa.dstew.access.convertors.GenericEnumConvertor;
 import uk.gov.justice.laa.dstew.access.domain.enums.CategoryOfLaw;
 import uk.gov.justice.laa.dstew.access.domain.enums.MatterType;
@@ -34,14 +35,25 @@ public class ApplicationContentParser {
   }
 
   /**
-   * Validates {@code rawContent} against {@link ApplicationContent} constraints, then parses and
-   * returns extracted details including proceedings and linked applications.
+   * Converts the raw application-content map into the JSON tree that is both schema-validated and
+   * passed to {@link #parse(JsonNode)}, so the content is only converted once per request.
    *
    * @param rawContent the raw application-content map from the command
+   * @return the JSON tree of the content
+   */
+  public JsonNode toTree(Map<String, Object> rawContent) {
+    return payloadValidator.toTree(rawContent);
+  }
+
+  /**
+   * Binds {@code rawContent} to {@link ApplicationContent} and validates its constraints, then
+   * parses and returns extracted details including proceedings and linked applications.
+   *
+   * @param rawContent the JSON tree of the application content
    * @return parsed details
    * @throws ValidationException if validation or parsing fails
    */
-  public ParsedAppContentDetails parse(Map<String, Object> rawContent) {
+  public ParsedAppContentDetails parse(JsonNode rawContent) {
     ApplicationContent content =
         payloadValidator.convertAndValidate(rawContent, ApplicationContent.class);
     return parseValidated(content);
@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.exc.MismatchedInputException;
 import uk.gov.justice.laa.dstew.access.exception.JacksonExceptionMessageBuilder;
@@ -24,6 +25,18 @@ public class PayloadValidator {
   private final ObjectMapper objectMapper;
   private final Validator validator;
 
+  /**
+   * Converts the given source object into a JSON tree. Callers that validate the same content
+   * against a schema and then bind it convert it once here and pass the tree to both, rather than
+   * each converting the source again.
+   *
+   * @param source the object to convert, e.g. a {@code Map<String, Object>}
+   * @return the JSON tree of the source
+   */
+  public JsonNode toTree(Object source) {
+    return source instanceof JsonNode tree ? tree : objectMapper.valueToTree(source);
+  }
+
   /**
    * Converts the given source object into an instance of the specified target type and validates
    * it. If mapping or validation fails, a {@link ValidationException}
@@ -67,6 +80,18 @@ public class PayloadValidator {
     if (source instanceof String json) {
       return objectMapper.readValue(json, targetType);
     }
+    if (source instanceof JsonNode tree) {
+      return treeToValue(tree, targetType);
+    }
     return objectMapper.convertValue(source, targetType);
   }
+
+  private <T> T treeToValue(JsonNode tree, Class<T> targetType) {
+    try {
+      return objectMapper.treeToValue(tree, targetType);
+    } catch (JacksonException ex) {
+      // Fail as convertValue does, so a tree and a map report the same messages
+      throw new IllegalArgumentException(ex.getMessage(), ex);
+    }
+  }
 }
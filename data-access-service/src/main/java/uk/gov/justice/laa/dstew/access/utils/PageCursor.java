@@ -0,0 +1,71 @@
+package uk.gov.justice.laa.dstew.access.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last row on a keyset page, such as a page of applications or of an
+ * application's history. Encoded as an opaque, URL-safe token that the client passes back to fetch
+ * the next page.
+ *
+ * @param sortProperty the entity property the page was sorted by, e.g. {@code submittedAt}
+ * @param ascending whether the sort property was ordered ascending
+ * @param sortValue the sort property value of the last row
+ * @param createdAt the creation timestamp of the last row (first tiebreaker)
+ * @param id the ID of the last row (final tiebreaker)
+ */
+public record PageCursor(
+    String sortProperty, boolean ascending, Instant sortValue, Instant createdAt, UUID id) {
+
+  private static final String VERSION = "v1";
+  private static final String SEPARATOR = "|";
+  private static final int FIELD_COUNT = 6;
+
+  /**
+   * Encodes this cursor as an opaque token.
+   *
+   * @return the URL-safe token
+   */
+  public String encode() {
+    String raw =
+        String.join(
+            SEPARATOR,
+            VERSION,
+            sortProperty,
+            ascending ? "ASC" : "DESC",
+            sortValue.toString(),
+            createdAt.toString(),
+            id.toString());
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a token previously produced by {@link #encode()}.
+   *
+   * @param token the opaque cursor token
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static PageCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] fields = raw.split("\\" + SEPARATOR, -1);
+      if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0])) {
+        throw new IllegalArgumentException("cursor is invalid");
+      }
+      return new PageCursor(
+          fields[1],
+          "ASC".equals(fields[2]),
+          Instant.parse(fields[3]),
+          Instant.parse(fields[4]),
+          UUID.fromString(fields[5]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("cursor is invalid", e);
+    }
+  }
+}
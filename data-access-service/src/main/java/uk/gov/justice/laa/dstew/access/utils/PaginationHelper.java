@@ -46,6 +46,36 @@ public final class PaginationHelper {
     return PageRequest.of(validatedPage - 1, validatedPageSize, sort);
   }
 
+  /**
+   * Validates cursor pagination parameters and returns a first-page Pageable carrying only the
+   * page size and sort. The position within the result set is carried by the cursor instead of an
+   * offset.
+   *
+   * @param pageSize the page size
+   * @param sort the sort specification
+   * @return a validated Pageable for keyset queries
+   */
+  public static Pageable createCursorPageable(Integer pageSize, Sort sort) {
+    return PageRequest.of(0, validatePageSize(pageSize), sort);
+  }
+
+  /**
+   * Decodes a cursor and checks that it was issued for the requested sort order.
+   *
+   * @param cursor the opaque cursor token
+   * @param sort the requested sort specification
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort
+   */
+  public static PageCursor validateCursor(String cursor, Sort sort) {
+    PageCursor pageCursor = PageCursor.decode(cursor);
+    Sort.Order order = sort.getOrderFor(pageCursor.sortProperty());
+    if (order == null || order.isAscending() != pageCursor.ascending()) {
+      throw new IllegalArgumentException("cursor does not match the requested sort order");
+    }
+    return pageCursor;
+  }
+
   /**
    * Validates and normalizes the page parameter.
    *
@@ -3,15 +3,24 @@ package uk.gov.justice.laa.dstew.access.validation;
 import com.networknt.schema.AbsoluteIri;
 import com.networknt.schema.Error;
 import com.networknt.schema.ExecutionContext;
-import com.networknt.schema.InputFormat;
 import com.networknt.schema.Schema;
 import com.networknt.schema.SchemaLocation;
 import com.networknt.schema.SchemaRegistry;
 import com.networknt.schema.SpecificationVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
@@ -19,11 +28,53 @@ import tools.jackson.databind.json.JsonMapper;
 /**
  * Validates payloads against versioned JSON Schemas loaded from the classpath. Schemas are expected
  * at {@code schema/{version}/{schemaName}}, e.g. {@code schema/1/ApplyApplication.json}.
+ *
+ * <p>Compiled schemas are cached by schema name and version. Every versioned schema on the
+ * classpath is compiled at startup so the first request does not pay for schema resolution.
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class JsonSchemaValidator {
 
+  private static final String SCHEMA_ROOT = "schema/";
+  private static final String SCHEMA_PATTERN = "classpath*:" + SCHEMA_ROOT + "*/*.json";
+  private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+  private final SchemaRegistry schemaRegistry =
+      SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_7);
+  private final Map<SchemaKey, CachedSchema> schemaCache = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+
+  /**
+   * Creates a validator that records schema cache and validation metrics.
+   *
+   * @param meterRegistry the registry to publish metrics to
+   */
+  public JsonSchemaValidator(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.cacheHits = cacheCounter("hit");
+    this.cacheMisses = cacheCounter("miss");
+  }
+
+  /** Compiles every versioned schema found under {@code schema/{version}/} into the cache. */
+  @PostConstruct
+  public void preloadSchemas() {
+    try {
+      for (Resource resource :
+          new PathMatchingResourcePatternResolver().getResources(SCHEMA_PATTERN)) {
+        SchemaKey key = toSchemaKey(resource);
+        if (key != null) {
+          schemaCache.computeIfAbsent(key, this::compile);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to scan classpath for JSON schemas", e);
+    }
+    log.info("Preloaded {} JSON schemas", schemaCache.size());
+  }
+
   /**
    * Validate a payload against a named schema at the given version.
    *
@@ -33,14 +84,26 @@ public class JsonSchemaValidator {
    * @throws ValidationException if the payload does not conform to the schema
    */
   public void validate(Object payload, String schemaName, int schemaVersion) {
-    JsonNode jsonNode = JsonMapper.builder().build().valueToTree(payload);
+    JsonNode jsonNode =
+        payload instanceof JsonNode node ? node : JSON_MAPPER.valueToTree(payload);
+    validate(jsonNode, schemaName, schemaVersion);
+  }
 
-    Schema schema =
-        SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_7)
-            .getSchema(getSchemaLocation(schemaName, schemaVersion));
+  /**
+   * Validate an already-parsed JSON tree against a named schema at the given version.
+   *
+   * @param jsonNode the JSON tree to validate
+   * @param schemaName the schema filename, e.g. {@code "ApplyApplication.json"}
+   * @param schemaVersion the version directory, e.g. {@code 1} loads from {@code schema/1/}
+   * @throws ValidationException if the payload does not conform to the schema
+   */
+  public void validate(JsonNode jsonNode, String schemaName, int schemaVersion) {
+    CachedSchema cachedSchema = getSchema(schemaName, schemaVersion);
 
     List<Error> validate =
-        schema.validate(String.valueOf(jsonNode), InputFormat.JSON, getExecutionCustomizer());
+        cachedSchema
+            .validationTimer()
+            .record(() -> cachedSchema.schema().validate(jsonNode, getExecutionCustomizer()));
     if (!validate.isEmpty()) {
       List<String> errorMessages =
           validate.stream().map(Error::toString).map(JsonSchemaValidator::formatError).toList();
@@ -48,13 +111,58 @@ public class JsonSchemaValidator {
     }
   }
 
+  private CachedSchema getSchema(String schemaName, int schemaVersion) {
+    SchemaKey key = new SchemaKey(schemaName, schemaVersion);
+    CachedSchema cachedSchema = schemaCache.get(key);
+    if (cachedSchema != null) {
+      cacheHits.increment();
+      return cachedSchema;
+    }
+    cacheMisses.increment();
+    return schemaCache.computeIfAbsent(key, this::compile);
+  }
+
+  private CachedSchema compile(SchemaKey key) {
+    Schema schema = schemaRegistry.getSchema(getSchemaLocation(key.name(), key.version()));
+    schema.initializeValidators();
+    Timer timer =
+        Timer.builder("json.schema.validation")
+            .description("Time taken to validate a payload against a JSON schema")
+            .tag("schema", key.name())
+            .tag("version", String.valueOf(key.version()))
+            .register(meterRegistry);
+    return new CachedSchema(schema, timer);
+  }
+
+  private Counter cacheCounter(String result) {
+    return Counter.builder("json.schema.cache")
+        .description("Compiled JSON schema cache lookups")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static SchemaKey toSchemaKey(Resource resource) throws IOException {
+    String filename = resource.getFilename();
+    String[] segments = resource.getURL().toExternalForm().split("/");
+    if (filename == null || segments.length < 2) {
+      return null;
+    }
+    // Only version directories are preloaded; shared definitions under schema/common are
+    // resolved through $ref when the versioned schema is compiled.
+    String versionDirectory = segments[segments.length - 2];
+    if (versionDirectory.isEmpty() || !versionDirectory.chars().allMatch(Character::isDigit)) {
+      return null;
+    }
+    return new SchemaKey(filename, Integer.parseInt(versionDirectory));
+  }
+
   private static @NonNull Consumer<ExecutionContext> getExecutionCustomizer() {
     // Enable format assertions to validate UUIDs, date-times, etc. as per the schema
     return context -> context.executionConfig(config -> config.formatAssertionsEnabled(true));
   }
 
   private static @NonNull SchemaLocation getSchemaLocation(String schemaName, int schemaVersion) {
-    String schemaPath = "schema/" + schemaVersion + "/" + schemaName;
+    String schemaPath = SCHEMA_ROOT + schemaVersion + "/" + schemaName;
     AbsoluteIri iri = new AbsoluteIri("classpath:" + schemaPath);
     return new SchemaLocation(iri);
   }
@@ -65,4 +173,8 @@ public class JsonSchemaValidator {
     error = error.replaceAll("^[/:]+", ""); // Remove leading / and :
     return error.strip();
   }
+
+  private record SchemaKey(String name, int version) {}
+
+  private record CachedSchema(Schema schema, Timer validationTimer) {}
 }
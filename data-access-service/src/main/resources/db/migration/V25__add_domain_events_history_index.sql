@@ -0,0 +1,10 @@
+-- =============================================================================
+-- Serve the application history (ordered by created_at, then id) straight from
+-- an index so that Postgres neither sorts nor reads past the requested page.
+-- The new index leads with application_id, so it replaces the single-column one.
+-- =============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_domain_events_application_id_created_at
+    ON domain_events (application_id, created_at, id);
+
+DROP INDEX IF EXISTS idx_domain_events_application_id;
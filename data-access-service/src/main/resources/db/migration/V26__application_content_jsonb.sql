@@ -0,0 +1,32 @@
+-- =============================================================================
+-- Index the content of applications.application_content.
+--
+-- The column has been jsonb since V1; this migration only adds a GIN index over
+-- it and generated columns, with their own indexes, for the content fields
+-- filtered on most.
+-- =============================================================================
+
+-- Containment (@>) lookups anywhere in the content, e.g. applications with a
+-- given proceeding code or linked to a given lead application:
+--   application_content @> '{"proceedings": [{"ccmsCode": "PB001"}]}'
+--   application_content @> '{"allLinkedApplications": [{"leadApplicationId": "..."}]}'
+CREATE INDEX IF NOT EXISTS idx_applications_application_content_path_ops
+    ON applications USING gin (application_content jsonb_path_ops);
+
+-- Generated columns for the content fields filtered on most, so predicates on
+-- them are plain B-tree lookups that JPA specifications can target.
+ALTER TABLE applications
+    ADD COLUMN IF NOT EXISTS lead_proceeding_code text
+        GENERATED ALWAYS AS (
+            jsonb_path_query_first(
+                application_content,
+                '$.proceedings[*] ? (@.leadProceeding == true).ccmsCode') #>> '{}'
+        ) STORED,
+    ADD COLUMN IF NOT EXISTS submitter_email text
+        GENERATED ALWAYS AS (lower(application_content ->> 'submitterEmail')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_applications_lead_proceeding_code
+    ON applications (lead_proceeding_code);
+
+CREATE INDEX IF NOT EXISTS idx_applications_submitter_email
+    ON applications (submitter_email);
@@ -0,0 +1,134 @@
+package uk.gov.justice.laa.dstew.access.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+class ReplicaLagMonitorTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final JdbcOperations replica = mock(JdbcOperations.class);
+  private final MutableClock clock = new MutableClock(NOW);
+  private final ReplicaLagMonitor monitor =
+      new ReplicaLagMonitor(replica, Duration.ofSeconds(5), Duration.ofSeconds(1), clock);
+
+  @Test
+  void givenLagWithinMax_whenChecked_thenReplicaIsUsable() {
+    when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(0.5);
+
+    assertThat(monitor.isReplicaUsable()).isTrue();
+  }
+
+  @Test
+  void givenLagAboveMax_whenChecked_thenReplicaIsNotUsable() {
+    when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(5.5);
+
+    assertThat(monitor.isReplicaUsable()).isFalse();
+  }
+
+  @Test
+  void givenLagCheckFails_whenChecked_thenReplicaIsNotUsable() {
+    when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class))
+        .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+    assertThat(monitor.isReplicaUsable()).isFalse();
+  }
+
+  @Test
+  void givenRecentCheck_whenCheckedAgain_thenPreviousResultIsReused() {
+    when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(0.5, 9.0);
+
+    monitor.isReplicaUsable();
+    clock.now = NOW.plusMillis(999);
+
+    assertThat(monitor.isReplicaUsable()).isTrue();
+    verify(replica, times(1)).queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class);
+  }
+
+  @Test
+  void givenStaleCheck_whenCheckedAgain_thenLagIsRechecked() {
+    when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(0.5, 9.0);
+
+    monitor.isReplicaUsable();
+    clock.now = NOW.plusSeconds(1);
+
+    assertThat(monitor.isReplicaUsable()).isFalse();
+  }
+
+  @Test
+  void givenCheckedLag_whenScraped_thenGaugeReportsLag() {
+    when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(2.0);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    monitor.bindTo(registry);
+
+    monitor.isReplicaUsable();
+
+    assertThat(registry.get("db.replica.lag").gauge().value()).isEqualTo(2.0);
+  }
+
+  @Test
+  void givenUsableReplica_whenRouting_thenReplicaConnectionIsUsed() throws Exception {
+    when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(0.0);
+    DataSource replicaDataSource = mock(DataSource.class);
+    DataSource primaryDataSource = mock(DataSource.class);
+    Connection replicaConnection = mock(Connection.class);
+    when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+    ReplicaRoutingDataSource routing =
+        new ReplicaRoutingDataSource(replicaDataSource, primaryDataSource, monitor);
+
+    assertThat(routing.getConnection()).isSameAs(replicaConnection);
+  }
+
+  @Test
+  void givenLaggingReplica_whenRouting_thenPrimaryConnectionIsUsed() throws Exception {
+    when(replica.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(30.0);
+    DataSource replicaDataSource = mock(DataSource.class);
+    DataSource primaryDataSource = mock(DataSource.class);
+    Connection primaryConnection = mock(Connection.class);
+    when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+    ReplicaRoutingDataSource routing =
+        new ReplicaRoutingDataSource(replicaDataSource, primaryDataSource, monitor);
+
+    assertThat(routing.getConnection()).isSameAs(primaryConnection);
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
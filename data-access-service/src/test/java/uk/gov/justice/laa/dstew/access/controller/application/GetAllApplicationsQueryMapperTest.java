@@ -33,7 +33,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             1,
-            10);
+            10,
+            null,
+            null);
 
     GetAllApplicationsQuery expected =
         GetAllApplicationsQuery.builder()
@@ -69,7 +71,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             1,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.status()).isNull();
   }
 
@@ -88,7 +92,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             1,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.laaReference()).isNull();
   }
 
@@ -107,7 +113,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             1,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.clientFirstName()).isNull();
   }
 
@@ -126,7 +134,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             1,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.clientLastName()).isNull();
   }
 
@@ -145,7 +155,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             1,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.clientDateOfBirth()).isNull();
   }
 
@@ -164,7 +176,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             1,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.userId()).isNull();
   }
 
@@ -183,7 +197,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             1,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.autoGranted()).isNull();
   }
 
@@ -202,7 +218,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             1,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.matterType()).isNull();
   }
 
@@ -221,7 +239,9 @@ class GetAllApplicationsQueryMapperTest {
             null,
             ApplicationOrderBy.ASC,
             1,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.sortBy()).isNull();
   }
 
@@ -240,7 +260,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             null,
             1,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.orderBy()).isNull();
   }
 
@@ -259,7 +281,9 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             null,
-            10);
+            10,
+            null,
+            null);
     assertThat(command.page()).isNull();
   }
 
@@ -278,7 +302,19 @@ class GetAllApplicationsQueryMapperTest {
             ApplicationSortBy.SUBMITTED_DATE,
             ApplicationOrderBy.ASC,
             1,
+            null,
+            null,
             null);
     assertThat(command.pageSize()).isNull();
   }
+
+  @Test
+  void givenCursorParams_whenToGetAllApplicationsQuery_thenCursorFieldsMapped() {
+    GetAllApplicationsQuery command =
+        mapper.toGetAllApplicationsQuery(
+            null, null, null, null, null, null, null, null, null, null, null, 10, "abc", true);
+
+    assertThat(command.cursor()).isEqualTo("abc");
+    assertThat(command.includeTotal()).isTrue();
+  }
 }
@@ -185,6 +185,19 @@ class GetAllApplicationsResponseMapperTest {
     assertThat(body.getApplications()).isEmpty();
   }
 
+  @Test
+  void givenCountStrategy_whenToGetAllApplicationsResponse_thenTotalRecordsStrategyMapped() {
+    PagedResult<ApplicationSummaryReadModel> page =
+        new PagedResult<>(List.of(), 250_000, "ESTIMATED");
+    GetAllApplicationsResult result = new GetAllApplicationsResult(page, 1, 10);
+
+    ApplicationSummaryResponse body = mapper.toGetAllApplicationsResponse(result).getBody();
+
+    assertThat(body).isNotNull();
+    assertThat(body.getPaging().getTotalRecords()).isEqualTo(250_000);
+    assertThat(body.getPaging().getTotalRecordsStrategy()).isEqualTo("ESTIMATED");
+  }
+
   @Test
   void givenNullStatus_whenToGetAllApplicationsResponse_thenStatusIsNull() {
     ApplicationSummaryReadModel domain =
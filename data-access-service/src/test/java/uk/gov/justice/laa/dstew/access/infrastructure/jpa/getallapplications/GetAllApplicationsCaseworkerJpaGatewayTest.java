@@ -3,12 +3,14 @@ package uk.gov.justice.laa.dstew.access.infrastructure.jpa.getallapplications;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.justice.laa.dstew.access.entity.CaseworkerEntity;
 import uk.gov.justice.laa.dstew.access.repository.CaseworkerRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,7 +28,8 @@ class GetAllApplicationsCaseworkerJpaGatewayTest {
   @Test
   void givenCaseworkerExists_whenCaseworkerExists_thenReturnsTrue() {
     UUID userId = UUID.randomUUID();
-    when(caseworkerRepository.existsById(userId)).thenReturn(true);
+    when(caseworkerRepository.findById(userId))
+        .thenReturn(Optional.of(CaseworkerEntity.builder().id(userId).build()));
 
     assertThat(gateway.caseworkerExists(userId)).isTrue();
   }
@@ -34,7 +37,7 @@ class GetAllApplicationsCaseworkerJpaGatewayTest {
   @Test
   void givenCaseworkerDoesNotExist_whenCaseworkerExists_thenReturnsFalse() {
     UUID userId = UUID.randomUUID();
-    when(caseworkerRepository.existsById(userId)).thenReturn(false);
+    when(caseworkerRepository.findById(userId)).thenReturn(Optional.empty());
 
     assertThat(gateway.caseworkerExists(userId)).isFalse();
   }
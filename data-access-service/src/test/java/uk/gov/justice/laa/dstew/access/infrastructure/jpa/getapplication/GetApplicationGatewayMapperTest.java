@@ -396,6 +396,23 @@ class GetApplicationGatewayMapperTest {
         .isEqualTo(ApplicationMeritsGenerator.DEFAULT_INVOLVED_CHILD_FULL_NAME);
   }
 
+  @Test
+  void givenContentSectionsTheResponseDoesNotUse_whenMapped_thenTheyAreNotBound() {
+    // A proceeding id that is not a UUID fails to bind, so it proves the copy of the proceedings
+    // in the application content is never converted.
+    ApplicationEntity applicationEntity =
+        newApplicationEntity(
+            Map.of(
+                "submitterEmail", "submitter@example.com",
+                "proceedings", List.of(Map.of("id", "not-a-uuid"))),
+            Set.of());
+
+    ApplicationDbProjection actual = mapper.toApplicationDbProjection(applicationEntity);
+
+    assertThat(actual.submitterEmail()).isEqualTo("submitter@example.com");
+    assertThat(actual.opponents()).isEmpty();
+  }
+
   private ApplicationEntity newApplicationEntity(
       Map<String, Object> applicationContent, Set<ProceedingEntity> proceedings) {
     return ApplicationEntity.builder()
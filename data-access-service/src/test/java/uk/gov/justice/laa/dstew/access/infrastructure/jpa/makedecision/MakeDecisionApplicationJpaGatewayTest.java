@@ -45,7 +45,8 @@ class MakeDecisionApplicationJpaGatewayTest {
     ApplicationEntity entity =
         ApplicationEntity.builder().status(ApplicationStatus.APPLICATION_IN_PROGRESS).build();
 
-    when(applicationRepository.findById(applicationId)).thenReturn(Optional.of(entity));
+    when(applicationRepository.findWithDecisionById(applicationId))
+        .thenReturn(Optional.of(entity));
 
     gateway.updateDecision(domain);
 
@@ -62,7 +63,7 @@ class MakeDecisionApplicationJpaGatewayTest {
     ApplicationDomain domain =
         DataGenerator.createDefault(ApplicationDomainGenerator.class, b -> b.id(applicationId));
 
-    when(applicationRepository.findById(applicationId)).thenReturn(Optional.empty());
+    when(applicationRepository.findWithDecisionById(applicationId)).thenReturn(Optional.empty());
 
     assertThatExceptionOfType(IllegalStateException.class)
         .isThrownBy(() -> gateway.updateDecision(domain))
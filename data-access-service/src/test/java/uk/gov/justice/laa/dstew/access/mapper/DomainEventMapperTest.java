@@ -200,6 +200,29 @@ public class DomainEventMapperTest extends BaseMapperTest {
     assertThat(result.getEventDescription()).isEqualTo(expectedDescription);
   }
 
+  @ParameterizedTest
+  @MethodSource("eventDescriptionPayloadTestCases")
+  void givenPayload_whenDeserialiseEventDescription_thenOnlyTopLevelValueReturned(
+      String data, String expectedDescription) {
+    assertThat(
+            mapper.deserialiseEventDescription(
+                data, DomainEventType.APPLICATION_MAKE_DECISION_REFUSED))
+        .isEqualTo(expectedDescription);
+  }
+
+  private static Stream<Arguments> eventDescriptionPayloadTestCases() {
+    return Stream.of(
+        Arguments.of(
+            """
+            {"request": {"eventDescription": "nested", "items": [1, {"eventDescription": "x"}]}, \
+            "eventDescription": "Decision refused"}""",
+            "Decision refused"),
+        Arguments.of("{\"request\": {\"eventDescription\": \"nested\"}}", null),
+        Arguments.of("{\"eventDescription\": {\"text\": \"not a string\"}}", null),
+        Arguments.of("[{\"eventDescription\": \"in an array\"}]", null),
+        Arguments.of("{\"eventDescription\": 42}", "42"));
+  }
+
   @ParameterizedTest
   @MethodSource("notesEventTypeTestCases")
   void givenNotesEventType_whenToDomainEvent_thenEventDescriptionHandledCorrectly(
@@ -0,0 +1,93 @@
+package uk.gov.justice.laa.dstew.access.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Mock private ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
+  @Mock private EntityManagerFactory entityManagerFactory;
+  @Mock private SessionFactory sessionFactory;
+  @Mock private Statistics statistics;
+  @Mock private CacheRegionStatistics caseworkerRegion;
+
+  @BeforeEach
+  void setUp() {
+    when(entityManagerFactoryProvider.getIfAvailable()).thenReturn(entityManagerFactory);
+    lenient().when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+    lenient().when(sessionFactory.getStatistics()).thenReturn(statistics);
+  }
+
+  @Test
+  void givenRegionLookups_whenScraped_thenReportsHitsMissesAndRatio() {
+    when(statistics.isStatisticsEnabled()).thenReturn(true);
+    when(statistics.getCacheRegionStatistics("caseworkers")).thenReturn(caseworkerRegion);
+    when(caseworkerRegion.getHitCount()).thenReturn(3L);
+    when(caseworkerRegion.getMissCount()).thenReturn(1L);
+
+    new SecondLevelCacheMetrics(entityManagerFactoryProvider).bindTo(meterRegistry);
+
+    assertThat(requests("caseworkers", "hit").count()).isEqualTo(3.0);
+    assertThat(requests("caseworkers", "miss").count()).isEqualTo(1.0);
+    assertThat(hitRatio("caseworkers").value()).isEqualTo(0.75);
+  }
+
+  @Test
+  void givenRegionNotYetCreated_whenScraped_thenReportsNoLookups() {
+    when(statistics.isStatisticsEnabled()).thenReturn(true);
+    when(statistics.getCacheRegionStatistics("caseworkers-query"))
+        .thenThrow(new IllegalArgumentException("Unknown cache region"));
+
+    new SecondLevelCacheMetrics(entityManagerFactoryProvider).bindTo(meterRegistry);
+
+    assertThat(requests("caseworkers-query", "hit").count()).isZero();
+    assertThat(hitRatio("caseworkers-query").value()).isNaN();
+  }
+
+  @Test
+  void givenStatisticsDisabled_whenBound_thenRegistersNothing() {
+    when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+    new SecondLevelCacheMetrics(entityManagerFactoryProvider).bindTo(meterRegistry);
+
+    assertThat(meterRegistry.getMeters()).isEmpty();
+  }
+
+  @Test
+  void givenNoEntityManagerFactory_whenBound_thenRegistersNothing() {
+    when(entityManagerFactoryProvider.getIfAvailable()).thenReturn(null);
+
+    new SecondLevelCacheMetrics(entityManagerFactoryProvider).bindTo(meterRegistry);
+
+    assertThat(meterRegistry.getMeters()).isEmpty();
+  }
+
+  private FunctionCounter requests(String region, String result) {
+    return meterRegistry
+        .get("hibernate.cache.region.requests")
+        .tags("region", region, "result", result)
+        .functionCounter();
+  }
+
+  private Gauge hitRatio(String region) {
+    return meterRegistry.get("hibernate.cache.region.hit.ratio").tags("region", region).gauge();
+  }
+}
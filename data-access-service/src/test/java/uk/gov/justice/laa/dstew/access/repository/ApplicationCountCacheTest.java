@@ -0,0 +1,120 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+import uk.gov.justice.laa.dstew.access.model.ApplicationStatus;
+import uk.gov.justice.laa.dstew.access.specification.ApplicationSummaryFilter;
+
+class ApplicationCountCacheTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  @Test
+  void givenCachedCount_whenGetWithEquivalentFilter_thenReturnsCount() {
+    ApplicationCountCache cache = new ApplicationCountCache(Duration.ofSeconds(30), 10, at(NOW));
+
+    cache.put(filter("Jane", "REF1"), 42);
+
+    assertThat(cache.get(filter("jane", "ref1"))).isEqualTo(OptionalLong.of(42));
+  }
+
+  @Test
+  void givenBlankTextFilter_whenGet_thenMatchesAbsentFilter() {
+    ApplicationCountCache cache = new ApplicationCountCache(Duration.ofSeconds(30), 10, at(NOW));
+
+    cache.put(filter(" ", null), 7);
+
+    assertThat(cache.get(filter(null, ""))).isEqualTo(OptionalLong.of(7));
+  }
+
+  @Test
+  void givenDifferentFilter_whenGet_thenReturnsEmpty() {
+    ApplicationCountCache cache = new ApplicationCountCache(Duration.ofSeconds(30), 10, at(NOW));
+
+    cache.put(filter("Jane", null), 42);
+
+    assertThat(cache.get(filter("John", null))).isEmpty();
+  }
+
+  @Test
+  void givenExpiredEntry_whenGet_thenReturnsEmptyAndRemovesEntry() {
+    MutableClock clock = new MutableClock(NOW);
+    ApplicationCountCache cache = new ApplicationCountCache(Duration.ofSeconds(30), 10, clock);
+    cache.put(filter("Jane", null), 42);
+
+    clock.now = NOW.plusSeconds(30);
+
+    assertThat(cache.get(filter("Jane", null))).isEmpty();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void givenFullCache_whenPut_thenNewCountIsNotCached() {
+    ApplicationCountCache cache = new ApplicationCountCache(Duration.ofSeconds(30), 1, at(NOW));
+    cache.put(filter("Jane", null), 42);
+
+    cache.put(filter("John", null), 7);
+
+    assertThat(cache.get(filter("John", null))).isEmpty();
+    assertThat(cache.get(filter("Jane", null))).isEqualTo(OptionalLong.of(42));
+  }
+
+  @Test
+  void givenFullCacheWithExpiredEntries_whenPut_thenExpiredEntriesMakeRoom() {
+    MutableClock clock = new MutableClock(NOW);
+    ApplicationCountCache cache = new ApplicationCountCache(Duration.ofSeconds(30), 1, clock);
+    cache.put(filter("Jane", null), 42);
+
+    clock.now = NOW.plusSeconds(60);
+    cache.put(filter("John", null), 7);
+
+    assertThat(cache.get(filter("John", null))).isEqualTo(OptionalLong.of(7));
+    assertThat(cache.size()).isOne();
+  }
+
+  private static ApplicationSummaryFilter filter(String firstName, String reference) {
+    return new ApplicationSummaryFilter(
+        ApplicationStatus.APPLICATION_SUBMITTED,
+        reference,
+        firstName,
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+
+  private static Clock at(Instant instant) {
+    return Clock.fixed(instant, ZoneOffset.UTC);
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
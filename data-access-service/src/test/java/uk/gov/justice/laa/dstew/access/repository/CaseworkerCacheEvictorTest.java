@@ -0,0 +1,76 @@
+package uk.gov.justice.laa.dstew.access.repository;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.justice.laa.dstew.access.entity.CaseworkerEntity;
+
+@ExtendWith(MockitoExtension.class)
+class CaseworkerCacheEvictorTest {
+
+  @Mock private ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
+  @Mock private EntityManagerFactory entityManagerFactory;
+  @Mock private SessionFactory sessionFactory;
+  @Mock private org.hibernate.Cache sessionFactoryCache;
+  @Mock private Cache entityCache;
+
+  private CaseworkerCacheEvictor evictor;
+
+  @BeforeEach
+  void setUp() {
+    when(entityManagerFactoryProvider.getIfAvailable()).thenReturn(entityManagerFactory);
+    when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+    when(sessionFactory.getCache()).thenReturn(sessionFactoryCache);
+    evictor = new CaseworkerCacheEvictor(entityManagerFactoryProvider);
+  }
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void givenEviction_whenRequested_thenEvictsEntitiesAndTheCachedList() {
+    when(entityManagerFactory.getCache()).thenReturn(entityCache);
+
+    evictor.evict();
+
+    verify(entityCache).evict(CaseworkerEntity.class);
+    verify(sessionFactoryCache).evictQueryRegion(CaseworkerRepository.FIND_ALL_CACHE_REGION);
+  }
+
+  @Test
+  void givenNoTransaction_whenCaseworkerWritten_thenEvictsTheCachedListImmediately() {
+    evictor.evictListAfterCommit();
+
+    verify(sessionFactoryCache).evictQueryRegion(CaseworkerRepository.FIND_ALL_CACHE_REGION);
+  }
+
+  @Test
+  void givenTransaction_whenCaseworkerWritten_thenEvictsTheCachedListOnCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    evictor.evictListAfterCommit();
+
+    verify(sessionFactoryCache, never())
+        .evictQueryRegion(CaseworkerRepository.FIND_ALL_CACHE_REGION);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(sessionFactoryCache).evictQueryRegion(CaseworkerRepository.FIND_ALL_CACHE_REGION);
+  }
+}
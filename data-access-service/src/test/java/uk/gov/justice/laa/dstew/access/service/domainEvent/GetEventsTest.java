@@ -4,21 +4,27 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import uk.gov.justice.laa.dstew.access.entity.DomainEventEntity;
 import uk.gov.justice.laa.dstew.access.model.ApplicationDomainEventResponse;
 import uk.gov.justice.laa.dstew.access.model.DomainEventType;
+import uk.gov.justice.laa.dstew.access.service.domainevents.DomainEventHistoryPage;
 import uk.gov.justice.laa.dstew.access.service.domainevents.GetDomainEventService;
 import uk.gov.justice.laa.dstew.access.utils.BaseServiceTest;
+import uk.gov.justice.laa.dstew.access.utils.PageCursor;
 import uk.gov.justice.laa.dstew.access.utils.TestConstants;
 import uk.gov.justice.laa.dstew.access.utils.generator.DataGenerator;
 import uk.gov.justice.laa.dstew.access.utils.generator.domainEvent.DomainEventGenerator;
@@ -28,31 +34,88 @@ public class GetEventsTest extends BaseServiceTest {
   @Autowired private GetDomainEventService serviceUnderTest;
 
   @Test
-  void givenExpectedDomainEvents_whenGetEvents_thenReturnDomainEventsInCreatedAtOrder() {
+  void givenExpectedDomainEvents_whenGetEventsPage_thenReturnDomainEventsInRepositoryOrder() {
     // given
     setSecurityContext(TestConstants.Roles.CASEWORKER);
-    List<DomainEventEntity> generatedDomainEvents =
-        DataGenerator.createMultipleDefault(DomainEventGenerator.class, 20);
-
-    List<DomainEventEntity> expectedDomainEvents =
-        generatedDomainEvents.stream()
-            .sorted((de1, de2) -> de2.getCreatedAt().compareTo(de1.getCreatedAt()))
+    List<DomainEventEntity> orderedDomainEvents =
+        DataGenerator.createMultipleDefault(DomainEventGenerator.class, 20).stream()
+            .sorted(Comparator.comparing(DomainEventEntity::getCreatedAt))
             .toList();
-    List<DomainEventEntity> orderedExpectedDomainEvents =
-        generatedDomainEvents.stream()
-            .sorted((de1, de2) -> de1.getCreatedAt().compareTo(de2.getCreatedAt()))
+
+    when(domainEventRepository.findBy(any(Specification.class), any()))
+        .thenReturn(orderedDomainEvents);
+
+    // when
+    DomainEventHistoryPage actualPage =
+        serviceUnderTest.getEventsPage(
+            UUID.randomUUID(), List.of(DomainEventType.ASSIGN_APPLICATION_TO_CASEWORKER), 20, null);
+
+    // then
+    verify(domainEventRepository).findBy(any(Specification.class), any());
+    assertDomainEventsEqual(orderedDomainEvents, actualPage.events());
+    assertThat(actualPage.nextCursor()).isNull();
+  }
+
+  @Test
+  void givenMoreEventsThanPageSize_whenGetEventsPage_thenReturnPageAndNextCursor() {
+    // given
+    setSecurityContext(TestConstants.Roles.CASEWORKER);
+    List<DomainEventEntity> domainEvents =
+        DataGenerator.createMultipleDefault(DomainEventGenerator.class, 3).stream()
+            .map(event -> event.toBuilder().id(UUID.randomUUID()).build())
             .toList();
 
-    when(domainEventRepository.findAll(any(Specification.class))).thenReturn(expectedDomainEvents);
+    when(domainEventRepository.findBy(any(Specification.class), any())).thenReturn(domainEvents);
 
     // when
-    List<ApplicationDomainEventResponse> actualDomainEvents =
-        serviceUnderTest.getEvents(
-            UUID.randomUUID(), List.of(DomainEventType.ASSIGN_APPLICATION_TO_CASEWORKER));
+    DomainEventHistoryPage actualPage =
+        serviceUnderTest.getEventsPage(UUID.randomUUID(), null, 2, null);
+
+    // then
+    assertThat(actualPage.events().size()).isEqualTo(2);
+    PageCursor nextCursor = PageCursor.decode(actualPage.nextCursor());
+    assertThat(nextCursor.id()).isEqualTo(domainEvents.get(1).getId());
+    assertThat(nextCursor.createdAt()).isEqualTo(domainEvents.get(1).getCreatedAt());
+  }
+
+  @Test
+  void givenCursorForAnotherSortOrder_whenGetEventsPage_thenThrowIllegalArgumentException() {
+    // given
+    setSecurityContext(TestConstants.Roles.CASEWORKER);
+    String cursor =
+        new PageCursor("submittedAt", true, Instant.now(), Instant.now(), UUID.randomUUID())
+            .encode();
+
+    // when
+    // then
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> serviceUnderTest.getEventsPage(UUID.randomUUID(), null, 10, cursor))
+        .withMessage("cursor does not match the requested sort order");
+    verify(domainEventRepository, never()).findBy(any(Specification.class), any());
+  }
+
+  @Test
+  void givenHistoryLongerThanOneChunk_whenStreamEvents_thenFetchesChunksLazily() {
+    // given
+    setSecurityContext(TestConstants.Roles.CASEWORKER);
+    List<DomainEventEntity> firstChunk =
+        DataGenerator.createMultipleDefault(DomainEventGenerator.class, 500);
+    List<DomainEventEntity> secondChunk =
+        DataGenerator.createMultipleDefault(DomainEventGenerator.class, 3);
+
+    when(domainEventRepository.findBy(any(Specification.class), any()))
+        .thenReturn(firstChunk, secondChunk);
+
+    // when
+    Iterator<ApplicationDomainEventResponse> events =
+        serviceUnderTest.streamEvents(UUID.randomUUID(), null);
 
     // then
-    verify(domainEventRepository).findAll(any(Specification.class));
-    assertDomainEventsEqual(orderedExpectedDomainEvents, actualDomainEvents);
+    verify(domainEventRepository, never()).findBy(any(Specification.class), any());
+    List<ApplicationDomainEventResponse> actualDomainEvents = new ArrayList<>();
+    events.forEachRemaining(actualDomainEvents::add);
+    assertThat(actualDomainEvents.size()).isEqualTo(503);
+    verify(domainEventRepository, times(2)).findBy(any(Specification.class), any());
   }
 
   @Test
@@ -63,9 +126,9 @@ public class GetEventsTest extends BaseServiceTest {
     // when
     // then
     assertThatExceptionOfType(AuthorizationDeniedException.class)
-        .isThrownBy(() -> serviceUnderTest.getEvents(null, null))
+        .isThrownBy(() -> serviceUnderTest.getEventsPage(null, null, null, null))
         .withMessageContaining("Access Denied");
-    verify(domainEventRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    verify(domainEventRepository, never()).findBy(any(Specification.class), any());
   }
 
   @Test
@@ -74,7 +137,7 @@ public class GetEventsTest extends BaseServiceTest {
     // when
     // then
     assertThatExceptionOfType(AuthorizationDeniedException.class)
-        .isThrownBy(() -> serviceUnderTest.getEvents(null, null))
+        .isThrownBy(() -> serviceUnderTest.streamEvents(null, null))
         .withMessageContaining("Access Denied");
     verify(applicationRepository, never()).findAll();
   }
@@ -89,12 +152,14 @@ public class GetEventsTest extends BaseServiceTest {
             .data(null)
             .build();
 
-    when(domainEventRepository.findAll(any(Specification.class)))
+    when(domainEventRepository.findBy(any(Specification.class), any()))
         .thenReturn(List.of(eventWithNullRequest));
 
     // when
     List<ApplicationDomainEventResponse> actualDomainEvents =
-        serviceUnderTest.getEvents(UUID.randomUUID(), List.of(DomainEventType.APPLICATION_NOTES));
+        serviceUnderTest
+            .getEventsPage(UUID.randomUUID(), List.of(DomainEventType.APPLICATION_NOTES), null, "")
+            .events();
 
     // then
     assertThat(actualDomainEvents.size()).isEqualTo(1);
@@ -115,12 +180,14 @@ public class GetEventsTest extends BaseServiceTest {
             .data(notesPayload)
             .build();
 
-    when(domainEventRepository.findAll(any(Specification.class)))
+    when(domainEventRepository.findBy(any(Specification.class), any()))
         .thenReturn(List.of(eventWithNotesRequest));
 
     // when
     List<ApplicationDomainEventResponse> actualDomainEvents =
-        serviceUnderTest.getEvents(UUID.randomUUID(), List.of(DomainEventType.APPLICATION_NOTES));
+        serviceUnderTest
+            .getEventsPage(UUID.randomUUID(), List.of(DomainEventType.APPLICATION_NOTES), null, "")
+            .events();
 
     // then
     assertThat(actualDomainEvents.size()).isEqualTo(1);
@@ -137,12 +204,14 @@ public class GetEventsTest extends BaseServiceTest {
             .data("   ")
             .build();
 
-    when(domainEventRepository.findAll(any(Specification.class)))
+    when(domainEventRepository.findBy(any(Specification.class), any()))
         .thenReturn(List.of(eventWithBlankRequest));
 
     // when
     List<ApplicationDomainEventResponse> actualDomainEvents =
-        serviceUnderTest.getEvents(UUID.randomUUID(), List.of(DomainEventType.APPLICATION_NOTES));
+        serviceUnderTest
+            .getEventsPage(UUID.randomUUID(), List.of(DomainEventType.APPLICATION_NOTES), null, "")
+            .events();
 
     // then
     assertThat(actualDomainEvents.size()).isEqualTo(1);
@@ -159,12 +228,14 @@ public class GetEventsTest extends BaseServiceTest {
             .data("invalid json data")
             .build();
 
-    when(domainEventRepository.findAll(any(Specification.class)))
+    when(domainEventRepository.findBy(any(Specification.class), any()))
         .thenReturn(List.of(eventWithInvalidJson));
 
     // when
     List<ApplicationDomainEventResponse> actualDomainEvents =
-        serviceUnderTest.getEvents(UUID.randomUUID(), List.of(DomainEventType.APPLICATION_NOTES));
+        serviceUnderTest
+            .getEventsPage(UUID.randomUUID(), List.of(DomainEventType.APPLICATION_NOTES), null, "")
+            .events();
 
     // then
     assertThat(actualDomainEvents.size()).isEqualTo(1);
@@ -77,13 +77,13 @@ class AssignCaseworkerUseCaseTest {
                         .build())),
             eq(caseworkerId));
 
-    ArgumentCaptor<DomainEventEntity> eventCaptor =
-        ArgumentCaptor.forClass(DomainEventEntity.class);
-    verify(domainEventRepository).save(eventCaptor.capture());
-    assertThat(eventCaptor.getValue().getType())
-        .isEqualTo(DomainEventType.ASSIGN_APPLICATION_TO_CASEWORKER);
-    assertThat(eventCaptor.getValue().getApplicationId()).isEqualTo(appId);
-    assertThat(eventCaptor.getValue().getCaseworkerId()).isEqualTo(caseworkerId);
+    ArgumentCaptor<List<DomainEventEntity>> eventCaptor = ArgumentCaptor.captor();
+    verify(domainEventRepository).saveAll(eventCaptor.capture());
+    assertThat(eventCaptor.getValue()).hasSize(1);
+    DomainEventEntity event = eventCaptor.getValue().getFirst();
+    assertThat(event.getType()).isEqualTo(DomainEventType.ASSIGN_APPLICATION_TO_CASEWORKER);
+    assertThat(event.getApplicationId()).isEqualTo(appId);
+    assertThat(event.getCaseworkerId()).isEqualTo(caseworkerId);
   }
 
   @Test
@@ -104,7 +104,7 @@ class AssignCaseworkerUseCaseTest {
     useCase.execute(command);
 
     verify(applicationGateway).saveAll(anyList(), eq(caseworkerId));
-    verify(domainEventRepository).save(any(DomainEventEntity.class));
+    verify(domainEventRepository).saveAll(anyList());
   }
 
   @Test
@@ -171,7 +171,7 @@ class AssignCaseworkerUseCaseTest {
     useCase.execute(command);
 
     verify(applicationGateway, never()).saveAll(anyList(), any(UUID.class));
-    verify(domainEventRepository, never()).save(any(DomainEventEntity.class));
+    verify(domainEventRepository, never()).saveAll(anyList());
   }
 
   @Test
@@ -192,7 +192,9 @@ class AssignCaseworkerUseCaseTest {
 
     verify(applicationGateway).findAllByIds(eq(List.of(appId)));
     verify(applicationGateway, times(1)).saveAll(anyList(), eq(caseworkerId));
-    verify(domainEventRepository, times(1)).save(any(DomainEventEntity.class));
+    ArgumentCaptor<List<DomainEventEntity>> eventCaptor = ArgumentCaptor.captor();
+    verify(domainEventRepository, times(1)).saveAll(eventCaptor.capture());
+    assertThat(eventCaptor.getValue()).hasSize(1);
   }
 
   @Test
@@ -214,7 +216,7 @@ class AssignCaseworkerUseCaseTest {
     useCase.execute(command);
 
     verify(applicationGateway, never()).saveAll(anyList(), any(UUID.class));
-    verify(domainEventRepository).save(any(DomainEventEntity.class));
+    verify(domainEventRepository).saveAll(anyList());
   }
 
   @Test
@@ -242,7 +244,7 @@ class AssignCaseworkerUseCaseTest {
         .withMessage("No application found with ids: " + expectedMissingIds);
 
     verify(applicationGateway, never()).saveAll(anyList(), any(UUID.class));
-    verify(domainEventRepository, never()).save(any(DomainEventEntity.class));
+    verify(domainEventRepository, never()).saveAll(anyList());
   }
 
   @Test
@@ -274,10 +276,47 @@ class AssignCaseworkerUseCaseTest {
                         .build())),
             eq(newCaseworkerId));
 
-    ArgumentCaptor<DomainEventEntity> eventCaptor =
-        ArgumentCaptor.forClass(DomainEventEntity.class);
-    verify(domainEventRepository).save(eventCaptor.capture());
-    assertThat(eventCaptor.getValue().getType())
+    ArgumentCaptor<List<DomainEventEntity>> eventCaptor = ArgumentCaptor.captor();
+    verify(domainEventRepository).saveAll(eventCaptor.capture());
+    assertThat(eventCaptor.getValue())
+        .singleElement()
+        .extracting(DomainEventEntity::getType)
         .isEqualTo(DomainEventType.ASSIGN_APPLICATION_TO_CASEWORKER);
   }
+
+  @Test
+  void givenMultipleApplications_whenExecuted_thenDomainEventsSavedInOneBatch() {
+    UUID caseworkerId = UUID.randomUUID();
+    UUID appId1 = UUID.randomUUID();
+    UUID appId2 = UUID.randomUUID();
+    UUID appId3 = UUID.randomUUID();
+    AssignCaseworkerCommand command =
+        AssignCaseworkerCommand.builder()
+            .caseworkerId(caseworkerId)
+            .applicationIds(List.of(appId1, appId2, appId3))
+            .eventDescription("Bulk assigned.")
+            .build();
+    when(caseworkerGateway.exists(caseworkerId)).thenReturn(true);
+    when(applicationGateway.findAllByIds(List.of(appId1, appId2, appId3)))
+        .thenReturn(
+            List.of(
+                AssignCaseworkerApplication.builder().id(appId1).build(),
+                AssignCaseworkerApplication.builder().id(appId2).build(),
+                AssignCaseworkerApplication.builder().id(appId3).build()));
+
+    useCase.execute(command);
+
+    ArgumentCaptor<List<DomainEventEntity>> eventCaptor = ArgumentCaptor.captor();
+    verify(domainEventRepository).saveAll(eventCaptor.capture());
+    verify(domainEventRepository, never()).save(any(DomainEventEntity.class));
+    assertThat(eventCaptor.getValue())
+        .extracting(DomainEventEntity::getApplicationId)
+        .containsExactly(appId1, appId2, appId3);
+    assertThat(eventCaptor.getValue())
+        .allSatisfy(
+            event -> {
+              assertThat(event.getCaseworkerId()).isEqualTo(caseworkerId);
+              assertThat(event.getData()).contains("Bulk assigned.");
+            });
+  }
 }
@@ -3,6 +3,7 @@ package uk.gov.justice.laa.dstew.access.usecase.createapplication;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.JsonNode;
 import uk.gov.justice.laa.dstew.access.config.ServiceNameContext;
 import uk.gov.justice.laa.dstew.access.domain.ApplicationDomain;
 import uk.gov.justice.laa.dstew.access.entity.DomainEventEntity;
@@ -99,6 +101,21 @@ class CreateApplicationUseCaseTest {
     verify(linkedApplicationGateway, never()).link(any(), any());
   }
 
+  @Test
+  void givenValidCommand_whenExecuted_thenSchemaValidatesContentAsJsonTree() {
+    CreateApplicationCommand command =
+        DataGenerator.createDefault(CreateApplicationCommandGenerator.class);
+    stubSaveEnriching(UUID.randomUUID(), Instant.now());
+
+    useCase.execute(command);
+
+    ArgumentCaptor<JsonNode> treeCaptor = ArgumentCaptor.forClass(JsonNode.class);
+    verify(jsonSchemaValidator)
+        .validate(treeCaptor.capture(), eq("ApplyApplication.json"), eq(command.schemaVersion()));
+    assertThat(treeCaptor.getValue().get("submittedAt").asString())
+        .isEqualTo(command.applicationContent().get("submittedAt"));
+  }
+
   @Test
   void givenDuplicateApplyApplicationId_whenExecuted_thenThrowsValidationException() {
     CreateApplicationCommand command =
@@ -20,6 +20,7 @@ import uk.gov.justice.laa.dstew.access.usecase.getallapplications.infrastructure
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.infrastructure.GetAllApplicationsCaseworkerGateway;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.ApplicationSummaryReadModel;
 import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.LinkedApplicationSummaryReadModel;
+import uk.gov.justice.laa.dstew.access.usecase.shared.CursorPagedResult;
 import uk.gov.justice.laa.dstew.access.usecase.shared.PagedResult;
 import uk.gov.justice.laa.dstew.access.utils.generator.DataGenerator;
 import uk.gov.justice.laa.dstew.access.utils.generator.getallapplications.ApplicationSummaryReadModelGenerator;
@@ -324,4 +325,62 @@ class GetAllApplicationsUseCaseTest {
     assertThat(result.requestedPage()).isEqualTo(1);
     assertThat(result.requestedPageSize()).isEqualTo(20);
   }
+
+  @Test
+  void givenCursorQuery_whenExecutedWithCursor_thenReturnsNextCursorAndResolvesLinks() {
+    UUID leadId = UUID.randomUUID();
+    UUID associateId = UUID.randomUUID();
+    ApplicationSummaryReadModel lead =
+        DataGenerator.createDefault(
+            ApplicationSummaryReadModelGenerator.class, b -> b.id(leadId).isLead(true));
+    LinkedApplicationSummaryReadModel associateLink =
+        DataGenerator.createDefault(
+            LinkedApplicationSummaryReadModelGenerator.class,
+            b -> b.applicationId(associateId).isLead(false).leadApplicationId(leadId));
+    GetAllApplicationsQuery query =
+        DataGenerator.createDefault(
+            GetAllApplicationsQueryGenerator.class,
+            b -> b.userId(null).cursor("previous-cursor").includeTotal(null));
+
+    when(applicationGateway.findAllApplicationsAfterCursor(
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            eq("previous-cursor"),
+            eq(false),
+            eq(10)))
+        .thenReturn(new CursorPagedResult<>(List.of(lead), "next-cursor", null, null));
+    when(applicationGateway.findLinkedApplicationsForPageIds(List.of(leadId)))
+        .thenReturn(List.of(associateLink));
+
+    GetAllApplicationsCursorResult result = useCase.executeWithCursor(query);
+
+    assertThat(result.requestedPageSize()).isEqualTo(10);
+    assertThat(result.applications().nextCursor()).isEqualTo("next-cursor");
+    assertThat(result.applications().totalElements()).isNull();
+    assertThat(result.applications().content().get(0).linkedApplications())
+        .extracting(LinkedApplicationSummaryReadModel::applicationId)
+        .containsExactly(associateId);
+    verify(applicationGateway, never())
+        .findAllApplications(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void givenInvalidPageSize_whenExecutedWithCursor_thenThrowsIllegalArgumentException() {
+    GetAllApplicationsQuery query =
+        DataGenerator.createDefault(
+            GetAllApplicationsQueryGenerator.class, b -> b.userId(null).pageSize(101).cursor(""));
+
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> useCase.executeWithCursor(query))
+        .withMessageContaining("pageSize cannot be more than 100");
+  }
 }
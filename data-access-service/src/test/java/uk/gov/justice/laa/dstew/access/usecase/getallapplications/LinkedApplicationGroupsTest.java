@@ -0,0 +1,57 @@
+package uk.gov.justice.laa.dstew.access.usecase.getallapplications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import uk.gov.justice.laa.dstew.access.usecase.getallapplications.model.LinkedApplicationSummaryReadModel;
+
+class LinkedApplicationGroupsTest {
+
+  @Test
+  void givenAssociate_whenLinkedTo_thenReturnsOtherMembersOfLeadGroup() {
+    UUID leadId = UUID.randomUUID();
+    UUID associateA = UUID.randomUUID();
+    UUID associateB = UUID.randomUUID();
+    LinkedApplicationGroups groups =
+        LinkedApplicationGroups.index(
+            List.of(link(leadId, leadId), link(associateA, leadId), link(associateB, leadId)));
+
+    assertThat(groups.linkedTo(associateA))
+        .extracting(LinkedApplicationSummaryReadModel::applicationId)
+        .containsExactlyInAnyOrder(leadId, associateB);
+  }
+
+  @Test
+  void givenLeadThatIsAlsoAMemberOfAnotherGroup_whenLinkedTo_thenReturnsGroupItLeads() {
+    UUID otherLeadId = UUID.randomUUID();
+    UUID leadId = UUID.randomUUID();
+    UUID associateId = UUID.randomUUID();
+    LinkedApplicationGroups groups =
+        LinkedApplicationGroups.index(
+            List.of(link(leadId, otherLeadId), link(associateId, leadId)));
+
+    assertThat(groups.linkedTo(leadId))
+        .extracting(LinkedApplicationSummaryReadModel::applicationId)
+        .containsExactly(associateId);
+  }
+
+  @Test
+  void givenUnlinkedApplication_whenLinkedTo_thenReturnsEmpty() {
+    UUID leadId = UUID.randomUUID();
+    LinkedApplicationGroups groups =
+        LinkedApplicationGroups.index(List.of(link(UUID.randomUUID(), leadId)));
+
+    assertThat(groups.linkedTo(UUID.randomUUID())).isEmpty();
+  }
+
+  private static LinkedApplicationSummaryReadModel link(UUID applicationId, UUID leadId) {
+    return LinkedApplicationSummaryReadModel.builder()
+        .applicationId(applicationId)
+        .laaReference("REF-" + applicationId)
+        .isLead(applicationId.equals(leadId))
+        .leadApplicationId(leadId)
+        .build();
+  }
+}
@@ -0,0 +1,57 @@
+package uk.gov.justice.laa.dstew.access.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+class PaginationHelperTest {
+
+  private static final Sort SUBMITTED_ASC = Sort.by(Sort.Direction.ASC, "submittedAt");
+
+  @Test
+  void givenCursor_whenEncodedAndValidated_thenRoundTrips() {
+    PageCursor cursor =
+        new PageCursor(
+            "submittedAt",
+            true,
+            Instant.parse("2026-01-15T10:20:30.123456Z"),
+            Instant.parse("2026-01-15T09:00:00Z"),
+            UUID.randomUUID());
+
+    PageCursor decoded = PaginationHelper.validateCursor(cursor.encode(), SUBMITTED_ASC);
+
+    assertThat(decoded).isEqualTo(cursor);
+  }
+
+  @Test
+  void givenCursorForDifferentDirection_whenValidated_thenThrowsIllegalArgumentException() {
+    String token =
+        new PageCursor("submittedAt", false, Instant.now(), Instant.now(), UUID.randomUUID())
+            .encode();
+
+    assertThatThrownBy(() -> PaginationHelper.validateCursor(token, SUBMITTED_ASC))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("cursor does not match the requested sort order");
+  }
+
+  @Test
+  void givenMalformedCursor_whenValidated_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> PaginationHelper.validateCursor("not-a-cursor!", SUBMITTED_ASC))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("cursor is invalid");
+  }
+
+  @Test
+  void givenPageSize_whenCreateCursorPageable_thenFirstPageWithSort() {
+    Pageable pageable = PaginationHelper.createCursorPageable(25, SUBMITTED_ASC);
+
+    assertThat(pageable.getPageNumber()).isZero();
+    assertThat(pageable.getPageSize()).isEqualTo(25);
+    assertThat(pageable.getSort()).isEqualTo(SUBMITTED_ASC);
+  }
+}
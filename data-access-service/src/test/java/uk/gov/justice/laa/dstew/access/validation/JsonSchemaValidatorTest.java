@@ -1,18 +1,23 @@
 package uk.gov.justice.laa.dstew.access.validation;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
 
 class JsonSchemaValidatorTest {
 
-  private final JsonSchemaValidator validator = new JsonSchemaValidator();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final JsonSchemaValidator validator = new JsonSchemaValidator(meterRegistry);
 
   @Test
   void validateAcceptsPayloadMatchingSchema() {
@@ -178,4 +183,44 @@ class JsonSchemaValidatorTest {
         "Expected validation errors to mention missing description field within proceeding. Actual errors: "
             + ex.errors());
   }
+
+  @Test
+  void givenRepeatedValidation_whenValidate_thenCompiledSchemaIsReusedFromCache() {
+    Map<String, Object> payload = validApplyApplicationV2Payload();
+
+    validator.validate(payload, "ApplyApplication.json", 2);
+    validator.validate(payload, "ApplyApplication.json", 2);
+
+    assertEquals(1.0, cacheCount("miss"));
+    assertEquals(1.0, cacheCount("hit"));
+    assertEquals(
+        2L,
+        meterRegistry
+            .get("json.schema.validation")
+            .tag("schema", "ApplyApplication.json")
+            .tag("version", "2")
+            .timer()
+            .count());
+  }
+
+  @Test
+  void givenPreloadedSchemas_whenValidate_thenEveryLookupIsACacheHit() {
+    validator.preloadSchemas();
+
+    validator.validate(validApplyApplicationV2Payload(), "ApplyApplication.json", 2);
+
+    assertEquals(0.0, cacheCount("miss"));
+    assertEquals(1.0, cacheCount("hit"));
+  }
+
+  @Test
+  void givenJsonNodePayload_whenValidate_thenValidatesTreeDirectly() {
+    JsonNode payload = JsonMapper.builder().build().valueToTree(validApplyApplicationV2Payload());
+
+    validator.validate(payload, "ApplyApplication.json", 2);
+  }
+
+  private double cacheCount(String result) {
+    return meterRegistry.get("json.schema.cache").tag("result", result).counter().count();
+  }
 }
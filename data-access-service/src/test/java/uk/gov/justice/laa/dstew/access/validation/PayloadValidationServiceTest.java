@@ -12,6 +12,7 @@ import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import tools.jackson.core.JsonParser;
 import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.exc.MismatchedInputException;
 import uk.gov.justice.laa.dstew.access.mapper.MapperUtil;
@@ -97,6 +99,45 @@ class PayloadValidationServiceTest {
         .anyMatch(message -> message.contains(expectedErrorMessage));
   }
 
+  @Test
+  public void validateProceedingPayloadFromJsonTree() {
+    Map<String, Object> proceeding = Map.of("description", "Test proceeding");
+    JsonNode tree = serviceUnderTest.toTree(proceeding);
+
+    ValidationException fromTree =
+        Assertions.assertThrows(
+            ValidationException.class,
+            () -> serviceUnderTest.convertAndValidate(tree, Proceeding.class));
+    ValidationException fromMap =
+        Assertions.assertThrows(
+            ValidationException.class,
+            () -> serviceUnderTest.convertAndValidate(proceeding, Proceeding.class));
+
+    assertThat(fromTree.errors())
+        .containsExactlyInAnyOrderElementsOf(fromMap.errors())
+        .contains("id: must not be null", "leadProceeding: must not be null");
+  }
+
+  @Test
+  public void invalidJsonTreeReportsConversionFailureLikeMap() {
+    Map<String, Object> proceeding = Map.of("id", "not-a-uuid");
+
+    ValidationException fromTree =
+        Assertions.assertThrows(
+            ValidationException.class,
+            () ->
+                serviceUnderTest.convertAndValidate(
+                    serviceUnderTest.toTree(proceeding), Proceeding.class));
+    ValidationException fromMap =
+        Assertions.assertThrows(
+            ValidationException.class,
+            () -> serviceUnderTest.convertAndValidate(proceeding, Proceeding.class));
+
+    String expected = "Cannot deserialize value of type `java.util.UUID`";
+    assertThat(fromTree.errors()).singleElement().asString().contains(expected);
+    assertThat(fromMap.errors()).singleElement().asString().contains(expected);
+  }
+
   @Test
   public void validateProceedingPayloadFromPojo() {
 
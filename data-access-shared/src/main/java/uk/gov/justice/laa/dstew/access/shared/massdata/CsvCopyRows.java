@@ -0,0 +1,104 @@
+package uk.gov.justice.laa.dstew.access.shared.massdata;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HexFormat;
+
+/**
+ * Rows for one table, buffered as CSV until they are streamed in with a single {@code COPY ...
+ * FROM STDIN}.
+ *
+ * <p>{@code null} is written as an unquoted empty field, which {@code COPY} reads as SQL {@code
+ * NULL}. Enums are written by name and byte arrays in {@code bytea} hex form. Every other value is
+ * quoted as text, so empty strings and text containing commas, quotes or line breaks round-trip
+ * unchanged.
+ *
+ * <p>The caller hands {@link #copyStatement()} and {@link #reader()} to its database driver.
+ */
+public class CsvCopyRows {
+
+  private static final HexFormat HEX = HexFormat.of();
+
+  private final String table;
+  private final String[] columns;
+  private final StringBuilder csv = new StringBuilder();
+
+  /**
+   * Creates an empty set of rows.
+   *
+   * @param table the table the rows are copied into.
+   * @param columns the columns each row gives a value for, in order.
+   */
+  public CsvCopyRows(String table, String... columns) {
+    this.table = table;
+    this.columns = columns;
+  }
+
+  /**
+   * Appends one row.
+   *
+   * @param values the row's values, in the order of the columns these rows were created with.
+   * @return these rows.
+   */
+  public CsvCopyRows row(Object... values) {
+    if (values.length != columns.length) {
+      throw new IllegalArgumentException(
+          "Expected %d values for %s but got %d".formatted(columns.length, table, values.length));
+    }
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        csv.append(',');
+      }
+      append(values[i]);
+    }
+    csv.append('\n');
+    return this;
+  }
+
+  /**
+   * Checks whether any rows have been appended.
+   *
+   * @return boolean true if there is nothing to copy.
+   */
+  public boolean isEmpty() {
+    return csv.isEmpty();
+  }
+
+  /**
+   * Returns the statement that streams these rows in.
+   *
+   * @return the {@code COPY ... FROM STDIN} statement for the table and columns.
+   */
+  public String copyStatement() {
+    return "COPY %s (%s) FROM STDIN WITH (FORMAT csv)".formatted(table, String.join(", ", columns));
+  }
+
+  /**
+   * Returns the rows appended so far.
+   *
+   * @return a reader over the rows as CSV.
+   */
+  public Reader reader() {
+    return new StringReader(csv.toString());
+  }
+
+  private void append(Object value) {
+    if (value == null) {
+      return;
+    }
+    if (value instanceof byte[] bytes) {
+      csv.append("\"\\x").append(HEX.formatHex(bytes)).append('"');
+      return;
+    }
+    String text = value instanceof Enum<?> e ? e.name() : value.toString();
+    csv.append('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"') {
+        csv.append('"');
+      }
+      csv.append(c);
+    }
+    csv.append('"');
+  }
+}
@@ -0,0 +1,42 @@
+package uk.gov.justice.laa.dstew.access.shared.massdata;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * Derives independent random streams from one seed, one per generated entity.
+ *
+ * <p>Each stream depends only on the seed, the kind of entity and its index, so any range of
+ * entities can be generated on any thread and the result does not depend on how the ranges were
+ * scheduled.
+ */
+public final class SeedStreams {
+
+  private SeedStreams() {}
+
+  /**
+   * Returns the random stream for one entity, derived from the seed alone.
+   *
+   * @param seed the seed of the whole dataset.
+   * @param kind the kind of entity, which keeps the streams of different kinds apart.
+   * @param index the entity's index among those of its kind.
+   * @return the entity's random stream.
+   */
+  public static SplittableRandom random(long seed, Enum<?> kind, long index) {
+    long mixed = seed * 0x9E3779B97F4A7C15L + kind.ordinal() * 0xBF58476D1CE4E5B9L + index;
+    return new SplittableRandom(new SplittableRandom(mixed).nextLong());
+  }
+
+  /**
+   * Returns a version 4 UUID drawn from the given generator.
+   *
+   * @param random the generator to draw from.
+   * @return the UUID.
+   */
+  public static UUID uuid(RandomGenerator random) {
+    long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+    long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(most, least);
+  }
+}
@@ -0,0 +1,160 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+import { uuidv4 } from 'https://jslib.k6.io/k6-utils/1.4.0/index.js';
+import { fetchToken } from './lib/auth.js';
+
+// ---------------------------------------------------------------------------
+// Fixture: load once at init time, mutate per iteration
+// ---------------------------------------------------------------------------
+const APPLICATION_CONTENT_TEMPLATE = JSON.parse(open('./fixtures/applicationContent.json'));
+
+// ---------------------------------------------------------------------------
+// Configuration
+// ---------------------------------------------------------------------------
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+// Base URL of the mock-oauth2-server (or a deployed equivalent).
+const OAUTH_BASE_URL = __ENV.OAUTH_BASE_URL || 'http://localhost:9999';
+// Creates started per second, held for DURATION regardless of how long each create takes.
+const RATE = parseInt(__ENV.RATE || '50', 10);
+const DURATION = __ENV.DURATION || '2m';
+// VUs are only a pool for the arrival rate; each one holds a connection for a whole create.
+const PRE_ALLOCATED_VUS = parseInt(__ENV.PRE_ALLOCATED_VUS || '100', 10);
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '500', 10);
+
+// ---------------------------------------------------------------------------
+// Custom metrics
+// ---------------------------------------------------------------------------
+// 201: the projection caught up within application.projection.timeout.
+const projectedCreates = new Counter('creates_projected');
+// 202: the command committed but the projection had not caught up (or every waiter was in use).
+const acceptedCreates = new Counter('creates_accepted');
+
+// ---------------------------------------------------------------------------
+// k6 options
+// ---------------------------------------------------------------------------
+export const options = {
+  scenarios: {
+    sustained_creates: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: PRE_ALLOCATED_VUS,
+      maxVUs: MAX_VUS,
+    },
+  },
+  thresholds: {
+    // Every create must commit: 201 and 202 both count as success.
+    'checks{check:create committed}': ['rate>0.99'],
+    // The service must keep up with the arrival rate rather than queueing creates.
+    dropped_iterations: ['count<10'],
+    // No create may wait much longer than the projection timeout.
+    'http_req_duration{name:POST /api/v0/applications}': ['p(99)<6000'],
+  },
+};
+
+// ---------------------------------------------------------------------------
+// Default request params (auth headers applied to every request)
+// ---------------------------------------------------------------------------
+function buildParams(token) {
+  return {
+    headers: {
+      Authorization: `Bearer ${token}`,
+      'X-Service-Name': 'CIVIL_APPLY',
+      'Content-Type': 'application/json',
+    },
+    tags: { name: 'POST /api/v0/applications' },
+    // Responses can take up to the projection timeout; keep well clear of it.
+    timeout: '30s',
+  };
+}
+
+// ---------------------------------------------------------------------------
+// Helpers
+// ---------------------------------------------------------------------------
+
+/** Returns a random integer between min (inclusive) and max (exclusive). */
+function randomInt(min, max) {
+  return Math.floor(Math.random() * (max - min)) + min;
+}
+
+/** n random uppercase letters. */
+function randomChars(n) {
+  let s = '';
+  for (let i = 0; i < n; i++) {
+    s += String.fromCharCode(65 + randomInt(0, 26));
+  }
+  return s;
+}
+
+/** Returns a random date string for a person aged between 18 and 80. */
+function randomDateOfBirth() {
+  const d = new Date();
+  d.setFullYear(d.getFullYear() - randomInt(18, 80));
+  return d.toISOString().slice(0, 10);
+}
+
+/**
+ * Clones the fixture template with a fresh id, laaReference and timestamps so every create is a
+ * new Application.
+ */
+function buildApplicationContent() {
+  const content = JSON.parse(JSON.stringify(APPLICATION_CONTENT_TEMPLATE));
+  const now = new Date().toISOString();
+  const laaRef = `L-${randomChars(3)}-${randomChars(1)}${randomInt(10, 99)}-${randomInt(1, 9)}`;
+
+  content.id = uuidv4();
+  content.submittedAt = now;
+  content.laaReference = laaRef;
+  content.applicationRef = laaRef;
+  content.createdAt = now;
+  content.updatedAt = now;
+
+  if (Array.isArray(content.proceedings)) {
+    content.proceedings = content.proceedings.map((p) => ({ ...p, id: uuidv4() }));
+  }
+
+  return content;
+}
+
+// ---------------------------------------------------------------------------
+// setup — runs once before VUs start; return value is passed to every VU
+// ---------------------------------------------------------------------------
+export function setup() {
+  const token = fetchToken(OAUTH_BASE_URL);
+  console.log(`✓ OAuth token fetched from ${OAUTH_BASE_URL}`);
+  return { token };
+}
+
+// ---------------------------------------------------------------------------
+// Default function — one create
+// ---------------------------------------------------------------------------
+export default function (data) {
+  const content = buildApplicationContent();
+  const body = JSON.stringify({
+    status: 'APPLICATION_IN_PROGRESS',
+    laaReference: content.laaReference,
+    individuals: [
+      {
+        firstName: randomChars(randomInt(4, 8)),
+        lastName: randomChars(randomInt(4, 10)),
+        dateOfBirth: randomDateOfBirth(),
+        type: 'CLIENT',
+        details: { source: 'perf-test' },
+      },
+    ],
+    applicationContent: content,
+  });
+
+  const res = http.post(`${BASE_URL}/api/v0/applications`, body, buildParams(data.token));
+
+  if (res.status === 201) {
+    projectedCreates.add(1);
+  } else if (res.status === 202) {
+    acceptedCreates.add(1);
+  }
+  check(res, {
+    'create committed': (r) => r.status === 201 || r.status === 202,
+  });
+}
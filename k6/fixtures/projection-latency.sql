@@ -0,0 +1,37 @@
+-- Injects projection latency for create-application-throughput-test.js.
+--
+-- Every row the application projection inserts into application_current_state sleeps for
+-- :latency seconds inside the projection's transaction, so the tracking processor falls behind
+-- the command side while commands keep committing at full speed.
+--
+--   psql "$DATABASE_URL" -v latency=0.5 -f k6/fixtures/projection-latency.sql
+--
+-- Remove it again with:
+--
+--   psql "$DATABASE_URL" -c 'DROP FUNCTION axon.k6_projection_latency() CASCADE'
+--
+-- Pass -v schema=<name> when the Axon tables are not in the default "axon" schema.
+
+\if :{?latency}
+\else
+  \set latency 0.5
+\endif
+\if :{?schema}
+\else
+  \set schema axon
+\endif
+
+CREATE OR REPLACE FUNCTION :"schema".k6_projection_latency() RETURNS trigger
+  LANGUAGE plpgsql AS $$
+BEGIN
+  PERFORM pg_sleep(current_setting('k6.projection_latency')::double precision);
+  RETURN NEW;
+END
+$$;
+
+ALTER FUNCTION :"schema".k6_projection_latency() SET k6.projection_latency = :'latency';
+
+DROP TRIGGER IF EXISTS k6_projection_latency ON :"schema".application_current_state;
+CREATE TRIGGER k6_projection_latency
+  BEFORE INSERT ON :"schema".application_current_state
+  FOR EACH ROW EXECUTE FUNCTION :"schema".k6_projection_latency();
@@ -0,0 +1,49 @@
+-- ---------------------------------------------------------------------------
+-- application-content-query-benchmark.sql
+--
+-- Compares queries into the jsonb applications.application_content column run
+-- as forced sequential scans with the same queries served by the GIN and
+-- generated-column indexes added in V26__application_content_jsonb.sql.
+--
+-- Seed a realistic dataset first, then run against the same database:
+--   ./scripts/run-mass-generator.sh 300000
+--   psql -h localhost -U laa_user -d laa_data_access_api \
+--     -v code=PB005 -f scripts/application-content-query-benchmark.sql
+--
+-- Each query is explained twice with EXPLAIN (ANALYZE, BUFFERS): first with
+-- index and bitmap scans disabled, then with the planner free to use the GIN
+-- and generated-column indexes. Compare "Execution Time" and shared buffers.
+-- ---------------------------------------------------------------------------
+
+\if :{?code}
+\else
+  \set code PB005
+\endif
+
+\set containment '{"proceedings": [{"ccmsCode": "' :code '"}]}'
+
+ANALYZE applications;
+
+\echo '== proceeding code anywhere in the content: full scan =='
+BEGIN;
+SET LOCAL enable_indexscan = off;
+SET LOCAL enable_bitmapscan = off;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM applications WHERE application_content @> :'containment'::jsonb;
+ROLLBACK;
+
+\echo '== proceeding code anywhere in the content: GIN jsonb_path_ops =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM applications WHERE application_content @> :'containment'::jsonb;
+
+\echo '== lead proceeding code: full scan =='
+BEGIN;
+SET LOCAL enable_indexscan = off;
+SET LOCAL enable_bitmapscan = off;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM applications WHERE lead_proceeding_code = :'code';
+ROLLBACK;
+
+\echo '== lead proceeding code: generated column index =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM applications WHERE lead_proceeding_code = :'code';
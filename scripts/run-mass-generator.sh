@@ -16,6 +16,10 @@ set -euo pipefail
 #
 # Override database connection details via environment variables:
 #   DB_HOST=my-host DB_PORT=5432 ./scripts/run-mass-generator.sh 1000
+#
+# Load large datasets with PostgreSQL COPY on parallel workers, reproducibly
+# from a seed, instead of persisting entities through JPA:
+#   MASS_GENERATOR_MODE=COPY MASS_GENERATOR_SEED=42 ./scripts/run-mass-generator.sh 1000000
 # ---------------------------------------------------------------------------
 
 COUNT=${1:-100}